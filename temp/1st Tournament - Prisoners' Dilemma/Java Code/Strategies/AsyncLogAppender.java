@@ -0,0 +1,422 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Class responsible for the Asynchronous Log Appender.
+ *
+ * Description:
+ * - A class responsible for keeping the messages of the Strategy Log
+ *   in a ring buffer, without any lock, and for writing them in the console
+ *   from a background thread, so the Strategies never wait for the console;
+ *
+ * - The entries of the ring buffer are allocated only once; each Strategy
+ *   claims a sequence number (with a compare-and-set operation), fills the entry
+ *   of that sequence number and publishes it, and the background thread writes
+ *   the entries published, in the order of their sequence numbers;
+ *
+ * - The arguments of a message (a text, a whole number and/or a decimal number) are kept
+ *   in the entry and only joined to the message by the background thread, each one
+ *   replacing the next {} of the message (or appended to it, if there's no {} left);
+ *
+ * - The lazy messages are only built by the background thread, so they must
+ *   only use values that don't change after the message it's logged;
+ *
+ * - If the ring buffer it's full, the message it's dropped (and counted),
+ *   instead of making the Strategy wait;
+ */
+final class AsyncLogAppender {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The default number of entries of the ring buffer (a power of 2)
+	 */
+	private static final int DEFAULT_CAPACITY = 1 << 14;
+
+	/**
+	 * The wait of the background thread, when there's no messages to write, in nanoseconds
+	 */
+	private static final long WAIT_WHEN_EMPTY = TimeUnit.MICROSECONDS.toNanos(200);
+
+	/**
+	 * The maximum time to write the remaining messages, when the Java Virtual Machine shuts down
+	 */
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 2000;
+
+	/**
+	 * The placeholder of an argument, in a message
+	 */
+	private static final String PLACEHOLDER = "{}";
+
+	/**
+	 * The flag of a message with a text argument
+	 */
+	static final int TEXT_ARGUMENT = 1;
+
+	/**
+	 * The flag of a message with a whole number argument
+	 */
+	static final int VALUE_ARGUMENT = 1 << 1;
+
+	/**
+	 * The flag of a message with a decimal number argument
+	 */
+	static final int DECIMAL_ARGUMENT = 1 << 2;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The entries of the ring buffer
+	 */
+	private final Entry[] entries;
+
+	/**
+	 * The mask of the positions of the ring buffer
+	 */
+	private final int mask;
+
+	/**
+	 * The next sequence number to claim
+	 */
+	private final AtomicLong claimed = new AtomicLong();
+
+	/**
+	 * The next sequence number to write, by the background thread
+	 */
+	private volatile long written;
+
+	/**
+	 * The number of messages dropped, because the ring buffer was full
+	 */
+	private final AtomicLong dropped = new AtomicLong();
+
+	/**
+	 * The stream of the messages, until the level INFO
+	 */
+	private final PrintStream out;
+
+	/**
+	 * The stream of the messages, from the level WARN
+	 */
+	private final PrintStream err;
+
+	/**
+	 * The flag to stop the background thread, after writing the remaining messages
+	 */
+	private volatile boolean stopping;
+
+	/**
+	 * The background thread, that writes the messages
+	 */
+	private final Thread drainer;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Asynchronous Log Appender, starting its background thread.
+	 *
+	 * @param capacity the number of entries of the ring buffer (rounded up to a power of 2)
+	 *
+	 * @param out the stream of the messages, until the level INFO
+	 *
+	 * @param err the stream of the messages, from the level WARN
+	 */
+	AsyncLogAppender(int capacity, PrintStream out, PrintStream err) {
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+		this.entries = new Entry[size];
+		this.mask = size - 1;
+
+		for(int i = 0; i < size; i++) {
+			this.entries[i] = new Entry();
+		}
+
+		this.out = out;
+		this.err = err;
+
+		this.drainer = new Thread(this::drain, "strategy-log-appender");
+		this.drainer.setDaemon(true);
+		this.drainer.start();
+
+		Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "strategy-log-appender-shutdown"));
+	}
+
+	/**
+	 * Constructor #2:
+	 * - Builds a new Asynchronous Log Appender, with the default capacity,
+	 *   writing in the console.
+	 */
+	AsyncLogAppender() {
+		this(DEFAULT_CAPACITY, System.out, System.err);
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Appends a message, if there's a free entry in the ring buffer.
+	 *
+	 * @param level the level of the message
+	 *
+	 * @param message the message (with a {} for each argument, or followed by its arguments)
+	 *
+	 * @param lazyMessage the builder of the message, only called by the background thread
+	 *        (null, if the message it's already built)
+	 *
+	 * @param arguments the flags of the arguments of the message (TEXT_ARGUMENT, VALUE_ARGUMENT and/or DECIMAL_ARGUMENT)
+	 *
+	 * @param text the text argument of the message
+	 *
+	 * @param value the whole number argument of the message
+	 *
+	 * @param decimal the decimal number argument of the message
+	 *
+	 * @param throwable the error of the message (null, if there's no error)
+	 *
+	 * @return true if, the message was appended and false, if it was dropped
+	 */
+	boolean append(LogLevel level, String message, Supplier<String> lazyMessage,
+				   int arguments, String text, long value, double decimal, Throwable throwable) {
+
+		long sequence;
+
+		do {
+			sequence = this.claimed.get();
+
+			if(sequence - this.written >= this.entries.length) {
+				this.dropped.incrementAndGet();
+				return false;
+			}
+		}
+		while(!this.claimed.compareAndSet(sequence, sequence + 1));
+
+		Entry entry = this.entries[ (int) (sequence & this.mask) ];
+
+		entry.level = level;
+		entry.message = message;
+		entry.lazyMessage = lazyMessage;
+		entry.arguments = arguments;
+		entry.text = text;
+		entry.value = value;
+		entry.decimal = decimal;
+		entry.throwable = throwable;
+
+		// Publishes the entry, to the background thread
+		entry.published = sequence;
+
+		return true;
+	}
+
+	/**
+	 * Writes the messages published, in the order of their sequence numbers,
+	 * until the Asynchronous Log Appender it's stopped.
+	 */
+	private void drain() {
+		long next = this.written;
+		long reportedDropped = 0;
+
+		while(true) {
+			Entry entry = this.entries[ (int) (next & this.mask) ];
+
+			if(entry.published == next) {
+				this.write(entry);
+
+				entry.message = null;
+				entry.lazyMessage = null;
+				entry.text = null;
+				entry.throwable = null;
+
+				this.written = ++next;
+				continue;
+			}
+
+			long numDropped = this.dropped.get();
+
+			if(numDropped != reportedDropped) {
+				this.err.println("[Strategy Log] " + (numDropped - reportedDropped) + " messages dropped (the ring buffer was full)!!!");
+				reportedDropped = numDropped;
+			}
+
+			this.out.flush();
+			this.err.flush();
+
+			if(this.stopping && (this.claimed.get() == next)) {
+				return;
+			}
+
+			LockSupport.parkNanos(WAIT_WHEN_EMPTY);
+		}
+	}
+
+	/**
+	 * Writes the message of an entry, in the stream of its level.
+	 *
+	 * @param entry the entry of the message
+	 */
+	private void write(Entry entry) {
+		PrintStream stream = (entry.level.ordinal() >= LogLevel.WARN.ordinal()) ? this.err : this.out;
+
+		String message = entry.message;
+
+		try {
+			if(entry.lazyMessage != null) {
+				message = entry.lazyMessage.get();
+			}
+		}
+		catch(RuntimeException runtimeException) {
+			message = "[Strategy Log] Failed to build a message: " + runtimeException;
+		}
+
+		stream.println( (entry.arguments != 0) ? format(message, entry) : message );
+
+		if(entry.throwable != null) {
+			entry.throwable.printStackTrace(stream);
+		}
+	}
+
+	/**
+	 * Returns a message joined with the arguments of an entry, in the order text, whole number
+	 * and decimal number, each one replacing the next {} of the message (or appended to it, if there's no {} left).
+	 *
+	 * @param message the message
+	 *
+	 * @param entry the entry, with the arguments of the message
+	 *
+	 * @return the message joined with the arguments of the entry
+	 */
+	private static String format(String message, Entry entry) {
+		StringBuilder line = new StringBuilder(message.length() + 32);
+
+		int from = 0;
+
+		for(int argument = TEXT_ARGUMENT; argument <= DECIMAL_ARGUMENT; argument <<= 1) {
+			if( (entry.arguments & argument) == 0 ) {
+				continue;
+			}
+
+			int placeholder = message.indexOf(PLACEHOLDER, from);
+
+			if(placeholder >= 0) {
+				line.append(message, from, placeholder);
+				from = placeholder + PLACEHOLDER.length();
+			}
+			else {
+				line.append(message, from, message.length());
+				from = message.length();
+			}
+
+			if(argument == TEXT_ARGUMENT) {
+				line.append(entry.text);
+			}
+			else if(argument == VALUE_ARGUMENT) {
+				line.append(entry.value);
+			}
+			else {
+				line.append(entry.decimal);
+			}
+		}
+
+		return line.append(message, from, message.length()).toString();
+	}
+
+	/**
+	 * Stops the background thread, after writing the remaining messages.
+	 */
+	void stop() {
+		this.stopping = true;
+
+		LockSupport.unpark(this.drainer);
+
+		try {
+			this.drainer.join(SHUTDOWN_TIMEOUT_MILLIS);
+		}
+		catch(InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Returns the number of messages dropped, because the ring buffer was full.
+	 *
+	 * @return the number of messages dropped, because the ring buffer was full
+	 */
+	long getNumDropped() {
+		return this.dropped.get();
+	}
+
+
+	/**
+	 * Class responsible for an entry of the ring buffer.
+	 */
+	private static final class Entry {
+
+		/**
+		 * The sequence number of the message published in this entry
+		 */
+		volatile long published = -1;
+
+		/**
+		 * The level of the message
+		 */
+		LogLevel level;
+
+		/**
+		 * The message (with a {} for each argument, or followed by its arguments)
+		 */
+		String message;
+
+		/**
+		 * The builder of the message (null, if the message it's already built)
+		 */
+		Supplier<String> lazyMessage;
+
+		/**
+		 * The flags of the arguments of the message (TEXT_ARGUMENT, VALUE_ARGUMENT and/or DECIMAL_ARGUMENT)
+		 */
+		int arguments;
+
+		/**
+		 * The text argument of the message
+		 */
+		String text;
+
+		/**
+		 * The whole number argument of the message
+		 */
+		long value;
+
+		/**
+		 * The decimal number argument of the message
+		 */
+		double decimal;
+
+		/**
+		 * The error of the message (null, if there's no error)
+		 */
+		Throwable throwable;
+	}
+}
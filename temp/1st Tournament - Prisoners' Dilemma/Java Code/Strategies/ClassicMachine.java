@@ -0,0 +1,122 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+/**
+ * Enumeration responsible for the Classic Machines.
+ *
+ * Description:
+ * - An enumeration responsible for the classic Opponents of the Prisoners' Dilemma
+ *   (Always Cooperate, Always Defect and Tit For Tat), as Match Machines,
+ *   so the Strategies of the Gradual family can be simulated against them;
+ *
+ * - None of these Machines keeps any counter (the Tit For Tat only repeats
+ *   the last action of its Opponent), so their slice of the joint state
+ *   it's always left at 0;
+ */
+public enum ClassicMachine implements MatchMachine {
+
+	/**
+	 * The Always Cooperate (AllC) Opponent
+	 */
+	ALWAYS_COOPERATE("AlwaysCooperate") {
+
+		@Override
+		public int step(int[] state, int offset, boolean opponentCooperated, boolean playForSafe) {
+			return MoveLabelCodec.COOPERATE_ACTION;
+		}
+	},
+
+	/**
+	 * The Always Defect (AllD) Opponent
+	 */
+	ALWAYS_DEFECT("AlwaysDefect") {
+
+		@Override
+		public int firstAction(int maximumNumberOfIterations, double probabilityForNextIteration) {
+			return MoveLabelCodec.DEFECT_ACTION;
+		}
+
+		@Override
+		public int step(int[] state, int offset, boolean opponentCooperated, boolean playForSafe) {
+			return MoveLabelCodec.DEFECT_ACTION;
+		}
+	},
+
+	/**
+	 * The Tit For Tat (TFT) Opponent
+	 */
+	TIT_FOR_TAT("TitForTat") {
+
+		@Override
+		public int step(int[] state, int offset, boolean opponentCooperated, boolean playForSafe) {
+			return opponentCooperated ? MoveLabelCodec.COOPERATE_ACTION : MoveLabelCodec.DEFECT_ACTION;
+		}
+	};
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The name of the Opponent
+	 */
+	private final String strategyName;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Classic Machine.
+	 *
+	 * @param strategyName the name of the Opponent
+	 */
+	private ClassicMachine(String strategyName) {
+		this.strategyName = strategyName;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the name of the Opponent.
+	 *
+	 * @return the name of the Opponent
+	 */
+	public String getStrategyName() {
+		return this.strategyName;
+	}
+
+	@Override
+	public boolean isPlayForSafe(int maximumNumberOfIterations, double probabilityForNextIteration) {
+		return false;
+	}
+
+	@Override
+	public int firstAction(int maximumNumberOfIterations, double probabilityForNextIteration) {
+		return MoveLabelCodec.COOPERATE_ACTION;
+	}
+
+	@Override
+	public void canonicalize(int[] state, int offset) {
+	}
+
+	@Override
+	public boolean repeats(int[] before, int[] after, int offset) {
+		return true;
+	}
+}
@@ -0,0 +1,185 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+
+/**
+ * Class responsible for the Counter Random.
+ *
+ * Description:
+ * - A class responsible for a counter-based generator of random numbers, where each number
+ *   it's a hash (the finalizer of the SplitMix64) of a key, of the identifier of a stream
+ *   and of the position of the number in that stream;
+ *
+ * - Since there's no state carried from one number to the next one, besides the position,
+ *   each Match can have its own stream (identified, for example, by the pairing and the number
+ *   of the Match), and the numbers of a Match are always the same, whatever the thread
+ *   that plays it and the order in which the Matches are played;
+ *
+ * - It's not safe for the use of many threads at the same time (each thread must have its own);
+ */
+public final class CounterRandom {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The odd constant of the golden ratio (2^64 / phi), used to space the positions and the streams
+	 */
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * The scale of the 53 bits of a random double (2^-53)
+	 */
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The key of the generator (the seed of all the streams)
+	 */
+	private final long key;
+
+	/**
+	 * The base of the current stream (a hash of the key and of the identifier of the stream)
+	 */
+	private long streamBase;
+
+	/**
+	 * The position of the next number, in the current stream
+	 */
+	private long counter;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Counter Random, with a given key, at the start of the stream 0.
+	 *
+	 * @param key the key of the generator (the seed of all the streams)
+	 */
+	public CounterRandom(long key) {
+		this.key = key;
+
+		this.setStream(0L);
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the hash of a 64 bits value (the finalizer of the SplitMix64).
+	 *
+	 * @param value the value to hash
+	 *
+	 * @return the hash of the value
+	 */
+	public static long mix(long value) {
+		long z = value;
+
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Returns the base of a stream (a hash of the key and of the identifier of the stream),
+	 * for the generators that keep the position of many streams by themselves.
+	 *
+	 * @param key the key of the generator (the seed of all the streams)
+	 *
+	 * @param stream the identifier of the stream
+	 *
+	 * @return the base of the stream
+	 */
+	public static long streamBase(long key, long stream) {
+		return mix(key ^ mix( (stream + 1) * GOLDEN_GAMMA ));
+	}
+
+	/**
+	 * Returns the random double, uniform in [0, 1[, at a given position of a stream
+	 * (the position 1 it's the first number of the stream).
+	 *
+	 * @param streamBase the base of the stream
+	 *
+	 * @param counter the position of the number, in the stream
+	 *
+	 * @return the random double, at the given position of the stream
+	 */
+	public static double uniform(long streamBase, long counter) {
+		return (mix(streamBase + (counter * GOLDEN_GAMMA)) >>> 11) * DOUBLE_UNIT;
+	}
+
+	/**
+	 * Moves the generator to the start of a given stream.
+	 *
+	 * @param stream the identifier of the stream
+	 */
+	public void setStream(long stream) {
+		this.streamBase = streamBase(this.key, stream);
+		this.counter = 0;
+	}
+
+	/**
+	 * Returns the position of the next number, in the current stream.
+	 *
+	 * @return the position of the next number, in the current stream
+	 */
+	public long getCounter() {
+		return this.counter;
+	}
+
+	/**
+	 * Returns the next random 64 bits, of the current stream.
+	 *
+	 * @return the next random 64 bits, of the current stream
+	 */
+	public long nextLong() {
+		return mix(this.streamBase + ( (++this.counter) * GOLDEN_GAMMA ));
+	}
+
+	/**
+	 * Returns the next random double, uniform in [0, 1[, of the current stream.
+	 *
+	 * @return the next random double, uniform in [0, 1[, of the current stream
+	 */
+	public double nextDouble() {
+		return (this.nextLong() >>> 11) * DOUBLE_UNIT;
+	}
+
+	/**
+	 * Returns true, with a given probability, using the next number of the current stream
+	 * (if the probability it's 0 or 1, no number it's used).
+	 *
+	 * @param probability the probability to return true
+	 *
+	 * @return true, with the given probability
+	 */
+	public boolean nextBoolean(double probability) {
+		if(probability <= 0) {
+			return false;
+		}
+
+		if(probability >= 1) {
+			return true;
+		}
+
+		return this.nextDouble() < probability;
+	}
+}
@@ -0,0 +1,281 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.Arrays;
+
+/**
+ * Class responsible for the Deterministic Match Simulator.
+ *
+ * Description:
+ * - A class responsible for simulating a Match, with a given number of rounds,
+ *   between two Match Machines (e.g., a Gradual Machine against another one,
+ *   or against a Classic Machine), without any noise, where each round it's
+ *   completely defined by the joint state of both Machines (their counters,
+ *   reduced to the canonical form, and the actions of the last round);
+ *
+ * - While the rounds are simulated, the recurrence of a joint state it's searched
+ *   (by the Brent's algorithm, keeping only two joint states) and, once the Match
+ *   enters a periodic regime, the scores of the remaining rounds are extrapolated
+ *   (the number of full cycles times the scores of a cycle, plus the rounds left),
+ *   so a long Match costs the time of its transient, and not of its number of rounds;
+ *
+ * - When a counter grows without bound (as the number of Defects of the Opponent,
+ *   against an Opponent that keeps Defecting), there's no recurrence and,
+ *   after a given number of rounds, the search stops and the Match it's simulated
+ *   round by round, as usual;
+ */
+public class DeterministicMatchSimulator {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The default maximum number of rounds simulated, searching for a recurrence of the joint state
+	 */
+	public static final long DEFAULT_MAX_CYCLE_SEARCH_ROUNDS = 1L << 16;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The scores of the first Strategy in a round, by the actions of both Strategies
+	 * (2 * action of the first Strategy + action of the second Strategy)
+	 */
+	private final int[] roundScoresA = new int[4];
+
+	/**
+	 * The scores of the second Strategy in a round, by the actions of both Strategies
+	 * (2 * action of the first Strategy + action of the second Strategy)
+	 */
+	private final int[] roundScoresB = new int[4];
+
+	/**
+	 * The maximum number of rounds simulated, searching for a recurrence of the joint state
+	 */
+	private final long maxCycleSearchRounds;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Deterministic Match Simulator, for the payoffs of a given Local Game Tree.
+	 *
+	 * @param tree the Local Game Tree, with the payoffs of the Game
+	 *
+	 * @param maxCycleSearchRounds the maximum number of rounds simulated, searching for a recurrence of the joint state
+	 */
+	public DeterministicMatchSimulator(LocalGameTree tree, long maxCycleSearchRounds) {
+		for(int actionA = 0; actionA < 2; actionA++) {
+			for(int actionB = 0; actionB < 2; actionB++) {
+				LocalGameNode leafOfGameA = tree.getNodeByIndex(tree.getLeafIndex(actionA, actionB));
+				LocalGameNode leafOfGameB = tree.getNodeByIndex(tree.getLeafIndex(actionB, actionA));
+
+				int actions = (2 * actionA) + actionB;
+
+				this.roundScoresA[actions] = leafOfGameA.getPayoffP1() + leafOfGameB.getPayoffP2();
+				this.roundScoresB[actions] = leafOfGameA.getPayoffP2() + leafOfGameB.getPayoffP1();
+			}
+		}
+
+		this.maxCycleSearchRounds = maxCycleSearchRounds;
+	}
+
+	/**
+	 * Constructor #2:
+	 * - Builds a new Deterministic Match Simulator, for the payoffs of a given Local Game Tree,
+	 *   with the default maximum number of rounds simulated, searching for a recurrence.
+	 *
+	 * @param tree the Local Game Tree, with the payoffs of the Game
+	 */
+	public DeterministicMatchSimulator(LocalGameTree tree) {
+		this(tree, DEFAULT_MAX_CYCLE_SEARCH_ROUNDS);
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Simulates a Match between two Match Machines, with a given number of rounds,
+	 * fast-forwarding the rounds of the Match, once it enters a periodic regime.
+	 *
+	 * @param machineA the Match Machine of the first Strategy
+	 *
+	 * @param machineB the Match Machine of the second Strategy
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations of the Match
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @param numRounds the number of rounds played in the Match (between 1 and the maximum number of iterations)
+	 *
+	 * @return the result of the Match
+	 */
+	public LocalMatchResult simulate(MatchMachine machineA, MatchMachine machineB,
+									 int maximumNumberOfIterations, double probabilityForNextIteration, int numRounds) {
+
+		return this.simulate(machineA, machineB, maximumNumberOfIterations, probabilityForNextIteration, numRounds, true);
+	}
+
+	/**
+	 * Simulates a Match between two Match Machines, with a given number of rounds,
+	 * round by round, without searching for a periodic regime.
+	 *
+	 * @param machineA the Match Machine of the first Strategy
+	 *
+	 * @param machineB the Match Machine of the second Strategy
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations of the Match
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @param numRounds the number of rounds played in the Match (between 1 and the maximum number of iterations)
+	 *
+	 * @return the result of the Match
+	 */
+	public LocalMatchResult simulateRoundByRound(MatchMachine machineA, MatchMachine machineB,
+												 int maximumNumberOfIterations, double probabilityForNextIteration, int numRounds) {
+
+		return this.simulate(machineA, machineB, maximumNumberOfIterations, probabilityForNextIteration, numRounds, false);
+	}
+
+	/**
+	 * Simulates a Match between two Match Machines, with a given number of rounds.
+	 *
+	 * @param machineA the Match Machine of the first Strategy
+	 *
+	 * @param machineB the Match Machine of the second Strategy
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations of the Match
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @param numRounds the number of rounds played in the Match (between 1 and the maximum number of iterations)
+	 *
+	 * @param fastForward true if, the recurrence of the joint state it's searched, to fast-forward the Match
+	 *
+	 * @return the result of the Match
+	 */
+	private LocalMatchResult simulate(MatchMachine machineA, MatchMachine machineB,
+									  int maximumNumberOfIterations, double probabilityForNextIteration,
+									  int numRounds, boolean fastForward) {
+
+		if( (numRounds < 1) || (numRounds > maximumNumberOfIterations) ) {
+			throw new IllegalArgumentException("The number of rounds must be between 1 and the maximum number of iterations!!!");
+		}
+
+		int n = maximumNumberOfIterations;
+		double p = probabilityForNextIteration;
+
+		// The first round
+		int[] state = new int[MarkovPayoffEngine.JOINT_STATE_SIZE];
+
+		state[MarkovPayoffEngine.LAST_ACTION_A] = machineA.firstAction(n, p);
+		state[MarkovPayoffEngine.LAST_ACTION_B] = machineB.firstAction(n, p);
+
+		int firstActions = (2 * state[MarkovPayoffEngine.LAST_ACTION_A]) + state[MarkovPayoffEngine.LAST_ACTION_B];
+
+		long scoreA = this.roundScoresA[firstActions];
+		long scoreB = this.roundScoresB[firstActions];
+
+		if(numRounds == 1) {
+			return new LocalMatchResult(scoreA, scoreB, numRounds);
+		}
+
+		// The rounds before the last iteration are all played with the same flags,
+		// and the last iteration (if it's reached) it's played apart
+		boolean playForSafeA = machineA.isPlayForSafe(2, p);
+		boolean playForSafeB = machineB.isPlayForSafe(2, p);
+
+		boolean lastIterationReached = (numRounds == n);
+
+		long numRegularRounds = numRounds - 1L - (lastIterationReached ? 1 : 0);
+
+		long numRound = 0;
+
+		if(fastForward) {
+
+			// The Brent's algorithm, with the rounds walked by the hare already summed
+			int[] tortoise = state.clone();
+
+			long maxSearchRound = Math.min(numRegularRounds, this.maxCycleSearchRounds);
+
+			long power = 1;
+			long cycleLength = 0;
+
+			boolean cycleFound = false;
+
+			while( !cycleFound && (numRound < maxSearchRound) ) {
+				if(power == cycleLength) {
+					System.arraycopy(state, 0, tortoise, 0, MarkovPayoffEngine.JOINT_STATE_SIZE);
+					power *= 2;
+					cycleLength = 0;
+				}
+
+				int actions = MarkovPayoffEngine.playRound(machineA, machineB, state, playForSafeA, playForSafeB);
+
+				scoreA += this.roundScoresA[actions];
+				scoreB += this.roundScoresB[actions];
+
+				numRound++;
+				cycleLength++;
+
+				cycleFound = Arrays.equals(tortoise, state);
+			}
+
+			if( cycleFound && (numRound < numRegularRounds) ) {
+
+				// The last cycleLength rounds repeat themselves, from the current joint state,
+				// so the scores of a cycle are computed once, returning to the current joint state
+				long cycleScoreA = 0;
+				long cycleScoreB = 0;
+
+				for(long i = 0; i < cycleLength; i++) {
+					int actions = MarkovPayoffEngine.playRound(machineA, machineB, state, playForSafeA, playForSafeB);
+
+					cycleScoreA += this.roundScoresA[actions];
+					cycleScoreB += this.roundScoresB[actions];
+				}
+
+				long numFullCycles = (numRegularRounds - numRound) / cycleLength;
+
+				scoreA += numFullCycles * cycleScoreA;
+				scoreB += numFullCycles * cycleScoreB;
+
+				numRound += numFullCycles * cycleLength;
+			}
+		}
+
+		// The rounds left (all of them, if there was no recurrence), round by round
+		for(; numRound < numRegularRounds; numRound++) {
+			int actions = MarkovPayoffEngine.playRound(machineA, machineB, state, playForSafeA, playForSafeB);
+
+			scoreA += this.roundScoresA[actions];
+			scoreB += this.roundScoresB[actions];
+		}
+
+		if(lastIterationReached) {
+			int actions = MarkovPayoffEngine.playRound(machineA, machineB, state,
+													   machineA.isPlayForSafe(1, p), machineB.isPlayForSafe(1, p));
+
+			scoreA += this.roundScoresA[actions];
+			scoreB += this.roundScoresB[actions];
+		}
+
+		return new LocalMatchResult(scoreA, scoreB, numRounds);
+	}
+}
@@ -0,0 +1,160 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.SplittableRandom;
+
+/**
+ * Class responsible for the Dirichlet Sampler.
+ *
+ * Description:
+ * - A class responsible for drawing the probabilities of a validation set,
+ *   uniformly over the simplex (the Dirichlet distribution with all the
+ *   concentrations equal to 1), instead of drawing each probability again
+ *   and again, until it fits in what's left of the sum 1;
+ *
+ * - Each probability it's an exponential variable (-log(U), with U uniform),
+ *   divided by the sum of all of them, so each move costs exactly one random
+ *   number and one logarithm, whatever the number of moves of the validation set;
+ *
+ * - The random numbers are generated by a Splittable Random, that never blocks
+ *   (unlike a Secure Random, that may wait for the entropy of the system),
+ *   and that can be reseeded at the start of each Match;
+ */
+public class DirichletSampler implements SimplexSampler {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The system property with the seed of the random numbers of the Strategies
+	 * (if it's not configured, each run uses a different seed)
+	 */
+	public static final String SEED_PROPERTY = "play.randomSeed";
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The random numbers' generator of the current Match
+	 */
+	private SplittableRandom random;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Dirichlet Sampler, with a given seed.
+	 *
+	 * @param seed the seed of the random numbers
+	 */
+	public DirichletSampler(long seed) {
+		this.random = new SplittableRandom(seed);
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the generator of the seeds of the Matches, seeded by the system property
+	 * SEED_PROPERTY (or with a different seed, in each run, if it's not configured).
+	 *
+	 * @return the generator of the seeds of the Matches
+	 */
+	public static SplittableRandom newMatchSeeds() {
+		Long seed = Long.getLong(SEED_PROPERTY);
+
+		return (seed != null) ? new SplittableRandom(seed) : new SplittableRandom();
+	}
+
+	/**
+	 * Returns the seed of the next Match, drawn by the generator of the seeds of the Matches,
+	 * and always different from the seed of the last Match (so two consecutive Matches
+	 * never draw the same unexplored paths).
+	 *
+	 * @param matchSeeds the generator of the seeds of the Matches
+	 *
+	 * @param lastMatchSeed the seed of the last Match
+	 *
+	 * @return the seed of the next Match, different from the seed of the last Match
+	 */
+	public static long nextMatchSeed(SplittableRandom matchSeeds, long lastMatchSeed) {
+		long matchSeed = matchSeeds.nextLong();
+
+		while(matchSeed == lastMatchSeed) {
+			matchSeed = matchSeeds.nextLong();
+		}
+
+		return matchSeed;
+	}
+
+	/**
+	 * Reseeds the Dirichlet Sampler, for a new Match.
+	 *
+	 * @param seed the seed of the random numbers of the Match
+	 */
+	@Override
+	public void reseed(long seed) {
+		this.random = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Draws the probabilities of a validation set, uniformly over the simplex,
+	 * filling a portion of a given array.
+	 *
+	 * @param values the array where the probabilities will be kept
+	 *
+	 * @param offset the position of the first probability, in the array
+	 *
+	 * @param length the number of probabilities (the number of moves of the validation set)
+	 */
+	@Override
+	public void sample(double[] values, int offset, int length) {
+		if(length <= 0) {
+			return;
+		}
+
+		double sum = 0;
+
+		for(int i = offset; i < offset + length; i++) {
+
+			// 1 - U it's in ]0, 1], so the logarithm it's always finite
+			values[i] = -Math.log(1.0 - this.random.nextDouble());
+			sum += values[i];
+		}
+
+		// Only if all the random numbers were 0 (practically impossible)
+		if(sum <= 0) {
+			for(int i = offset; i < offset + length; i++) {
+				values[i] = 1.0 / length;
+			}
+
+			sum = 1.0;
+		}
+
+		// The last probability it's what's left of the sum 1,
+		// so the validation set sums exactly 1
+		double partialSum = 0;
+
+		for(int i = offset; i < offset + length - 1; i++) {
+			values[i] = values[i] / sum;
+			partialSum += values[i];
+		}
+
+		values[offset + length - 1] = Math.max(0.0, 1.0 - partialSum);
+	}
+}
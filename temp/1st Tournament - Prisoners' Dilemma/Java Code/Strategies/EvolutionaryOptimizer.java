@@ -0,0 +1,806 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Class responsible for the Evolutionary Optimizer.
+ *
+ * Description:
+ * - A class responsible for tuning the constants of a Strategy of the Gradual family
+ *   (the lengths of the soft and hard "Calm Down" processes, the numbers of consecutive
+ *   "Cooperate" actions to try to maximise the gain and to apply hard "Calm Down" processes,
+ *   the initial number of "Defect" actions before the hard "Calm Down" processes,
+ *   the factor of minimum "leeway" and the beta-value of the probability to continue),
+ *   with a genetic algorithm, when the grid of all their values it's too big for a Parameter Sweep;
+ *
+ * - The fitness of an individual it's its expected payoff by round against each Opponent
+ *   of a pool, computed by an Opponent Pool Evaluator, weighted by the mix of the Opponents;
+ *
+ * - In each generation, the individuals with a behaviour not evaluated yet are evaluated
+ *   all at once, by the threads of a Fork/Join Pool, and the other ones (the elites kept
+ *   from the last generation, the repeated children and the ones with the same behaviour
+ *   of an individual already evaluated) are taken from the cache of the Opponent Pool Evaluator;
+ *
+ * - The next generation keeps the best individuals (the elites) and the other ones are
+ *   the children of two parents, chosen by tournaments, with an uniform crossover and
+ *   a mutation of each gene (a Gaussian step, limited to the bounds of the gene);
+ *
+ * - The random numbers of each generation are the stream of a Counter Random, identified
+ *   by the number of the generation, and the population of each generation it's kept in a
+ *   checkpoint file, so an interrupted run continues exactly as if it was never interrupted;
+ */
+public class EvolutionaryOptimizer {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The gene of the number of consecutive "Cooperate" actions, during a soft "Calm Down" process
+	 */
+	private static final int GENE_SOFT_CALM_DOWN = 0;
+
+	/**
+	 * The gene of the number of consecutive "Cooperate" actions, during a hard "Calm Down" process
+	 */
+	private static final int GENE_HARD_CALM_DOWN = 1;
+
+	/**
+	 * The gene of the number of consecutive "Cooperate" actions of the Opponent, to try to maximise the gain
+	 */
+	private static final int GENE_TRY_MAXIMISE_GAIN = 2;
+
+	/**
+	 * The gene of the number of consecutive "Cooperate" actions of the Opponent, to apply hard "Calm Down" processes
+	 */
+	private static final int GENE_APPLY_HARD_CALM_DOWNS = 3;
+
+	/**
+	 * The gene of the initial number of "Defect" actions of the Opponent, before the hard "Calm Down" processes
+	 */
+	private static final int GENE_INITIAL_DEFECTS = 4;
+
+	/**
+	 * The gene of the factor of minimum "leeway"
+	 */
+	private static final int GENE_LEEWAY_FACTOR = 5;
+
+	/**
+	 * The gene of the beta-value for the minimum probability to continue (the only one not integer)
+	 */
+	private static final int GENE_SAFE_BETA = 6;
+
+	/**
+	 * The number of genes of an individual
+	 */
+	private static final int NUM_GENES = 7;
+
+	/**
+	 * The minimum values of the genes
+	 */
+	private static final double[] MIN_GENES = { 0, 0, 1, 1, 0, 1, 0.0 };
+
+	/**
+	 * The maximum values of the genes
+	 */
+	private static final double[] MAX_GENES = { 10, 20, 20, 20, 32, 8, 1.0 };
+
+	/**
+	 * The standard deviations of the mutation of the genes
+	 */
+	private static final double[] MUTATION_STEPS = { 1.5, 2.5, 2.5, 2.5, 4.0, 1.0, 0.1 };
+
+	/**
+	 * The probability of two parents being crossed (otherwise, the child it's a copy of the first parent)
+	 */
+	private static final double CROSSOVER_PROBABILITY = 0.9;
+
+	/**
+	 * The probability of each gene of a child being mutated
+	 */
+	private static final double MUTATION_PROBABILITY = 1.0 / NUM_GENES;
+
+	/**
+	 * The number of individuals of each tournament, to choose a parent
+	 */
+	private static final int TOURNAMENT_SIZE = 3;
+
+	/**
+	 * The number of best individuals kept, without any change, in the next generation
+	 */
+	private static final int NUM_ELITES = 2;
+
+	/**
+	 * The number of distinct individuals printed, at the end of a run
+	 */
+	private static final int NUM_BEST_PRINTED = 5;
+
+	/**
+	 * The first line of a checkpoint file
+	 */
+	private static final String CHECKPOINT_HEADER = "# Evolutionary Optimizer checkpoint";
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The Opponent Pool Evaluator, to compute the fitness of the individuals
+	 */
+	private final OpponentPoolEvaluator evaluator;
+
+	/**
+	 * The Gradual Parameters with the rules of the Strategy to tune
+	 * (the genes of each individual replace the constants of these Gradual Parameters)
+	 */
+	private final GradualParameters baseParameters;
+
+	/**
+	 * The weights of the Opponents of the pool, in the fitness (summing 1)
+	 */
+	private final double[] opponentWeights;
+
+	/**
+	 * The number of individuals of each generation
+	 */
+	private final int populationSize;
+
+	/**
+	 * The seed of the random numbers of the run
+	 */
+	private final long seed;
+
+	/**
+	 * The file where the population of each generation it's kept (or null, to not keep it)
+	 */
+	private final Path checkpointFile;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Evolutionary Optimizer, for the rules of a given Strategy of the Gradual family.
+	 *
+	 * @param baseParameters the Gradual Parameters with the rules of the Strategy to tune
+	 *
+	 * @param evaluator the Opponent Pool Evaluator, to compute the fitness of the individuals
+	 *
+	 * @param opponentWeights the weights of the Opponents of the pool, in the fitness
+	 *
+	 * @param populationSize the number of individuals of each generation
+	 *
+	 * @param seed the seed of the random numbers of the run
+	 *
+	 * @param checkpointFile the file where the population of each generation it's kept (or null, to not keep it)
+	 */
+	public EvolutionaryOptimizer(GradualParameters baseParameters, OpponentPoolEvaluator evaluator,
+								 double[] opponentWeights, int populationSize, long seed, Path checkpointFile) {
+
+		if(opponentWeights.length != evaluator.getNumOpponents()) {
+			throw new IllegalArgumentException("There must be one weight by Opponent of the pool!!!");
+		}
+
+		if(populationSize <= NUM_ELITES) {
+			throw new IllegalArgumentException("The population must be bigger than the number of elites!!!");
+		}
+
+		double sumOfWeights = 0;
+
+		for(double opponentWeight : opponentWeights) {
+			if( !(opponentWeight >= 0) ) {
+				throw new IllegalArgumentException("The weights of the Opponents can't be negative!!!");
+			}
+
+			sumOfWeights += opponentWeight;
+		}
+
+		if(sumOfWeights <= 0) {
+			throw new IllegalArgumentException("Some Opponent of the pool must have a positive weight!!!");
+		}
+
+		this.evaluator = evaluator;
+		this.baseParameters = baseParameters;
+		this.opponentWeights = new double[opponentWeights.length];
+
+		for(int numOpponent = 0; numOpponent < opponentWeights.length; numOpponent++) {
+			this.opponentWeights[numOpponent] = opponentWeights[numOpponent] / sumOfWeights;
+		}
+
+		this.populationSize = populationSize;
+		this.seed = seed;
+		this.checkpointFile = checkpointFile;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Runs the genetic algorithm, from the checkpoint file (if it exists) or from a new population,
+	 * until a given number of generations or a given time, printing the best individuals of each generation.
+	 *
+	 * @param numGenerations the number of generations of the run (counting the ones of the checkpoint file)
+	 *
+	 * @param maxNanos the maximum time of the run, in nanoseconds (it stops after the first generation past it)
+	 *
+	 * @param numThreads the number of threads to evaluate the individuals
+	 *
+	 * @param out the stream where the progress will be printed (or null, to not print it)
+	 *
+	 * @return the Gradual Parameters of the best individual of the last generation
+	 *
+	 * @throws IOException if the checkpoint file can't be read or written
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the individuals
+	 */
+	public GradualParameters run(int numGenerations, long maxNanos, int numThreads, PrintStream out)
+			throws IOException, InterruptedException {
+
+		long startTime = System.nanoTime();
+
+		double[][] population;
+		int generation;
+
+		if( (this.checkpointFile != null) && Files.exists(this.checkpointFile) ) {
+			population = this.readCheckpoint();
+			generation = this.readCheckpointGeneration();
+
+			if(out != null) {
+				out.printf("Resumed generation %d (%d individuals), from %s%n", generation, population.length, this.checkpointFile);
+			}
+		}
+		else {
+			population = this.initialPopulation();
+			generation = 0;
+		}
+
+		double[] fitness = new double[population.length];
+		int[] ranking = new int[population.length];
+
+		ForkJoinPool pool = new ForkJoinPool(numThreads);
+
+		try {
+			while(true) {
+				if(this.checkpointFile != null) {
+					this.writeCheckpoint(population, generation);
+				}
+
+				int numEvaluated = this.evaluate(population, fitness, pool);
+
+				rank(fitness, ranking);
+
+				if(out != null) {
+					double meanFitness = 0;
+
+					for(double fitnessOfIndividual : fitness) {
+						meanFitness += fitnessOfIndividual / fitness.length;
+					}
+
+					out.printf("Generation %4d: best %.6f, mean %.6f, %3d evaluated, %6d in the cache, %8.3f s: %s%n",
+							   generation, fitness[ranking[0]], meanFitness, numEvaluated,
+							   this.evaluator.getNumCachedBehaviours(), (System.nanoTime() - startTime) / 1e9,
+							   this.toParameters(population[ranking[0]]));
+				}
+
+				if( (generation + 1 >= numGenerations) || (System.nanoTime() - startTime >= maxNanos) ) {
+					break;
+				}
+
+				population = this.nextGeneration(population, fitness, ranking, generation);
+				fitness = new double[population.length];
+
+				generation++;
+			}
+		}
+		catch(ExecutionException executionException) {
+			throw new IllegalStateException("An individual of the Evolutionary Optimizer failed!!!", executionException.getCause());
+		}
+		finally {
+			pool.shutdownNow();
+		}
+
+		if(out != null) {
+			this.printBest(out, population, fitness, ranking);
+		}
+
+		return this.toParameters(population[ranking[0]]);
+	}
+
+	/**
+	 * Returns a new population, with the genes of the Strategy to tune and, then, random individuals.
+	 *
+	 * @return a new population
+	 */
+	private double[][] initialPopulation() {
+		CounterRandom random = new CounterRandom(this.seed);
+
+		// The stream -1 it's only used by the initial population (the generations use their numbers)
+		random.setStream(-1L);
+
+		double[][] population = new double[this.populationSize][];
+
+		population[0] = clamp(this.toGenes(this.baseParameters));
+
+		for(int numIndividual = 1; numIndividual < this.populationSize; numIndividual++) {
+			double[] genes = new double[NUM_GENES];
+
+			for(int gene = 0; gene < NUM_GENES; gene++) {
+				genes[gene] = MIN_GENES[gene] + ( random.nextDouble() * (MAX_GENES[gene] - MIN_GENES[gene]) );
+			}
+
+			population[numIndividual] = clamp(genes);
+		}
+
+		return population;
+	}
+
+	/**
+	 * Evaluates the fitness of all the individuals of a population, evaluating at once, by the threads
+	 * of a Fork/Join Pool, only the behaviours not kept yet in the cache of the Opponent Pool Evaluator.
+	 *
+	 * @param population the genes of the individuals
+	 *
+	 * @param fitness the array where the fitness of the individuals will be kept
+	 *
+	 * @param pool the Fork/Join Pool, to evaluate the individuals
+	 *
+	 * @return the number of behaviours evaluated (not taken from the cache)
+	 *
+	 * @throws ExecutionException if the evaluation of some individual failed
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the individuals
+	 */
+	private int evaluate(double[][] population, double[] fitness, ForkJoinPool pool)
+			throws ExecutionException, InterruptedException {
+
+		Map<GradualParameters, List<Integer>> individualsByBehaviour = new LinkedHashMap<>();
+
+		for(int numIndividual = 0; numIndividual < population.length; numIndividual++) {
+			GradualParameters behaviour = this.evaluator.behaviourOf(this.toParameters(population[numIndividual]));
+
+			individualsByBehaviour.computeIfAbsent(behaviour, key -> new ArrayList<>()).add(numIndividual);
+		}
+
+		List<Callable<double[]>> evaluations = new ArrayList<>();
+
+		for(GradualParameters behaviour : individualsByBehaviour.keySet()) {
+			if(!this.evaluator.isCached(behaviour)) {
+				evaluations.add( () -> this.evaluator.scoresByRound(behaviour) );
+			}
+		}
+
+		for(Future<double[]> evaluation : pool.invokeAll(evaluations)) {
+			evaluation.get();
+		}
+
+		for(Map.Entry<GradualParameters, List<Integer>> entry : individualsByBehaviour.entrySet()) {
+			double[] scoresByRound = this.evaluator.scoresByRound(entry.getKey());
+
+			double fitnessOfBehaviour = 0;
+
+			for(int numOpponent = 0; numOpponent < scoresByRound.length; numOpponent++) {
+				fitnessOfBehaviour += this.opponentWeights[numOpponent] * scoresByRound[numOpponent];
+			}
+
+			for(int numIndividual : entry.getValue()) {
+				fitness[numIndividual] = fitnessOfBehaviour;
+			}
+		}
+
+		return evaluations.size();
+	}
+
+	/**
+	 * Ranks the individuals of a population by their fitness (and, then, by their order in the population).
+	 *
+	 * @param fitness the fitness of the individuals
+	 *
+	 * @param ranking the array where the indexes of the individuals will be kept, from the best to the worst
+	 */
+	private static void rank(double[] fitness, int[] ranking) {
+		Integer[] indexes = new Integer[fitness.length];
+
+		for(int numIndividual = 0; numIndividual < fitness.length; numIndividual++) {
+			indexes[numIndividual] = numIndividual;
+		}
+
+		// The sort it's stable, so the individuals with the same fitness keep their order
+		Arrays.sort(indexes, (individualA, individualB) -> Double.compare(fitness[individualB], fitness[individualA]));
+
+		for(int rank = 0; rank < fitness.length; rank++) {
+			ranking[rank] = indexes[rank];
+		}
+	}
+
+	/**
+	 * Returns the next generation of a population: the elites and, then,
+	 * the children of parents chosen by tournaments, crossed and mutated.
+	 *
+	 * @param population the genes of the individuals
+	 *
+	 * @param fitness the fitness of the individuals
+	 *
+	 * @param ranking the indexes of the individuals, from the best to the worst
+	 *
+	 * @param generation the number of the generation of the population
+	 *
+	 * @return the next generation of the population
+	 */
+	private double[][] nextGeneration(double[][] population, double[] fitness, int[] ranking, int generation) {
+		CounterRandom random = new CounterRandom(this.seed);
+
+		random.setStream(generation);
+
+		double[][] nextPopulation = new double[population.length][];
+
+		for(int numElite = 0; numElite < NUM_ELITES; numElite++) {
+			nextPopulation[numElite] = population[ranking[numElite]].clone();
+		}
+
+		for(int numIndividual = NUM_ELITES; numIndividual < population.length; numIndividual++) {
+			double[] parentA = population[tournament(fitness, random)];
+			double[] parentB = population[tournament(fitness, random)];
+
+			double[] child = parentA.clone();
+
+			if(random.nextBoolean(CROSSOVER_PROBABILITY)) {
+				for(int gene = 0; gene < NUM_GENES; gene++) {
+					if(random.nextBoolean(0.5)) {
+						child[gene] = parentB[gene];
+					}
+				}
+			}
+
+			for(int gene = 0; gene < NUM_GENES; gene++) {
+				if(random.nextBoolean(MUTATION_PROBABILITY)) {
+					child[gene] += MUTATION_STEPS[gene] * gaussian(random);
+				}
+			}
+
+			nextPopulation[numIndividual] = clamp(child);
+		}
+
+		return nextPopulation;
+	}
+
+	/**
+	 * Returns the index of the best individual, of some individuals chosen at random.
+	 *
+	 * @param fitness the fitness of the individuals
+	 *
+	 * @param random the Counter Random of the generation
+	 *
+	 * @return the index of the best individual of the tournament
+	 */
+	private static int tournament(double[] fitness, CounterRandom random) {
+		int best = (int) ( random.nextDouble() * fitness.length );
+
+		for(int numContender = 1; numContender < TOURNAMENT_SIZE; numContender++) {
+			int contender = (int) ( random.nextDouble() * fitness.length );
+
+			if(fitness[contender] > fitness[best]) {
+				best = contender;
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * Returns a random number of the standard normal distribution (by the Box-Muller transform).
+	 *
+	 * @param random the Counter Random of the generation
+	 *
+	 * @return a random number of the standard normal distribution
+	 */
+	private static double gaussian(CounterRandom random) {
+		double u1 = 1.0 - random.nextDouble();
+		double u2 = random.nextDouble();
+
+		return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+	}
+
+	/**
+	 * Limits the genes of an individual to their bounds, rounding the integer genes.
+	 *
+	 * @param genes the genes of the individual
+	 *
+	 * @return the same genes, limited to their bounds
+	 */
+	private static double[] clamp(double[] genes) {
+		for(int gene = 0; gene < NUM_GENES; gene++) {
+			double value = Math.max(MIN_GENES[gene], Math.min(MAX_GENES[gene], genes[gene]));
+
+			genes[gene] = (gene == GENE_SAFE_BETA) ? value : Math.rint(value);
+		}
+
+		return genes;
+	}
+
+	/**
+	 * Returns the genes of some Gradual Parameters (the thresholds never reached are limited, later, to their bounds).
+	 *
+	 * @param parameters the Gradual Parameters
+	 *
+	 * @return the genes of the Gradual Parameters
+	 */
+	private double[] toGenes(GradualParameters parameters) {
+		double[] genes = new double[NUM_GENES];
+
+		genes[GENE_SOFT_CALM_DOWN] = parameters.getNumCooperatesSoftCalmDown();
+		genes[GENE_HARD_CALM_DOWN] = parameters.getNumCooperatesHardCalmDown();
+		genes[GENE_TRY_MAXIMISE_GAIN] = parameters.getNumConsecutiveCooperatesToTryMaximiseGain();
+		genes[GENE_APPLY_HARD_CALM_DOWNS] = parameters.getNumConsecutiveCooperatesToApplyHardCalmDowns();
+		genes[GENE_INITIAL_DEFECTS] = parameters.getNumInitialDefectsBeforeHardCalmDown();
+		genes[GENE_LEEWAY_FACTOR] = parameters.getFactorOfMinimumLeewayOfCooperatesDifference();
+		genes[GENE_SAFE_BETA] = parameters.getSafeBetaProbabilityToContinue();
+
+		return genes;
+	}
+
+	/**
+	 * Returns the Gradual Parameters of an individual (the rules of the Strategy to tune, with its genes).
+	 *
+	 * @param genes the genes of the individual
+	 *
+	 * @return the Gradual Parameters of the individual
+	 */
+	private GradualParameters toParameters(double[] genes) {
+		return this.baseParameters.withCalmDowns( (int) genes[GENE_SOFT_CALM_DOWN], (int) genes[GENE_HARD_CALM_DOWN] )
+								  .withTuningConstants( (int) genes[GENE_TRY_MAXIMISE_GAIN],
+														(int) genes[GENE_APPLY_HARD_CALM_DOWNS],
+														(int) genes[GENE_INITIAL_DEFECTS],
+														(int) genes[GENE_LEEWAY_FACTOR],
+														genes[GENE_SAFE_BETA] );
+	}
+
+	/**
+	 * Prints the best individuals of the last generation, with distinct behaviours.
+	 *
+	 * @param out the stream where the best individuals will be printed
+	 *
+	 * @param population the genes of the individuals
+	 *
+	 * @param fitness the fitness of the individuals
+	 *
+	 * @param ranking the indexes of the individuals, from the best to the worst
+	 */
+	private void printBest(PrintStream out, double[][] population, double[] fitness, int[] ranking) {
+		out.printf("%nThe best individuals of the last generation:%n");
+
+		Set<GradualParameters> behavioursPrinted = new HashSet<>();
+
+		for(int numIndividual : ranking) {
+			if(behavioursPrinted.size() == NUM_BEST_PRINTED) {
+				break;
+			}
+
+			GradualParameters parameters = this.toParameters(population[numIndividual]);
+
+			if(behavioursPrinted.add(this.evaluator.behaviourOf(parameters))) {
+				out.printf("%4d %10.6f  %s%n", behavioursPrinted.size(), fitness[numIndividual], parameters);
+			}
+		}
+	}
+
+	/**
+	 * Writes a population to the checkpoint file (to a temporary file and, then, moving it
+	 * over the checkpoint file, so an interruption never leaves a checkpoint file half written).
+	 *
+	 * @param population the genes of the individuals
+	 *
+	 * @param generation the number of the generation of the population
+	 *
+	 * @throws IOException if the checkpoint file can't be written
+	 */
+	private void writeCheckpoint(double[][] population, int generation) throws IOException {
+		Path temporaryFile = this.checkpointFile.resolveSibling(this.checkpointFile.getFileName() + ".tmp");
+
+		try(BufferedWriter writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.US_ASCII)) {
+			writer.write(CHECKPOINT_HEADER);
+			writer.newLine();
+			writer.write("seed=" + this.seed);
+			writer.newLine();
+			writer.write("generation=" + generation);
+			writer.newLine();
+
+			for(double[] genes : population) {
+				StringBuilder line = new StringBuilder();
+
+				for(int gene = 0; gene < NUM_GENES; gene++) {
+					if(gene > 0) {
+						line.append(' ');
+					}
+
+					// The beta-value it's written with all its bits, so it's read exactly the same
+					line.append( (gene == GENE_SAFE_BETA) ? Double.toString(genes[gene]) : Long.toString( (long) genes[gene] ) );
+				}
+
+				writer.write(line.toString());
+				writer.newLine();
+			}
+		}
+
+		Files.move(temporaryFile, this.checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Reads the population of the checkpoint file.
+	 *
+	 * @return the genes of the individuals of the checkpoint file
+	 *
+	 * @throws IOException if the checkpoint file can't be read or it's not valid
+	 */
+	private double[][] readCheckpoint() throws IOException {
+		List<double[]> population = new ArrayList<>();
+
+		try(BufferedReader reader = Files.newBufferedReader(this.checkpointFile, StandardCharsets.US_ASCII)) {
+			if(!CHECKPOINT_HEADER.equals(reader.readLine())) {
+				throw new IOException("The file " + this.checkpointFile + " isn't a checkpoint of the Evolutionary Optimizer!!!");
+			}
+
+			long seedOfCheckpoint = Long.parseLong(readValue(reader, "seed"));
+
+			if(seedOfCheckpoint != this.seed) {
+				throw new IOException("The checkpoint " + this.checkpointFile + " was made with another seed (" + seedOfCheckpoint + ")!!!");
+			}
+
+			readValue(reader, "generation");
+
+			String line;
+
+			while( (line = reader.readLine()) != null ) {
+				String[] values = line.trim().split(" ");
+
+				if(values.length != NUM_GENES) {
+					throw new IOException("An individual of the checkpoint " + this.checkpointFile + " doesn't have " + NUM_GENES + " genes!!!");
+				}
+
+				double[] genes = new double[NUM_GENES];
+
+				for(int gene = 0; gene < NUM_GENES; gene++) {
+					genes[gene] = Double.parseDouble(values[gene]);
+				}
+
+				population.add(clamp(genes));
+			}
+		}
+
+		if(population.size() <= NUM_ELITES) {
+			throw new IOException("The checkpoint " + this.checkpointFile + " doesn't have enough individuals!!!");
+		}
+
+		return population.toArray(new double[0][]);
+	}
+
+	/**
+	 * Reads the number of the generation of the checkpoint file.
+	 *
+	 * @return the number of the generation of the checkpoint file
+	 *
+	 * @throws IOException if the checkpoint file can't be read or it's not valid
+	 */
+	private int readCheckpointGeneration() throws IOException {
+		try(BufferedReader reader = Files.newBufferedReader(this.checkpointFile, StandardCharsets.US_ASCII)) {
+			reader.readLine();
+			readValue(reader, "seed");
+
+			return Integer.parseInt(readValue(reader, "generation"));
+		}
+	}
+
+	/**
+	 * Reads the next line of a checkpoint file, as the value of a given key ("key=value").
+	 *
+	 * @param reader the reader of the checkpoint file
+	 *
+	 * @param key the key of the line
+	 *
+	 * @return the value of the line
+	 *
+	 * @throws IOException if the line can't be read or it doesn't have the given key
+	 */
+	private static String readValue(BufferedReader reader, String key) throws IOException {
+		String line = reader.readLine();
+
+		if( (line == null) || !line.startsWith(key + "=") ) {
+			throw new IOException("The checkpoint doesn't have the " + key + "!!!");
+		}
+
+		return line.substring(key.length() + 1).trim();
+	}
+
+	/**
+	 * Tunes the constants of the HybridGradualWithCooperatesLeewayStrategy, against a mix of
+	 * all the variants of the Gradual family, resuming from the checkpoint file, if it exists.
+	 *
+	 * Usage: EvolutionaryOptimizer [maximumNumberOfIterations] [probabilityForNextIteration] [populationSize]
+	 *                              [numGenerations] [maxMinutes] [checkpointFile] [seed] [opponentWeights] [numThreads]
+	 *
+	 * (the weights of the Opponents are separated by commas, in the order of the variants of the Gradual family)
+	 *
+	 * @param args the arguments of the Evolutionary Optimizer
+	 *
+	 * @param out the stream where the results will be printed
+	 *
+	 * @throws IOException if the checkpoint file can't be read or written
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the individuals
+	 */
+	static void runCommand(String[] args, PrintStream out) throws IOException, InterruptedException {
+		int maximumNumberOfIterations = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+		double probabilityForNextIteration = (args.length > 1) ? Double.parseDouble(args[1]) : 0.99;
+		int populationSize = (args.length > 2) ? Integer.parseInt(args[2]) : 64;
+		int numGenerations = (args.length > 3) ? Integer.parseInt(args[3]) : 100;
+		double maxMinutes = (args.length > 4) ? Double.parseDouble(args[4]) : 8 * 60;
+		Path checkpointFile = (args.length > 5) ? Paths.get(args[5]) : null;
+		long seed = (args.length > 6) ? Long.parseLong(args[6]) : 1L;
+		int numThreads = (args.length > 8) ? Integer.parseInt(args[8]) : Runtime.getRuntime().availableProcessors();
+
+		GradualVariant[] variants = GradualVariant.values();
+
+		GradualMachine[] opponents = new GradualMachine[variants.length];
+		double[] opponentWeights = new double[variants.length];
+
+		String[] weights = (args.length > 7) ? args[7].split(",") : new String[0];
+
+		for(GradualVariant variant : variants) {
+			opponents[variant.ordinal()] = GradualMachine.of(variant);
+			opponentWeights[variant.ordinal()] = (variant.ordinal() < weights.length) ? Double.parseDouble(weights[variant.ordinal()]) : 1.0;
+		}
+
+		OpponentPoolEvaluator evaluator = new OpponentPoolEvaluator(new LocalGameTree(), opponents,
+																	maximumNumberOfIterations, probabilityForNextIteration);
+
+		EvolutionaryOptimizer optimizer = new EvolutionaryOptimizer(GradualVariant.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY.getParameters(),
+																	evaluator, opponentWeights, populationSize, seed, checkpointFile);
+
+		optimizer.run(numGenerations, (long) (maxMinutes * 60e9), numThreads, out);
+	}
+
+	/**
+	 * Runs the Evolutionary Optimizer from the command line, printing the results in the standard output
+	 * (see runCommand, for the usage).
+	 *
+	 * @param args the arguments of the Evolutionary Optimizer
+	 *
+	 * @throws IOException if the checkpoint file can't be read or written
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the individuals
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		runCommand(args, System.out);
+	}
+}
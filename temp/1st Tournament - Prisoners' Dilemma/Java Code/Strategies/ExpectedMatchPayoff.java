@@ -0,0 +1,192 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+
+/**
+ * Class responsible for the expected payoff of a Match.
+ *
+ * Description:
+ * - A class responsible for keeping the expected scores of both Strategies
+ *   of a Match (each one, summing its payoffs as Player no. 1 and as Player no. 2,
+ *   as in the results of the Local Referee) and the expected number of rounds played;
+ *
+ * - It also keeps the shape of the Markov chain of the Match (the number of rounds
+ *   before it starts to repeat itself and the number of rounds of each repetition),
+ *   and if the expected scores are exact or were truncated, when the rounds
+ *   not computed can't change them more than a given tolerance;
+ *
+ * - When no repetition was found, the transient it's NO_CYCLE and the cycle it's 0;
+ */
+public class ExpectedMatchPayoff {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The length of the transient, when no repetition was found
+	 */
+	public static final int NO_CYCLE = -1;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The expected score of the first Strategy of the Match
+	 */
+	private final double scoreA;
+
+	/**
+	 * The expected score of the second Strategy of the Match
+	 */
+	private final double scoreB;
+
+	/**
+	 * The expected number of rounds played in the Match
+	 */
+	private final double numRounds;
+
+	/**
+	 * The number of rounds before the Match starts to repeat itself (the transient)
+	 * (NO_CYCLE, if no repetition was found)
+	 */
+	private final int transientLength;
+
+	/**
+	 * The number of rounds of each repetition (0, if no repetition was found)
+	 */
+	private final int cycleLength;
+
+	/**
+	 * True if, the expected scores are exact and false, if they were truncated
+	 */
+	private final boolean exact;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new expected payoff of a Match.
+	 *
+	 * @param scoreA the expected score of the first Strategy of the Match
+	 *
+	 * @param scoreB the expected score of the second Strategy of the Match
+	 *
+	 * @param numRounds the expected number of rounds played in the Match
+	 *
+	 * @param transientLength the number of rounds before the Match starts to repeat itself
+	 *        (NO_CYCLE, if no repetition was found)
+	 *
+	 * @param cycleLength the number of rounds of each repetition (0, if no repetition was found)
+	 *
+	 * @param exact true if, the expected scores are exact and false, if they were truncated
+	 */
+	public ExpectedMatchPayoff(double scoreA, double scoreB, double numRounds,
+							   int transientLength, int cycleLength, boolean exact) {
+
+		this.scoreA = scoreA;
+		this.scoreB = scoreB;
+		this.numRounds = numRounds;
+		this.transientLength = transientLength;
+		this.cycleLength = cycleLength;
+		this.exact = exact;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the expected score of the first Strategy of the Match.
+	 *
+	 * @return the expected score of the first Strategy of the Match
+	 */
+	public double getScoreA() {
+		return this.scoreA;
+	}
+
+	/**
+	 * Returns the expected score of the second Strategy of the Match.
+	 *
+	 * @return the expected score of the second Strategy of the Match
+	 */
+	public double getScoreB() {
+		return this.scoreB;
+	}
+
+	/**
+	 * Returns the expected number of rounds played in the Match.
+	 *
+	 * @return the expected number of rounds played in the Match
+	 */
+	public double getNumRounds() {
+		return this.numRounds;
+	}
+
+	/**
+	 * Returns the expected score of the first Strategy of the Match, by round.
+	 *
+	 * @return the expected score of the first Strategy of the Match, by round
+	 */
+	public double getScoreAByRound() {
+		return this.scoreA / this.numRounds;
+	}
+
+	/**
+	 * Returns the expected score of the second Strategy of the Match, by round.
+	 *
+	 * @return the expected score of the second Strategy of the Match, by round
+	 */
+	public double getScoreBByRound() {
+		return this.scoreB / this.numRounds;
+	}
+
+	/**
+	 * Returns the number of rounds before the Match starts to repeat itself (the transient).
+	 *
+	 * @return the number of rounds before the Match starts to repeat itself (NO_CYCLE, if no repetition was found)
+	 */
+	public int getTransientLength() {
+		return this.transientLength;
+	}
+
+	/**
+	 * Returns true if, a repetition of the Match was found and false, otherwise.
+	 *
+	 * @return true if, a repetition of the Match was found and false, otherwise
+	 */
+	public boolean hasCycle() {
+		return (this.cycleLength > 0);
+	}
+
+	/**
+	 * Returns the number of rounds of each repetition (0, if no repetition was found).
+	 *
+	 * @return the number of rounds of each repetition (0, if no repetition was found)
+	 */
+	public int getCycleLength() {
+		return this.cycleLength;
+	}
+
+	/**
+	 * Returns true if, the expected scores are exact and false, if they were truncated.
+	 *
+	 * @return true if, the expected scores are exact and false, if they were truncated
+	 */
+	public boolean isExact() {
+		return this.exact;
+	}
+}
@@ -0,0 +1,78 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import gametree.GameNode;
+import gametree.GameNodeDoesNotExistException;
+import gametree.GameTree;
+
+/**
+ * Class responsible for the Opponent History of a Game Tree, extending OpponentHistory.
+ *
+ * Description:
+ * - A class responsible for the Opponent History of the Game Tree,
+ *   provided by the remote Referee;
+ *
+ * - The path of a final/terminal node it's walked backward, from that node
+ *   to the root, without recursion neither building the full path
+ *   (the root it's detected by the node, so the ancestor of the root it's never requested),
+ *   and the moves of my Opponent are added, by ordinal, to the reusable buffer of the history;
+ */
+public class GameTreeOpponentHistory extends OpponentHistory<GameNodeDoesNotExistException> {
+
+	// Global Instance Variables:
+
+	/**
+	 * The Game Tree of the current Game
+	 */
+	private final GameTree tree;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Opponent History, for a given Game Tree and Strategy Vector.
+	 *
+	 * @param tree the Game Tree of the current Game
+	 *
+	 * @param strategyVector the Strategy Vector, which moves will be tracked
+	 */
+	public GameTreeOpponentHistory(GameTree tree, StrategyVector strategyVector) {
+		super(strategyVector);
+
+		this.tree = tree;
+	}
+
+
+	// Methods/Functions:
+
+	@Override
+	protected void collectOpponentMoves(int finalNode, boolean opponentIsPlayer2) throws GameNodeDoesNotExistException {
+		GameNode n = this.tree.getNodeByIndex(finalNode);
+
+		while( (n != null) && !n.isRoot() ) {
+			GameNode ancestor = n.getAncestor();
+
+			if( !n.isNature() && (opponentIsPlayer2 ? ancestor.isPlayer2() : ancestor.isPlayer1()) ) {
+				this.addOpponentMove(this.ordinalOf(n.getLabel()));
+			}
+
+			n = ancestor;
+		}
+	}
+}
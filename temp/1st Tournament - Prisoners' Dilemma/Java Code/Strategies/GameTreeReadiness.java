@@ -0,0 +1,188 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Class responsible for the Game Tree Readiness.
+ *
+ * Description:
+ * - A class responsible for polling the Game Tree, until it becomes available,
+ *   with a short backoff between each check, instead of sleeping one second;
+ *
+ * - The framework of the Referee only offers the isTreeKnown() method (it doesn't notify
+ *   the Strategy when the Game Tree arrives), so it's checked with a wait between each check
+ *   starting at 50 microseconds and doubling until 1 millisecond, and the Strategy starts
+ *   to play within a millisecond, after the Game Tree arrives;
+ *
+ * - By default, the Strategy waits for the Game Tree without any timeout (as it always did),
+ *   since a Strategy can be started long before the Referee publishes its Game Tree;
+ *
+ * - A timeout can be configured in the system property TIMEOUT_PROPERTY and the time that the Strategy
+ *   waited for the Game Tree (the startup latency) it's recorded, even if the timeout expired,
+ *   so a Strategy that never gets its Game Tree fails with the time that it waited;
+ */
+public class GameTreeReadiness {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The system property with the timeout to wait for the Game Tree, in milliseconds
+	 * (0 or less, to wait without any timeout)
+	 */
+	public static final String TIMEOUT_PROPERTY = "play.gameTreeTimeoutMillis";
+
+	/**
+	 * The timeout to wait for the Game Tree, in milliseconds, if it's not configured
+	 * in the system property TIMEOUT_PROPERTY (0, to wait without any timeout)
+	 */
+	public static final long DEFAULT_TIMEOUT_MILLIS = 0;
+
+	/**
+	 * The first wait between the checks of the Game Tree, in nanoseconds
+	 */
+	private static final long MIN_WAIT_BETWEEN_CHECKS = TimeUnit.MICROSECONDS.toNanos(50);
+
+	/**
+	 * The longest wait between the checks of the Game Tree, in nanoseconds
+	 */
+	private static final long MAX_WAIT_BETWEEN_CHECKS = TimeUnit.MILLISECONDS.toNanos(1);
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The check if, the Game Tree it's available
+	 */
+	private final BooleanSupplier treeKnown;
+
+	/**
+	 * The time that the Strategy waited for the Game Tree, in nanoseconds
+	 * (-1, if the Game Tree isn't available yet)
+	 */
+	private volatile long startupLatency = -1;
+
+	/**
+	 * The time that the Strategy waited in the last wait for the Game Tree, in nanoseconds,
+	 * recorded even if the timeout expired (-1, if the Strategy didn't wait yet)
+	 */
+	private volatile long waitedTime = -1;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Game Tree Readiness, for a given check of the Game Tree.
+	 *
+	 * @param treeKnown the check if, the Game Tree it's available
+	 */
+	public GameTreeReadiness(BooleanSupplier treeKnown) {
+		this.treeKnown = treeKnown;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the timeout to wait for the Game Tree, in milliseconds,
+	 * configured in the system property TIMEOUT_PROPERTY (DEFAULT_TIMEOUT_MILLIS, if it's not configured)
+	 * (0 or less, to wait without any timeout).
+	 *
+	 * @return the timeout to wait for the Game Tree, in milliseconds
+	 */
+	public static long getConfiguredTimeoutMillis() {
+		return Long.getLong(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT_MILLIS);
+	}
+
+	/**
+	 * Polls the Game Tree until it's available or until the given timeout.
+	 *
+	 * @param timeout the timeout to wait for the Game Tree (0 or less, to wait without any timeout)
+	 *
+	 * @param unit the unit of the timeout
+	 *
+	 * @return true if, the Game Tree it's available and false, if the timeout expired before
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the Game Tree
+	 */
+	public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+		long startTime = System.nanoTime();
+		long deadline = (timeout > 0) ? startTime + unit.toNanos(timeout) : Long.MAX_VALUE;
+		long waitBetweenChecks = MIN_WAIT_BETWEEN_CHECKS;
+
+		while(true) {
+			if(this.treeKnown.getAsBoolean()) {
+				this.waitedTime = System.nanoTime() - startTime;
+
+				if(this.startupLatency < 0) {
+					this.startupLatency = this.waitedTime;
+				}
+
+				return true;
+			}
+
+			long remaining = (timeout > 0) ? deadline - System.nanoTime() : MAX_WAIT_BETWEEN_CHECKS;
+
+			if(remaining <= 0) {
+				this.waitedTime = System.nanoTime() - startTime;
+
+				return false;
+			}
+
+			// A short wait before the next check, doubled after each check, until MAX_WAIT_BETWEEN_CHECKS
+			TimeUnit.NANOSECONDS.sleep(Math.min(waitBetweenChecks, remaining));
+
+			waitBetweenChecks = Math.min(2 * waitBetweenChecks, MAX_WAIT_BETWEEN_CHECKS);
+		}
+	}
+
+	/**
+	 * Returns true if, the Game Tree it's available and false, otherwise.
+	 *
+	 * @return true if, the Game Tree it's available and false, otherwise
+	 */
+	public boolean isReady() {
+		return this.startupLatency >= 0;
+	}
+
+	/**
+	 * Returns the time that the Strategy waited for the Game Tree, in milliseconds
+	 * (-1, if the Game Tree isn't available yet).
+	 *
+	 * @return the time that the Strategy waited for the Game Tree, in milliseconds
+	 */
+	public double getStartupLatencyMillis() {
+		long latency = this.startupLatency;
+
+		return (latency < 0) ? -1 : latency / 1e6;
+	}
+
+	/**
+	 * Returns the time that the Strategy waited in the last wait for the Game Tree, in milliseconds,
+	 * even if the timeout expired (-1, if the Strategy didn't wait yet).
+	 *
+	 * @return the time that the Strategy waited in the last wait for the Game Tree, in milliseconds
+	 */
+	public double getWaitedMillis() {
+		long waited = this.waitedTime;
+
+		return (waited < 0) ? -1 : waited / 1e6;
+	}
+}
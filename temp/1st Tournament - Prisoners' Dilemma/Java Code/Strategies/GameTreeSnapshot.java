@@ -0,0 +1,376 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Class responsible for the Game Tree Snapshot.
+ *
+ * Description:
+ * - A class responsible for an immutable snapshot of the structure of a Game Tree,
+ *   kept in primitive arrays, by the index of each Game Node: the index of its ancestor,
+ *   its type, the Player that owns the move that leads to it (the Player of its ancestor)
+ *   and the identifier of the label of that move (the labels interned in dense identifiers);
+ *
+ * - The snapshots are interned: all the Game Trees with the same structure share the same
+ *   snapshot (the payoffs aren't part of it), so there's only one copy of each structure
+ *   for all the Strategies and Matches of the process, and the paths are walked over
+ *   a few contiguous arrays, instead of one object by Game Node;
+ *
+ * - The snapshots are interned weakly: a snapshot it's only kept while some Game Tree
+ *   still uses it, so the structures of the Game Trees already discarded are freed
+ *   by the garbage collector, and the interned snapshots never grow without a bound;
+ *
+ * - It's immutable, so it's safe for the use of many threads at the same time;
+ */
+public final class GameTreeSnapshot {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The snapshots interned, by their structure, both weakly referenced
+	 * (it's only accessed while holding its lock)
+	 */
+	private static final Map<GameTreeSnapshot, WeakReference<GameTreeSnapshot>> INTERNED =
+			new WeakHashMap<GameTreeSnapshot, WeakReference<GameTreeSnapshot>>();
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The indexes of the ancestors of the Game Nodes, by index (-1, for the root)
+	 */
+	private final int[] ancestors;
+
+	/**
+	 * The types of the Game Nodes, by index (the types of the LocalGameNode)
+	 */
+	private final byte[] types;
+
+	/**
+	 * The Players that own the moves that lead to the Game Nodes, by index
+	 * (1 or 2, or 0, for the root and for the moves of Nature)
+	 */
+	private final byte[] owners;
+
+	/**
+	 * The identifiers of the labels of the moves that lead to the Game Nodes, by index (-1, for the root)
+	 */
+	private final int[] labelIds;
+
+	/**
+	 * The labels of the moves, by identifier
+	 */
+	private final String[] labels;
+
+	/**
+	 * The greatest depth of a Game Node (the number of moves from the root to it)
+	 */
+	private final int maxDepth;
+
+	/**
+	 * The hash of the structure of the snapshot
+	 */
+	private final int hash;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Game Tree Snapshot, with the given arrays.
+	 *
+	 * @param ancestors the indexes of the ancestors of the Game Nodes, by index (-1, for the root)
+	 *
+	 * @param types the types of the Game Nodes, by index
+	 *
+	 * @param owners the Players that own the moves that lead to the Game Nodes, by index
+	 *
+	 * @param labelIds the identifiers of the labels of the moves that lead to the Game Nodes, by index
+	 *
+	 * @param labels the labels of the moves, by identifier
+	 *
+	 * @param maxDepth the greatest depth of a Game Node
+	 */
+	private GameTreeSnapshot(int[] ancestors, byte[] types, byte[] owners, int[] labelIds, String[] labels, int maxDepth) {
+		this.ancestors = ancestors;
+		this.types = types;
+		this.owners = owners;
+		this.labelIds = labelIds;
+		this.labels = labels;
+		this.maxDepth = maxDepth;
+
+		int hash = Arrays.hashCode(ancestors);
+
+		hash = (31 * hash) + Arrays.hashCode(types);
+		hash = (31 * hash) + Arrays.hashCode(labelIds);
+		hash = (31 * hash) + Arrays.hashCode(labels);
+
+		this.hash = hash;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the interned Game Tree Snapshot of a structure, given by the ancestor, the type
+	 * and the label of the move of each Game Node (the Game Nodes must be indexed after their ancestors).
+	 *
+	 * @param ancestors the indexes of the ancestors of the Game Nodes, by index (-1, for the root)
+	 *
+	 * @param types the types of the Game Nodes, by index (the types of the LocalGameNode)
+	 *
+	 * @param labels the labels of the moves that lead to the Game Nodes, by index (null, for the root)
+	 *
+	 * @return the interned Game Tree Snapshot of the structure
+	 */
+	public static GameTreeSnapshot of(int[] ancestors, byte[] types, String[] labels) {
+		int numNodes = ancestors.length;
+
+		if( (types.length != numNodes) || (labels.length != numNodes) ) {
+			throw new IllegalArgumentException("There must be one ancestor, one type and one label by Game Node!!!");
+		}
+
+		byte[] owners = new byte[numNodes];
+		int[] labelIds = new int[numNodes];
+		int[] depths = new int[numNodes];
+
+		Map<String, Integer> labelIdsByLabel = new HashMap<String, Integer>();
+
+		int maxDepth = 0;
+
+		for(int node = 0; node < numNodes; node++) {
+			int ancestor = ancestors[node];
+
+			if(ancestor == -1) {
+				labelIds[node] = -1;
+
+				continue;
+			}
+
+			if( (ancestor < 0) || (ancestor >= node) ) {
+				throw new IllegalArgumentException("The Game Nodes must be indexed after their ancestors!!!");
+			}
+
+			owners[node] = (types[ancestor] == LocalGameNode.PLAYER_1) ? (byte) 1 :
+						   (types[ancestor] == LocalGameNode.PLAYER_2) ? (byte) 2 : (byte) 0;
+
+			Integer labelId = labelIdsByLabel.get(labels[node]);
+
+			if(labelId == null) {
+				labelId = labelIdsByLabel.size();
+				labelIdsByLabel.put(labels[node], labelId);
+			}
+
+			labelIds[node] = labelId;
+
+			depths[node] = depths[ancestor] + 1;
+			maxDepth = Math.max(maxDepth, depths[node]);
+		}
+
+		String[] labelsById = new String[labelIdsByLabel.size()];
+
+		for(Map.Entry<String, Integer> entry : labelIdsByLabel.entrySet()) {
+			labelsById[entry.getValue()] = entry.getKey();
+		}
+
+		GameTreeSnapshot snapshot = new GameTreeSnapshot(ancestors.clone(), types.clone(), owners, labelIds, labelsById, maxDepth);
+		synchronized(INTERNED) {
+			WeakReference<GameTreeSnapshot> internedReference = INTERNED.get(snapshot);
+			GameTreeSnapshot interned = (internedReference != null) ? internedReference.get() : null;
+
+			if(interned != null) {
+				return interned;
+			}
+
+			INTERNED.put(snapshot, new WeakReference<GameTreeSnapshot>(snapshot));
+
+			return snapshot;
+		}
+	}
+
+	/**
+	 * Returns the number of Game Nodes.
+	 *
+	 * @return the number of Game Nodes
+	 */
+	public int getNumNodes() {
+		return this.ancestors.length;
+	}
+
+	/**
+	 * Returns the index of the ancestor of a Game Node.
+	 *
+	 * @param node the index of the Game Node
+	 *
+	 * @return the index of the ancestor of the Game Node (-1, for the root)
+	 */
+	public int getAncestorIndex(int node) {
+		return this.ancestors[node];
+	}
+
+	/**
+	 * Returns the type of a Game Node.
+	 *
+	 * @param node the index of the Game Node
+	 *
+	 * @return the type of the Game Node (the types of the LocalGameNode)
+	 */
+	public byte getType(int node) {
+		return this.types[node];
+	}
+
+	/**
+	 * Returns true if, a Game Node it's the root and false, otherwise.
+	 *
+	 * @param node the index of the Game Node
+	 *
+	 * @return true if, the Game Node it's the root and false, otherwise
+	 */
+	public boolean isRoot(int node) {
+		return (this.ancestors[node] == -1);
+	}
+
+	/**
+	 * Returns true if, a Game Node belongs to Nature and false, otherwise.
+	 *
+	 * @param node the index of the Game Node
+	 *
+	 * @return true if, the Game Node belongs to Nature and false, otherwise
+	 */
+	public boolean isNature(int node) {
+		return (this.types[node] == LocalGameNode.NATURE);
+	}
+
+	/**
+	 * Returns the Player that owns the move that leads to a Game Node (the Player of its ancestor).
+	 *
+	 * @param node the index of the Game Node
+	 *
+	 * @return the Player that owns the move (1 or 2, or 0, for the root and for the moves of Nature)
+	 */
+	public int getOwner(int node) {
+		return this.owners[node];
+	}
+
+	/**
+	 * Returns the identifier of the label of the move that leads to a Game Node.
+	 *
+	 * @param node the index of the Game Node
+	 *
+	 * @return the identifier of the label of the move (-1, for the root)
+	 */
+	public int getLabelId(int node) {
+		return this.labelIds[node];
+	}
+
+	/**
+	 * Returns the number of different labels of the moves.
+	 *
+	 * @return the number of different labels of the moves
+	 */
+	public int getNumLabels() {
+		return this.labels.length;
+	}
+
+	/**
+	 * Returns the label of the move related to a given identifier.
+	 *
+	 * @param labelId the identifier of the label
+	 *
+	 * @return the label of the move related to the given identifier
+	 */
+	public String getLabel(int labelId) {
+		return this.labels[labelId];
+	}
+
+	/**
+	 * Returns the greatest depth of a Game Node (the number of moves from the root to it),
+	 * which it's the size of a buffer where all the paths fit.
+	 *
+	 * @return the greatest depth of a Game Node
+	 */
+	public int getMaxDepth() {
+		return this.maxDepth;
+	}
+
+	/**
+	 * Fills a buffer with the indexes of the Game Nodes of the path from a given Game Node
+	 * to the root (from the Game Node itself, and without the root), walking the indexes
+	 * of the ancestors iteratively, without any allocation.
+	 *
+	 * @param node the index of the Game Node
+	 *
+	 * @param path the buffer where the indexes will be kept (with, at least, getMaxDepth() positions)
+	 *
+	 * @return the number of indexes kept (the depth of the Game Node), or -1 if the Game Node doesn't exist
+	 */
+	public int fillPath(int node, int[] path) {
+		if( (node < 0) || (node >= this.ancestors.length) ) {
+			return -1;
+		}
+
+		int depth = 0;
+
+		for(int n = node; this.ancestors[n] != -1; n = this.ancestors[n]) {
+			path[depth++] = n;
+		}
+
+		return depth;
+	}
+
+	/**
+	 * Returns the number of different structures interned, in the process
+	 * (only the ones still used by some Game Tree, or not freed yet by the garbage collector).
+	 *
+	 * @return the number of different structures interned, in the process
+	 */
+	public static int getNumInterned() {
+		synchronized(INTERNED) {
+			return INTERNED.size();
+		}
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if(this == object) {
+			return true;
+		}
+
+		if( !(object instanceof GameTreeSnapshot) ) {
+			return false;
+		}
+
+		GameTreeSnapshot other = (GameTreeSnapshot) object;
+
+		return (this.hash == other.hash) &&
+			   Arrays.equals(this.ancestors, other.ancestors) &&
+			   Arrays.equals(this.types, other.types) &&
+			   Arrays.equals(this.labelIds, other.labelIds) &&
+			   Arrays.equals(this.labels, other.labels);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hash;
+	}
+}
@@ -0,0 +1,53 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+/**
+ * Interface responsible for the Decision of a Strategy of the Gradual family.
+ *
+ * Description:
+ * - An interface responsible for the rules of a Strategy of the Gradual family,
+ *   without any class of the Referee's framework, so the same rules are played
+ *   by the Strategies against the remote Referee (e.g., the GradualStrategy)
+ *   and by the Local Strategies against the Local Referee (see LocalGradualStrategy);
+ *
+ * - Each Decision keeps the state of one Match (see GradualMatchState),
+ *   so it's only used by the thread that plays that Match;
+ */
+public interface GradualFamilyDecision {
+
+	/**
+	 * Starts a new Match, replacing the state of the previous one
+	 * by a new state, with all the counters at 0.
+	 */
+	void startMatch();
+
+	/**
+	 * Computes the Strategy of the current round, in a given Strategy Vector
+	 * (the first round of the Match, if there's no last round in the history of my Opponent).
+	 *
+	 * @param opponentHistory the history of the moves of my Opponent, updated with the last round
+	 *
+	 * @param myStrategy the Strategy Vector of the current round, already prepared for it
+	 *
+	 * @param layout the Validation Set Layout of the Game Tree, computed only once
+	 *
+	 * @param sampler the Simplex Sampler of the current Match, to draw the probabilities of the unexplored paths
+	 */
+	void computeStrategy(OpponentHistory<?> opponentHistory, StrategyVector myStrategy,
+						 ValidationSetLayout layout, SimplexSampler sampler);
+}
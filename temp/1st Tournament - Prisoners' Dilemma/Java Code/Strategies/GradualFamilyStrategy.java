@@ -0,0 +1,230 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import gametree.GameNode;
+import gametree.GameNodeDoesNotExistException;
+import play.exception.InvalidStrategyException;
+
+/**
+ * Abstract class responsible for a Strategy of the Gradual family, extending Strategy.
+ *
+ * Description:
+ * - An abstract class responsible for waiting for the requests of the Referee
+ *   and providing the Strategies of a variant of the Gradual family,
+ *   whose rules of each round are decided by the Decision returned by newDecision();
+ *
+ * - Each Strategy of the Gradual family (e.g., the GradualStrategy) only returns its Decision;
+ */
+public abstract class GradualFamilyStrategy extends Strategy {
+
+	// Methods/Functions:
+
+	/**
+	 * Returns a new Decision of the rules of the Strategy, with the state of the first Match.
+	 *
+	 * @return a new Decision of the rules of the Strategy, with the state of the first Match
+	 */
+	protected abstract GradualFamilyDecision newDecision();
+
+	@Override
+	public void execute() throws InterruptedException {
+
+		// The Simplex Sampler of the unexplored paths, reseeded at the start of each Match
+		SplittableRandom matchSeeds = DirichletSampler.newMatchSeeds();
+		long matchSeed = matchSeeds.nextLong();
+		SimplexSampler sampler = new DirichletSampler(matchSeed);
+
+		// The Decision of the rules of the Strategy, with the state of the first Match
+		GradualFamilyDecision decision = this.newDecision();
+
+		if(!awaitGameTree(this)) {
+			return;
+		}
+
+		// The Strategy Vector, bound only once to the keys of the Game Tree
+		StrategyVector strategyVector = null;
+
+		// The history of the moves of my Opponent,
+		// updated only with the final/terminal nodes of each round
+		GameTreeOpponentHistory opponentHistory = null;
+
+		// The Validation Set Layout (the first move and the number of moves, by information set),
+		// computed only once, when the Strategy Vector it's bound
+		ValidationSetLayout layout = null;
+
+		// The Strategy Validator, that checks and repairs the Strategy Vector,
+		// before it's provided to the Referee
+		StrategyValidator validator = null;
+
+		while(true) {
+
+			PlayStrategy myStrategy = this.getStrategyRequest();
+
+			// The current Game was terminated by an outside event
+			if(myStrategy == null) {
+				break;
+			}
+
+			if(strategyVector == null) {
+				strategyVector = new StrategyVector(myStrategy);
+				opponentHistory = new GameTreeOpponentHistory(this.tree, strategyVector);
+				layout = new ValidationSetLayout(this.tree.getValidationSet());
+
+				if(layout.getNumMoves() > strategyVector.size()) {
+					StrategyLog.error("PANIC: Strategy structure doesn't match the current Game!!!");
+					return;
+				}
+
+				validator = new StrategyValidator(layout);
+			}
+
+			strategyVector.prepareRound(myStrategy);
+
+			// Both final/terminal nodes are unknown only in the first round of a Match,
+			// so the last round of the previous Match it's forgotten, a new state it's kept
+			// for the new Match and the Simplex Sampler it's reseeded
+			if( (myStrategy.getFinalP1Node() == -1) && (myStrategy.getFinalP2Node() == -1) ) {
+				opponentHistory.reset();
+				decision.startMatch();
+				matchSeed = DirichletSampler.nextMatchSeed(matchSeeds, matchSeed);
+				sampler.reseed(matchSeed);
+			}
+
+			if(StrategyLog.isEnabled(LogLevel.DEBUG) && myStrategy.getFinalP1Node() != -1) {
+				GameNode finalP1 = this.tree.getNodeByIndex(myStrategy.getFinalP1Node());
+				if(finalP1 != null)
+					StrategyLog.debug("Final/Terminal node in last round as P1: " + finalP1);
+			}
+
+			if(StrategyLog.isEnabled(LogLevel.DEBUG) && myStrategy.getFinalP2Node() != -1) {
+				GameNode finalP2 = this.tree.getNodeByIndex(myStrategy.getFinalP2Node());
+				if(finalP2 != null)
+					StrategyLog.debug("Final/Terminal node in last round as P2: " + finalP2);
+			}
+
+			try {
+
+				// Only the final/terminal nodes of the last round are consumed
+				opponentHistory.update(myStrategy.getFinalP1Node(), myStrategy.getFinalP2Node());
+			}
+			catch (GameNodeDoesNotExistException gameNodeDoesNotExistException) {
+				StrategyLog.error("PANIC: Strategy structure doesn't match the current Game!!!");
+			}
+
+			// Let's, now, play the Gradual Strategy (at least what we can infer)
+			// (only once by round, since it changes the state of the current Match)
+			decision.computeStrategy(opponentHistory, strategyVector, layout, sampler);
+
+			provide(this, myStrategy, strategyVector, validator, sampler);
+		}
+	}
+
+	/**
+	 * Polls the Game Tree of a given Strategy, until it's available or until the configured timeout
+	 * (see GameTreeReadiness.getConfiguredTimeoutMillis()).
+	 *
+	 * @param strategy the Strategy that waits for its Game Tree
+	 *
+	 * @return true if, the Game Tree it's available and false, if the timeout expired before
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the Game Tree
+	 */
+	static boolean awaitGameTree(Strategy strategy) throws InterruptedException {
+
+		// Polls the Game Tree with a short backoff (from 50 microseconds to 1 millisecond),
+		// instead of sleeping one second between each check
+		GameTreeReadiness gameTreeReadiness = new GameTreeReadiness(strategy::isTreeKnown);
+
+		StrategyLog.info("Waiting for the Game Tree to become available...");
+
+		long timeoutMillis = GameTreeReadiness.getConfiguredTimeoutMillis();
+
+		if(!gameTreeReadiness.await(timeoutMillis, TimeUnit.MILLISECONDS)) {
+			StrategyLog.error("PANIC: The Game Tree didn't become available after " + gameTreeReadiness.getWaitedMillis() +
+							  " ms (timeout of " + timeoutMillis + " ms)!!!");
+			return false;
+		}
+
+		double startupLatencyMillis = gameTreeReadiness.getStartupLatencyMillis();
+		StrategyLog.info(() -> "The Game Tree became available after " + startupLatencyMillis + " ms");
+
+		return true;
+	}
+
+	/**
+	 * Checks and repairs the Strategy Vector of the current round, translates it to the Play Strategy
+	 * and provides it to the Referee, by a given Strategy.
+	 * If it's rejected, the validation sets that don't sum exactly 1 are drawn again
+	 * (or, if there's none, all of them are filled with a "Cooperate" action), since the same round
+	 * would be rejected again, and it's provided once more; if it's still rejected, the round it's given up
+	 * and the Strategy keeps serving the next requests of the Referee.
+	 *
+	 * @param strategy the Strategy that provides the round
+	 *
+	 * @param myStrategy the Play Strategy of the current round
+	 *
+	 * @param strategyVector the Strategy Vector of the current round, already computed
+	 *
+	 * @param validator the Strategy Validator of the Game Tree
+	 *
+	 * @param sampler the Simplex Sampler of the current Match, to draw the validation sets that can't be repaired
+	 *
+	 * @return true if, the round was accepted by the Referee and false, otherwise
+	 */
+	static boolean provide(Strategy strategy, PlayStrategy myStrategy, StrategyVector strategyVector,
+						   StrategyValidator validator, SimplexSampler sampler) {
+
+		// The Strategy Vector it's checked and repaired locally,
+		// so an invalid Strategy never reaches the Referee
+		int numResampledSets = validator.repair(strategyVector, sampler);
+
+		if(numResampledSets > 0) {
+			StrategyLog.log(LogLevel.WARN, () -> "Invalid Strategy: " + numResampledSets + " validation set(s) drawn again before being provided");
+		}
+
+		// Only here, the Strategy Vector it's translated to the Play Strategy
+		strategyVector.writeTo(myStrategy);
+
+		try {
+			strategy.provideStrategy(myStrategy);
+			return true;
+		}
+		catch(InvalidStrategyException invalidStrategyException) {
+			StrategyLog.error("Invalid Strategy: " + invalidStrategyException.getMessage(), invalidStrategyException);
+		}
+
+		if(validator.repair(strategyVector, sampler, true) == 0) {
+			strategyVector.fillPureAction(validator.getLayout(), MoveLabelCodec.COOPERATE_ACTION);
+		}
+
+		strategyVector.writeTo(myStrategy);
+
+		try {
+			strategy.provideStrategy(myStrategy);
+			return true;
+		}
+		catch(InvalidStrategyException invalidStrategyException) {
+			StrategyLog.error("PANIC: The Strategy was rejected again by the Referee, giving up this round!!!", invalidStrategyException);
+		}
+
+		return false;
+	}
+}
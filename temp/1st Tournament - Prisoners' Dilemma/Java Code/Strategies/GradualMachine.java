@@ -0,0 +1,578 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.Arrays;
+
+/**
+ * Class responsible for the Gradual Machine.
+ *
+ * Description:
+ * - A class responsible for the rules of a variant of the Gradual family,
+ *   compiled in a table of transitions, where each round of a Player
+ *   it's decided by one lookup and, then, by the updates of its counters;
+ *
+ * - The index of the table it's made by the bits of the guards of the rules
+ *   (if the Opponent Cooperated in the last round, if it's currently Defecting
+ *   or "Calming Down", if there's some pending Punishments, if it's a round
+ *   to play for safe, if it can try to maximise its gain, if there's a "leeway"
+ *   of "Cooperate" actions and if the punishments are soft), and each transition
+ *   keeps the action of the round and the updates to apply to the counters;
+ *
+ * - The transitions are the same of the Strategies' classes, when they analyse
+ *   the "Cooperate" move and, then, the "Defect" move of the same Player,
+ *   knowing that the Opponent made exactly one of them in the last round;
+ *
+ * - The Machine it's stateless and the counters of each Player are kept by the caller,
+ *   in a slice of an int[], with STATE_SIZE positions (see MatchMachine), so it's possible
+ *   to simulate many Players and Matches, without any allocation;
+ *
+ * - The Machines of the variants of the Gradual family are compiled once, but a Machine
+ *   can also be compiled from any Gradual Parameters (e.g., to tune the constants of a Strategy);
+ */
+public final class GradualMachine implements MatchMachine {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The position of the number of Defects remaining, in a Defecting process
+	 */
+	public static final int DEFECTS_REMAINING = 0;
+
+	/**
+	 * The position of the number of Cooperates remaining, in a "Calm Down" process
+	 */
+	public static final int COOPERATES_REMAINING = 1;
+
+	/**
+	 * The position of the pending Punishments' flag (1, if there's some pending Punishments and 0, otherwise)
+	 */
+	public static final int PENDING_PUNISHMENTS = 2;
+
+	/**
+	 * The position of the number of Defects of the Opponent
+	 */
+	public static final int OPPONENT_DEFECTS = 3;
+
+	/**
+	 * The position of the number of Cooperates of the Opponent
+	 */
+	public static final int OPPONENT_COOPERATES = 4;
+
+	/**
+	 * The position of the number of consecutive Cooperates of the Opponent
+	 */
+	public static final int OPPONENT_CONSECUTIVE_COOPERATES = 5;
+
+	/**
+	 * The position of the number of Defects of Myself
+	 */
+	public static final int MYSELF_DEFECTS = 6;
+
+	/**
+	 * The position of the number of Cooperates of Myself
+	 */
+	public static final int MYSELF_COOPERATES = 7;
+
+	/**
+	 * The guard of the Opponent's "Cooperate" action, in the last round
+	 */
+	private static final int GUARD_OPPONENT_COOPERATED = 1;
+
+	/**
+	 * The guard of a Defecting process, currently in course
+	 */
+	private static final int GUARD_DEFECTING = 1 << 1;
+
+	/**
+	 * The guard of a "Calm Down" process, currently in course (and not a Defecting process)
+	 */
+	private static final int GUARD_CALMING_DOWN = 1 << 2;
+
+	/**
+	 * The guard of some pending Punishments
+	 */
+	private static final int GUARD_PENDING_PUNISHMENTS = 1 << 3;
+
+	/**
+	 * The guard of a round to play for safe
+	 * (the last round or a low probability to continue)
+	 */
+	private static final int GUARD_PLAY_FOR_SAFE = 1 << 4;
+
+	/**
+	 * The guard of enough consecutive Cooperates of the Opponent, to try to maximise the gain
+	 */
+	private static final int GUARD_TRY_MAXIMISE_GAIN = 1 << 5;
+
+	/**
+	 * The guard of the "leeway" of "Cooperate" actions of the Opponent
+	 */
+	private static final int GUARD_LEEWAY_OF_COOPERATES = 1 << 6;
+
+	/**
+	 * The guard of enough consecutive Cooperates of the Opponent, to apply soft punishments
+	 */
+	private static final int GUARD_SOFT_PUNISHMENTS = 1 << 7;
+
+	/**
+	 * The number of transitions of the table (one for each combination of the guards)
+	 */
+	private static final int NUM_TRANSITIONS = 1 << 8;
+
+	/**
+	 * The "Cooperate" action of a transition (otherwise, it's a "Defect" action)
+	 */
+	private static final int ACTION_COOPERATE = 1;
+
+	/**
+	 * The update of a transition, to start a set of punishments
+	 */
+	private static final int UPDATE_START_PUNISHMENT = 1 << 1;
+
+	/**
+	 * The update of a transition, to clear the pending Punishments
+	 */
+	private static final int UPDATE_CLEAR_PENDING_PUNISHMENTS = 1 << 2;
+
+	/**
+	 * The update of a transition, to count a Cooperate of Myself
+	 */
+	private static final int UPDATE_COUNT_MYSELF_COOPERATE = 1 << 3;
+
+	/**
+	 * The update of a transition, to count a Defect of Myself
+	 */
+	private static final int UPDATE_COUNT_MYSELF_DEFECT = 1 << 4;
+
+	/**
+	 * The update of a transition, to perform a hard punishment
+	 */
+	private static final int UPDATE_HARD_PUNISHMENT = 1 << 5;
+
+	/**
+	 * The update of a transition, to perform a soft punishment
+	 */
+	private static final int UPDATE_SOFT_PUNISHMENT = 1 << 6;
+
+	/**
+	 * The Gradual Machines, by variant of the Gradual family
+	 */
+	private static final GradualMachine[] MACHINES = new GradualMachine[GradualVariant.values().length];
+
+	static {
+		for(GradualVariant variant : GradualVariant.values()) {
+			MACHINES[variant.ordinal()] = new GradualMachine(variant, variant.getParameters());
+		}
+	}
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The variant of the Gradual family, compiled by this Machine
+	 * (or null, if the Machine was compiled from some Gradual Parameters)
+	 */
+	private final GradualVariant variant;
+
+	/**
+	 * The constants of the Strategy, compiled by this Machine
+	 */
+	private final GradualParameters parameters;
+
+	/**
+	 * The table of transitions, by the bits of the guards
+	 */
+	private final byte[] transitions;
+
+	/**
+	 * The number of consecutive "Cooperate" actions, during a soft "Calm Down" process
+	 */
+	private final int numCooperatesSoftCalmDown;
+
+	/**
+	 * The number of consecutive "Cooperate" actions, during a hard "Calm Down" process
+	 */
+	private final int numCooperatesHardCalmDown;
+
+	/**
+	 * The number of consecutive "Cooperate" actions of the Opponent, to try to maximise the gain
+	 */
+	private final int numConsecutiveCooperatesToTryMaximiseGain;
+
+	/**
+	 * The number of consecutive "Cooperate" actions of the Opponent, to keep doing soft "Calm Down" processes
+	 */
+	private final int numConsecutiveCooperatesToApplyHardCalmDowns;
+
+	/**
+	 * The initial number of "Defect" actions of the Opponent, before the hard "Calm Down" processes
+	 */
+	private final int numInitialDefectsBeforeHardCalmDown;
+
+	/**
+	 * The number of consecutive "Cooperate" actions of the Opponent, to apply soft punishments
+	 */
+	private final int numConsecutiveCooperatesToApplySoftPunishments;
+
+	/**
+	 * The factor of minimum "leeway" considered to be safe to try to do some "Cooperate" actions
+	 */
+	private final int factorOfMinimumLeewayOfCooperatesDifference;
+
+	/**
+	 * The greatest (finite) number of consecutive "Cooperate" actions of the Opponent,
+	 * compared by the guards (0, if there's none)
+	 */
+	private final int maxConsecutiveCooperatesCompared;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Gradual Machine, compiling some given constants of a Strategy of the Gradual family.
+	 *
+	 * @param variant the variant of the Gradual family to compile (or null, if there's none)
+	 *
+	 * @param parameters the constants of the Strategy to compile
+	 */
+	private GradualMachine(GradualVariant variant, GradualParameters parameters) {
+		this.variant = variant;
+		this.parameters = parameters;
+		this.transitions = new byte[NUM_TRANSITIONS];
+
+		for(int guards = 0; guards < NUM_TRANSITIONS; guards++) {
+			this.transitions[guards] = (byte) compileTransition(parameters, guards);
+		}
+
+		this.numCooperatesSoftCalmDown = parameters.getNumCooperatesSoftCalmDown();
+		this.numCooperatesHardCalmDown = parameters.getNumCooperatesHardCalmDown();
+		this.numConsecutiveCooperatesToTryMaximiseGain = parameters.getNumConsecutiveCooperatesToTryMaximiseGain();
+		this.numConsecutiveCooperatesToApplyHardCalmDowns = parameters.getNumConsecutiveCooperatesToApplyHardCalmDowns();
+		this.numInitialDefectsBeforeHardCalmDown = parameters.getNumInitialDefectsBeforeHardCalmDown();
+		this.numConsecutiveCooperatesToApplySoftPunishments = parameters.getNumConsecutiveCooperatesToApplySoftPunishments();
+		this.factorOfMinimumLeewayOfCooperatesDifference = parameters.getFactorOfMinimumLeewayOfCooperatesDifference();
+
+		int maxConsecutiveCooperates = 0;
+
+		for(int numConsecutiveCooperates : new int[] { this.numConsecutiveCooperatesToTryMaximiseGain,
+													   this.numConsecutiveCooperatesToApplyHardCalmDowns,
+													   this.numConsecutiveCooperatesToApplySoftPunishments }) {
+
+			if(numConsecutiveCooperates != Integer.MAX_VALUE) {
+				maxConsecutiveCooperates = Math.max(maxConsecutiveCooperates, numConsecutiveCooperates);
+			}
+		}
+
+		this.maxConsecutiveCooperatesCompared = maxConsecutiveCooperates;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the Gradual Machine, of a given variant of the Gradual family.
+	 *
+	 * @param variant the variant of the Gradual family
+	 *
+	 * @return the Gradual Machine, of a given variant of the Gradual family
+	 */
+	public static GradualMachine of(GradualVariant variant) {
+		return MACHINES[variant.ordinal()];
+	}
+
+	/**
+	 * Returns a new Gradual Machine, compiling some given constants of a Strategy of the Gradual family.
+	 *
+	 * @param parameters the constants of the Strategy to compile
+	 *
+	 * @return a new Gradual Machine, compiling the given constants
+	 */
+	public static GradualMachine compile(GradualParameters parameters) {
+		return new GradualMachine(null, parameters);
+	}
+
+	/**
+	 * Compiles the transition of a Strategy of the Gradual family, for a given combination of the guards,
+	 * as the Strategies' classes analyse the "Cooperate" move and, then, the "Defect" move.
+	 *
+	 * @param parameters the constants of the Strategy
+	 *
+	 * @param guards the bits of the guards
+	 *
+	 * @return the transition (the action and the updates) for the given combination of the guards
+	 */
+	private static int compileTransition(GradualParameters parameters, int guards) {
+		boolean opponentCooperated = (guards & GUARD_OPPONENT_COOPERATED) != 0;
+		boolean defecting = (guards & GUARD_DEFECTING) != 0;
+		boolean calmingDown = !defecting && ( (guards & GUARD_CALMING_DOWN) != 0 );
+
+		int punishment = ( (guards & GUARD_SOFT_PUNISHMENTS) != 0 ) ? UPDATE_SOFT_PUNISHMENT : UPDATE_HARD_PUNISHMENT;
+
+		// In a round to play for safe, I will Defect, without any update
+		if( (guards & GUARD_PLAY_FOR_SAFE) != 0 ) {
+			return 0;
+		}
+
+		// I'm currently consecutively Defecting
+		if(defecting) {
+			return UPDATE_COUNT_MYSELF_DEFECT | punishment;
+		}
+
+		// I'm currently "Calming Down"
+		if(calmingDown) {
+			return ACTION_COOPERATE | UPDATE_COUNT_MYSELF_COOPERATE | punishment;
+		}
+
+		// My Opponent Defected in the last round, so, I will start a set of punishments
+		if(!opponentCooperated) {
+			return UPDATE_START_PUNISHMENT | UPDATE_COUNT_MYSELF_DEFECT | punishment;
+		}
+
+		// My Opponent Cooperated many consecutive times, so, I will try to maximise my gain
+		if( (guards & GUARD_TRY_MAXIMISE_GAIN) != 0 ) {
+			if(parameters.isMaximiseGainWithLeeway()) {
+				return ( (guards & GUARD_LEEWAY_OF_COOPERATES) != 0 ) ? ACTION_COOPERATE : 0;
+			}
+
+			return UPDATE_COUNT_MYSELF_DEFECT;
+		}
+
+		// I have some pending Punishments, so, I will start a set of punishments
+		if( (guards & GUARD_PENDING_PUNISHMENTS) != 0 ) {
+			return UPDATE_START_PUNISHMENT | UPDATE_CLEAR_PENDING_PUNISHMENTS | UPDATE_COUNT_MYSELF_DEFECT | punishment;
+		}
+
+		// Otherwise, I will mimic my Opponent (Cooperate)
+		return ACTION_COOPERATE | UPDATE_COUNT_MYSELF_COOPERATE;
+	}
+
+	/**
+	 * Returns the variant of the Gradual family, compiled by this Machine
+	 * (or null, if the Machine was compiled from some Gradual Parameters).
+	 *
+	 * @return the variant of the Gradual family, compiled by this Machine
+	 */
+	public GradualVariant getVariant() {
+		return this.variant;
+	}
+
+	/**
+	 * Returns the constants of the Strategy, compiled by this Machine.
+	 *
+	 * @return the constants of the Strategy, compiled by this Machine
+	 */
+	public GradualParameters getParameters() {
+		return this.parameters;
+	}
+
+	/**
+	 * Resets the counters of a Player, for a new Match.
+	 *
+	 * @param state the counters of the Players
+	 *
+	 * @param offset the position of the counters of the Player
+	 */
+	public void reset(int[] state, int offset) {
+		Arrays.fill(state, offset, offset + STATE_SIZE, 0);
+	}
+
+	/**
+	 * Reduces the counters of a Player to their canonical form, clearing the counters
+	 * that never change its decisions (the counters of its own actions and, without
+	 * a "leeway" of "Cooperate" actions, the counter of the Opponent's "Cooperate" actions)
+	 * and limiting the consecutive "Cooperate" actions of the Opponent to the greatest
+	 * number compared by the guards.
+	 *
+	 * Two Players with the same canonical counters make the same decisions,
+	 * in all the next rounds, so the canonical counters can be compared
+	 * to find the rounds where a Match starts to repeat itself.
+	 *
+	 * @param state the counters of the Players
+	 *
+	 * @param offset the position of the counters of the Player
+	 */
+	@Override
+	public void canonicalize(int[] state, int offset) {
+		state[offset + MYSELF_DEFECTS] = 0;
+		state[offset + MYSELF_COOPERATES] = 0;
+
+		if(!this.parameters.isMaximiseGainWithLeeway()) {
+			state[offset + OPPONENT_COOPERATES] = 0;
+		}
+
+		state[offset + OPPONENT_CONSECUTIVE_COOPERATES] = Math.min(state[offset + OPPONENT_CONSECUTIVE_COOPERATES],
+																   this.maxConsecutiveCooperatesCompared);
+	}
+
+	/**
+	 * Returns true if, the canonical counters of a Player, in a given round and in a later round,
+	 * make the same decisions, in all the rounds after both of them, as long as the Opponent repeats
+	 * the same actions, and false, otherwise.
+	 *
+	 * With a "leeway" of "Cooperate" actions, the counter of the Opponent's "Cooperate" actions
+	 * only grows and it's only compared with the counter of the Opponent's "Defect" actions
+	 * (divided by the factor of minimum "leeway"), so, if all the other counters are the same
+	 * and the "leeway" was already reached in the first round, it's reached in all the next rounds,
+	 * whatever the number of "Cooperate" actions of the Opponent.
+	 *
+	 * @param before the joint state of the Match, in the first round
+	 *
+	 * @param after the joint state of the Match, in the later round
+	 *
+	 * @param offset the position of the counters of the Player
+	 *
+	 * @return true if, the counters of the Player, in both rounds, make the same decisions and false, otherwise
+	 */
+	@Override
+	public boolean repeats(int[] before, int[] after, int offset) {
+		for(int i = 0; i < STATE_SIZE; i++) {
+			if( (i != OPPONENT_COOPERATES) && (before[offset + i] != after[offset + i]) ) {
+				return false;
+			}
+		}
+
+		int cooperatesBefore = before[offset + OPPONENT_COOPERATES];
+		int cooperatesAfter = after[offset + OPPONENT_COOPERATES];
+
+		return (cooperatesBefore == cooperatesAfter) ||
+			   ( (cooperatesAfter > cooperatesBefore) &&
+				 (cooperatesBefore >= (before[offset + OPPONENT_DEFECTS] / this.factorOfMinimumLeewayOfCooperatesDifference)) );
+	}
+
+	/**
+	 * Returns true if, the round it's to play for safe and false, otherwise.
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations remaining for the current Game
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @return true if, the round it's to play for safe and false, otherwise
+	 */
+	@Override
+	public boolean isPlayForSafe(int maximumNumberOfIterations, double probabilityForNextIteration) {
+		return ( this.parameters.isDefectInLastRound() && (maximumNumberOfIterations == 1) ) ||
+			   ( probabilityForNextIteration < this.parameters.getSafeBetaProbabilityToContinue() );
+	}
+
+	/**
+	 * Returns the action of the first round of a Game.
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations remaining for the current Game
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @return the action of the first round of a Game (COOPERATE_ACTION or DEFECT_ACTION)
+	 */
+	@Override
+	public int firstAction(int maximumNumberOfIterations, double probabilityForNextIteration) {
+		if( !this.parameters.isSafeFirstRound() ||
+			( (maximumNumberOfIterations > 1) &&
+			  (probabilityForNextIteration >= this.parameters.getSafeBetaProbabilityToContinue()) ) ) {
+
+			return MoveLabelCodec.COOPERATE_ACTION;
+		}
+
+		return MoveLabelCodec.DEFECT_ACTION;
+	}
+
+	/**
+	 * Decides the action of a Player in a round, after the first one, updating its counters.
+	 *
+	 * @param state the counters of the Players
+	 *
+	 * @param offset the position of the counters of the Player
+	 *
+	 * @param opponentCooperated true if, the Opponent Cooperated in the last round and false, otherwise
+	 *
+	 * @param playForSafe true if, the round it's to play for safe and false, otherwise
+	 *
+	 * @return the action of the Player in the round (COOPERATE_ACTION or DEFECT_ACTION)
+	 */
+	@Override
+	public int step(int[] state, int offset, boolean opponentCooperated, boolean playForSafe) {
+
+		// The counters of the Opponent's action, in the last round
+		if(opponentCooperated) {
+			state[offset + OPPONENT_COOPERATES]++;
+			state[offset + OPPONENT_CONSECUTIVE_COOPERATES]++;
+		}
+		else {
+			state[offset + OPPONENT_DEFECTS]++;
+			state[offset + OPPONENT_CONSECUTIVE_COOPERATES] = 0;
+			state[offset + PENDING_PUNISHMENTS] = 1;
+		}
+
+		int defectsRemaining = state[offset + DEFECTS_REMAINING];
+		int consecutiveCooperates = state[offset + OPPONENT_CONSECUTIVE_COOPERATES];
+
+		int guards = (opponentCooperated ? GUARD_OPPONENT_COOPERATED : 0)
+				   | ( (defectsRemaining > 0) ? GUARD_DEFECTING : 0 )
+				   | ( (state[offset + COOPERATES_REMAINING] > 0) ? GUARD_CALMING_DOWN : 0 )
+				   | ( (state[offset + PENDING_PUNISHMENTS] != 0) ? GUARD_PENDING_PUNISHMENTS : 0 )
+				   | (playForSafe ? GUARD_PLAY_FOR_SAFE : 0)
+				   | ( (consecutiveCooperates >= this.numConsecutiveCooperatesToTryMaximiseGain) ? GUARD_TRY_MAXIMISE_GAIN : 0 )
+				   | ( (state[offset + OPPONENT_COOPERATES] >=
+						   (state[offset + OPPONENT_DEFECTS] / this.factorOfMinimumLeewayOfCooperatesDifference)) ? GUARD_LEEWAY_OF_COOPERATES : 0 )
+				   | ( (consecutiveCooperates >= this.numConsecutiveCooperatesToApplySoftPunishments) ? GUARD_SOFT_PUNISHMENTS : 0 );
+
+		int transition = this.transitions[guards];
+
+		if( (transition & UPDATE_START_PUNISHMENT) != 0 ) {
+			int numDefects = state[offset + OPPONENT_DEFECTS];
+
+			defectsRemaining = numDefects;
+			state[offset + COOPERATES_REMAINING] = ( (numDefects < this.numInitialDefectsBeforeHardCalmDown) ||
+													 (consecutiveCooperates >= this.numConsecutiveCooperatesToApplyHardCalmDowns) ) ?
+															this.numCooperatesSoftCalmDown : this.numCooperatesHardCalmDown;
+		}
+
+		if( (transition & UPDATE_CLEAR_PENDING_PUNISHMENTS) != 0 ) {
+			state[offset + PENDING_PUNISHMENTS] = 0;
+		}
+
+		if( (transition & UPDATE_COUNT_MYSELF_COOPERATE) != 0 ) {
+			state[offset + MYSELF_COOPERATES]++;
+		}
+
+		if( (transition & UPDATE_COUNT_MYSELF_DEFECT) != 0 ) {
+			state[offset + MYSELF_DEFECTS]++;
+		}
+
+		if( (transition & UPDATE_HARD_PUNISHMENT) != 0 ) {
+			if(defectsRemaining > 0) {
+				defectsRemaining--;
+			}
+			else if(state[offset + COOPERATES_REMAINING] > 0) {
+				state[offset + COOPERATES_REMAINING]--;
+			}
+		}
+		else if( (transition & UPDATE_SOFT_PUNISHMENT) != 0 ) {
+			if( (defectsRemaining > 0) && ( (defectsRemaining % 2) == 0 ) ) {
+				defectsRemaining -= 2;
+			}
+			else if( (defectsRemaining == 0) && (state[offset + COOPERATES_REMAINING] > 0) ) {
+				state[offset + COOPERATES_REMAINING]--;
+			}
+		}
+
+		state[offset + DEFECTS_REMAINING] = defectsRemaining;
+
+		return ( (transition & ACTION_COOPERATE) != 0 ) ? MoveLabelCodec.COOPERATE_ACTION : MoveLabelCodec.DEFECT_ACTION;
+	}
+}
@@ -0,0 +1,98 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+
+/**
+ * Class responsible for the state of a Match of the Gradual family.
+ *
+ * Description:
+ * - A class responsible for the counters of one Match, for the both Players
+ *   (the seats of Player no. 1 and Player no. 2), that were, before,
+ *   instance variables of the Strategies, so each Strategy could only
+ *   keep track of one Match;
+ *
+ * - Each Match has its own state, built when the Strategy sees the first round
+ *   of the Match (with no final/terminal nodes of a last round), so the counters
+ *   always start at 0, in each Match, and never carry over from the previous one;
+ *
+ * - The state of a Match it's only changed by the thread that plays that Match;
+ *
+ * - The states aren't kept by the identity of the Match (e.g., by PlayStrategy or GameTree),
+ *   since that can't be done in this framework: the PlayStrategy has no identity of the Match
+ *   (a new one may be requested in each round) and each instance of a Strategy plays only
+ *   one Game Tree, in one blocking loop, so it only plays one Match at a time and each
+ *   Decision keeps only the state of its current Match (see GradualFamilyDecision);
+ */
+public class GradualMatchState {
+
+	// Global Instance Variables:
+
+	/**
+	 * The numbers of Defects of the both, my Players
+	 */
+	final int[] currentNumMyselfDefects = {0, 0};
+
+	/**
+	 * The numbers of Cooperates of the both, my Players
+	 */
+	final int[] currentNumMyselfCooperates = {0, 0};
+
+	/**
+	 * The numbers of Defects of the both, Opponent's Players
+	 */
+	final int[] currentNumOpponentDefects = {0, 0};
+
+	/**
+	 * The numbers of Cooperates of the both, Opponent's Players
+	 */
+	final int[] currentNumOpponentCooperates = {0, 0};
+
+	/**
+	 * The numbers of consecutive Cooperates of the both, Opponent's Players
+	 */
+	final int[] currentNumOpponentConsecutiveCooperates = {0, 0};
+
+	/**
+	 * The numbers of Defects remaining, in a Defecting process,
+	 * for the both Players
+	 */
+	final int[] numDefectsRemaining = {0, 0};
+
+	/**
+	 * The numbers of Cooperates remaining, in a "Calm Down" process,
+	 * for the both Players
+	 */
+	final int[] numCooperatesRemaining = {0, 0};
+
+	/**
+	 * The boolean values, too keep the information about if,
+	 * there's some Punishments currently pending or not,
+	 * for the both Players
+	 */
+	final boolean[] pendingPunishments = {false, false};
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new state of a Match of the Gradual family, with all the counters at 0.
+	 */
+	public GradualMatchState() {
+	}
+}
@@ -0,0 +1,475 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+
+/**
+ * Class responsible for the Gradual Parameters.
+ *
+ * Description:
+ * - A class responsible for the constants of a Strategy of the Gradual family,
+ *   as an immutable value (two Gradual Parameters with the same constants are equal),
+ *   so a Gradual Machine can be compiled from any combination of the constants,
+ *   and not only from the ones hard-coded in the classes of the Strategies;
+ *
+ * - The tuning constants of the Hybrid Strategies (the number of consecutive "Cooperate" actions
+ *   to try to maximise the gain, the number of consecutive "Cooperate" actions to apply hard
+ *   "Calm Down" processes, the initial number of "Defect" actions before the hard "Calm Down" processes,
+ *   the factor of minimum "leeway" and the beta-value of the probability to continue)
+ *   can be replaced all at once, keeping the rules of the Strategy;
+ *
+ * - The rules that a Strategy doesn't have are disabled, with thresholds
+ *   that are never reached (Integer.MAX_VALUE);
+ *
+ * - The constants of each Strategy of the Gradual family are kept here, and only here,
+ *   so the decisions of the Strategies (see GradualFamilyDecision) and their compiled
+ *   Gradual Machines (see GradualVariant) always read the same values;
+ */
+public final class GradualParameters {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The constants of the GradualStrategy
+	 * (a "Calm Down" process of 2 "Cooperate" actions, after each set of punishments)
+	 */
+	public static final GradualParameters GRADUAL =
+			new GradualParameters(2,					// the number of "Cooperate" actions, during a "Calm Down" process
+								  2,					// the same, since there's no hard "Calm Down" processes
+								  Integer.MAX_VALUE,	// it never tries to maximise its gain
+								  Integer.MAX_VALUE,	// it never applies hard "Calm Down" processes
+								  Integer.MAX_VALUE,
+								  Integer.MAX_VALUE,	// it never applies soft punishments
+								  1,					// it has no "leeway" of "Cooperate" actions
+								  false,
+								  false,				// it doesn't Defect in the last round
+								  Double.NEGATIVE_INFINITY,
+								  false);
+
+	/**
+	 * The constants of the HybridGradualStrategy
+	 */
+	public static final GradualParameters HYBRID_GRADUAL =
+			new GradualParameters(2,					// the number of "Cooperate" actions, during a soft "Calm Down" process
+								  1,					// the number of "Cooperate" actions, during a hard "Calm Down" process
+								  4,					// the consecutive "Cooperate" actions of the Opponent, to try to maximise the gain
+								  6,					// the consecutive "Cooperate" actions of the Opponent, to keep doing soft "Calm Down" processes
+								  8,					// the initial "Defect" actions of the Opponent, before the hard "Calm Down" processes
+								  10,					// the consecutive "Cooperate" actions of the Opponent, to apply soft punishments
+								  1,					// it has no "leeway" of "Cooperate" actions
+								  false,
+								  true,					// it Defects in the last round
+								  Double.NEGATIVE_INFINITY,
+								  false);
+
+	/**
+	 * The constants of the HybridGradualWithCooperatesLeewayStrategy
+	 */
+	public static final GradualParameters HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY =
+			new GradualParameters(1,					// the number of "Cooperate" actions, during a soft "Calm Down" process
+								  0,					// the number of "Cooperate" actions, during a hard "Calm Down" process
+								  2,					// the consecutive "Cooperate" actions of the Opponent, to try to maximise the gain
+								  6,					// the consecutive "Cooperate" actions of the Opponent, to keep doing soft "Calm Down" processes
+								  8,					// the initial "Defect" actions of the Opponent, before the hard "Calm Down" processes
+								  10,					// the consecutive "Cooperate" actions of the Opponent, to apply soft punishments
+								  2,					// the factor of minimum "leeway" of "Cooperate" actions
+								  true,
+								  true,					// it Defects in the last round
+								  ( 1 / 3 ),			// the beta-value to play for safe (an integer division, so it's 0.0)
+								  true);
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The number of consecutive "Cooperate" actions, during a soft "Calm Down" process
+	 */
+	private final int numCooperatesSoftCalmDown;
+
+	/**
+	 * The number of consecutive "Cooperate" actions, during a hard "Calm Down" process
+	 */
+	private final int numCooperatesHardCalmDown;
+
+	/**
+	 * The number of consecutive "Cooperate" actions of the Opponent,
+	 * to try to attempt to maximise the gain
+	 */
+	private final int numConsecutiveCooperatesToTryMaximiseGain;
+
+	/**
+	 * The number of consecutive "Cooperate" actions of the Opponent,
+	 * to keep doing soft "Calm Down" processes, after the initial "Defect" actions
+	 */
+	private final int numConsecutiveCooperatesToApplyHardCalmDowns;
+
+	/**
+	 * The initial number of "Defect" actions of the Opponent,
+	 * before the hard "Calm Down" processes
+	 */
+	private final int numInitialDefectsBeforeHardCalmDown;
+
+	/**
+	 * The number of consecutive "Cooperate" actions of the Opponent,
+	 * to apply soft punishments
+	 */
+	private final int numConsecutiveCooperatesToApplySoftPunishments;
+
+	/**
+	 * The factor of minimum "leeway" considered to be safe to try to do some "Cooperate" actions
+	 */
+	private final int factorOfMinimumLeewayOfCooperatesDifference;
+
+	/**
+	 * True if, the "leeway" of "Cooperate" actions it's considered,
+	 * when trying to maximise the gain and false, otherwise
+	 */
+	private final boolean maximiseGainWithLeeway;
+
+	/**
+	 * True if, a "Defect" action it's made in the last round and false, otherwise
+	 */
+	private final boolean defectInLastRound;
+
+	/**
+	 * The beta-value for the minimum probability to continue, to not play for safe
+	 */
+	private final double safeBetaProbabilityToContinue;
+
+	/**
+	 * True if, the first round it's also played for safe and false, otherwise
+	 */
+	private final boolean safeFirstRound;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds new Gradual Parameters.
+	 *
+	 * @param numCooperatesSoftCalmDown the number of consecutive "Cooperate" actions,
+	 *        during a soft "Calm Down" process
+	 *
+	 * @param numCooperatesHardCalmDown the number of consecutive "Cooperate" actions,
+	 *        during a hard "Calm Down" process
+	 *
+	 * @param numConsecutiveCooperatesToTryMaximiseGain the number of consecutive "Cooperate" actions
+	 *        of the Opponent, to try to attempt to maximise the gain
+	 *
+	 * @param numConsecutiveCooperatesToApplyHardCalmDowns the number of consecutive "Cooperate" actions
+	 *        of the Opponent, to keep doing soft "Calm Down" processes
+	 *
+	 * @param numInitialDefectsBeforeHardCalmDown the initial number of "Defect" actions of the Opponent,
+	 *        before the hard "Calm Down" processes
+	 *
+	 * @param numConsecutiveCooperatesToApplySoftPunishments the number of consecutive "Cooperate" actions
+	 *        of the Opponent, to apply soft punishments
+	 *
+	 * @param factorOfMinimumLeewayOfCooperatesDifference the factor of minimum "leeway"
+	 *        considered to be safe to try to do some "Cooperate" actions
+	 *
+	 * @param maximiseGainWithLeeway true if, the "leeway" of "Cooperate" actions it's considered,
+	 *        when trying to maximise the gain and false, otherwise
+	 *
+	 * @param defectInLastRound true if, a "Defect" action it's made in the last round and false, otherwise
+	 *
+	 * @param safeBetaProbabilityToContinue the beta-value for the minimum probability to continue
+	 *
+	 * @param safeFirstRound true if, the first round it's also played for safe and false, otherwise
+	 */
+	public GradualParameters(int numCooperatesSoftCalmDown, int numCooperatesHardCalmDown,
+							 int numConsecutiveCooperatesToTryMaximiseGain, int numConsecutiveCooperatesToApplyHardCalmDowns,
+							 int numInitialDefectsBeforeHardCalmDown, int numConsecutiveCooperatesToApplySoftPunishments,
+							 int factorOfMinimumLeewayOfCooperatesDifference, boolean maximiseGainWithLeeway,
+							 boolean defectInLastRound, double safeBetaProbabilityToContinue, boolean safeFirstRound) {
+
+		if( (numCooperatesSoftCalmDown < 0) || (numCooperatesHardCalmDown < 0) ||
+			(numConsecutiveCooperatesToTryMaximiseGain < 0) || (numConsecutiveCooperatesToApplyHardCalmDowns < 0) ||
+			(numInitialDefectsBeforeHardCalmDown < 0) || (numConsecutiveCooperatesToApplySoftPunishments < 0) ) {
+
+			throw new IllegalArgumentException("The numbers of actions of the Gradual Parameters can't be negative!!!");
+		}
+
+		if(factorOfMinimumLeewayOfCooperatesDifference < 1) {
+			throw new IllegalArgumentException("The factor of minimum leeway must be positive!!!");
+		}
+
+		if(Double.isNaN(safeBetaProbabilityToContinue)) {
+			throw new IllegalArgumentException("The beta-value for the probability to continue must be a number!!!");
+		}
+
+		this.numCooperatesSoftCalmDown = numCooperatesSoftCalmDown;
+		this.numCooperatesHardCalmDown = numCooperatesHardCalmDown;
+		this.numConsecutiveCooperatesToTryMaximiseGain = numConsecutiveCooperatesToTryMaximiseGain;
+		this.numConsecutiveCooperatesToApplyHardCalmDowns = numConsecutiveCooperatesToApplyHardCalmDowns;
+		this.numInitialDefectsBeforeHardCalmDown = numInitialDefectsBeforeHardCalmDown;
+		this.numConsecutiveCooperatesToApplySoftPunishments = numConsecutiveCooperatesToApplySoftPunishments;
+		this.factorOfMinimumLeewayOfCooperatesDifference = factorOfMinimumLeewayOfCooperatesDifference;
+		this.maximiseGainWithLeeway = maximiseGainWithLeeway;
+		this.defectInLastRound = defectInLastRound;
+		this.safeBetaProbabilityToContinue = safeBetaProbabilityToContinue;
+		this.safeFirstRound = safeFirstRound;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns new Gradual Parameters, with the same rules of these ones, but with other tuning constants.
+	 *
+	 * @param numConsecutiveCooperatesToTryMaximiseGain the number of consecutive "Cooperate" actions
+	 *        of the Opponent, to try to attempt to maximise the gain
+	 *
+	 * @param numConsecutiveCooperatesToApplyHardCalmDowns the number of consecutive "Cooperate" actions
+	 *        of the Opponent, to keep doing soft "Calm Down" processes
+	 *
+	 * @param numInitialDefectsBeforeHardCalmDown the initial number of "Defect" actions of the Opponent,
+	 *        before the hard "Calm Down" processes
+	 *
+	 * @param factorOfMinimumLeewayOfCooperatesDifference the factor of minimum "leeway"
+	 *        considered to be safe to try to do some "Cooperate" actions
+	 *
+	 * @param safeBetaProbabilityToContinue the beta-value for the minimum probability to continue
+	 *
+	 * @return the new Gradual Parameters, with the given tuning constants
+	 */
+	public GradualParameters withTuningConstants(int numConsecutiveCooperatesToTryMaximiseGain,
+												 int numConsecutiveCooperatesToApplyHardCalmDowns,
+												 int numInitialDefectsBeforeHardCalmDown,
+												 int factorOfMinimumLeewayOfCooperatesDifference,
+												 double safeBetaProbabilityToContinue) {
+
+		return new GradualParameters(this.numCooperatesSoftCalmDown, this.numCooperatesHardCalmDown,
+									 numConsecutiveCooperatesToTryMaximiseGain, numConsecutiveCooperatesToApplyHardCalmDowns,
+									 numInitialDefectsBeforeHardCalmDown, this.numConsecutiveCooperatesToApplySoftPunishments,
+									 factorOfMinimumLeewayOfCooperatesDifference, this.maximiseGainWithLeeway,
+									 this.defectInLastRound, safeBetaProbabilityToContinue, this.safeFirstRound);
+	}
+
+	/**
+	 * Returns new Gradual Parameters, with the same rules and tuning constants of these ones,
+	 * but with other lengths of the "Calm Down" processes.
+	 *
+	 * @param numCooperatesSoftCalmDown the number of consecutive "Cooperate" actions,
+	 *        during a soft "Calm Down" process
+	 *
+	 * @param numCooperatesHardCalmDown the number of consecutive "Cooperate" actions,
+	 *        during a hard "Calm Down" process
+	 *
+	 * @return the new Gradual Parameters, with the given lengths of the "Calm Down" processes
+	 */
+	public GradualParameters withCalmDowns(int numCooperatesSoftCalmDown, int numCooperatesHardCalmDown) {
+		return new GradualParameters(numCooperatesSoftCalmDown, numCooperatesHardCalmDown,
+									 this.numConsecutiveCooperatesToTryMaximiseGain, this.numConsecutiveCooperatesToApplyHardCalmDowns,
+									 this.numInitialDefectsBeforeHardCalmDown, this.numConsecutiveCooperatesToApplySoftPunishments,
+									 this.factorOfMinimumLeewayOfCooperatesDifference, this.maximiseGainWithLeeway,
+									 this.defectInLastRound, this.safeBetaProbabilityToContinue, this.safeFirstRound);
+	}
+
+	/**
+	 * Returns the number of consecutive "Cooperate" actions, during a soft "Calm Down" process.
+	 *
+	 * @return the number of consecutive "Cooperate" actions, during a soft "Calm Down" process
+	 */
+	public int getNumCooperatesSoftCalmDown() {
+		return this.numCooperatesSoftCalmDown;
+	}
+
+	/**
+	 * Returns the number of consecutive "Cooperate" actions, during a hard "Calm Down" process.
+	 *
+	 * @return the number of consecutive "Cooperate" actions, during a hard "Calm Down" process
+	 */
+	public int getNumCooperatesHardCalmDown() {
+		return this.numCooperatesHardCalmDown;
+	}
+
+	/**
+	 * Returns the number of consecutive "Cooperate" actions of the Opponent,
+	 * to try to attempt to maximise the gain.
+	 *
+	 * @return the number of consecutive "Cooperate" actions of the Opponent,
+	 *         to try to attempt to maximise the gain
+	 */
+	public int getNumConsecutiveCooperatesToTryMaximiseGain() {
+		return this.numConsecutiveCooperatesToTryMaximiseGain;
+	}
+
+	/**
+	 * Returns the number of consecutive "Cooperate" actions of the Opponent,
+	 * to keep doing soft "Calm Down" processes.
+	 *
+	 * @return the number of consecutive "Cooperate" actions of the Opponent,
+	 *         to keep doing soft "Calm Down" processes
+	 */
+	public int getNumConsecutiveCooperatesToApplyHardCalmDowns() {
+		return this.numConsecutiveCooperatesToApplyHardCalmDowns;
+	}
+
+	/**
+	 * Returns the initial number of "Defect" actions of the Opponent,
+	 * before the hard "Calm Down" processes.
+	 *
+	 * @return the initial number of "Defect" actions of the Opponent,
+	 *         before the hard "Calm Down" processes
+	 */
+	public int getNumInitialDefectsBeforeHardCalmDown() {
+		return this.numInitialDefectsBeforeHardCalmDown;
+	}
+
+	/**
+	 * Returns the number of consecutive "Cooperate" actions of the Opponent,
+	 * to apply soft punishments.
+	 *
+	 * @return the number of consecutive "Cooperate" actions of the Opponent,
+	 *         to apply soft punishments
+	 */
+	public int getNumConsecutiveCooperatesToApplySoftPunishments() {
+		return this.numConsecutiveCooperatesToApplySoftPunishments;
+	}
+
+	/**
+	 * Returns the factor of minimum "leeway" considered to be safe to try to do some "Cooperate" actions.
+	 *
+	 * @return the factor of minimum "leeway" considered to be safe to try to do some "Cooperate" actions
+	 */
+	public int getFactorOfMinimumLeewayOfCooperatesDifference() {
+		return this.factorOfMinimumLeewayOfCooperatesDifference;
+	}
+
+	/**
+	 * Returns true if, the "leeway" of "Cooperate" actions it's considered,
+	 * when trying to maximise the gain and false, otherwise.
+	 *
+	 * @return true if, the "leeway" of "Cooperate" actions it's considered,
+	 *         when trying to maximise the gain and false, otherwise
+	 */
+	public boolean isMaximiseGainWithLeeway() {
+		return this.maximiseGainWithLeeway;
+	}
+
+	/**
+	 * Returns true if, a "Defect" action it's made in the last round and false, otherwise.
+	 *
+	 * @return true if, a "Defect" action it's made in the last round and false, otherwise
+	 */
+	public boolean isDefectInLastRound() {
+		return this.defectInLastRound;
+	}
+
+	/**
+	 * Returns the beta-value for the minimum probability to continue, to not play for safe.
+	 *
+	 * @return the beta-value for the minimum probability to continue, to not play for safe
+	 */
+	public double getSafeBetaProbabilityToContinue() {
+		return this.safeBetaProbabilityToContinue;
+	}
+
+	/**
+	 * Returns true if, the first round it's also played for safe and false, otherwise.
+	 *
+	 * @return true if, the first round it's also played for safe and false, otherwise
+	 */
+	public boolean isSafeFirstRound() {
+		return this.safeFirstRound;
+	}
+
+	/**
+	 * Returns true if, some object are Gradual Parameters with the same constants and false, otherwise.
+	 *
+	 * @param object the object to compare
+	 *
+	 * @return true if, some object are Gradual Parameters with the same constants and false, otherwise
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if(this == object) {
+			return true;
+		}
+
+		if( !(object instanceof GradualParameters) ) {
+			return false;
+		}
+
+		GradualParameters other = (GradualParameters) object;
+
+		return (this.numCooperatesSoftCalmDown == other.numCooperatesSoftCalmDown) &&
+			   (this.numCooperatesHardCalmDown == other.numCooperatesHardCalmDown) &&
+			   (this.numConsecutiveCooperatesToTryMaximiseGain == other.numConsecutiveCooperatesToTryMaximiseGain) &&
+			   (this.numConsecutiveCooperatesToApplyHardCalmDowns == other.numConsecutiveCooperatesToApplyHardCalmDowns) &&
+			   (this.numInitialDefectsBeforeHardCalmDown == other.numInitialDefectsBeforeHardCalmDown) &&
+			   (this.numConsecutiveCooperatesToApplySoftPunishments == other.numConsecutiveCooperatesToApplySoftPunishments) &&
+			   (this.factorOfMinimumLeewayOfCooperatesDifference == other.factorOfMinimumLeewayOfCooperatesDifference) &&
+			   (this.maximiseGainWithLeeway == other.maximiseGainWithLeeway) &&
+			   (this.defectInLastRound == other.defectInLastRound) &&
+			   (Double.compare(this.safeBetaProbabilityToContinue, other.safeBetaProbabilityToContinue) == 0) &&
+			   (this.safeFirstRound == other.safeFirstRound);
+	}
+
+	/**
+	 * Returns the hash code of the Gradual Parameters.
+	 *
+	 * @return the hash code of the Gradual Parameters
+	 */
+	@Override
+	public int hashCode() {
+		int hash = this.numCooperatesSoftCalmDown;
+
+		hash = (31 * hash) + this.numCooperatesHardCalmDown;
+		hash = (31 * hash) + this.numConsecutiveCooperatesToTryMaximiseGain;
+		hash = (31 * hash) + this.numConsecutiveCooperatesToApplyHardCalmDowns;
+		hash = (31 * hash) + this.numInitialDefectsBeforeHardCalmDown;
+		hash = (31 * hash) + this.numConsecutiveCooperatesToApplySoftPunishments;
+		hash = (31 * hash) + this.factorOfMinimumLeewayOfCooperatesDifference;
+		hash = (31 * hash) + Boolean.hashCode(this.maximiseGainWithLeeway);
+		hash = (31 * hash) + Boolean.hashCode(this.defectInLastRound);
+		hash = (31 * hash) + Double.hashCode(this.safeBetaProbabilityToContinue);
+		hash = (31 * hash) + Boolean.hashCode(this.safeFirstRound);
+
+		return hash;
+	}
+
+	/**
+	 * Returns the lengths of the "Calm Down" processes and the tuning constants of the Gradual Parameters, as a String.
+	 *
+	 * @return the lengths of the "Calm Down" processes and the tuning constants of the Gradual Parameters, as a String
+	 */
+	@Override
+	public String toString() {
+		return String.format("softCalmDown=%d, hardCalmDown=%d, tryMaximiseGain=%s, applyHardCalmDowns=%s, " +
+							 "initialDefects=%s, leewayFactor=%d, safeBeta=%s",
+							 this.numCooperatesSoftCalmDown, this.numCooperatesHardCalmDown,
+							 thresholdToString(this.numConsecutiveCooperatesToTryMaximiseGain),
+							 thresholdToString(this.numConsecutiveCooperatesToApplyHardCalmDowns),
+							 thresholdToString(this.numInitialDefectsBeforeHardCalmDown),
+							 this.factorOfMinimumLeewayOfCooperatesDifference,
+							 this.safeBetaProbabilityToContinue);
+	}
+
+	/**
+	 * Returns a threshold, as a String (the thresholds that are never reached are shown as "never").
+	 *
+	 * @param threshold the threshold
+	 *
+	 * @return the threshold, as a String
+	 */
+	private static String thresholdToString(int threshold) {
+		return (threshold == Integer.MAX_VALUE) ? "never" : Integer.toString(threshold);
+	}
+}
@@ -0,0 +1,555 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+/**
+ * Class responsible for the Decision of the Gradual Strategy, implementing GradualFamilyDecision.
+ *
+ * Description:
+ * - A class responsible for the rules of the GradualStrategy class, moved out of it,
+ *   so they don't depend on the Referee's framework and the same rules are played
+ *   against the remote Referee (by the GradualStrategy class) and against the Local Referee
+ *   (by the LocalGradualStrategy, for the GradualVariant.GRADUAL);
+ *
+ * - The constants of the rules are read from GradualParameters.GRADUAL;
+ */
+public class GradualStrategyDecision implements GradualFamilyDecision {
+
+	// Invariants/Constraints:
+	
+	/**
+	 * The number of consecutive "Cooperate" actions,
+	 * during a "Calm Down" process
+	 */
+	private static final int NUM_COOPERATES_CALM_DOWN = GradualParameters.GRADUAL.getNumCooperatesSoftCalmDown();
+	
+	
+	// Global Instance Variables:
+	
+	/**
+	 * The state of the current Match (the counters of the both Players),
+	 * replaced by a new one, at the start of each Match
+	 */
+	private GradualMatchState matchState;
+	
+	
+	// Constructors:
+	
+	/**
+	 * Constructor #1:
+	 * - Builds a new Decision of the Gradual Strategy, with the state of a first Match.
+	 */
+	public GradualStrategyDecision() {
+		this.matchState = new GradualMatchState();
+	}
+	
+	
+	// Methods/Functions:
+	
+	@Override
+	public void startMatch() {
+		this.matchState = new GradualMatchState();
+	}
+	
+	/**
+	 * Returns true if, the Player related to a given number,
+	 * it's currently Defecting and false, otherwise
+	 * 
+	 * @param numPlayer the number of the Player,
+	 *        that it's pretending to be verified
+	 *        if it's currently Defecting or not
+	 * 
+	 * @return true if, the Player related to a given number,
+	 *         it's currently Defecting and false, otherwise
+	 */
+	private boolean currentlyDefecting(int numPlayer) {
+		return (this.matchState.numDefectsRemaining[ (numPlayer - 1) ] > 0);
+	}
+	
+	/**
+	 * Returns true if, the Player related to a given number,
+	 * it's currently "Calming Down" and false, otherwise.
+	 * 
+	 * @param numPlayer the number of the Player,
+	 *        that it's pretending to be verified
+	 *        if it's currently "Calming Down" or not
+	 * 
+	 * @return true if, the Player related to a given number,
+	 *         it's currently "Calming Down" and false, otherwise
+	 */
+	private boolean currentlyCalmingDown(int numPlayer) {
+		return (this.matchState.numCooperatesRemaining[ (numPlayer - 1) ] > 0);
+	}
+
+	/**
+	 * Returns true if, the Player related to a given number,
+	 * it's currently Defecting or "Calming Down" and false, otherwise.
+	 * 
+	 * @param numPlayer the number of the Player,
+	 *        that it's pretending to be verified
+	 *        if it's currently Defecting or "Calming Down", or not
+	 * 
+	 * @return true if, the Player related to a given number,
+	 *         it's currently Defecting or "Calming Down" and false, otherwise
+	 */
+	private boolean currentlyDefectingOrCalmingDown(int numPlayer) {
+		return ( this.currentlyDefecting(numPlayer) || this.currentlyCalmingDown(numPlayer) );
+	}
+	
+	/**
+	 * Starts a set of punishments, by doing, a given number of Defects and then,
+	 * "Calm Down" (2 Consecutive Cooperates).
+	 * 
+	 * @param numPlayer the number of the Player, that it's pretended
+	 * 		  to be started a set of punishments  
+	 * 
+	 * @param numDefects the number of Defects to be
+	 *        associated to this set of punishments
+	 */
+	private void startDefectAndCalmDownAsPunishment(int numPlayer, int numDefects) {
+		this.matchState.numDefectsRemaining[ (numPlayer - 1) ] = numDefects;
+		this.matchState.numCooperatesRemaining[ (numPlayer - 1) ] = NUM_COOPERATES_CALM_DOWN;
+	}
+		
+	/**
+	 * Performs a punishment, associated to a given Player.
+	 * 
+	 * @param numPlayer the number of the Player,
+	 *        to who be applied this punishment
+	 */
+	private void defectAndCalmDownAsPunishment(int numPlayer) {
+		
+		// I still have some previous consecutive Defects to do
+		if(this.matchState.numDefectsRemaining[ (numPlayer - 1) ] > 0) {
+				
+			// I will Defect
+			this.matchState.numDefectsRemaining[ (numPlayer - 1) ]--;
+		}
+			
+		// I'm not currently consecutively Defecting,
+		// but probably, I'm currently "Calming Down"
+		// (2 consecutive Cooperates)
+		else if((this.matchState.numDefectsRemaining[( numPlayer - 1) ] == 0) &&
+				(this.matchState.numCooperatesRemaining[ (numPlayer - 1) ] > 0)) {
+				
+			// I'm "Calming Down", so, I will Cooperate
+			this.matchState.numCooperatesRemaining[ (numPlayer - 1) ]--;
+		}
+	}
+	
+	/**
+	 * The method to perform a possible Cooperate action, knowing that my Opponent Cooperate in the previous round.
+	 * 
+	 * @param myStrategy the Strategy Vector, that's currently being used
+	 * 
+	 * @param numPlayer the number of the Player's Opponent, that's being analysed the possible move
+	 * 
+	 * @param possibleMove the ordinal of the possible Move, that's being analysed
+	 */
+	private void possibleCooperateActionKnowingThatMyOpponentCooperateInPreviousRound(StrategyVector myStrategy,
+			                                                                          int numPlayer, int possibleMove) {
+		
+		String possibleMoveLabel = myStrategy.getLabel(possibleMove);
+		
+		// I'm deciding if I Cooperate,
+		// knowing that my Opponent Cooperate in the last round
+		
+		// But, I'm not currently consecutively Defecting neither
+		// currently "Calming Down" (2 consecutive Cooperates)
+		if(!this.currentlyDefectingOrCalmingDown(numPlayer)) {
+
+			// I have some pending Punishments,
+			// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+			if(this.matchState.pendingPunishments[ (numPlayer - 1) ]) {
+				this.startDefectAndCalmDownAsPunishment(numPlayer, this.matchState.currentNumOpponentDefects[ (numPlayer - 1) ]);
+				this.matchState.pendingPunishments[ (numPlayer - 1) ] = false;
+			
+				StrategyLog.debug("I'm not currently consecutively Defecting neither currently \"Calming Down\", but I have some pending Punishments!!!");
+				
+				// I'm Defecting,
+				// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+				myStrategy.put(possibleMove, 0.0);
+				StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+			}
+			
+			// I'm not currently consecutively Defecting neither
+			// currently "Calming Down" (2 consecutive Cooperates),
+			
+			// So, I will do the same of my opponent in the previous round
+			// by mimic (Cooperate)
+			else {
+				StrategyLog.debug("I'm not currently consecutively Defecting neither currently \"Calming Down\", so I will mimic and Cooperate!!!");
+				
+				// I'm Cooperating,
+				// so, I will Cooperate, C = 1.0, accordingly to [C = 1.0; D = 0.0]
+				myStrategy.put(possibleMove, 1.0);
+				StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+			}
+		}
+		
+		// Possibly, currently consecutively Defecting or
+		// currently "Calming Down" (2 consecutive Cooperates) 
+		else {
+			
+			// I still have some previous consecutive Defects to do
+			if(this.currentlyDefecting(numPlayer)) {
+				
+				// I'm Defecting,
+				// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+				myStrategy.put(possibleMove, 0.0);
+				StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+			}
+			
+			// I'm not currently consecutively Defecting,
+			// but probably, I'm currently "Calming Down"
+			// (2 consecutive Cooperates)
+			else if(this.currentlyCalmingDown(numPlayer)) {
+				
+				// I'm "Calming Down",
+				// so, I will Cooperate, C = 1.0, accordingly to [C = 1.0; D = 0.0]
+				myStrategy.put(possibleMove, 1.0);
+				StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+			}
+		}
+	}
+
+	/**
+	 * The method to perform a possible Cooperate action, knowing that my Opponent Defects in the previous round.
+	 * 
+	 * @param myStrategy the Strategy Vector, that's currently being used
+	 * 
+	 * @param numPlayer the number of the Player's Opponent, that's being analysed the possible move
+	 * 
+	 * @param possibleMove the ordinal of the possible Move, that's being analysed
+	 */
+	private void possibleCooperateActionKnowingThatMyOpponentDefectInPreviousRound(StrategyVector myStrategy, int numPlayer, int possibleMove) {
+		
+		String possibleMoveLabel = myStrategy.getLabel(possibleMove);
+		
+		// I'm deciding if I Cooperate,
+		// knowing that my Opponent Defect in the last round
+		
+		// But, I'm not currently consecutively Defecting neither
+		// currently "Calming Down" (2 consecutive Cooperates)
+		if(!this.currentlyDefectingOrCalmingDown(numPlayer)) {
+
+			// I will make so many Defects as my Opponent,
+			// and after that, I will "Calm Down"
+			// (2 consecutive Cooperates)
+		
+			// I'm Defecting,
+			// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+			myStrategy.put(possibleMove, 0.0);
+			StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+		}
+		
+		// Possibly, currently consecutively Defecting or
+		// currently "Calming Down" (2 consecutive Cooperates) 
+		else {
+			
+			// I still have some previous consecutive Defects to do
+			if(this.currentlyDefecting(numPlayer)) {
+				
+				// I'm Defecting,
+				// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+				myStrategy.put(possibleMove, 0.0);
+				StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+			}
+			
+			// I'm not currently consecutively Defecting,
+			// but probably, I'm currently "Calming Down"
+			// (2 consecutive Cooperates)
+			else if(this.currentlyCalmingDown(numPlayer)) {
+				
+				// I'm "Calming Down",
+				// so, I will Cooperate, C = 1.0, accordingly to [C = 1.0; D = 0.0]
+				myStrategy.put(possibleMove, 1.0);
+				StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+			}
+		}
+	}
+
+	/**
+	 * The method to perform a possible Defect action, knowing that my Opponent Cooperate in the previous round.
+	 * 
+	 * @param myStrategy the Strategy Vector, that's currently being used
+	 * 
+	 * @param numPlayer the number of the Player's Opponent, that's being analysed the possible move
+	 * 
+	 * @param possibleMove the ordinal of the possible Move, that's being analysed
+	 */
+	private void possibleDefectActionKnowingThatMyOpponentCooperateInPreviousRound(StrategyVector myStrategy, int numPlayer, int possibleMove) {
+		
+		String possibleMoveLabel = myStrategy.getLabel(possibleMove);
+		
+		// I'm deciding if I Defect,
+		// knowing that my Opponent Cooperate in the last round
+		
+		// But, I'm not currently consecutively Defecting neither
+		// currently "Calming Down" (2 consecutive Cooperates)
+		if(!this.currentlyDefectingOrCalmingDown(numPlayer)) {
+			
+			// I have some pending Punishments 
+			if(this.matchState.pendingPunishments[ (numPlayer - 1) ]) {
+				this.startDefectAndCalmDownAsPunishment(numPlayer, this.matchState.currentNumOpponentDefects[ (numPlayer - 1) ]);
+				this.matchState.pendingPunishments[ (numPlayer - 1) ] = false;
+				
+				// So, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+				myStrategy.put(possibleMove, 1.0);
+				StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+	
+				// Attempts to make a Defect and Calm Down punishment,
+				// accordingly to the Gradual strategy
+				this.defectAndCalmDownAsPunishment(numPlayer);
+			}
+			
+			// So, I will do the same of my opponent in the previous round
+			// by mimic (Cooperate)
+			else {
+				
+				// So, I will Cooperate, D = 0.0, accordingly to [C = 1.0; D = 0.0]
+				myStrategy.put(possibleMove, 0.0);
+				StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+			}
+		}
+		
+		// Possibly, currently consecutively Defecting or
+		// currently "Calming Down" (2 consecutive Cooperates) 
+		else {
+			
+			// I still have some previous consecutive Defects to do
+			if(this.currentlyDefecting(numPlayer)) {
+				
+				// I'm Defecting,
+				// so, I will Defect, D = 1.0, accordingly to [C = 0.0; D = 1.0]
+				myStrategy.put(possibleMove, 1.0);
+				StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+			}
+			
+			// I'm not currently consecutively Defecting,
+			// but probably, I'm currently "Calming Down"
+			// (2 consecutive Cooperates)
+			else if(this.currentlyCalmingDown(numPlayer)) {
+				
+				// I'm "Calming Down",
+				// so, I will Cooperate, D = 0.0, accordingly to [C = 1.0; D = 0.0]
+				myStrategy.put(possibleMove, 0.0);
+				StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+			}
+		
+			// Attempts to make a Defect and Calm Down punishment,
+			// accordingly to the Gradual strategy
+			this.defectAndCalmDownAsPunishment(numPlayer);
+		}
+	}
+
+	private void possibleDefectActionKnowingThatMyOpponentDefectInPreviousRound(StrategyVector myStrategy, int numPlayer, int possibleMove) {
+		
+		String possibleMoveLabel = myStrategy.getLabel(possibleMove);
+		
+		// I'm deciding if I Defect,
+		// knowing that my Opponent Defect in the last round
+				
+		// I detect a Defect action made by my Opponent in the last round
+		this.matchState.currentNumOpponentDefects[numPlayer - 1]++;
+		
+		// I will pass to have a new pending Punishments
+		this.matchState.pendingPunishments[numPlayer - 1] = true;
+		
+		// But, I'm not currently consecutively Defecting neither
+		// currently "Calming Down" (2 consecutive Cooperates)
+		
+		// So, I will Defect and continue to do it, so,
+		// until I done so many Defects as my Opponent at the moment,
+		// and after, I will "Calm Down" (2 consecutive Cooperates)
+		if(!this.currentlyDefectingOrCalmingDown(numPlayer)) {
+
+			// I will make so many Defects as my Opponent,
+			// and after that, I will "Calm Down"
+			// (2 consecutive Cooperates)
+			this.startDefectAndCalmDownAsPunishment(numPlayer, this.matchState.currentNumOpponentDefects[numPlayer - 1]);
+			
+			// I'm Defecting,
+			// so, I will Defect, D = 1.0, accordingly to [C = 0.0; D = 1.0]
+			myStrategy.put(possibleMove, 1.0);
+			StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+		}
+		
+		// Possibly, currently consecutively Defecting or
+		// currently "Calming Down" (2 consecutive Cooperates) 
+		else {
+			
+			// I still have some previous consecutive Defects to do
+			if(this.currentlyDefecting(numPlayer)) {
+				
+				// I'm Defecting,
+				// so, I will Defect, D = 1.0, accordingly to [C = 0.0; D = 1.0]
+				myStrategy.put(possibleMove, 1.0);
+				
+				StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+			}
+			
+			// I'm not currently consecutively Defecting,
+			// but probably, I'm currently "Calming Down"
+			// (2 consecutive Cooperates)
+			else if(this.currentlyCalmingDown(numPlayer)) {
+				
+				// I'm "Calming Down",
+				// so, I will Cooperate, D = 0.0, accordingly to [C = 1.0; D = 0.0]
+				myStrategy.put(possibleMove, 0.0);
+				StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+			}
+		}
+		
+		// Attempts to make a Defect and Calm Down punishment,
+		// accordingly to the Gradual strategy
+		this.defectAndCalmDownAsPunishment(numPlayer);
+	}
+	
+	/**
+	 * Computes the Game Strategy, that I defined previously. It's here where will be applied all the computation for my strategy
+	 * (and, also, the first play of each Match).
+	 * 
+	 * @param opponentHistory the history of the moves of my Opponent, updated with the last round
+	 * 
+	 * @param myStrategy the Strategy Vector of the computational strategy, that I defined previously and that will be used by me for the current Game
+	 * 
+	 * @param layout the Validation Set Layout of the Game Tree, computed only once
+	 * 
+	 * @param sampler the Simplex Sampler of the current Match, to draw the probabilities of the unexplored paths
+	 */
+	@Override
+	public void computeStrategy(OpponentHistory<?> opponentHistory, StrategyVector myStrategy,
+								ValidationSetLayout layout, SimplexSampler sampler) {
+
+		if(!opponentHistory.hasLastRound()) {
+			
+			// This is the first round, so, I will start to cooperate.
+			// Here, I will start to Cooperate, as both, Player no. 1 and Player no. 2
+			myStrategy.fillPureAction(layout, MoveLabelCodec.COOPERATE_ACTION);
+			
+			if(StrategyLog.isEnabled(LogLevel.DEBUG)) {
+				for(int firstPlay = 0; firstPlay < layout.getNumMoves(); firstPlay++) {
+					StrategyLog.debug("");
+					String firstPlayMove = myStrategy.getLabel(firstPlay);
+					double firstPlayProbability = myStrategy.get(firstPlay);
+					StrategyLog.debug("My First Play - {} with probability of {}", firstPlayMove, firstPlayProbability);
+				}
+			}
+			
+			return;
+		}
+		
+		StrategyLog.debug("");
+		
+		if(StrategyLog.isEnabled(LogLevel.DEBUG)) {
+			StrategyLog.debug("My Opponent's Plays:");
+			for(int i = 0; i < opponentHistory.getNumOpponentMoves(); i++) {
+				String opponentMove = myStrategy.getLabel(opponentHistory.getOpponentMove(i));
+				StrategyLog.debug("- {}", opponentMove);
+			}
+		}
+		
+		StrategyLog.debug("");
+		
+		// I will analyse all the possible moves, by ordinal
+		for(int move = 0; move < myStrategy.size(); move++) {
+			
+			// The current possible move
+			String currentMove = myStrategy.getLabel(move);
+			
+			StrategyLog.debug("");
+			StrategyLog.debug("");
+			
+			StrategyLog.debug("Analysing {} ...", currentMove);
+			
+			StrategyLog.debug("");
+			
+			int currentOpponentPlayer = myStrategy.getPlayer(move);
+			
+			// Currently, analysing a possible Cooperate action,
+			// before I decide
+			if(myStrategy.isCooperate(move)) {
+				
+				// In this case, my opponent Cooperates in the previous round
+				if(opponentHistory.opponentPlayed(move)) {
+					StrategyLog.debug("My Opponent (as Player no. {}) Cooperates in the last round!!!", currentOpponentPlayer);
+					this.possibleCooperateActionKnowingThatMyOpponentCooperateInPreviousRound(myStrategy, currentOpponentPlayer, move);
+				}
+				
+				// In this case, my opponent Defect in the previous round
+				else {
+					StrategyLog.debug("My Opponent (as Player no. {}) Defects in the last round!!!", currentOpponentPlayer);
+					this.possibleCooperateActionKnowingThatMyOpponentDefectInPreviousRound(myStrategy, currentOpponentPlayer, move);
+				}
+			}
+			
+			// Currently, analysing a possible Defect action,
+			// before I decide
+			if(myStrategy.isDefect(move)) {
+					
+				// In this case, my opponent Defect in the previous round
+				if(opponentHistory.opponentPlayed(move)) {
+					StrategyLog.debug("My Opponent (as Player no. {}) Defects in the last round!!!", currentOpponentPlayer);
+					this.possibleDefectActionKnowingThatMyOpponentDefectInPreviousRound(myStrategy, currentOpponentPlayer, move);
+				}
+				
+				// In this case, my opponent Cooperates in the previous round
+				else {
+					StrategyLog.debug("My Opponent (as Player no. {}) Cooperates in the last round!!!", currentOpponentPlayer);
+					this.possibleDefectActionKnowingThatMyOpponentCooperateInPreviousRound(myStrategy, currentOpponentPlayer, move);
+				}
+			}
+		}	
+		
+		StrategyLog.debug("");
+		StrategyLog.debug("");
+		
+		// Print the current number of Defect of the Opponents
+		StrategyLog.debug("Number of Defects of the Opponent of Player no. 1: ", this.matchState.currentNumOpponentDefects[0]);
+		StrategyLog.debug("Number of Defects of the Opponent of Player no. 2: ", this.matchState.currentNumOpponentDefects[1]);
+		
+		StrategyLog.debug("");
+		
+		// The following piece of code has the goal of checking if there was a portion
+		// of the game for which we could not infer the moves of the adversary
+		// (because none of the current Game's plays in the previous round pass through those paths)
+		for(int set = 0; set < layout.getNumSets(); set++) {
+			
+			// The ordinal of the first move and the number of moves of the current validation set
+			int firstMove = layout.getOffset(set);
+			int possibleMoves = layout.getLength(set);
+			
+			if(!StrategyValidator.sumsOne(myStrategy.sum(firstMove, possibleMoves))) {
+				
+				// In the previous current Game's play,
+				// I couldn't infer what the adversary played here
+				// Will be applied a random move on this validation set
+				// (uniformly over the simplex, with a bounded cost by move)
+				myStrategy.sample(firstMove, possibleMoves, sampler);
+				
+				if(StrategyLog.isEnabled(LogLevel.DEBUG)) {
+					for(int i = 0; i < possibleMoves; i++) {
+						String unexploredMove = myStrategy.getLabel(firstMove + i);
+						double unexploredProbability = myStrategy.get(firstMove + i);
+						StrategyLog.debug("Unexplored path: Setting {} with probability of {}", unexploredMove, unexploredProbability);
+					}
+				}
+			}
+		}
+	}
+}
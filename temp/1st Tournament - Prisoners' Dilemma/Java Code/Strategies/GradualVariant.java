@@ -0,0 +1,118 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.function.Supplier;
+
+/**
+ * Enumeration responsible for the variants of the Gradual family.
+ *
+ * Description:
+ * - An enumeration responsible for the constants of each Strategy of the Gradual family
+ *   (GradualStrategy, HybridGradualStrategy and HybridGradualWithCooperatesLeewayStrategy),
+ *   taken from the Gradual Parameters of those Strategies, to be compiled by the Gradual Machine,
+ *   and for the builders of their Decisions (the same rules of the Strategies' classes);
+ *
+ * - The rules that a Strategy doesn't have are disabled, with thresholds
+ *   that are never reached (e.g., the GradualStrategy never tries to maximise its gain);
+ */
+public enum GradualVariant {
+
+	/**
+	 * The GradualStrategy class
+	 */
+	GRADUAL("GradualStrategy", GradualParameters.GRADUAL, GradualStrategyDecision::new),
+
+	/**
+	 * The HybridGradualStrategy class
+	 */
+	HYBRID_GRADUAL("HybridGradualStrategy", GradualParameters.HYBRID_GRADUAL, HybridGradualStrategyDecision::new),
+
+	/**
+	 * The HybridGradualWithCooperatesLeewayStrategy class
+	 */
+	HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY("HybridGradualWithCooperatesLeewayStrategy",
+										  GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY,
+										  HybridGradualWithCooperatesLeewayStrategyDecision::new);
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The name of the Strategy
+	 */
+	private final String strategyName;
+
+	/**
+	 * The constants of the Strategy
+	 */
+	private final GradualParameters parameters;
+
+	/**
+	 * The builder of the Decisions of the Strategy
+	 */
+	private final Supplier<GradualFamilyDecision> decisionBuilder;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new variant of the Gradual family.
+	 *
+	 * @param strategyName the name of the Strategy
+	 *
+	 * @param parameters the constants of the Strategy
+	 *
+	 * @param decisionBuilder the builder of the Decisions of the Strategy
+	 */
+	private GradualVariant(String strategyName, GradualParameters parameters, Supplier<GradualFamilyDecision> decisionBuilder) {
+		this.strategyName = strategyName;
+		this.parameters = parameters;
+		this.decisionBuilder = decisionBuilder;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the name of the Strategy.
+	 *
+	 * @return the name of the Strategy
+	 */
+	public String getStrategyName() {
+		return this.strategyName;
+	}
+
+	/**
+	 * Returns the constants of the Strategy.
+	 *
+	 * @return the constants of the Strategy
+	 */
+	public GradualParameters getParameters() {
+		return this.parameters;
+	}
+
+	/**
+	 * Returns a new Decision of the Strategy, with the state of a first Match.
+	 *
+	 * @return a new Decision of the Strategy, with the state of a first Match
+	 */
+	public GradualFamilyDecision newDecision() {
+		return this.decisionBuilder.get();
+	}
+}
@@ -0,0 +1,274 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.Arrays;
+
+/**
+ * Class responsible for the Graph Topology.
+ *
+ * Description:
+ * - A class responsible for keeping an undirected graph, where the nodes are the players
+ *   of a Spatial Tournament and the edges connect the neighbours that play against each other;
+ *
+ * - The graph it's kept in the Compressed Sparse Row format: the neighbours of the node v are
+ *   neighbours[offsets[v]] to neighbours[offsets[v + 1] - 1], so the whole graph it's only
+ *   two arrays of ints (without one object by node or by edge), read in order by the Spatial Tournament;
+ *
+ * - It's immutable, so it's safe for the use of many threads at the same time;
+ */
+public final class GraphTopology {
+
+	// Global Instance Variables:
+
+	/**
+	 * The offsets of the neighbours of each node (with one more offset, for the end of the last node)
+	 */
+	private final int[] offsets;
+
+	/**
+	 * The neighbours of all the nodes, sorted by node (and, for each node, sorted by index)
+	 */
+	private final int[] neighbours;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Graph Topology, with given arrays of the Compressed Sparse Row format.
+	 *
+	 * @param offsets the offsets of the neighbours of each node (with one more offset, for the end of the last node)
+	 *
+	 * @param neighbours the neighbours of all the nodes, sorted by node
+	 */
+	private GraphTopology(int[] offsets, int[] neighbours) {
+		this.offsets = offsets;
+		this.neighbours = neighbours;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns a square lattice, with periodic boundaries (a torus), where each node has as neighbours
+	 * the 4 nodes of its von Neumann neighbourhood or the 8 nodes of its Moore neighbourhood.
+	 *
+	 * @param side the number of nodes of each side of the lattice
+	 *
+	 * @param moore true if, the nodes have the 8 nodes of the Moore neighbourhood as neighbours and
+	 *        false, if they have the 4 nodes of the von Neumann neighbourhood
+	 *
+	 * @return the square lattice
+	 */
+	public static GraphTopology squareLattice(int side, boolean moore) {
+		if(side < 3) {
+			throw new IllegalArgumentException("The side of the lattice must have, at least, 3 nodes!!!");
+		}
+
+		if( ((long) side * side) > (Integer.MAX_VALUE / 8) ) {
+			throw new IllegalArgumentException("The lattice it's too big!!!");
+		}
+
+		int degree = moore ? 8 : 4;
+		int numNodes = side * side;
+
+		int[] offsets = new int[numNodes + 1];
+		int[] neighbours = new int[numNodes * degree];
+
+		int position = 0;
+
+		for(int row = 0; row < side; row++) {
+			for(int column = 0; column < side; column++) {
+				offsets[(row * side) + column] = position;
+
+				for(int rowDelta = -1; rowDelta <= 1; rowDelta++) {
+					for(int columnDelta = -1; columnDelta <= 1; columnDelta++) {
+						boolean isSelf = (rowDelta == 0) && (columnDelta == 0);
+						boolean isDiagonal = (rowDelta != 0) && (columnDelta != 0);
+
+						if( !isSelf && (moore || !isDiagonal) ) {
+							int neighbourRow = (row + rowDelta + side) % side;
+							int neighbourColumn = (column + columnDelta + side) % side;
+
+							neighbours[position++] = (neighbourRow * side) + neighbourColumn;
+						}
+					}
+				}
+
+				Arrays.sort(neighbours, offsets[(row * side) + column], position);
+			}
+		}
+
+		offsets[numNodes] = position;
+
+		return new GraphTopology(offsets, neighbours);
+	}
+
+	/**
+	 * Returns a random graph (of Erdos-Renyi), with a given number of nodes and a given mean degree:
+	 * (numNodes * meanDegree / 2) edges are drawn between pairs of nodes chosen uniformly at random,
+	 * without the loops and the repeated edges (so the mean degree may be slightly lower).
+	 *
+	 * @param numNodes the number of nodes
+	 *
+	 * @param meanDegree the mean number of neighbours of each node
+	 *
+	 * @param seed the key of the Counter Random of the edges
+	 *
+	 * @return the random graph
+	 */
+	public static GraphTopology randomGraph(int numNodes, double meanDegree, long seed) {
+		if(numNodes < 2) {
+			throw new IllegalArgumentException("The graph must have, at least, 2 nodes!!!");
+		}
+
+		if( !(meanDegree >= 0) || (meanDegree > (numNodes - 1)) ) {
+			throw new IllegalArgumentException("The mean degree must be in [0, numNodes - 1]!!!");
+		}
+
+		long numEdgesLong = Math.round(numNodes * meanDegree / 2);
+
+		if( (2 * numEdgesLong) > (Integer.MAX_VALUE - 8) ) {
+			throw new IllegalArgumentException("The graph has too many edges!!!");
+		}
+
+		int numEdges = (int) numEdgesLong;
+
+		CounterRandom random = new CounterRandom(seed);
+
+		int[] sources = new int[numEdges];
+		int[] targets = new int[numEdges];
+		int[] degrees = new int[numNodes];
+
+		for(int numEdge = 0; numEdge < numEdges; numEdge++) {
+			int source;
+			int target;
+
+			do {
+				source = (int) (random.nextDouble() * numNodes);
+				target = (int) (random.nextDouble() * numNodes);
+			}
+			while(source == target);
+
+			sources[numEdge] = source;
+			targets[numEdge] = target;
+
+			degrees[source]++;
+			degrees[target]++;
+		}
+
+		// The offsets, by the prefix sums of the degrees, and the neighbours, by a counting sort of the edges
+		int[] offsets = new int[numNodes + 1];
+
+		for(int node = 0; node < numNodes; node++) {
+			offsets[node + 1] = offsets[node] + degrees[node];
+		}
+
+		int[] cursors = Arrays.copyOf(offsets, numNodes);
+		int[] neighbours = new int[offsets[numNodes]];
+
+		for(int numEdge = 0; numEdge < numEdges; numEdge++) {
+			neighbours[cursors[sources[numEdge]]++] = targets[numEdge];
+			neighbours[cursors[targets[numEdge]]++] = sources[numEdge];
+		}
+
+		// The repeated edges are removed, by compacting the sorted neighbours of each node
+		int position = 0;
+
+		for(int node = 0; node < numNodes; node++) {
+			int from = offsets[node];
+			int to = offsets[node + 1];
+
+			Arrays.sort(neighbours, from, to);
+
+			offsets[node] = position;
+
+			for(int i = from; i < to; i++) {
+				if( (i == from) || (neighbours[i] != neighbours[i - 1]) ) {
+					neighbours[position++] = neighbours[i];
+				}
+			}
+		}
+
+		offsets[numNodes] = position;
+
+		return new GraphTopology(offsets, (position == neighbours.length) ? neighbours : Arrays.copyOf(neighbours, position));
+	}
+
+	/**
+	 * Returns the number of nodes.
+	 *
+	 * @return the number of nodes
+	 */
+	public int getNumNodes() {
+		return this.offsets.length - 1;
+	}
+
+	/**
+	 * Returns the number of edges (each edge connects two neighbours, and it's counted only once).
+	 *
+	 * @return the number of edges
+	 */
+	public long getNumEdges() {
+		return this.neighbours.length / 2;
+	}
+
+	/**
+	 * Returns the offset of the first neighbour of a node.
+	 *
+	 * @param node the index of the node
+	 *
+	 * @return the offset of the first neighbour of the node
+	 */
+	public int firstNeighbourOffset(int node) {
+		return this.offsets[node];
+	}
+
+	/**
+	 * Returns the offset after the last neighbour of a node.
+	 *
+	 * @param node the index of the node
+	 *
+	 * @return the offset after the last neighbour of the node
+	 */
+	public int endNeighbourOffset(int node) {
+		return this.offsets[node + 1];
+	}
+
+	/**
+	 * Returns the neighbour at a given offset.
+	 *
+	 * @param offset the offset of the neighbour
+	 *
+	 * @return the index of the neighbour at the given offset
+	 */
+	public int neighbourAt(int offset) {
+		return this.neighbours[offset];
+	}
+
+	/**
+	 * Returns the number of neighbours of a node.
+	 *
+	 * @param node the index of the node
+	 *
+	 * @return the number of neighbours of the node
+	 */
+	public int degree(int node) {
+		return this.offsets[node + 1] - this.offsets[node];
+	}
+}
@@ -0,0 +1,1053 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+/**
+ * Class responsible for the Decision of the Hybrid Gradual With Cooperates Leeway Strategy, implementing GradualFamilyDecision.
+ *
+ * Description:
+ * - A class responsible for the rules of the HybridGradualWithCooperatesLeewayStrategy class, moved out of it,
+ *   so they don't depend on the Referee's framework and the same rules are played
+ *   against the remote Referee (by the HybridGradualWithCooperatesLeewayStrategy class) and against the Local Referee
+ *   (by the LocalGradualStrategy, for the GradualVariant.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY);
+ *
+ * - The constants of the rules are read from GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY;
+ */
+public class HybridGradualWithCooperatesLeewayStrategyDecision implements GradualFamilyDecision {
+
+	// Invariants/Constraints:
+	
+	/**
+	 * The number of consecutive "Cooperate" actions I will do,
+	 * during a "Calm Down" process
+	 */
+	@SuppressWarnings("unused")
+	private static final int NUM_COOPERATES_NORMAL_CALM_DOWN = 2;
+	
+	/**
+	 * The number of consecutive "Cooperate" actions I will do,
+	 * during a soft "Calm Down" process
+	 */
+	private static final int NUM_COOPERATES_SOFT_CALM_DOWN = GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY.getNumCooperatesSoftCalmDown();
+	
+	/**
+	 * The number of consecutive "Cooperate" actions I will do,
+	 * during a soft "Calm Down" process
+	 */
+	private static final int NUM_COOPERATES_HARD_CALM_DOWN = GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY.getNumCooperatesHardCalmDown();
+	
+	/**
+	 * The number of consecutive "Cooperate" actions of Opponent,
+	 * I will consider, to try to attempt to maximise my gain
+	 */
+	private static final int NUM_CONSECUTIVE_COOPERATES_TO_TRY_MAXIMISE_MY_GAIN = GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY.getNumConsecutiveCooperatesToTryMaximiseGain();
+
+	/**
+	 * The number of consecutive "Cooperate" actions of my Opponent,
+	 * I will consider, to began to do hard "Calm Down" processes,
+	 * instead of, the soft ones
+	 */
+	private static final int NUM_CONSECUTIVE_COOPERATES_TO_APPLY_HARD_CALM_DOWNS = GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY.getNumConsecutiveCooperatesToApplyHardCalmDowns();
+	
+	/**
+	 * The initial number of "Defect" actions of my Opponent,
+	 * I will consider, to began to do hard "Calm Down" processes,
+	 * instead of, the soft ones
+	 */
+	private static final int NUM_INITIAL_DEFECTS_BEFORE_HARD_CALM_DOWN = GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY.getNumInitialDefectsBeforeHardCalmDown();
+	
+	/**
+	 * The number of consecutive "Cooperate" actions of my Opponent,
+	 * from which, I will apply soft punishments,
+	 * instead of, the hard ones
+	 */
+	private static final int NUM_CONSECUTIVE_COOPERATES_TO_APPLY_SOFT_PUNISHMENTS = GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY.getNumConsecutiveCooperatesToApplySoftPunishments();
+	
+	/**
+	 * The factor number of minimum "leeway" considered to be safe to try to do some "Cooperate" actions
+	 */
+	private static final int FACTOR_OF_MINIMUM_LEEWAY_OF_COOPERATES_DIFFERENCE = GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY.getFactorOfMinimumLeewayOfCooperatesDifference();
+	
+	/**
+	 * The beta-value for the minimum probability value to play safe
+	 */
+	private static final double SAFE_BETA_PROBABILITY_TO_CONTINUE = GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY.getSafeBetaProbabilityToContinue();
+	
+	
+	// Global Instance Variables:
+	
+	/**
+	 * The state of the current Match (the counters of the both Players),
+	 * replaced by a new one, at the start of each Match
+	 */
+	private GradualMatchState matchState;
+	
+	
+	// Constructors:
+	
+	/**
+	 * Constructor #1:
+	 * - Builds a new Decision of the Hybrid Gradual With Cooperates Leeway Strategy, with the state of a first Match.
+	 */
+	public HybridGradualWithCooperatesLeewayStrategyDecision() {
+		this.matchState = new GradualMatchState();
+	}
+	
+	
+	// Methods/Functions:
+	
+	@Override
+	public void startMatch() {
+		this.matchState = new GradualMatchState();
+	}
+	
+	/**
+	 * Returns true if, the Player related to a given number,
+	 * it's currently Defecting and false, otherwise
+	 * 
+	 * @param numPlayer the number of the Player,
+	 *        that it's pretending to be verified
+	 *        if it's currently Defecting or not
+	 * 
+	 * @return true if, the Player related to a given number,
+	 *         it's currently Defecting and false, otherwise
+	 */
+	private boolean currentlyDefecting(int numPlayer) {
+		return (this.matchState.numDefectsRemaining[ (numPlayer - 1) ] > 0);
+	}
+	
+	/**
+	 * Returns true if, the Player related to a given number,
+	 * it's currently "Calming Down" and false, otherwise.
+	 * 
+	 * @param numPlayer the number of the Player,
+	 *        that it's pretending to be verified
+	 *        if it's currently "Calming Down" or not
+	 * 
+	 * @return true if, the Player related to a given number,
+	 *         it's currently "Calming Down" and false, otherwise
+	 */
+	private boolean currentlyCalmingDown(int numPlayer) {
+		return (this.matchState.numCooperatesRemaining[ (numPlayer - 1) ] > 0);
+	}
+
+	/**
+	 * Returns true if, the Player related to a given number,
+	 * it's currently Defecting or "Calming Down" and false, otherwise.
+	 * 
+	 * @param numPlayer the number of the Player,
+	 *        that it's pretending to be verified
+	 *        if it's currently Defecting or "Calming Down", or not
+	 * 
+	 * @return true if, the Player related to a given number,
+	 *         it's currently Defecting or "Calming Down" and false, otherwise
+	 */
+	private boolean currentlyDefectingOrCalmingDown(int numPlayer) {
+		return ( this.currentlyDefecting(numPlayer) || this.currentlyCalmingDown(numPlayer) );
+	}
+	
+	/**
+	 * Starts a set of punishments, by doing, a given number of Defects and then,
+	 * "Calm Down" (2 Consecutive Cooperates).
+	 * 
+	 * @param numPlayer the number of the Player, that it's pretended
+	 * 		  to be started a set of punishments  
+	 * 
+	 * @param numDefects the number of Defects to be
+	 *        associated to this set of punishments
+	 */
+	private void startDefectAndCalmDownAsPunishment(int numPlayer, int numDefects) {
+		this.matchState.numDefectsRemaining[ (numPlayer - 1) ] = numDefects;
+		
+		// If the Opponent, until the moment, made less than 10 Defects
+		if(numDefects < NUM_INITIAL_DEFECTS_BEFORE_HARD_CALM_DOWN) {
+			this.matchState.numCooperatesRemaining[ (numPlayer - 1) ] = NUM_COOPERATES_SOFT_CALM_DOWN;
+		}
+		
+		// If the Opponent, until the moment, made 10 or more Defects
+		else if(numDefects >= NUM_INITIAL_DEFECTS_BEFORE_HARD_CALM_DOWN) {
+			
+			// Every time that, my Opponent made 10 or more consecutive Cooperates,
+			// I will reconsider my concept of "Calming Down" by soft it again
+			if( (this.matchState.currentNumOpponentConsecutiveCooperates[ (numPlayer - 1) ] >=
+									NUM_CONSECUTIVE_COOPERATES_TO_APPLY_HARD_CALM_DOWNS) ) {
+				
+				this.matchState.numCooperatesRemaining[ (numPlayer - 1) ] = NUM_COOPERATES_SOFT_CALM_DOWN;
+			}
+			
+			// Since that, the Opponent aren't doing 10 or more consecutive Cooperates, at the moment,
+			// I will reconsider my concept of "Calming Down" by the hard way
+			else {
+				this.matchState.numCooperatesRemaining[ (numPlayer - 1) ] = NUM_COOPERATES_HARD_CALM_DOWN;
+			}
+		}
+	}
+		
+	/**
+	 * Performs a punishment, associated to a given Player.
+	 * 
+	 * @param numPlayer the number of the Player,
+	 *        to who be applied this punishment
+	 */
+	@SuppressWarnings("unused")
+	private void defectAndCalmDownAsPunishment(int numPlayer) {
+		
+		// I still have some previous consecutive Defects to do
+		if(this.matchState.numDefectsRemaining[ (numPlayer - 1) ] > 0) {
+				
+			// I will Defect
+			this.matchState.numDefectsRemaining[ (numPlayer - 1) ]--;
+		}
+			
+		// I'm not currently consecutively Defecting,
+		// but probably, I'm currently "Calming Down"
+		// (2 consecutive Cooperates)
+		else if((this.matchState.numDefectsRemaining[( numPlayer - 1) ] == 0) &&
+				(this.matchState.numCooperatesRemaining[ (numPlayer - 1) ] > 0)) {
+				
+			// I'm "Calming Down", so, I will Cooperate
+			this.matchState.numCooperatesRemaining[ (numPlayer - 1) ]--;
+		}
+	}
+	
+	/**
+	 * Performs a Hard Punishment, associated to a given Player.
+	 * 
+	 * @param numPlayer the number of the Player,
+	 *        to who be applied this punishment
+	 */
+	private void defectAndCalmDownAsPunishmentHard(int numPlayer) {
+		
+		// I still have some previous consecutive Defects to do
+		if(this.matchState.numDefectsRemaining[ (numPlayer - 1) ] > 0) {
+				
+			// I will Defect
+			this.matchState.numDefectsRemaining[ (numPlayer - 1) ]--;
+		}
+			
+		// I'm not currently consecutively Defecting,
+		// but probably, I'm currently "Calming Down"
+		// (2 consecutive Cooperates)
+		else if((this.matchState.numDefectsRemaining[( numPlayer - 1) ] == 0) &&
+				(this.matchState.numCooperatesRemaining[ (numPlayer - 1) ] > 0)) {
+				
+			// I'm "Calming Down", so, I will Cooperate
+			this.matchState.numCooperatesRemaining[ (numPlayer - 1) ]--;
+		}
+	}
+	
+	/**
+	 * Performs a Soft Punishment, associated to a given Player.
+	 * 
+	 * @param numPlayer the number of the Player,
+	 *        to who be applied this punishment
+	 */
+	private void defectAndCalmDownAsPunishmentSoft(int numPlayer) {
+		
+		// I still have some previous consecutive Defects to do
+		if( (this.matchState.numDefectsRemaining[ (numPlayer - 1) ] > 0 ) && 
+		    ((this.matchState.numDefectsRemaining[ (numPlayer - 1) ] % 2) == 0) ) {
+				
+			// I will Defect
+			this.matchState.numDefectsRemaining[ (numPlayer - 1) ] -= 2;
+		}
+			
+		// I'm not currently consecutively Defecting,
+		// but probably, I'm currently "Calming Down"
+		// (2 consecutive Cooperates)
+		else if((this.matchState.numDefectsRemaining[( numPlayer - 1) ] == 0) &&
+				(this.matchState.numCooperatesRemaining[ (numPlayer - 1) ] > 0)) {
+				
+			// I'm "Calming Down", so, I will Cooperate
+			this.matchState.numCooperatesRemaining[ (numPlayer - 1) ]--;
+		}
+	}
+	
+	/**
+	 * The method to perform a possible Cooperate action, knowing that my Opponent Cooperate in the previous round.
+	 * 
+	 * @param myStrategy the Strategy Vector, that's currently being used
+	 * 
+	 * @param myselfPlayerNum the number of the Myself's Player, that's being analysed the possible move
+	 * 
+	 * @param opponentPlayerNum the number of the Opponent's Player, that's being analysed the possible move
+	 * 
+	 * @param possibleMove the ordinal of the possible Move, that's being analysed
+	 */
+	private void possibleCooperateActionKnowingThatMyOpponentCooperateInPreviousRound(StrategyVector myStrategy, int myselfPlayerNum,
+			                                                                          int opponentPlayerNum, int possibleMove) {
+		
+		String possibleMoveLabel = myStrategy.getLabel(possibleMove);
+		
+		// The probability to continue playing to the next iteration
+		double probabilityToContinueToTheNextIteration = myStrategy.probabilityForNextIteration();
+		
+		
+		// I'm deciding if I Cooperate,
+		// knowing that my Opponent Cooperate in the last round
+		
+		// I detect a Cooperate action made by my Opponent in the last round
+		this.matchState.currentNumOpponentCooperates[ (opponentPlayerNum - 1) ]++;		
+		
+		// I detect one or more than one consecutive Cooperate actions
+		this.matchState.currentNumOpponentConsecutiveCooperates[ (opponentPlayerNum - 1) ]++;
+		
+		
+		// The maximum number of iterations remaining for the current Game
+		int numMaxIterationsRemaining = myStrategy.getMaximumNumberOfIterations();
+		
+		// If I'm playing the last round, I will make always a "Defect" action
+		if( numMaxIterationsRemaining == 1 ) {
+			
+			// I'm playing the last round of the current Game
+			StrategyLog.debug("I'm currently playing the last round,\nso I will play safe for me and I will Defect!!!");
+			StrategyLog.debug("");
+			
+			// I'm Cooperating,
+			// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+			myStrategy.put(possibleMove, 0.0);
+			StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+		}
+		
+		// Otherwise, I will consider other current aspects of the current Game
+		else {
+			
+			// If the probability of continue in the next round,
+			// it's greater or equal than 0.3333%, I will consider the current aspects of the Game
+			if( probabilityToContinueToTheNextIteration >= SAFE_BETA_PROBABILITY_TO_CONTINUE ) {
+				
+				// But, I'm not currently consecutively Defecting neither
+				// currently "Calming Down" (2 consecutive Cooperates)
+				if(!this.currentlyDefectingOrCalmingDown(opponentPlayerNum)) {	
+					
+					// My Opponent was revealing some Cooperating "patterns"
+					// (I will consider, 4 consecutive "Cooperate" actions),
+					// so, maybe, it's a good opportunity to be a little severe
+					// and try to maximise my gain since now on
+					if( (this.matchState.currentNumOpponentConsecutiveCooperates[ (opponentPlayerNum - 1) ] ) >= 
+										NUM_CONSECUTIVE_COOPERATES_TO_TRY_MAXIMISE_MY_GAIN) {
+						
+						StrategyLog.debug("I'm not currently consecutively Defecting neither currently \"Calming Down\", \n"
+										 + "and my Opponent was being Cooperating, recently!!!");
+						StrategyLog.debug("");
+						
+						// If my Opponent Cooperated such or more than the times that he Defected,
+						// I will Defect because I have some "leeway" to do Defect actions
+						if( (this.matchState.currentNumOpponentCooperates[ (opponentPlayerNum - 1) ]) >= 
+										( (this.matchState.currentNumOpponentDefects[ (opponentPlayerNum - 1) ]) / 
+															FACTOR_OF_MINIMUM_LEEWAY_OF_COOPERATES_DIFFERENCE ) ) {
+							
+							// I'm Cooperating,
+							// so, I will Cooperate, C = 1.0, accordingly to [C = 1.0; D = 1.0]
+							myStrategy.put(possibleMove, 1.0);
+							StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+						}
+						
+						// If my Opponent Cooperated less than the times that he Defected,
+						// I will Defect because I have some "leeway" to do Defect actions
+						else {
+							// I'm Cooperating,
+							// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+							myStrategy.put(possibleMove, 0.0);
+							StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+						}
+					}
+					
+					// My Opponent wasn't being Cooperating recently,
+					// so, may it's a good idea to punish him, just if, perhaps, he have some pending Punishments
+					else {
+						
+						// I have some pending Punishments,
+						// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+						if(this.matchState.pendingPunishments[ (opponentPlayerNum - 1) ]) {
+							this.startDefectAndCalmDownAsPunishment(opponentPlayerNum, this.matchState.currentNumOpponentDefects[ (opponentPlayerNum - 1) ]);
+							this.matchState.pendingPunishments[ (opponentPlayerNum - 1) ] = false;
+						
+							StrategyLog.debug("I'm not currently consecutively Defecting neither currently \"Calming Down\", \n"
+											 + "but I have some pending Punishments!!!");
+							StrategyLog.debug("");
+							
+							// I'm Defecting,
+							// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+							myStrategy.put(possibleMove, 0.0);
+							StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+						}
+						
+						// I'm not currently consecutively Defecting neither
+						// currently "Calming Down" (2 consecutive Cooperates),
+						
+						// So, I will do the same of my opponent in the previous round
+						// by mimic (Cooperate)
+						else {
+							StrategyLog.debug("I'm not currently consecutively Defecting neither currently \"Calming Down\", \n"
+											 + "so I will mimic and Cooperate!!!");
+							
+							// I'm Cooperating,
+							// so, I will Cooperate, C = 1.0, accordingly to [C = 1.0; D = 0.0]
+							myStrategy.put(possibleMove, 1.0);
+							this.matchState.currentNumMyselfCooperates[ ( myselfPlayerNum - 1) ]++;
+							StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+						}
+					}
+				}
+				
+				// Possibly, currently consecutively Defecting or
+				// currently "Calming Down" (2 consecutive Cooperates) 
+				else {
+					
+					// I still have some previous consecutive Defects to do
+					if(this.currentlyDefecting(opponentPlayerNum)) {
+						
+						// I'm Cooperating,
+						// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+						myStrategy.put(possibleMove, 0.0);
+						StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+					}
+					
+					// I'm not currently consecutively Defecting,
+					// but probably, I'm currently "Calming Down"
+					// (2 consecutive Cooperates)
+					else if(this.currentlyCalmingDown(opponentPlayerNum)) {
+						
+						// I'm "Calming Down",
+						// so, I will Cooperate, C = 1.0, accordingly to [C = 1.0; D = 0.0]
+						myStrategy.put(possibleMove, 1.0);
+						this.matchState.currentNumMyselfCooperates[ ( myselfPlayerNum - 1) ]++;
+						StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+					}
+				}
+			}
+			
+			// Otherwise, if the probability of continue in the next round,
+			// it's lesser than 0.3333%, I will play a "Defect" action
+			else {
+				
+				// I'm Cooperating,
+				// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+				myStrategy.put(possibleMove, 0.0);
+				StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+			}
+		}
+	}
+
+	/**
+	 * The method to perform a possible Cooperate action, knowing that my Opponent Defects in the previous round.
+	 * 
+	 * @param myStrategy the Strategy Vector, that's currently being used
+	 * 
+	 * @param opponentPlayerNum the number of Myself's Player, that's being analysed the possible move
+	 * 
+	 * @param opponentPlayerNum the number of the Opponent's Player, that's being analysed the possible move
+	 * 
+	 * @param possibleMove the ordinal of the possible Move, that's being analysed
+	 */
+	private void possibleCooperateActionKnowingThatMyOpponentDefectInPreviousRound(StrategyVector myStrategy, int myselfPlayerNum,
+																				   int opponentPlayerNum, int possibleMove) {
+		
+		String possibleMoveLabel = myStrategy.getLabel(possibleMove);
+		
+		// The probability to continue playing to the next iteration
+		double probabilityToContinueToTheNextIteration = myStrategy.probabilityForNextIteration();
+		
+		
+		// The maximum number of iterations remaining for the current Game
+		int numMaxIterationsRemaining = myStrategy.getMaximumNumberOfIterations();
+		
+		// If I'm playing the last round, I will make always a "Defect" action
+		if( numMaxIterationsRemaining == 1 ) {
+					
+			// I'm playing the last round of the current Game
+			StrategyLog.debug("I'm currently playing the last round,\nso I will play safe for me and I will Defect!!!");
+			StrategyLog.debug("");
+			
+			// I'm Cooperating,
+			// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+			myStrategy.put(possibleMove, 0.0);
+			StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+		}
+		
+		// Otherwise, I will consider other current aspects of the current Game
+		else {
+			
+			// I'm deciding if I Cooperate,
+			// knowing that my Opponent Defect in the last round
+			
+			
+			// If the probability of continue in the next round,
+			// it's greater or equal than 0.3333%, I will consider the current aspects of the Game
+			if( probabilityToContinueToTheNextIteration >= SAFE_BETA_PROBABILITY_TO_CONTINUE ) {
+				
+				// But, I'm not currently consecutively Defecting neither
+				// currently "Calming Down" (2 consecutive Cooperates)
+				if(!this.currentlyDefectingOrCalmingDown(opponentPlayerNum)) {
+
+					// I will make so many Defects as my Opponent,
+					// and after that, I will "Calm Down"
+					// (2 consecutive Cooperates)
+				
+					// I'm Cooperating,
+					// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+					myStrategy.put(possibleMove, 0.0);
+					StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+				}
+				
+				// Possibly, currently consecutively Defecting or
+				// currently "Calming Down" (2 consecutive Cooperates) 
+				else {
+					
+					// I still have some previous consecutive Defects to do
+					if(this.currentlyDefecting(opponentPlayerNum)) {
+						
+						// I'm Cooperating,
+						// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+						myStrategy.put(possibleMove, 0.0);
+						StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+					}
+					
+					// I'm not currently consecutively Defecting,
+					// but probably, I'm currently "Calming Down"
+					// (2 consecutive Cooperates)
+					else if(this.currentlyCalmingDown(opponentPlayerNum)) {
+						
+						// I'm "Calming Down",
+						// so, I will Cooperate, C = 1.0, accordingly to [C = 1.0; D = 0.0]
+						myStrategy.put(possibleMove, 1.0);
+						this.matchState.currentNumMyselfCooperates[ ( myselfPlayerNum - 1) ]++;
+						StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+					}
+				}			
+			}
+			
+			// Otherwise, if the probability of continue in the next round,
+			// it's lesser than 0.3333%, I will play a "Defect" action
+			else {
+				
+				// I'm Cooperating,
+				// so, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+				myStrategy.put(possibleMove, 0.0);
+				StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+			}
+		}
+	}
+
+	/**
+	 * The method to perform a possible Defect action, knowing that my Opponent Cooperate in the previous round.
+	 * 
+	 * @param myStrategy the Strategy Vector, that's currently being used
+	 * 
+	 * @param myselfPlayerNum the number of Myself's Player, that's being analysed the possible move
+	 * 
+	 * @param opponentPlayerNum the number of the Opponent's Player, that's being analysed the possible move
+	 * 
+	 * @param possibleMove the ordinal of the possible Move, that's being analysed
+	 */
+	private void possibleDefectActionKnowingThatMyOpponentCooperateInPreviousRound(StrategyVector myStrategy, int myselfPlayerNum,
+																				   int opponentPlayerNum, int possibleMove) {
+		
+		String possibleMoveLabel = myStrategy.getLabel(possibleMove);
+		
+		// The probability to continue playing to the next iteration
+		double probabilityToContinueToTheNextIteration = myStrategy.probabilityForNextIteration();
+		
+		// The maximum number of iterations remaining for the current Game
+		int numMaxIterationsRemaining = myStrategy.getMaximumNumberOfIterations();
+		
+		// If I'm playing the last round, I will make always a "Defect" action
+		if( numMaxIterationsRemaining == 1 ) {
+					
+			// I'm playing the last round of the current Game
+			StrategyLog.debug("I'm currently playing the last round,\nso I will play safe for me and I will Defect!!!");
+			StrategyLog.debug("");
+				
+			// I'm Defecting,
+			// so, I will Defect, D = 1.0, accordingly to [C = 0.0; D = 1.0]
+			myStrategy.put(possibleMove, 1.0);
+			StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+		}
+		
+		// Otherwise, I will consider other current aspects of the current Game
+		else {
+			
+			// I'm deciding if I Defect,
+			// knowing that my Opponent Cooperate in the last round
+			
+			
+			// If the probability of continue in the next round,
+			// it's greater or equal than 0.3333%, I will consider the current aspects of the Game
+			if( probabilityToContinueToTheNextIteration >= SAFE_BETA_PROBABILITY_TO_CONTINUE ) {
+				
+				// But, I'm not currently consecutively Defecting neither
+				// currently "Calming Down" (2 consecutive Cooperates)
+				if(!this.currentlyDefectingOrCalmingDown(opponentPlayerNum)) {
+					
+					// My Opponent was revealing some Cooperating "patterns"
+					// (I will consider, 4 consecutive "Cooperate" actions),
+					// so, maybe, it's a good opportunity to be a little severe
+					// and try to maximise my gain since now on
+					if( (this.matchState.currentNumOpponentConsecutiveCooperates[ (opponentPlayerNum - 1) ] ) >= 
+										NUM_CONSECUTIVE_COOPERATES_TO_TRY_MAXIMISE_MY_GAIN) {
+						
+						StrategyLog.debug("I'm not currently consecutively Defecting neither currently \"Calming Down\", \n "
+										 + "and my Opponent was being Cooperating, recently!!!");
+						StrategyLog.debug("");
+						
+						// If my Opponent Cooperated such or more than the times that he Defected,
+						// I will Defect because I have some "leeway" to do Defect actions
+						if( (this.matchState.currentNumOpponentCooperates[ (opponentPlayerNum - 1) ]) >= 
+										( (this.matchState.currentNumOpponentDefects[ (opponentPlayerNum - 1) ]) / 
+															FACTOR_OF_MINIMUM_LEEWAY_OF_COOPERATES_DIFFERENCE ) ) {
+							
+							// I'm Defecting,
+							// so, I will Cooperate, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+							myStrategy.put(possibleMove, 0.0);
+							StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+						}
+						
+						// If my Opponent Cooperated less than the times that he Defected,
+						// I will Defect because I have some "leeway" to do Defect actions
+						else {
+							// I'm Defecting,
+							// so, I will Defect, D = 1.0, accordingly to [C = 0.0; D = 1.0]
+							myStrategy.put(possibleMove, 1.0);
+							StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+						}
+					}
+					
+					// My Opponent wasn't being Cooperating recently,
+					// so, may it's a good idea to punish him, just if, perhaps, he have some pending Punishments
+					else {
+						
+						// I have some pending Punishments
+						// so, I will Defect, D = 0.0, accordingly to [C = 0.0; D = 1.0]
+						if(this.matchState.pendingPunishments[ (opponentPlayerNum - 1) ]) {
+							this.startDefectAndCalmDownAsPunishment(opponentPlayerNum, this.matchState.currentNumOpponentDefects[ (opponentPlayerNum - 1) ]);
+							this.matchState.pendingPunishments[ (opponentPlayerNum - 1) ] = false;
+							
+							// I'm Defecting,
+							// So, I will Defect, C = 0.0, accordingly to [C = 0.0; D = 1.0]
+							myStrategy.put(possibleMove, 1.0);
+							this.matchState.currentNumMyselfDefects[ ( myselfPlayerNum - 1) ]++;
+							StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+				
+							// Attempts to make a Defect and Calm Down punishment,
+							// accordingly to the Gradual strategy
+							StrategyLog.debug("");
+							StrategyLog.debug("My opponent made {} consecutive Cooperates!!!", this.matchState.currentNumOpponentConsecutiveCooperates[ (opponentPlayerNum - 1) ]);
+							StrategyLog.debug("");
+							
+							// If my Opponent made 10 or more consecutive Cooperates,
+							// I will Defect less and apply a softest Punishment
+							if(this.matchState.currentNumOpponentConsecutiveCooperates[ (opponentPlayerNum - 1) ] >= 
+															NUM_CONSECUTIVE_COOPERATES_TO_APPLY_HARD_CALM_DOWNS) {
+								
+								this.defectAndCalmDownAsPunishmentSoft(opponentPlayerNum);
+							}
+							
+							// If my Opponent made less than 10 consecutive Cooperates,
+							// I will Defect less and apply a hardest Punishment
+							else {
+								this.defectAndCalmDownAsPunishmentHard(opponentPlayerNum);
+							}
+						}
+						
+						// So, I will do the same of my opponent in the previous round
+						// by mimic (Cooperate)
+						else {
+							
+							// So, I will Cooperate, D = 0.0, accordingly to [C = 1.0; D = 0.0]
+							myStrategy.put(possibleMove, 0.0);
+							StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+						}
+					}		
+				}
+				
+				// Possibly, currently consecutively Defecting or
+				// currently "Calming Down" (2 consecutive Cooperates) 
+				else {
+					
+					// I still have some previous consecutive Defects to do
+					if(this.currentlyDefecting(opponentPlayerNum)) {
+						
+						// I'm Defecting,
+						// so, I will Defect, D = 1.0, accordingly to [C = 0.0; D = 1.0]
+						myStrategy.put(possibleMove, 1.0);
+						this.matchState.currentNumMyselfDefects[ ( myselfPlayerNum - 1) ]++;
+						StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+					}
+					
+					// I'm not currently consecutively Defecting,
+					// but probably, I'm currently "Calming Down"
+					// (2 consecutive Cooperates)
+					else if(this.currentlyCalmingDown(opponentPlayerNum)) {
+						
+						// I'm "Calming Down",
+						// so, I will Cooperate, D = 0.0, accordingly to [C = 1.0; D = 0.0]
+						myStrategy.put(possibleMove, 0.0);
+						StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+					}
+				
+					// Attempts to make a Defect and Calm Down punishment,
+					// accordingly to the Gradual strategy
+					
+					// If my Opponent made 10 or more consecutive Cooperates,
+					// I will Defect less and apply a softest Punishment
+					if(this.matchState.currentNumOpponentConsecutiveCooperates[ (opponentPlayerNum - 1) ] >= NUM_CONSECUTIVE_COOPERATES_TO_APPLY_SOFT_PUNISHMENTS) {
+						this.defectAndCalmDownAsPunishmentSoft(opponentPlayerNum);
+					}
+					
+					// If my Opponent made less than 10 consecutive Cooperates,
+					// I will Defect less and apply a hardest Punishment
+					else {
+						this.defectAndCalmDownAsPunishmentHard(opponentPlayerNum);
+					}	
+				}
+			}
+			
+			// Otherwise, if the probability of continue in the next round,
+			// it's lesser than 0.3333%, I will play a "Defect" action
+			else {
+					
+				// I'm Defecting,
+				// so, I will Defect, D = 1.0, accordingly to [C = 0.0; D = 1.0]
+				myStrategy.put(possibleMove, 1.0);
+				StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+			}
+		}
+	}
+
+	/**
+	 * The method to perform a possible Defect action, knowing that my Opponent Defect in the previous round.
+	 * 
+	 * @param myStrategy the Strategy Vector, that's currently being used
+	 * 
+	 * @param myselfNumPlayer the number of the Myself's Player, that's being analysed the possible move
+	 * 
+	 * @param opponentPlayerNum the number of the Opponent's Player, that's being analysed the possible move
+	 * 
+	 * @param possibleMove the ordinal of the possible Move, that's being analysed
+	 */
+	private void possibleDefectActionKnowingThatMyOpponentDefectInPreviousRound(StrategyVector myStrategy, int myselfNumPlayer,
+																				int opponentPlayerNum, int possibleMove) {
+		
+		String possibleMoveLabel = myStrategy.getLabel(possibleMove);
+		
+		// The probability to continue playing to the next iteration
+		double probabilityToContinueToTheNextIteration = myStrategy.probabilityForNextIteration();
+		
+		
+		// I'm deciding if I Defect,
+		// knowing that my Opponent Defect in the last round
+				
+		// I detect a Defect action made by my Opponent in the last round
+		this.matchState.currentNumOpponentDefects[opponentPlayerNum - 1]++;
+		
+		// I will reset the counter for the consecutive Cooperates made by my Opponent, until the moment
+		this.matchState.currentNumOpponentConsecutiveCooperates[ (opponentPlayerNum - 1) ] = 0;
+		
+		// I will pass to have a new pending Punishments
+		this.matchState.pendingPunishments[opponentPlayerNum - 1] = true;
+		
+		// The maximum number of iterations remaining for the current Game
+		int numMaxIterationsRemaining = myStrategy.getMaximumNumberOfIterations();
+				
+		// If I'm playing the last round, I will make always a "Defect" action
+		if( numMaxIterationsRemaining == 1 ) {
+							
+			// I'm playing the last round of the current Game
+			StrategyLog.debug("I'm currently playing the last round,\nso I will play safe for me and I will Defect!!!");
+			StrategyLog.debug("");
+			
+			// I'm Defecting,
+			// so, I will Defect, D = 1.0, accordingly to [C = 0.0; D = 1.0]
+			myStrategy.put(possibleMove, 1.0);
+			StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+		}
+		
+		// Otherwise, I will consider other current aspects of the current Game
+		else {
+			
+			// If the probability of continue in the next round,
+			// it's greater or equal than 0.3333%, I will consider the current aspects of the Game
+			if( probabilityToContinueToTheNextIteration >= SAFE_BETA_PROBABILITY_TO_CONTINUE ) {
+				
+				// So, I will Defect and continue to do it, so,
+				// until I done so many Defects as my Opponent at the moment,
+				// and after, I will "Calm Down" (2 consecutive Cooperates)
+				if(!this.currentlyDefectingOrCalmingDown(opponentPlayerNum)) {
+
+					// I will make so many Defects as my Opponent,
+					// and after that, I will "Calm Down"
+					// (2 consecutive Cooperates)
+					this.startDefectAndCalmDownAsPunishment(opponentPlayerNum, this.matchState.currentNumOpponentDefects[opponentPlayerNum - 1]);
+					
+					// I'm Defecting,
+					// so, I will Defect, D = 1.0, accordingly to [C = 0.0; D = 1.0]
+					myStrategy.put(possibleMove, 1.0);
+					this.matchState.currentNumMyselfDefects[ ( myselfNumPlayer - 1) ]++;
+					StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+				}
+				
+				// Possibly, currently consecutively Defecting or
+				// currently "Calming Down" (2 consecutive Cooperates) 
+				else {
+					
+					// I still have some previous consecutive Defects to do
+					if(this.currentlyDefecting(opponentPlayerNum)) {
+						
+						// I'm Defecting,
+						// so, I will Defect, D = 1.0, accordingly to [C = 0.0; D = 1.0]
+						myStrategy.put(possibleMove, 1.0);
+						this.matchState.currentNumMyselfDefects[ ( myselfNumPlayer - 1) ]++;
+						StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+					}
+					
+					// I'm not currently consecutively Defecting,
+					// but probably, I'm currently "Calming Down"
+					// (2 consecutive Cooperates)
+					else if(this.currentlyCalmingDown(opponentPlayerNum)) {
+						
+						// I'm "Calming Down",
+						// so, I will Cooperate, D = 0.0, accordingly to [C = 1.0; D = 0.0]
+						myStrategy.put(possibleMove, 0.0);
+						StrategyLog.debug("Setting {} with probability of 0.0", possibleMoveLabel);
+					}
+				}
+				
+				// Attempts to make a Defect and Calm Down punishment,
+				// accordingly to the Gradual strategy
+				
+				// If my Opponent made 10 or more consecutive Cooperates,
+				// I will Defect less and apply a softest Punishment
+				if(this.matchState.currentNumOpponentConsecutiveCooperates[ (opponentPlayerNum - 1) ] >= NUM_CONSECUTIVE_COOPERATES_TO_APPLY_SOFT_PUNISHMENTS) {
+					this.defectAndCalmDownAsPunishmentSoft(opponentPlayerNum);
+				}
+				
+				// If my Opponent made less than 10 consecutive Cooperates,
+				// I will Defect less and apply a hardest Punishment
+				else {
+					this.defectAndCalmDownAsPunishmentHard(opponentPlayerNum);
+				}
+			}
+			
+			// Otherwise, if the probability of continue in the next round,
+			// it's lesser than 0.3333%, I will play a "Defect" action
+			else {
+				
+				// I'm Defecting,
+				// so, I will Defect, D = 1.0, accordingly to [C = 0.0; D = 1.0]
+				myStrategy.put(possibleMove, 1.0);
+				StrategyLog.debug("Setting {} with probability of 1.0", possibleMoveLabel);
+			}
+		}
+	}
+	
+	/**
+	 * Computes the Game Strategy, that I defined previously. It's here where will be applied all the computation for my strategy
+	 * (and, also, the first play of each Match).
+	 * 
+	 * @param opponentHistory the history of the moves of my Opponent, updated with the last round
+	 * 
+	 * @param myStrategy the Strategy Vector of the computational strategy, that I defined previously and that will be used by me for the current Game
+	 * 
+	 * @param layout the Validation Set Layout of the Game Tree, computed only once
+	 * 
+	 * @param sampler the Simplex Sampler of the current Match, to draw the probabilities of the unexplored paths
+	 */
+	@Override
+	public void computeStrategy(OpponentHistory<?> opponentHistory, StrategyVector myStrategy,
+								ValidationSetLayout layout, SimplexSampler sampler) {
+
+		if(!opponentHistory.hasLastRound()) {
+			
+			// This is the first round of the current Game
+			double probabilityToContinueInFirstRound = myStrategy.probabilityForNextIteration();
+			
+			// The action of the first move of each information set
+			int firstAction;
+			
+			// If it's will be played more than one round
+			if(myStrategy.getMaximumNumberOfIterations() > 1) {
+				
+				// If the probability of continue in the next round,
+				// it's greater or equal than 0.3333%, I will play a "Cooperate" action
+				if( probabilityToContinueInFirstRound >= SAFE_BETA_PROBABILITY_TO_CONTINUE ) {
+					
+					// Here, I will start to Cooperate, as both, Player no. 1 and Player no. 2
+					firstAction = MoveLabelCodec.COOPERATE_ACTION;
+				}
+				
+				// Otherwise, if the probability of continue in the next round,
+				// it's lesser than 0.3333%, I will play a "Defect" action
+				else {
+					
+					// Here, I will start to Defect, as both, Player no. 1 and Player no. 2
+					firstAction = MoveLabelCodec.DEFECT_ACTION;
+				}
+			}
+			
+			// If it's will be played only one round
+			else {
+				
+				// Here, I will start to Defect, as both, Player no. 1 and Player no. 2
+				firstAction = MoveLabelCodec.DEFECT_ACTION;
+			}
+			
+			myStrategy.fillPureAction(layout, firstAction);
+			
+			if(StrategyLog.isEnabled(LogLevel.DEBUG)) {
+				for(int firstPlay = 0; firstPlay < layout.getNumMoves(); firstPlay++) {
+					StrategyLog.debug("");
+					String firstPlayMove = myStrategy.getLabel(firstPlay);
+					double firstPlayProbability = myStrategy.get(firstPlay);
+					StrategyLog.debug("My First Play - {} with probability of {}", firstPlayMove, firstPlayProbability);
+				}
+			}
+			
+			return;
+		}
+		
+		StrategyLog.debug("");
+		
+		if(StrategyLog.isEnabled(LogLevel.DEBUG)) {
+			StrategyLog.debug("My Opponent's Plays:");
+			for(int i = 0; i < opponentHistory.getNumOpponentMoves(); i++) {
+				String opponentMove = myStrategy.getLabel(opponentHistory.getOpponentMove(i));
+				StrategyLog.debug("- {}", opponentMove);
+			}
+		}
+		
+		StrategyLog.debug("");
+		
+		// I will analyse all the possible moves, by ordinal
+		for(int move = 0; move < myStrategy.size(); move++) {
+			
+			// The current possible move
+			String currentMove = myStrategy.getLabel(move);
+			
+			StrategyLog.debug("");
+			StrategyLog.debug("");
+			
+			StrategyLog.debug("Analysing {} ...", currentMove);
+			
+			StrategyLog.debug("");
+			
+			int currentOpponentPlayer = myStrategy.getPlayer(move);
+			
+			int currentMyselfPlayer = (currentOpponentPlayer == 1) ? 2 : 1;
+			
+			// Currently, analysing a possible Cooperate action,
+			// before I decide
+			if(myStrategy.isCooperate(move)) {
+				
+				// In this case, my opponent Cooperates in the previous round
+				if(opponentHistory.opponentPlayed(move)) {
+					StrategyLog.debug("My Opponent (as Player no. {}) Cooperates in the last round!!!", currentOpponentPlayer);
+					StrategyLog.debug("");
+					this.possibleCooperateActionKnowingThatMyOpponentCooperateInPreviousRound(myStrategy, currentMyselfPlayer, currentOpponentPlayer, move);
+				}
+				
+				// In this case, my opponent Defect in the previous round
+				else {
+					StrategyLog.debug("My Opponent (as Player no. {}) Defects in the last round!!!", currentOpponentPlayer);
+					this.possibleCooperateActionKnowingThatMyOpponentDefectInPreviousRound(myStrategy, currentMyselfPlayer, currentOpponentPlayer, move);
+				}
+			}
+			
+			// Currently, analysing a possible Defect action,
+			// before I decide
+			if(myStrategy.isDefect(move)) {
+					
+				// In this case, my opponent Defect in the previous round
+				if(opponentHistory.opponentPlayed(move)) {
+					StrategyLog.debug("My Opponent (as Player no. {}) Defects in the last round!!!", currentOpponentPlayer);
+					StrategyLog.debug("");
+					this.possibleDefectActionKnowingThatMyOpponentDefectInPreviousRound(myStrategy, currentMyselfPlayer, currentOpponentPlayer, move);
+				}
+				
+				// In this case, my opponent Cooperates in the previous round
+				else {
+					StrategyLog.debug("My Opponent (as Player no. {}) Cooperates in the last round!!!", currentOpponentPlayer);
+					StrategyLog.debug("");
+					this.possibleDefectActionKnowingThatMyOpponentCooperateInPreviousRound(myStrategy, currentMyselfPlayer, currentOpponentPlayer, move);
+				}
+			}
+		}	
+		
+		
+		StrategyLog.debug("");
+		
+		
+		// Print my Player's statistics, related to the number of "Cooperate" and "Defect" actions
+		StrategyLog.debug("");
+		
+		// Print the current number of Cooperates of Myself
+		StrategyLog.debug("Number of Cooperates of Myself as Player no. 1: ", this.matchState.currentNumMyselfCooperates[0]);
+		StrategyLog.debug("Number of Cooperates of Myself as Player no. 2: ", this.matchState.currentNumMyselfCooperates[1]);
+		
+		StrategyLog.debug("");
+		
+		// Print the current number of Defect of Myself
+		StrategyLog.debug("Number of Defects of Myself as Player no. 1: ", this.matchState.currentNumMyselfDefects[0]);
+		StrategyLog.debug("Number of Defects of Myself as Player no. 2: ", this.matchState.currentNumMyselfDefects[1]);
+		
+		StrategyLog.debug("");
+
+		
+		// Print Opponent's Player's statistics, related to the number of "Cooperate" and "Defect" actions
+		StrategyLog.debug("");
+		
+		// Print the current number of Cooperates of the Opponent
+		StrategyLog.debug("Number of Cooperates of the Opponent as Player no. 1: ", this.matchState.currentNumOpponentCooperates[0]);
+		StrategyLog.debug("Number of Cooperates of the Opponent as Player no. 2: ", this.matchState.currentNumOpponentCooperates[1]);
+		
+		StrategyLog.debug("");
+		
+		// Print the current number of Defect of the Opponent
+		StrategyLog.debug("Number of Defects of the Opponent as Player no. 1: ", this.matchState.currentNumOpponentDefects[0]);
+		StrategyLog.debug("Number of Defects of the Opponent as Player no. 2: ", this.matchState.currentNumOpponentDefects[1]);
+		
+		StrategyLog.debug("");
+		
+		
+		// The following piece of code has the goal of checking if there was a portion
+		// of the game for which we could not infer the moves of the adversary
+		// (because none of the current Game's plays in the previous round pass through those paths)
+		for(int set = 0; set < layout.getNumSets(); set++) {
+			
+			// The ordinal of the first move and the number of moves of the current validation set
+			int firstMove = layout.getOffset(set);
+			int possibleMoves = layout.getLength(set);
+			
+			if(!StrategyValidator.sumsOne(myStrategy.sum(firstMove, possibleMoves))) {
+				
+				// In the previous current Game's play,
+				// I couldn't infer what the adversary played here
+				// Will be applied a random move on this validation set
+				// (uniformly over the simplex, with a bounded cost by move)
+				myStrategy.sample(firstMove, possibleMoves, sampler);
+				
+				if(StrategyLog.isEnabled(LogLevel.DEBUG)) {
+					for(int i = 0; i < possibleMoves; i++) {
+						String unexploredMove = myStrategy.getLabel(firstMove + i);
+						double unexploredProbability = myStrategy.get(firstMove + i);
+						StrategyLog.debug("Unexplored path: Setting {} with probability of {}", unexploredMove, unexploredProbability);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,366 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Class responsible for the Local Benchmark.
+ *
+ * Description:
+ * - A class responsible for measuring the cost of the decisions of each Local Strategy
+ *   of the Gradual family (and of their compiled Gradual Machines), in the same process,
+ *   without any dependency besides the Java platform;
+ *
+ * - The final/terminal nodes of all the rounds are drawn before the measure,
+ *   so only the decisions of the Strategy are measured (and not the Local Referee);
+ *
+ * - For each Strategy and each length of the Matches, there's a warm up and, then,
+ *   it's measured the latency and the throughput of the decisions, the bytes allocated
+ *   by decision (if the Java Virtual Machine supports it) and the activity of the
+ *   Garbage Collectors, during the measure;
+ */
+public class LocalBenchmark {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The default number of decisions of the warm up, by Strategy and length of the Matches
+	 */
+	private static final int DEFAULT_NUM_WARM_UP_DECISIONS = 200000;
+
+	/**
+	 * The default number of decisions measured, by Strategy and length of the Matches
+	 */
+	private static final int DEFAULT_NUM_MEASURED_DECISIONS = 1000000;
+
+	/**
+	 * The lengths of the Matches (number of rounds) measured
+	 */
+	static final int[] MATCH_LENGTHS = {10, 100, 1000, 10000};
+
+	/**
+	 * The seed of the random numbers of the final/terminal nodes drawn
+	 */
+	private static final long SEED = 1L;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The Local Game Tree of the Matches
+	 */
+	private final LocalGameTree tree;
+
+	/**
+	 * The number of decisions of the warm up, by Strategy and length of the Matches
+	 */
+	private final int numWarmUpDecisions;
+
+	/**
+	 * The number of decisions measured, by Strategy and length of the Matches
+	 */
+	private final int numMeasuredDecisions;
+
+	/**
+	 * The Java Virtual Machine's thread system, to measure the bytes allocated
+	 * (null, if it's not supported)
+	 */
+	private final com.sun.management.ThreadMXBean allocationCounter;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Local Benchmark.
+	 *
+	 * @param tree the Local Game Tree of the Matches
+	 *
+	 * @param numWarmUpDecisions the number of decisions of the warm up, by Strategy and length of the Matches
+	 *
+	 * @param numMeasuredDecisions the number of decisions measured, by Strategy and length of the Matches
+	 */
+	public LocalBenchmark(LocalGameTree tree, int numWarmUpDecisions, int numMeasuredDecisions) {
+		this.tree = tree;
+		this.numWarmUpDecisions = numWarmUpDecisions;
+		this.numMeasuredDecisions = numMeasuredDecisions;
+
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		if( (threadMXBean instanceof com.sun.management.ThreadMXBean) &&
+			((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported() ) {
+
+			this.allocationCounter = (com.sun.management.ThreadMXBean) threadMXBean;
+			this.allocationCounter.setThreadAllocatedMemoryEnabled(true);
+		}
+		else {
+			this.allocationCounter = null;
+		}
+	}
+
+	/**
+	 * Constructor #2:
+	 * - Builds a new Local Benchmark, with the default numbers of decisions
+	 *   of the warm up and of the measure.
+	 *
+	 * @param tree the Local Game Tree of the Matches
+	 */
+	public LocalBenchmark(LocalGameTree tree) {
+		this(tree, DEFAULT_NUM_WARM_UP_DECISIONS, DEFAULT_NUM_MEASURED_DECISIONS);
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Draws the final/terminal nodes of a given number of rounds
+	 * (two for each round, as Player no. 1 and as Player no. 2).
+	 *
+	 * @param numRounds the number of rounds
+	 *
+	 * @return the final/terminal nodes of the rounds
+	 */
+	int[] drawFinalNodes(int numRounds) {
+		Random random = new Random(SEED);
+		int[] finalNodes = new int[2 * numRounds];
+
+		for(int i = 0; i < finalNodes.length; i++) {
+			finalNodes[i] = this.tree.getLeafIndex(random.nextInt(2), random.nextInt(2));
+		}
+
+		return finalNodes;
+	}
+
+	/**
+	 * Plays a given number of decisions of a Local Strategy, in Matches of a given length,
+	 * feeding it with the final/terminal nodes drawn.
+	 *
+	 * @param strategy the builder of the Local Strategy
+	 *
+	 * @param matchLength the length of the Matches (number of rounds)
+	 *
+	 * @param finalNodes the final/terminal nodes drawn
+	 *
+	 * @param numDecisions the number of decisions to play
+	 *
+	 * @return the sum of the probabilities of "Cooperate", to keep the decisions alive
+	 */
+	double playDecisions(Supplier<LocalStrategy> strategy, int matchLength, int[] finalNodes, int numDecisions) {
+		return this.playDecisions(strategy, matchLength, finalNodes, numDecisions, 1.0, null);
+	}
+
+	/**
+	 * Plays a given number of decisions of a Local Strategy, in Matches of a given length
+	 * and with a given probability to continue, feeding it with the final/terminal nodes drawn,
+	 * and keeping the probabilities of all the moves of each decision, if it's requested.
+	 *
+	 * @param strategy the builder of the Local Strategy
+	 *
+	 * @param matchLength the length of the Matches (number of rounds)
+	 *
+	 * @param finalNodes the final/terminal nodes drawn
+	 *
+	 * @param numDecisions the number of decisions to play
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @param decisions the array where the probabilities of all the moves of each decision are kept,
+	 *        by decision and, then, by ordinal of the move (or null, if they are not kept)
+	 *
+	 * @return the sum of the probabilities of "Cooperate", to keep the decisions alive
+	 */
+	double playDecisions(Supplier<LocalStrategy> strategy, int matchLength, int[] finalNodes, int numDecisions,
+						 double probabilityForNextIteration, double[] decisions) {
+
+		LocalPlayStrategy request = new LocalPlayStrategy(this.tree);
+		Random random = new Random(SEED);
+		LocalStrategy currentStrategy = null;
+
+		int numMoves = this.tree.getStrategyKeys().length;
+
+		double cooperates = 0;
+
+		for(int numDecision = 0; numDecision < numDecisions; numDecision++) {
+			int numRound = numDecision % matchLength;
+
+			if(numRound == 0) {
+				currentStrategy = strategy.get();
+				currentStrategy.setup(this.tree, random);
+			}
+
+			int finalP1Node = -1;
+			int finalP2Node = -1;
+
+			if(numRound > 0) {
+				int position = ( 2 * numDecision ) % finalNodes.length;
+
+				finalP1Node = finalNodes[position];
+				finalP2Node = finalNodes[position + 1];
+			}
+
+			request.prepareRequest(finalP1Node, finalP2Node, matchLength - numRound, probabilityForNextIteration);
+			currentStrategy.computeStrategy(request);
+
+			cooperates += request.getProbability(0);
+
+			if(decisions != null) {
+				for(int move = 0; move < numMoves; move++) {
+					decisions[numDecision * numMoves + move] = request.getProbability(move);
+				}
+			}
+		}
+
+		return cooperates;
+	}
+
+	/**
+	 * Returns the total number of collections of the Garbage Collectors.
+	 *
+	 * @return the total number of collections of the Garbage Collectors
+	 */
+	private static long getNumCollections() {
+		long numCollections = 0;
+
+		for(GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			numCollections += Math.max(0, collector.getCollectionCount());
+		}
+
+		return numCollections;
+	}
+
+	/**
+	 * Returns the total time of the collections of the Garbage Collectors, in milliseconds.
+	 *
+	 * @return the total time of the collections of the Garbage Collectors, in milliseconds
+	 */
+	private static long getCollectionsTime() {
+		long collectionsTime = 0;
+
+		for(GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			collectionsTime += Math.max(0, collector.getCollectionTime());
+		}
+
+		return collectionsTime;
+	}
+
+	/**
+	 * Returns the bytes allocated by the current thread (-1, if it's not supported).
+	 *
+	 * @return the bytes allocated by the current thread (-1, if it's not supported)
+	 */
+	private long getAllocatedBytes() {
+		return (this.allocationCounter == null) ? -1 :
+					this.allocationCounter.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Measures the decisions of the given Local Strategies, for all the lengths of the Matches,
+	 * printing the results in a given stream.
+	 *
+	 * @param strategies the builders of the Local Strategies
+	 *
+	 * @param out the stream where the results will be printed
+	 */
+	public void run(List<Supplier<LocalStrategy>> strategies, PrintStream out) {
+		int[] finalNodes = this.drawFinalNodes(Math.max(this.numWarmUpDecisions, this.numMeasuredDecisions));
+
+		// The width of the column of the names, to fit the longest one
+		int nameWidth = 1;
+
+		for(Supplier<LocalStrategy> strategy : strategies) {
+			nameWidth = Math.max(nameWidth, strategy.get().getName().length() + 3);
+		}
+
+		out.printf("%-" + nameWidth + "s %8s %14s %16s %16s %8s %8s%n",
+				   "Strategy", "Rounds", "ns/decision", "decisions/s", "bytes/decision", "GCs", "GC ms");
+
+		double blackhole = 0;
+
+		for(Supplier<LocalStrategy> strategy : strategies) {
+			for(int matchLength : MATCH_LENGTHS) {
+
+				// The warm up, to let the Just-In-Time compiler optimise the decisions
+				blackhole += this.playDecisions(strategy, matchLength, finalNodes, this.numWarmUpDecisions);
+
+				long numCollections = getNumCollections();
+				long collectionsTime = getCollectionsTime();
+				long allocatedBytes = this.getAllocatedBytes();
+				long startTime = System.nanoTime();
+
+				blackhole += this.playDecisions(strategy, matchLength, finalNodes, this.numMeasuredDecisions);
+
+				long elapsedTime = System.nanoTime() - startTime;
+				allocatedBytes = (allocatedBytes < 0) ? -1 : this.getAllocatedBytes() - allocatedBytes;
+				numCollections = getNumCollections() - numCollections;
+				collectionsTime = getCollectionsTime() - collectionsTime;
+
+				out.printf("%-" + nameWidth + "s %8d %14.1f %16.0f %16s %8d %8d%n",
+						   strategy.get().getName(), matchLength,
+						   ( (double) elapsedTime ) / this.numMeasuredDecisions,
+						   this.numMeasuredDecisions / (elapsedTime / 1e9),
+						   (allocatedBytes < 0) ? "n/a" : String.format("%.1f", ( (double) allocatedBytes ) / this.numMeasuredDecisions),
+						   numCollections, collectionsTime);
+			}
+		}
+
+		// Only to keep the decisions from being eliminated by the Just-In-Time compiler
+		if(blackhole < 0) {
+			out.println(blackhole);
+		}
+	}
+
+	/**
+	 * Runs the Local Benchmark for the Strategies of the Gradual family,
+	 * and for their compiled Gradual Machines,
+	 * printing the results in a given stream.
+	 *
+	 * Usage: LocalBenchmark [numWarmUpDecisions] [numMeasuredDecisions]
+	 *
+	 * @param args the arguments of the Local Benchmark
+	 *
+	 * @param out the stream where the results will be printed
+	 */
+	static void runCommand(String[] args, PrintStream out) {
+		int numWarmUpDecisions = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_NUM_WARM_UP_DECISIONS;
+		int numMeasuredDecisions = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_NUM_MEASURED_DECISIONS;
+
+		List<Supplier<LocalStrategy>> strategies = new ArrayList<Supplier<LocalStrategy>>();
+
+		strategies.addAll(LocalStrategies.gradualFamily());
+		strategies.addAll(LocalStrategies.compiledGradualFamily());
+
+		new LocalBenchmark(new LocalGameTree(), numWarmUpDecisions, numMeasuredDecisions).run(strategies, out);
+	}
+
+	/**
+	 * Runs the Local Benchmark from the command line, printing the results in the standard output
+	 * (see runCommand, for the usage).
+	 *
+	 * @param args the arguments of the Local Benchmark
+	 */
+	public static void main(String[] args) {
+		runCommand(args, System.out);
+	}
+}
@@ -0,0 +1,223 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+/**
+ * Class responsible for a Game Node of the Local Game Tree.
+ *
+ * Description:
+ * - A class responsible for a stand-in of the Referee's Game Node,
+ *   offering the same queries used by the Strategies
+ *   (ancestor, type of the node and label of the move that leads to it),
+ *   to be able to play Games locally, in the same process;
+ *
+ * - It's not a GameNode of the gametree package, since that package it's provided
+ *   by the Referee's framework, which isn't part of this repository;
+ */
+public class LocalGameNode {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The type of a Game Node, where the Player no. 1 makes a move
+	 */
+	public static final byte PLAYER_1 = 1;
+
+	/**
+	 * The type of a Game Node, where the Player no. 2 makes a move
+	 */
+	public static final byte PLAYER_2 = 2;
+
+	/**
+	 * The type of a Game Node, where Nature makes a move
+	 */
+	public static final byte NATURE = 3;
+
+	/**
+	 * The type of a final/terminal Game Node
+	 */
+	public static final byte TERMINAL = 4;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The index of the Game Node, in the Local Game Tree
+	 */
+	private final int index;
+
+	/**
+	 * The ancestor of the Game Node (null, for the root)
+	 */
+	private final LocalGameNode ancestor;
+
+	/**
+	 * The type of the Game Node
+	 */
+	private final byte type;
+
+	/**
+	 * The label of the move that leads to the Game Node
+	 * (null, for the root)
+	 */
+	private final String label;
+
+	/**
+	 * The payoff of the Player no. 1, if the Game Node it's final/terminal
+	 */
+	private final int payoffP1;
+
+	/**
+	 * The payoff of the Player no. 2, if the Game Node it's final/terminal
+	 */
+	private final int payoffP2;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Game Node of the Local Game Tree.
+	 *
+	 * @param index the index of the Game Node
+	 *
+	 * @param ancestor the ancestor of the Game Node (null, for the root)
+	 *
+	 * @param type the type of the Game Node
+	 *
+	 * @param label the label of the move that leads to the Game Node
+	 *
+	 * @param payoffP1 the payoff of the Player no. 1, if the Game Node it's final/terminal
+	 *
+	 * @param payoffP2 the payoff of the Player no. 2, if the Game Node it's final/terminal
+	 */
+	LocalGameNode(int index, LocalGameNode ancestor, byte type, String label, int payoffP1, int payoffP2) {
+		this.index = index;
+		this.ancestor = ancestor;
+		this.type = type;
+		this.label = label;
+		this.payoffP1 = payoffP1;
+		this.payoffP2 = payoffP2;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the index of the Game Node.
+	 *
+	 * @return the index of the Game Node
+	 */
+	public int getIndex() {
+		return this.index;
+	}
+
+	/**
+	 * Returns the ancestor of the Game Node (null, for the root).
+	 *
+	 * @return the ancestor of the Game Node (null, for the root)
+	 */
+	public LocalGameNode getAncestor() {
+		return this.ancestor;
+	}
+
+	/**
+	 * Returns the type of the Game Node.
+	 *
+	 * @return the type of the Game Node
+	 */
+	public byte getType() {
+		return this.type;
+	}
+
+	/**
+	 * Returns the label of the move that leads to the Game Node.
+	 *
+	 * @return the label of the move that leads to the Game Node
+	 */
+	public String getLabel() {
+		return this.label;
+	}
+
+	/**
+	 * Returns true if, the Game Node it's the root and false, otherwise.
+	 *
+	 * @return true if, the Game Node it's the root and false, otherwise
+	 */
+	public boolean isRoot() {
+		return (this.ancestor == null);
+	}
+
+	/**
+	 * Returns true if, the Game Node belongs to the Player no. 1 and false, otherwise.
+	 *
+	 * @return true if, the Game Node belongs to the Player no. 1 and false, otherwise
+	 */
+	public boolean isPlayer1() {
+		return (this.type == PLAYER_1);
+	}
+
+	/**
+	 * Returns true if, the Game Node belongs to the Player no. 2 and false, otherwise.
+	 *
+	 * @return true if, the Game Node belongs to the Player no. 2 and false, otherwise
+	 */
+	public boolean isPlayer2() {
+		return (this.type == PLAYER_2);
+	}
+
+	/**
+	 * Returns true if, the Game Node belongs to Nature and false, otherwise.
+	 *
+	 * @return true if, the Game Node belongs to Nature and false, otherwise
+	 */
+	public boolean isNature() {
+		return (this.type == NATURE);
+	}
+
+	/**
+	 * Returns true if, the Game Node it's final/terminal and false, otherwise.
+	 *
+	 * @return true if, the Game Node it's final/terminal and false, otherwise
+	 */
+	public boolean isTerminal() {
+		return (this.type == TERMINAL);
+	}
+
+	/**
+	 * Returns the payoff of the Player no. 1, if the Game Node it's final/terminal.
+	 *
+	 * @return the payoff of the Player no. 1, if the Game Node it's final/terminal
+	 */
+	public int getPayoffP1() {
+		return this.payoffP1;
+	}
+
+	/**
+	 * Returns the payoff of the Player no. 2, if the Game Node it's final/terminal.
+	 *
+	 * @return the payoff of the Player no. 2, if the Game Node it's final/terminal
+	 */
+	public int getPayoffP2() {
+		return this.payoffP2;
+	}
+
+	@Override
+	public String toString() {
+		return "Node " + this.index + ( (this.label == null) ? "" : (" [" + this.label + "]") );
+	}
+}
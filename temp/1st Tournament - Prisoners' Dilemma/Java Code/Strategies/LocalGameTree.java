@@ -0,0 +1,238 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class responsible for the Local Game Tree of the Prisoners' Dilemma.
+ *
+ * Description:
+ * - A class responsible for a stand-in of the Referee's Game Tree,
+ *   for one round of the Prisoners' Dilemma, built in the same process;
+ *
+ * - The Player no. 1 moves at the root, the Player no. 2 moves at
+ *   one of the two nodes below (both in the same information set),
+ *   and the four leaves keep the payoffs of both Players;
+ *
+ * - The moves are labelled as "player:node:action", as they are
+ *   by the Referee, so the keys of the Strategies are:
+ *   "1:1:Cooperate", "1:1:Defect", "2:2:Cooperate" and "2:2:Defect";
+ *
+ * - The structure of the Game Tree (without the payoffs) it's also kept in an interned
+ *   Game Tree Snapshot, shared by all the Local Game Trees of the process, where the paths
+ *   are walked iteratively over the indexes of the ancestors, without any allocation;
+ */
+public class LocalGameTree {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The default payoff, when both Players Cooperate (Reward)
+	 */
+	public static final int DEFAULT_REWARD = 3;
+
+	/**
+	 * The default payoff, when I Cooperate and my Opponent Defects (Sucker)
+	 */
+	public static final int DEFAULT_SUCKER = 0;
+
+	/**
+	 * The default payoff, when I Defect and my Opponent Cooperates (Temptation)
+	 */
+	public static final int DEFAULT_TEMPTATION = 5;
+
+	/**
+	 * The default payoff, when both Players Defect (Punishment)
+	 */
+	public static final int DEFAULT_PUNISHMENT = 1;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The Game Nodes of the Local Game Tree, by index
+	 */
+	private final LocalGameNode[] nodes;
+
+	/**
+	 * The interned Game Tree Snapshot of the structure of the Local Game Tree
+	 */
+	private final GameTreeSnapshot snapshot;
+
+	/**
+	 * The keys of the Strategies, in the order that the Referee iterates them
+	 */
+	private final String[] strategyKeys;
+
+	/**
+	 * The validation set (the number of possible moves, by information set)
+	 */
+	private final List<Integer> validationSet;
+
+	/**
+	 * The Validation Set Layout (the first move and the number of moves, by information set),
+	 * computed only once
+	 */
+	private final ValidationSetLayout validationSetLayout;
+
+	/**
+	 * The indexes of the leaves, by the actions of the Player no. 1 and the Player no. 2
+	 */
+	private final int[][] leaves;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Local Game Tree, with the default payoffs.
+	 */
+	public LocalGameTree() {
+		this(DEFAULT_REWARD, DEFAULT_SUCKER, DEFAULT_TEMPTATION, DEFAULT_PUNISHMENT);
+	}
+
+	/**
+	 * Constructor #2:
+	 * - Builds a new Local Game Tree, with the given payoffs.
+	 *
+	 * @param reward the payoff, when both Players Cooperate
+	 *
+	 * @param sucker the payoff, when I Cooperate and my Opponent Defects
+	 *
+	 * @param temptation the payoff, when I Defect and my Opponent Cooperates
+	 *
+	 * @param punishment the payoff, when both Players Defect
+	 */
+	public LocalGameTree(int reward, int sucker, int temptation, int punishment) {
+		String p1Cooperate = "1:1:" + MoveLabelCodec.COOPERATE;
+		String p1Defect = "1:1:" + MoveLabelCodec.DEFECT;
+		String p2Cooperate = "2:2:" + MoveLabelCodec.COOPERATE;
+		String p2Defect = "2:2:" + MoveLabelCodec.DEFECT;
+
+		LocalGameNode root = new LocalGameNode(0, null, LocalGameNode.PLAYER_1, null, 0, 0);
+		LocalGameNode afterP1Cooperate = new LocalGameNode(1, root, LocalGameNode.PLAYER_2, p1Cooperate, 0, 0);
+		LocalGameNode afterP1Defect = new LocalGameNode(2, root, LocalGameNode.PLAYER_2, p1Defect, 0, 0);
+
+		this.nodes = new LocalGameNode[] {
+			root,
+			afterP1Cooperate,
+			afterP1Defect,
+			new LocalGameNode(3, afterP1Cooperate, LocalGameNode.TERMINAL, p2Cooperate, reward, reward),
+			new LocalGameNode(4, afterP1Cooperate, LocalGameNode.TERMINAL, p2Defect, sucker, temptation),
+			new LocalGameNode(5, afterP1Defect, LocalGameNode.TERMINAL, p2Cooperate, temptation, sucker),
+			new LocalGameNode(6, afterP1Defect, LocalGameNode.TERMINAL, p2Defect, punishment, punishment)
+		};
+
+		int[] ancestors = new int[this.nodes.length];
+		byte[] types = new byte[this.nodes.length];
+		String[] labels = new String[this.nodes.length];
+
+		for(LocalGameNode node : this.nodes) {
+			ancestors[node.getIndex()] = node.isRoot() ? -1 : node.getAncestor().getIndex();
+			types[node.getIndex()] = node.getType();
+			labels[node.getIndex()] = node.getLabel();
+		}
+
+		this.snapshot = GameTreeSnapshot.of(ancestors, types, labels);
+
+		this.leaves = new int[][] { {3, 4}, {5, 6} };
+
+		this.strategyKeys = new String[] { p1Cooperate, p1Defect, p2Cooperate, p2Defect };
+
+		List<Integer> validationSet = new ArrayList<Integer>();
+		validationSet.add(2);
+		validationSet.add(2);
+
+		this.validationSet = Collections.unmodifiableList(validationSet);
+		this.validationSetLayout = new ValidationSetLayout(this.validationSet);
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the Game Node related to a given index, or null if it doesn't exist.
+	 *
+	 * @param index the index of the Game Node
+	 *
+	 * @return the Game Node related to a given index, or null if it doesn't exist
+	 */
+	public LocalGameNode getNodeByIndex(int index) {
+		return ( (index >= 0) && (index < this.nodes.length) ) ? this.nodes[index] : null;
+	}
+
+	/**
+	 * Returns the number of Game Nodes of the Local Game Tree.
+	 *
+	 * @return the number of Game Nodes of the Local Game Tree
+	 */
+	public int getNumNodes() {
+		return this.nodes.length;
+	}
+
+	/**
+	 * Returns the interned Game Tree Snapshot of the structure of the Local Game Tree.
+	 *
+	 * @return the interned Game Tree Snapshot of the structure of the Local Game Tree
+	 */
+	public GameTreeSnapshot getSnapshot() {
+		return this.snapshot;
+	}
+
+	/**
+	 * Returns the keys of the Strategies, in the order that the Referee iterates them.
+	 *
+	 * @return the keys of the Strategies, in the order that the Referee iterates them
+	 */
+	public String[] getStrategyKeys() {
+		return this.strategyKeys.clone();
+	}
+
+	/**
+	 * Returns the validation set (the number of possible moves, by information set).
+	 *
+	 * @return the validation set (the number of possible moves, by information set)
+	 */
+	public List<Integer> getValidationSet() {
+		return this.validationSet;
+	}
+
+	/**
+	 * Returns the Validation Set Layout (the first move and the number of moves, by information set).
+	 *
+	 * @return the Validation Set Layout (the first move and the number of moves, by information set)
+	 */
+	public ValidationSetLayout getValidationSetLayout() {
+		return this.validationSetLayout;
+	}
+
+	/**
+	 * Returns the index of the leaf reached by the given actions of both Players.
+	 *
+	 * @param actionP1 the action of the Player no. 1 (COOPERATE_ACTION or DEFECT_ACTION)
+	 *
+	 * @param actionP2 the action of the Player no. 2 (COOPERATE_ACTION or DEFECT_ACTION)
+	 *
+	 * @return the index of the leaf reached by the given actions of both Players
+	 */
+	public int getLeafIndex(int actionP1, int actionP2) {
+		return this.leaves[actionP1][actionP2];
+	}
+}
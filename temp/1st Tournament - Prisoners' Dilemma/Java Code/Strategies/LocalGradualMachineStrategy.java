@@ -0,0 +1,153 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Class responsible for the Local Gradual Machine Strategy, implementing LocalStrategy.
+ *
+ * Description:
+ * - A class responsible for a variant of the Gradual family, played by
+ *   its compiled Gradual Machine, against the Local Referee, in the same process;
+ *
+ * - The moves of each Player are found only once, in the setup of the Match,
+ *   so, in each round, the Strategy only reads the moves of the Opponent
+ *   and performs one step of the Gradual Machine, for each Player;
+ */
+public class LocalGradualMachineStrategy implements LocalStrategy {
+
+	// Global Instance Variables:
+
+	/**
+	 * The Gradual Machine of the variant of the Gradual family
+	 */
+	private final GradualMachine machine;
+
+	/**
+	 * The counters of both Players, in the Gradual Machine
+	 */
+	private final int[] state = new int[2 * GradualMachine.STATE_SIZE];
+
+	/**
+	 * The ordinals of the "Cooperate" moves, of both Players
+	 */
+	private final int[] cooperateMoves = new int[2];
+
+	/**
+	 * The ordinals of the "Defect" moves, of both Players
+	 */
+	private final int[] defectMoves = new int[2];
+
+	/**
+	 * The Strategy Vector, bound only once to the keys of the Local Game Tree
+	 */
+	private StrategyVector strategyVector;
+
+	/**
+	 * The history of the moves of my Opponent, updated with the last round
+	 */
+	private LocalOpponentHistory opponentHistory;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Local Gradual Machine Strategy, for a given variant of the Gradual family.
+	 *
+	 * @param variant the variant of the Gradual family
+	 */
+	public LocalGradualMachineStrategy(GradualVariant variant) {
+		this(GradualMachine.of(variant));
+	}
+
+	/**
+	 * Constructor #2:
+	 * - Builds a new Local Gradual Machine Strategy, for a given Gradual Machine
+	 *   (e.g., compiled from some tuned constants).
+	 *
+	 * @param machine the Gradual Machine
+	 */
+	public LocalGradualMachineStrategy(GradualMachine machine) {
+		this.machine = machine;
+	}
+
+
+	// Methods/Functions:
+
+	@Override
+	public String getName() {
+		String strategyName = (this.machine.getVariant() != null) ? this.machine.getVariant().getStrategyName() : "GradualMachine";
+
+		return strategyName + " (compiled)";
+	}
+
+	@Override
+	public void setup(LocalGameTree tree, Random random) {
+		this.strategyVector = new StrategyVector(Arrays.asList(tree.getStrategyKeys()).iterator());
+		this.opponentHistory = new LocalOpponentHistory(tree, this.strategyVector);
+
+		for(int move = 0; move < this.strategyVector.size(); move++) {
+			int numPlayer = this.strategyVector.getPlayer(move);
+
+			if(this.strategyVector.isCooperate(move)) {
+				this.cooperateMoves[numPlayer - 1] = move;
+			}
+			else {
+				this.defectMoves[numPlayer - 1] = move;
+			}
+		}
+
+		this.machine.reset(this.state, 0);
+		this.machine.reset(this.state, GradualMachine.STATE_SIZE);
+	}
+
+	@Override
+	public void computeStrategy(LocalPlayStrategy myStrategy) {
+		int maximumNumberOfIterations = myStrategy.getMaximumNumberOfIterations();
+		double probabilityForNextIteration = myStrategy.probabilityForNextIteration();
+
+		this.strategyVector.prepareRound(maximumNumberOfIterations, probabilityForNextIteration);
+		this.opponentHistory.update(myStrategy.getFinalP1Node(), myStrategy.getFinalP2Node());
+
+		boolean firstRound = !this.opponentHistory.hasLastRound();
+		boolean playForSafe = this.machine.isPlayForSafe(maximumNumberOfIterations, probabilityForNextIteration);
+
+		for(int numPlayer = 1; numPlayer <= 2; numPlayer++) {
+			int action;
+
+			if(firstRound) {
+				action = this.machine.firstAction(maximumNumberOfIterations, probabilityForNextIteration);
+			}
+			else {
+				boolean opponentCooperated = this.opponentHistory.opponentPlayed(this.cooperateMoves[numPlayer - 1]);
+
+				action = this.machine.step(this.state, (numPlayer - 1) * GradualMachine.STATE_SIZE,
+										   opponentCooperated, playForSafe);
+			}
+
+			boolean cooperate = (action == MoveLabelCodec.COOPERATE_ACTION);
+
+			this.strategyVector.put(this.cooperateMoves[numPlayer - 1], cooperate ? 1.0 : 0.0);
+			this.strategyVector.put(this.defectMoves[numPlayer - 1], cooperate ? 0.0 : 1.0);
+		}
+
+		this.strategyVector.writeTo(myStrategy);
+	}
+}
@@ -0,0 +1,105 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Class responsible for the Local Gradual Strategy, implementing LocalStrategy.
+ *
+ * Description:
+ * - A class responsible for a variant of the Gradual family, played against
+ *   the Local Referee, in the same process;
+ *
+ * - The rules aren't ported: each round it's decided by the same Decision of the Strategy's class
+ *   (e.g., the GradualStrategyDecision, for the GradualStrategy), so this class only binds
+ *   the Strategy Vector and the history of the moves of my Opponent to the Local Game Tree;
+ */
+public class LocalGradualStrategy implements LocalStrategy {
+
+	// Global Instance Variables:
+
+	/**
+	 * The variant of the Gradual family
+	 */
+	private final GradualVariant variant;
+
+	/**
+	 * The Decision of the rules of the variant, with the state of the current Match
+	 */
+	private final GradualFamilyDecision decision;
+
+	/**
+	 * The Local Game Tree of the current Match
+	 */
+	private LocalGameTree tree;
+
+	/**
+	 * The Simplex Sampler of the unexplored paths of the current Match
+	 */
+	private SimplexSampler sampler;
+
+	/**
+	 * The Strategy Vector, bound only once to the keys of the Local Game Tree
+	 */
+	private StrategyVector strategyVector;
+
+	/**
+	 * The history of the moves of my Opponent, updated with the last round
+	 */
+	private LocalOpponentHistory opponentHistory;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Local Gradual Strategy, for a given variant of the Gradual family.
+	 *
+	 * @param variant the variant of the Gradual family
+	 */
+	public LocalGradualStrategy(GradualVariant variant) {
+		this.variant = variant;
+		this.decision = variant.newDecision();
+	}
+
+
+	// Methods/Functions:
+
+	@Override
+	public String getName() {
+		return this.variant.getStrategyName();
+	}
+
+	@Override
+	public void setup(LocalGameTree tree, Random random) {
+		this.tree = tree;
+		this.sampler = new DirichletSampler(random.nextLong());
+		this.strategyVector = new StrategyVector(Arrays.asList(tree.getStrategyKeys()).iterator());
+		this.opponentHistory = new LocalOpponentHistory(tree, this.strategyVector);
+		this.decision.startMatch();
+	}
+
+	@Override
+	public void computeStrategy(LocalPlayStrategy myStrategy) {
+		this.strategyVector.prepareRound(myStrategy.getMaximumNumberOfIterations(), myStrategy.probabilityForNextIteration());
+		this.opponentHistory.update(myStrategy.getFinalP1Node(), myStrategy.getFinalP2Node());
+		this.decision.computeStrategy(this.opponentHistory, this.strategyVector, this.tree.getValidationSetLayout(), this.sampler);
+		this.strategyVector.writeTo(myStrategy);
+	}
+}
@@ -0,0 +1,94 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+/**
+ * Class responsible for the result of a Match, played by the Local Referee.
+ *
+ * Description:
+ * - A class responsible for keeping the scores of both Strategies of a Match
+ *   (each one, summing its payoffs as Player no. 1 and as Player no. 2)
+ *   and the number of rounds played;
+ */
+public class LocalMatchResult {
+
+	// Global Instance Variables:
+
+	/**
+	 * The score of the first Strategy of the Match
+	 */
+	private final long scoreA;
+
+	/**
+	 * The score of the second Strategy of the Match
+	 */
+	private final long scoreB;
+
+	/**
+	 * The number of rounds played in the Match
+	 */
+	private final int numRounds;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new result of a Match.
+	 *
+	 * @param scoreA the score of the first Strategy of the Match
+	 *
+	 * @param scoreB the score of the second Strategy of the Match
+	 *
+	 * @param numRounds the number of rounds played in the Match
+	 */
+	public LocalMatchResult(long scoreA, long scoreB, int numRounds) {
+		this.scoreA = scoreA;
+		this.scoreB = scoreB;
+		this.numRounds = numRounds;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the score of the first Strategy of the Match.
+	 *
+	 * @return the score of the first Strategy of the Match
+	 */
+	public long getScoreA() {
+		return this.scoreA;
+	}
+
+	/**
+	 * Returns the score of the second Strategy of the Match.
+	 *
+	 * @return the score of the second Strategy of the Match
+	 */
+	public long getScoreB() {
+		return this.scoreB;
+	}
+
+	/**
+	 * Returns the number of rounds played in the Match.
+	 *
+	 * @return the number of rounds played in the Match
+	 */
+	public int getNumRounds() {
+		return this.numRounds;
+	}
+}
@@ -0,0 +1,93 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+/**
+ * Class responsible for the Opponent History of a Local Game Tree, extending OpponentHistory.
+ *
+ * Description:
+ * - A class responsible for the Opponent History of the Local Game Tree,
+ *   used by the Local Strategies, against the Local Referee;
+ *
+ * - The path of a final/terminal node it's walked iteratively, over the primitive arrays
+ *   of the shared Game Tree Snapshot, into a reusable buffer of indexes, and the ordinal
+ *   of each label of the snapshot it's found only once, when the history it's built,
+ *   so no Game Node object it's touched and no label it's looked up again;
+ */
+public class LocalOpponentHistory extends OpponentHistory<RuntimeException> {
+
+	// Global Instance Variables:
+
+	/**
+	 * The Game Tree Snapshot of the Local Game Tree of the current Match
+	 */
+	private final GameTreeSnapshot snapshot;
+
+	/**
+	 * The reusable buffer of the indexes of the Game Nodes of a path
+	 */
+	private final int[] path;
+
+	/**
+	 * The ordinals of the moves, by the identifier of their labels in the snapshot
+	 * (-1, for the moves which aren't in the Strategy Vector)
+	 */
+	private final int[] movesByLabelId;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Opponent History, for a given Local Game Tree and Strategy Vector.
+	 *
+	 * @param tree the Local Game Tree of the current Match
+	 *
+	 * @param strategyVector the Strategy Vector, which moves will be tracked
+	 */
+	public LocalOpponentHistory(LocalGameTree tree, StrategyVector strategyVector) {
+		super(strategyVector);
+
+		this.snapshot = tree.getSnapshot();
+		this.path = new int[this.snapshot.getMaxDepth()];
+		this.movesByLabelId = new int[this.snapshot.getNumLabels()];
+
+		for(int labelId = 0; labelId < this.snapshot.getNumLabels(); labelId++) {
+			this.movesByLabelId[labelId] = this.ordinalOf(this.snapshot.getLabel(labelId));
+		}
+	}
+
+
+	// Methods/Functions:
+
+	@Override
+	protected void collectOpponentMoves(int finalNode, boolean opponentIsPlayer2) {
+		int depth = this.snapshot.fillPath(finalNode, this.path);
+		int opponent = opponentIsPlayer2 ? 2 : 1;
+
+		for(int i = 0; i < depth; i++) {
+			int node = this.path[i];
+
+			if(this.snapshot.isNature(node)) continue;
+
+			// The move that leads to the Game Node it's owned by the Player of its ancestor
+			if(this.snapshot.getOwner(node) == opponent) {
+				this.addOpponentMove(this.movesByLabelId[this.snapshot.getLabelId(node)]);
+			}
+		}
+	}
+}
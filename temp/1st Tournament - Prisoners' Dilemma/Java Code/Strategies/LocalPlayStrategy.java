@@ -0,0 +1,222 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Class responsible for the Local Play Strategy.
+ *
+ * Description:
+ * - A class responsible for a stand-in of the Referee's Play Strategy,
+ *   offering the same operations used by the Strategies
+ *   (keys, probabilities, final/terminal nodes of the last round,
+ *   maximum number of iterations and probability of the next iteration);
+ *
+ * - The same object it's reused, by the Local Referee, in all the rounds
+ *   of a Match, for the same Player;
+ *
+ * - The probabilities are kept by the ordinal of each move, so they can
+ *   be copied directly from a Strategy Vector and read by the Local Referee,
+ *   without boxing;
+ *
+ * - It doesn't implement the PlayStrategy interface itself: the Referee's framework
+ *   (PlayStrategy, Strategy and InvalidStrategyException) isn't part of this repository,
+ *   so only the operations that the Strategies use are mirrored here;
+ */
+public class LocalPlayStrategy {
+
+	// Global Instance Variables:
+
+	/**
+	 * The keys of the moves, in the order of the Game Tree
+	 */
+	private final String[] keys;
+
+	/**
+	 * The ordinals of the moves, by key
+	 */
+	private final Map<String, Integer> ordinals;
+
+	/**
+	 * The probabilities of the moves, by ordinal
+	 */
+	private final double[] probabilities;
+
+	/**
+	 * The index of the final/terminal node in last round, as Player no. 1
+	 */
+	private int finalP1Node;
+
+	/**
+	 * The index of the final/terminal node in last round, as Player no. 2
+	 */
+	private int finalP2Node;
+
+	/**
+	 * The maximum number of iterations remaining for the current Game
+	 */
+	private int maximumNumberOfIterations;
+
+	/**
+	 * The probability to continue playing to the next iteration
+	 */
+	private double probabilityForNextIteration;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Local Play Strategy, for a given Local Game Tree.
+	 *
+	 * @param tree the Local Game Tree of the current Game
+	 */
+	public LocalPlayStrategy(LocalGameTree tree) {
+		this.keys = tree.getStrategyKeys();
+		this.ordinals = new HashMap<String, Integer>();
+		this.probabilities = new double[this.keys.length];
+
+		for(int move = 0; move < this.keys.length; move++) {
+			this.ordinals.put(this.keys[move], move);
+		}
+
+		this.finalP1Node = -1;
+		this.finalP2Node = -1;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Prepares the Local Play Strategy, for the request of a new round.
+	 *
+	 * @param finalP1Node the index of the final/terminal node in last round, as Player no. 1
+	 *
+	 * @param finalP2Node the index of the final/terminal node in last round, as Player no. 2
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations remaining for the current Game
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 */
+	void prepareRequest(int finalP1Node, int finalP2Node, int maximumNumberOfIterations, double probabilityForNextIteration) {
+		this.finalP1Node = finalP1Node;
+		this.finalP2Node = finalP2Node;
+		this.maximumNumberOfIterations = maximumNumberOfIterations;
+		this.probabilityForNextIteration = probabilityForNextIteration;
+	}
+
+	/**
+	 * Returns an iterator over the keys of the moves, in the order of the Game Tree.
+	 *
+	 * @return an iterator over the keys of the moves, in the order of the Game Tree
+	 */
+	public Iterator<String> keyIterator() {
+		return Arrays.asList(this.keys).iterator();
+	}
+
+	/**
+	 * Sets the probability of a given move.
+	 *
+	 * @param key the key of the move
+	 *
+	 * @param probability the probability of the move
+	 */
+	public void put(String key, Double probability) {
+		Integer move = this.ordinals.get(key);
+
+		if(move == null) {
+			throw new IllegalArgumentException("Unknown move: " + key);
+		}
+
+		this.probabilities[move] = probability;
+	}
+
+	/**
+	 * Returns the probability of a given move.
+	 *
+	 * @param key the key of the move
+	 *
+	 * @return the probability of a given move
+	 */
+	public Object get(String key) {
+		Integer move = this.ordinals.get(key);
+
+		return (move == null) ? null : Double.valueOf(this.probabilities[move]);
+	}
+
+	/**
+	 * Sets the probabilities of all the moves, by ordinal.
+	 *
+	 * @param probabilities the probabilities of all the moves, by ordinal
+	 */
+	void setProbabilities(double[] probabilities) {
+		System.arraycopy(probabilities, 0, this.probabilities, 0, this.probabilities.length);
+	}
+
+	/**
+	 * Returns the probability of the move related to a given ordinal.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @return the probability of the move related to a given ordinal
+	 */
+	double getProbability(int move) {
+		return this.probabilities[move];
+	}
+
+	/**
+	 * Returns the index of the final/terminal node in last round, as Player no. 1
+	 * (-1, if there's no last round).
+	 *
+	 * @return the index of the final/terminal node in last round, as Player no. 1
+	 */
+	public int getFinalP1Node() {
+		return this.finalP1Node;
+	}
+
+	/**
+	 * Returns the index of the final/terminal node in last round, as Player no. 2
+	 * (-1, if there's no last round).
+	 *
+	 * @return the index of the final/terminal node in last round, as Player no. 2
+	 */
+	public int getFinalP2Node() {
+		return this.finalP2Node;
+	}
+
+	/**
+	 * Returns the maximum number of iterations remaining for the current Game.
+	 *
+	 * @return the maximum number of iterations remaining for the current Game
+	 */
+	public int getMaximumNumberOfIterations() {
+		return this.maximumNumberOfIterations;
+	}
+
+	/**
+	 * Returns the probability to continue playing to the next iteration.
+	 *
+	 * @return the probability to continue playing to the next iteration
+	 */
+	public double probabilityForNextIteration() {
+		return this.probabilityForNextIteration;
+	}
+}
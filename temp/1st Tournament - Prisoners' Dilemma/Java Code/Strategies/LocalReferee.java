@@ -0,0 +1,199 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.Random;
+
+/**
+ * Class responsible for the Local Referee.
+ *
+ * Description:
+ * - A class responsible for a stand-in of the remote Referee,
+ *   that plays Matches between two Local Strategies, in the same process;
+ *
+ * - In each round, both Strategies play simultaneously as Player no. 1
+ *   and as Player no. 2 (one Game for each seat), as they do
+ *   against the remote Referee, and each one receives the final/terminal
+ *   nodes reached in the last round, in both seats;
+ *
+ * - A Match ends after the maximum number of iterations or, before that,
+ *   if it wasn't drawn to continue to the next iteration;
+ */
+public class LocalReferee {
+
+	// Global Instance Variables:
+
+	/**
+	 * The Local Game Tree of the Matches
+	 */
+	private final LocalGameTree tree;
+
+	/**
+	 * The maximum number of iterations of each Match
+	 */
+	private final int maximumNumberOfIterations;
+
+	/**
+	 * The probability to continue playing to the next iteration
+	 */
+	private final double probabilityForNextIteration;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Local Referee.
+	 *
+	 * @param tree the Local Game Tree of the Matches
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations of each Match
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 */
+	public LocalReferee(LocalGameTree tree, int maximumNumberOfIterations, double probabilityForNextIteration) {
+		if(maximumNumberOfIterations < 1) {
+			throw new IllegalArgumentException("The maximum number of iterations must be positive!!!");
+		}
+
+		if( (probabilityForNextIteration < 0) || (probabilityForNextIteration > 1) ) {
+			throw new IllegalArgumentException("The probability for the next iteration must be in [0, 1]!!!");
+		}
+
+		this.tree = tree;
+		this.maximumNumberOfIterations = maximumNumberOfIterations;
+		this.probabilityForNextIteration = probabilityForNextIteration;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the Local Game Tree of the Matches.
+	 *
+	 * @return the Local Game Tree of the Matches
+	 */
+	public LocalGameTree getTree() {
+		return this.tree;
+	}
+
+	/**
+	 * Returns the maximum number of iterations of each Match.
+	 *
+	 * @return the maximum number of iterations of each Match
+	 */
+	public int getMaximumNumberOfIterations() {
+		return this.maximumNumberOfIterations;
+	}
+
+	/**
+	 * Returns the probability to continue playing to the next iteration.
+	 *
+	 * @return the probability to continue playing to the next iteration
+	 */
+	public double getProbabilityForNextIteration() {
+		return this.probabilityForNextIteration;
+	}
+
+	/**
+	 * Plays a Match between two Local Strategies.
+	 *
+	 * @param strategyA the first Local Strategy of the Match
+	 *
+	 * @param strategyB the second Local Strategy of the Match
+	 *
+	 * @param seed the seed of the random numbers of the Match
+	 *
+	 * @return the result of the Match
+	 */
+	public LocalMatchResult playMatch(LocalStrategy strategyA, LocalStrategy strategyB, long seed) {
+		Random random = new Random(seed);
+
+		strategyA.setup(this.tree, new Random(random.nextLong()));
+		strategyB.setup(this.tree, new Random(random.nextLong()));
+
+		LocalPlayStrategy requestA = new LocalPlayStrategy(this.tree);
+		LocalPlayStrategy requestB = new LocalPlayStrategy(this.tree);
+
+		// The final/terminal nodes of the last round, in the Game where
+		// the Strategy A it's the Player no. 1 (and B, the Player no. 2), and vice-versa
+		int finalNodeOfGameA = -1;
+		int finalNodeOfGameB = -1;
+
+		long scoreA = 0;
+		long scoreB = 0;
+
+		int numRounds = 0;
+
+		do {
+			int numIterationsRemaining = this.maximumNumberOfIterations - numRounds;
+
+			requestA.prepareRequest(finalNodeOfGameA, finalNodeOfGameB, numIterationsRemaining, this.probabilityForNextIteration);
+			requestB.prepareRequest(finalNodeOfGameB, finalNodeOfGameA, numIterationsRemaining, this.probabilityForNextIteration);
+
+			strategyA.computeStrategy(requestA);
+			strategyB.computeStrategy(requestB);
+
+			int actionAasP1 = this.drawAction(requestA, 0, random);
+			int actionAasP2 = this.drawAction(requestA, 2, random);
+			int actionBasP1 = this.drawAction(requestB, 0, random);
+			int actionBasP2 = this.drawAction(requestB, 2, random);
+
+			finalNodeOfGameA = this.tree.getLeafIndex(actionAasP1, actionBasP2);
+			finalNodeOfGameB = this.tree.getLeafIndex(actionBasP1, actionAasP2);
+
+			LocalGameNode leafOfGameA = this.tree.getNodeByIndex(finalNodeOfGameA);
+			LocalGameNode leafOfGameB = this.tree.getNodeByIndex(finalNodeOfGameB);
+
+			scoreA += leafOfGameA.getPayoffP1() + leafOfGameB.getPayoffP2();
+			scoreB += leafOfGameA.getPayoffP2() + leafOfGameB.getPayoffP1();
+
+			numRounds++;
+		}
+		while( (numRounds < this.maximumNumberOfIterations) &&
+			   (random.nextDouble() < this.probabilityForNextIteration) );
+
+		return new LocalMatchResult(scoreA, scoreB, numRounds);
+	}
+
+	/**
+	 * Validates the probabilities of a validation set of two moves
+	 * ("Cooperate" and "Defect") and draws one of them.
+	 *
+	 * @param myStrategy the Local Play Strategy provided by a Strategy
+	 *
+	 * @param cooperateMove the ordinal of the "Cooperate" move
+	 *         (the "Defect" move it's the next one)
+	 *
+	 * @param random the random numbers' generator of the Match
+	 *
+	 * @return the action drawn (COOPERATE_ACTION or DEFECT_ACTION)
+	 */
+	private int drawAction(LocalPlayStrategy myStrategy, int cooperateMove, Random random) {
+		double cooperate = myStrategy.getProbability(cooperateMove);
+		double defect = myStrategy.getProbability(cooperateMove + 1);
+
+		if( (cooperate < 0) || (defect < 0) ||
+			!StrategyValidator.sumsOne(cooperate + defect) ) {
+
+			throw new IllegalStateException("Invalid Strategy: [" + cooperate + "; " + defect
+											+ "] for the moves no. " + cooperateMove + " and " + (cooperateMove + 1));
+		}
+
+		return (random.nextDouble() < cooperate) ? MoveLabelCodec.COOPERATE_ACTION : MoveLabelCodec.DEFECT_ACTION;
+	}
+}
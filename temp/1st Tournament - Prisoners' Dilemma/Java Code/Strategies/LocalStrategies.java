@@ -0,0 +1,75 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Class responsible for the lists of the Local Strategies.
+ *
+ * Description:
+ * - A class responsible for the lists of the Local Strategies of the Gradual family;
+ */
+public final class LocalStrategies {
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - It's not possible to build instances of this class.
+	 */
+	private LocalStrategies() {
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the builders of the Local Strategies of the Gradual family
+	 * (Gradual, Hybrid Gradual and Hybrid Gradual With Cooperates Leeway).
+	 *
+	 * @return the builders of the Local Strategies of the Gradual family
+	 */
+	public static List<Supplier<LocalStrategy>> gradualFamily() {
+		List<Supplier<LocalStrategy>> strategies = new ArrayList<Supplier<LocalStrategy>>();
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			strategies.add(() -> new LocalGradualStrategy(variant));
+		}
+
+		return strategies;
+	}
+
+	/**
+	 * Returns the builders of the Local Strategies of the Gradual family,
+	 * played by their compiled Gradual Machines.
+	 *
+	 * @return the builders of the Local Strategies of the Gradual family,
+	 *         played by their compiled Gradual Machines
+	 */
+	public static List<Supplier<LocalStrategy>> compiledGradualFamily() {
+		List<Supplier<LocalStrategy>> strategies = new ArrayList<Supplier<LocalStrategy>>();
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			strategies.add(() -> new LocalGradualMachineStrategy(variant));
+		}
+
+		return strategies;
+	}
+}
@@ -0,0 +1,62 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.Random;
+
+/**
+ * Interface responsible for a Local Strategy.
+ *
+ * Description:
+ * - An interface responsible for a Strategy that can be played
+ *   by the Local Referee, in the same process, without the round trips
+ *   of the remote Referee;
+ *
+ * - Each instance plays only one Match, so the Local Tournament
+ *   builds a new instance for each Match;
+ *
+ * - The real Strategy subclasses can't be driven in the same process, because their
+ *   superclass (and the blocking request/provide protocol behind it) belongs to the
+ *   Referee's framework, which isn't part of this repository; so the Local Strategies
+ *   call the same Decisions of those classes (see GradualFamilyDecision), or play
+ *   their compiled Gradual Machines, instead of keeping a copy of their rules;
+ */
+public interface LocalStrategy {
+
+	/**
+	 * Returns the name of the Local Strategy.
+	 *
+	 * @return the name of the Local Strategy
+	 */
+	String getName();
+
+	/**
+	 * Prepares the Local Strategy, for a new Match, in a given Local Game Tree.
+	 *
+	 * @param tree the Local Game Tree of the Match
+	 *
+	 * @param random the random numbers' generator of the Match
+	 */
+	void setup(LocalGameTree tree, Random random);
+
+	/**
+	 * Computes the Strategy for the current round, filling the given Local Play Strategy.
+	 *
+	 * @param myStrategy the Local Play Strategy requested by the Local Referee
+	 */
+	void computeStrategy(LocalPlayStrategy myStrategy);
+}
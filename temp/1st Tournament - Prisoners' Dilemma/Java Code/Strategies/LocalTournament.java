@@ -0,0 +1,236 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Class responsible for the Local Tournament.
+ *
+ * Description:
+ * - A class responsible for a round-robin Tournament between Local Strategies,
+ *   played by the Local Referee, in the same process;
+ *
+ * - Every pairing of the Local Strategies (including each one against itself)
+ *   it's played a given number of times, with the Matches of all the pairings
+ *   split in Local Tournament Tasks, played by a Fork/Join Pool with work stealing,
+ *   so the threads don't stay idle while a pairing with long Matches it's played;
+ *
+ * - The scores and rounds are summed in Long Adders (striped by thread),
+ *   so the threads don't compete to update the same cells;
+ *
+ * - The results are kept as the average payoff by round, of each Strategy,
+ *   against each one of the other Strategies;
+ */
+public class LocalTournament {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The default maximum number of iterations of each Match
+	 */
+	private static final int DEFAULT_MAXIMUM_NUMBER_OF_ITERATIONS = 1000;
+
+	/**
+	 * The default probability to continue playing to the next iteration
+	 */
+	private static final double DEFAULT_PROBABILITY_FOR_NEXT_ITERATION = 1.0;
+
+	/**
+	 * The default number of Matches, by pairing
+	 */
+	private static final int DEFAULT_NUM_MATCHES_BY_PAIRING = 100;
+
+	/**
+	 * The number of Local Tournament Tasks, by thread, before the tasks stop being split
+	 */
+	private static final int TASKS_BY_THREAD = 64;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The Local Referee of the Matches
+	 */
+	private final LocalReferee referee;
+
+	/**
+	 * The builders of the Local Strategies of the Tournament
+	 */
+	private final List<Supplier<LocalStrategy>> strategies;
+
+	/**
+	 * The number of Matches, by pairing
+	 */
+	private final int numMatchesByPairing;
+
+	/**
+	 * The seed of the random numbers of the Tournament
+	 */
+	private final long seed;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Local Tournament.
+	 *
+	 * @param referee the Local Referee of the Matches
+	 *
+	 * @param strategies the builders of the Local Strategies of the Tournament
+	 *
+	 * @param numMatchesByPairing the number of Matches, by pairing
+	 *
+	 * @param seed the seed of the random numbers of the Tournament
+	 */
+	public LocalTournament(LocalReferee referee, List<Supplier<LocalStrategy>> strategies,
+						   int numMatchesByPairing, long seed) {
+		this.referee = referee;
+		this.strategies = new ArrayList<Supplier<LocalStrategy>>(strategies);
+		this.numMatchesByPairing = numMatchesByPairing;
+		this.seed = seed;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Plays all the pairings of the Local Tournament, using a given number of threads.
+	 *
+	 * @param numThreads the number of threads to play the pairings
+	 *
+	 * @return the results of the Local Tournament
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the pairings
+	 */
+	public LocalTournamentResult play(int numThreads) throws InterruptedException {
+		int numStrategies = this.strategies.size();
+
+		String[] names = new String[numStrategies];
+
+		for(int i = 0; i < numStrategies; i++) {
+			names[i] = this.strategies.get(i).get().getName();
+		}
+
+		// The pairings, as the indexes of both Strategies (including each one against itself)
+		int[][] pairings = new int[( numStrategies * ( numStrategies + 1 ) ) / 2][];
+
+		int numPairing = 0;
+
+		for(int i = 0; i < numStrategies; i++) {
+			for(int j = i; j < numStrategies; j++) {
+				pairings[numPairing++] = new int[] {i, j};
+			}
+		}
+
+		// The total scores and rounds, of each Strategy (rows) against each one of the others (columns)
+		LongAdder[][] scores = new LongAdder[numStrategies][numStrategies];
+		LongAdder[][] rounds = new LongAdder[numStrategies][numStrategies];
+
+		for(int i = 0; i < numStrategies; i++) {
+			for(int j = 0; j < numStrategies; j++) {
+				scores[i][j] = new LongAdder();
+				rounds[i][j] = new LongAdder();
+			}
+		}
+
+		long numMatches = (long) pairings.length * this.numMatchesByPairing;
+
+		// Many more tasks than threads, so the threads that finish their short Matches
+		// can steal the Matches not played yet, from the threads with long Matches
+		long grain = Math.max(1, numMatches / ( (long) numThreads * TASKS_BY_THREAD ));
+
+		ForkJoinPool pool = new ForkJoinPool(numThreads);
+
+		long startTime = System.nanoTime();
+
+		try {
+			pool.submit(new LocalTournamentTask(this.referee, this.strategies, pairings, this.numMatchesByPairing,
+												this.seed, scores, rounds, 0, numMatches, grain)).get();
+		}
+		catch(ExecutionException executionException) {
+			throw new IllegalStateException("A pairing of the Local Tournament failed!!!", executionException.getCause());
+		}
+		finally {
+			pool.shutdownNow();
+		}
+
+		long elapsedTime = System.nanoTime() - startTime;
+
+		long[][] totalScores = new long[numStrategies][numStrategies];
+		long[][] totalRounds = new long[numStrategies][numStrategies];
+
+		for(int i = 0; i < numStrategies; i++) {
+			for(int j = 0; j < numStrategies; j++) {
+				totalScores[i][j] = scores[i][j].sum();
+				totalRounds[i][j] = rounds[i][j].sum();
+			}
+		}
+
+		return new LocalTournamentResult(names, totalScores, totalRounds, elapsedTime);
+	}
+
+	/**
+	 * Plays the Local Tournament between the Strategies of the Gradual family,
+	 * printing the results in a given stream.
+	 *
+	 * Usage: LocalTournament [maximumNumberOfIterations] [probabilityForNextIteration] [numMatchesByPairing] [compiled]
+	 *
+	 * @param args the arguments of the Local Tournament
+	 *
+	 * @param out the stream where the results will be printed
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the pairings
+	 */
+	static void runCommand(String[] args, PrintStream out) throws InterruptedException {
+		int maximumNumberOfIterations = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_MAXIMUM_NUMBER_OF_ITERATIONS;
+		double probabilityForNextIteration = (args.length > 1) ? Double.parseDouble(args[1]) : DEFAULT_PROBABILITY_FOR_NEXT_ITERATION;
+		int numMatchesByPairing = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_NUM_MATCHES_BY_PAIRING;
+
+		// The Strategies can also be played by their compiled Gradual Machines
+		boolean compiled = (args.length > 3) && args[3].equalsIgnoreCase("compiled");
+
+		LocalReferee referee = new LocalReferee(new LocalGameTree(), maximumNumberOfIterations, probabilityForNextIteration);
+
+		LocalTournament tournament = new LocalTournament(referee,
+														 compiled ? LocalStrategies.compiledGradualFamily() : LocalStrategies.gradualFamily(),
+														 numMatchesByPairing, System.nanoTime());
+
+		LocalTournamentResult result = tournament.play(Runtime.getRuntime().availableProcessors());
+
+		result.print(out);
+	}
+
+	/**
+	 * Plays the Local Tournament between the Strategies of the Gradual family,
+	 * printing the results in the standard output (see runCommand, for the usage).
+	 *
+	 * @param args the arguments of the Local Tournament
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the pairings
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		runCommand(args, System.out);
+	}
+}
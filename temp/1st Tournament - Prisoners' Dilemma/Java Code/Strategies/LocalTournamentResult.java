@@ -0,0 +1,181 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.PrintStream;
+
+/**
+ * Class responsible for the results of a Local Tournament.
+ *
+ * Description:
+ * - A class responsible for keeping the total scores and rounds,
+ *   of each Strategy (rows) against each one of the others (columns),
+ *   and the time spent to play the Local Tournament;
+ */
+public class LocalTournamentResult {
+
+	// Global Instance Variables:
+
+	/**
+	 * The names of the Strategies of the Local Tournament
+	 */
+	private final String[] names;
+
+	/**
+	 * The total scores, of each Strategy against each one of the others
+	 */
+	private final long[][] scores;
+
+	/**
+	 * The total rounds, of each Strategy against each one of the others
+	 */
+	private final long[][] rounds;
+
+	/**
+	 * The time spent to play the Local Tournament (in nanoseconds)
+	 */
+	private final long elapsedTime;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new result of a Local Tournament.
+	 *
+	 * @param names the names of the Strategies of the Local Tournament
+	 *
+	 * @param scores the total scores, of each Strategy against each one of the others
+	 *
+	 * @param rounds the total rounds, of each Strategy against each one of the others
+	 *
+	 * @param elapsedTime the time spent to play the Local Tournament (in nanoseconds)
+	 */
+	public LocalTournamentResult(String[] names, long[][] scores, long[][] rounds, long elapsedTime) {
+		this.names = names;
+		this.scores = scores;
+		this.rounds = rounds;
+		this.elapsedTime = elapsedTime;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the names of the Strategies of the Local Tournament.
+	 *
+	 * @return the names of the Strategies of the Local Tournament
+	 */
+	public String[] getNames() {
+		return this.names.clone();
+	}
+
+	/**
+	 * Returns the average payoff by round, of a Strategy against another one.
+	 *
+	 * @param numStrategy the index of the Strategy
+	 *
+	 * @param numOpponent the index of the Opponent's Strategy
+	 *
+	 * @return the average payoff by round, of a Strategy against another one
+	 */
+	public double getAveragePayoff(int numStrategy, int numOpponent) {
+		long numRounds = this.rounds[numStrategy][numOpponent];
+
+		return (numRounds == 0) ? 0.0 : ( (double) this.scores[numStrategy][numOpponent] / numRounds );
+	}
+
+	/**
+	 * Returns the average payoff by round, of a Strategy against all the Strategies.
+	 *
+	 * @param numStrategy the index of the Strategy
+	 *
+	 * @return the average payoff by round, of a Strategy against all the Strategies
+	 */
+	public double getAveragePayoff(int numStrategy) {
+		long totalScore = 0;
+		long totalRounds = 0;
+
+		for(int numOpponent = 0; numOpponent < this.names.length; numOpponent++) {
+			totalScore += this.scores[numStrategy][numOpponent];
+			totalRounds += this.rounds[numStrategy][numOpponent];
+		}
+
+		return (totalRounds == 0) ? 0.0 : ( (double) totalScore / totalRounds );
+	}
+
+	/**
+	 * Returns the total number of rounds played in the Local Tournament.
+	 *
+	 * @return the total number of rounds played in the Local Tournament
+	 */
+	public long getTotalRounds() {
+		long totalRounds = 0;
+
+		for(long[] roundsOfStrategy : this.rounds) {
+			for(long numRounds : roundsOfStrategy) {
+				totalRounds += numRounds;
+			}
+		}
+
+		// Each round it's counted once for each one of the Strategies of the pairing
+		return (totalRounds / 2);
+	}
+
+	/**
+	 * Returns the time spent to play the Local Tournament (in nanoseconds).
+	 *
+	 * @return the time spent to play the Local Tournament (in nanoseconds)
+	 */
+	public long getElapsedTime() {
+		return this.elapsedTime;
+	}
+
+	/**
+	 * Prints the results of the Local Tournament, in a given stream.
+	 *
+	 * @param out the stream where the results will be printed
+	 */
+	public void print(PrintStream out) {
+		out.println("Average payoff by round (row against column):");
+		out.println();
+
+		// The width of the column of the names, to fit the longest one
+		int nameWidth = 1;
+
+		for(String name : this.names) {
+			nameWidth = Math.max(nameWidth, name.length() + 3);
+		}
+
+		for(int numStrategy = 0; numStrategy < this.names.length; numStrategy++) {
+			out.printf("%-" + nameWidth + "s", this.names[numStrategy]);
+
+			for(int numOpponent = 0; numOpponent < this.names.length; numOpponent++) {
+				out.printf(" %8.4f", this.getAveragePayoff(numStrategy, numOpponent));
+			}
+
+			out.printf("   | total: %8.4f%n", this.getAveragePayoff(numStrategy));
+		}
+
+		long totalRounds = this.getTotalRounds();
+		double elapsedSeconds = this.elapsedTime / 1e9;
+
+		out.println();
+		out.printf("Rounds played: %d in %.3f s (%.0f rounds/s)%n",
+				   totalRounds, elapsedSeconds, (elapsedSeconds > 0) ? (totalRounds / elapsedSeconds) : 0.0);
+	}
+}
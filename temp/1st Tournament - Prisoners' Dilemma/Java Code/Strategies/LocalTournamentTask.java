@@ -0,0 +1,250 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Class responsible for a task of the Local Tournament.
+ *
+ * Description:
+ * - A class responsible for playing a range of the Matches of a Local Tournament,
+ *   where all the Matches of all the pairings are numbered one after another
+ *   (the Matches of the first pairing, then the ones of the second pairing, and so on);
+ *
+ * - While the range it's bigger than a given grain, the task it's split in two halves,
+ *   and the idle threads of the Fork/Join Pool steal the halves not played yet,
+ *   so a pairing with long Matches (when the number of rounds it's drawn by the
+ *   probability for the next iteration) doesn't keep the other threads waiting;
+ *
+ * - Each task sums the scores and rounds of its pairings locally and adds them only once
+ *   to the accumulators of the Local Tournament (Long Adders, striped by thread),
+ *   so the threads don't compete to update the same cells;
+ */
+public class LocalTournamentTask extends RecursiveAction {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The serial version UID of the Local Tournament Task
+	 */
+	private static final long serialVersionUID = 1L;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The Local Referee of the Matches
+	 */
+	private final transient LocalReferee referee;
+
+	/**
+	 * The builders of the Local Strategies of the Tournament
+	 */
+	private final transient List<Supplier<LocalStrategy>> strategies;
+
+	/**
+	 * The pairings of the Local Tournament, as the indexes of both Strategies
+	 */
+	private final int[][] pairings;
+
+	/**
+	 * The number of Matches, by pairing
+	 */
+	private final int numMatchesByPairing;
+
+	/**
+	 * The seed of the random numbers of the Tournament
+	 */
+	private final long seed;
+
+	/**
+	 * The total scores, of each Strategy (rows) against each one of the others (columns)
+	 */
+	private final LongAdder[][] scores;
+
+	/**
+	 * The total rounds, of each Strategy (rows) against each one of the others (columns)
+	 */
+	private final LongAdder[][] rounds;
+
+	/**
+	 * The first Match of the range of the task (inclusive)
+	 */
+	private final long fromMatch;
+
+	/**
+	 * The last Match of the range of the task (exclusive)
+	 */
+	private final long toMatch;
+
+	/**
+	 * The maximum number of Matches played by a task, without being split
+	 */
+	private final long grain;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new task of a Local Tournament, for a given range of its Matches.
+	 *
+	 * @param referee the Local Referee of the Matches
+	 *
+	 * @param strategies the builders of the Local Strategies of the Tournament
+	 *
+	 * @param pairings the pairings of the Local Tournament, as the indexes of both Strategies
+	 *
+	 * @param numMatchesByPairing the number of Matches, by pairing
+	 *
+	 * @param seed the seed of the random numbers of the Tournament
+	 *
+	 * @param scores the total scores, of each Strategy against each one of the others
+	 *
+	 * @param rounds the total rounds, of each Strategy against each one of the others
+	 *
+	 * @param fromMatch the first Match of the range of the task (inclusive)
+	 *
+	 * @param toMatch the last Match of the range of the task (exclusive)
+	 *
+	 * @param grain the maximum number of Matches played by a task, without being split
+	 */
+	public LocalTournamentTask(LocalReferee referee, List<Supplier<LocalStrategy>> strategies,
+							   int[][] pairings, int numMatchesByPairing, long seed,
+							   LongAdder[][] scores, LongAdder[][] rounds,
+							   long fromMatch, long toMatch, long grain) {
+		this.referee = referee;
+		this.strategies = strategies;
+		this.pairings = pairings;
+		this.numMatchesByPairing = numMatchesByPairing;
+		this.seed = seed;
+		this.scores = scores;
+		this.rounds = rounds;
+		this.fromMatch = fromMatch;
+		this.toMatch = toMatch;
+		this.grain = Math.max(1, grain);
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Plays the range of Matches of the task, splitting it in two halves,
+	 * while it's bigger than the grain.
+	 */
+	@Override
+	protected void compute() {
+		if( (this.toMatch - this.fromMatch) > this.grain ) {
+			long middleMatch = ( this.fromMatch + this.toMatch ) >>> 1;
+
+			invokeAll(this.split(this.fromMatch, middleMatch), this.split(middleMatch, this.toMatch));
+		}
+		else {
+			this.playRange();
+		}
+	}
+
+	/**
+	 * Builds a new task, for a sub-range of the Matches of this task.
+	 *
+	 * @param from the first Match of the sub-range (inclusive)
+	 *
+	 * @param to the last Match of the sub-range (exclusive)
+	 *
+	 * @return the new task, for the sub-range of the Matches
+	 */
+	private LocalTournamentTask split(long from, long to) {
+		return new LocalTournamentTask(this.referee, this.strategies, this.pairings, this.numMatchesByPairing,
+									   this.seed, this.scores, this.rounds, from, to, this.grain);
+	}
+
+	/**
+	 * Plays all the Matches of the range of the task, adding the totals of each pairing
+	 * to the accumulators of the Local Tournament, once the pairing changes.
+	 */
+	private void playRange() {
+		int numStrategies = this.strategies.size();
+
+		int currentPairing = -1;
+
+		long scoreA = 0;
+		long scoreB = 0;
+		long numRounds = 0;
+
+		for(long numMatchOfTournament = this.fromMatch; numMatchOfTournament < this.toMatch; numMatchOfTournament++) {
+			int numPairing = (int) ( numMatchOfTournament / this.numMatchesByPairing );
+			int numMatch = (int) ( numMatchOfTournament % this.numMatchesByPairing );
+
+			if(numPairing != currentPairing) {
+				if(currentPairing >= 0) {
+					this.addPairingTotals(currentPairing, scoreA, scoreB, numRounds);
+				}
+
+				currentPairing = numPairing;
+
+				scoreA = 0;
+				scoreB = 0;
+				numRounds = 0;
+			}
+
+			int i = this.pairings[numPairing][0];
+			int j = this.pairings[numPairing][1];
+
+			// The same seed of each Match, as when each pairing was played by its own thread
+			long pairingSeed = this.seed + ( (long) i * numStrategies ) + j;
+
+			LocalMatchResult matchResult = this.referee.playMatch(this.strategies.get(i).get(), this.strategies.get(j).get(),
+																  ( pairingSeed * 31 ) + numMatch);
+
+			scoreA += matchResult.getScoreA();
+			scoreB += matchResult.getScoreB();
+			numRounds += matchResult.getNumRounds();
+		}
+
+		if(currentPairing >= 0) {
+			this.addPairingTotals(currentPairing, scoreA, scoreB, numRounds);
+		}
+	}
+
+	/**
+	 * Adds the totals of some Matches of a pairing to the accumulators of the Local Tournament.
+	 *
+	 * @param numPairing the index of the pairing
+	 *
+	 * @param scoreA the total score of the first Strategy of the pairing
+	 *
+	 * @param scoreB the total score of the second Strategy of the pairing
+	 *
+	 * @param numRounds the total number of rounds of the Matches
+	 */
+	private void addPairingTotals(int numPairing, long scoreA, long scoreB, long numRounds) {
+		int i = this.pairings[numPairing][0];
+		int j = this.pairings[numPairing][1];
+
+		this.scores[i][j].add(scoreA);
+		this.scores[j][i].add(scoreB);
+
+		// Against itself, both scores go to the same cell,
+		// so the rounds are also counted twice
+		this.rounds[i][j].add(numRounds);
+		this.rounds[j][i].add(numRounds);
+	}
+}
@@ -0,0 +1,70 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+/**
+ * Enumeration responsible for the levels of the messages of the Strategy Log.
+ *
+ * Description:
+ * - An enumeration responsible for the levels of the messages, from the most
+ *   detailed (the analysis of each decision) to the most severe (the errors);
+ *
+ * - The OFF level disables all the messages;
+ */
+public enum LogLevel {
+
+	/**
+	 * The level of the analysis of each decision, in each round
+	 */
+	DEBUG,
+
+	/**
+	 * The level of the progress of the Strategy (e.g., the Game Tree available)
+	 */
+	INFO,
+
+	/**
+	 * The level of the unexpected situations, that the Strategy can handle
+	 */
+	WARN,
+
+	/**
+	 * The level of the errors (e.g., a Strategy that doesn't match the current Game)
+	 */
+	ERROR,
+
+	/**
+	 * The level that disables all the messages
+	 */
+	OFF;
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns true if, the messages of a given level are enabled,
+	 * when this it's the minimum level enabled and false, otherwise.
+	 *
+	 * @param level the level of the messages
+	 *
+	 * @return true if, the messages of a given level are enabled,
+	 *         when this it's the minimum level enabled and false, otherwise
+	 */
+	public boolean enables(LogLevel level) {
+		return (level != OFF) && (level.ordinal() >= this.ordinal());
+	}
+}
@@ -0,0 +1,559 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.PrintStream;
+
+/**
+ * Class responsible for the Markov Payoff Engine.
+ *
+ * Description:
+ * - A class responsible for computing the exact expected scores of a Match between
+ *   two Match Machines (e.g., two Gradual Machines, or a Gradual Machine and a Classic Machine),
+ *   for any maximum number of iterations and any probability
+ *   to continue playing to the next iteration, without playing the Match;
+ *
+ * - The round r (counting from 0) of a Match it's played with probability p^r,
+ *   if r < N (where p it's the probability to continue and N the maximum number
+ *   of iterations), so the expected score of a Strategy it's the sum of its payoffs
+ *   in each round, discounted by p^r;
+ *
+ * - The joint state of the Match (the canonical counters of both Machines and their
+ *   actions in the last round) it's a node of a Markov chain where each node has only
+ *   one next node, since both Machines are deterministic; so, after a transient,
+ *   the chain repeats a cycle, and the value of each node of the cycle it's the
+ *   solution of the linear system V(i) = c(i) + p * V(next(i)), which it's solved
+ *   in closed form, by the sum of the geometric series of the cycle;
+ *
+ * - The first round and the last round (the round to play for safe of some variants)
+ *   don't follow the chain, so they are computed apart;
+ *
+ * - A node of the cycle repeats an earlier node when both make the same decisions,
+ *   in all the next rounds, even if a counter that only grows it's not the same
+ *   (e.g., the Opponent's "Cooperate" actions, once the "leeway" of the Hybrid Gradual
+ *   with Cooperates Leeway it's reached), so the mutual cooperation of that variant
+ *   it's also solved in closed form;
+ *
+ * - When the counters grow without any bound and the chain doesn't repeat itself
+ *   within a maximum number of nodes, the rounds are computed one by one, until
+ *   the maximum number of iterations or until the rounds not computed can't change
+ *   the expected scores more than a given tolerance (e.g., the pairings of the Hybrid
+ *   Gradual, where the punishments of both Strategies grow with all the "Defect" actions
+ *   of the Opponent, so its rounds of mutual cooperation get farther apart and the Match
+ *   never repeats itself);
+ *
+ * - Since both Machines don't depend on their seat, the Game where the first Machine
+ *   it's the Player no. 1 and the Game where it's the Player no. 2 follow the same
+ *   actions, so the scores of both Games are computed together;
+ */
+public class MarkovPayoffEngine {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The default maximum number of nodes of the Markov chain, explored to find its cycle
+	 */
+	public static final int DEFAULT_MAX_NODES = 1 << 16;
+
+	/**
+	 * The number of computations of the warm up, by pairing, in the command line
+	 */
+	private static final int NUM_WARM_UP_COMPUTATIONS = 50;
+
+	/**
+	 * The number of computations measured, by pairing, in the command line
+	 */
+	private static final int NUM_MEASURED_COMPUTATIONS = 20;
+
+	/**
+	 * The maximum change of the expected scores, accepted from the rounds not computed
+	 */
+	private static final double TAIL_TOLERANCE = 1e-9;
+
+	/**
+	 * The position of the counters of the first Machine, in the joint state
+	 */
+	private static final int OFFSET_A = 0;
+
+	/**
+	 * The position of the counters of the second Machine, in the joint state
+	 */
+	private static final int OFFSET_B = MatchMachine.STATE_SIZE;
+
+	/**
+	 * The position of the action of the first Machine in the last round, in the joint state
+	 */
+	static final int LAST_ACTION_A = 2 * MatchMachine.STATE_SIZE;
+
+	/**
+	 * The position of the action of the second Machine in the last round, in the joint state
+	 */
+	static final int LAST_ACTION_B = LAST_ACTION_A + 1;
+
+	/**
+	 * The size of the joint state
+	 */
+	static final int JOINT_STATE_SIZE = LAST_ACTION_B + 1;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The scores of the first Strategy in a round, by the actions of both Strategies
+	 * (2 * action of the first Strategy + action of the second Strategy)
+	 */
+	private final int[] roundScoresA = new int[4];
+
+	/**
+	 * The scores of the second Strategy in a round, by the actions of both Strategies
+	 * (2 * action of the first Strategy + action of the second Strategy)
+	 */
+	private final int[] roundScoresB = new int[4];
+
+	/**
+	 * The greatest absolute score of a Strategy in a round
+	 */
+	private final int maxAbsoluteRoundScore;
+
+	/**
+	 * The maximum number of nodes of the Markov chain, explored to find its cycle
+	 */
+	private final int maxNodes;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Markov Payoff Engine, for the payoffs of a given Local Game Tree.
+	 *
+	 * @param tree the Local Game Tree, with the payoffs of the Game
+	 *
+	 * @param maxNodes the maximum number of nodes of the Markov chain, explored to find its cycle
+	 */
+	public MarkovPayoffEngine(LocalGameTree tree, int maxNodes) {
+		int maxAbsoluteRoundScore = 0;
+
+		for(int actionA = 0; actionA < 2; actionA++) {
+			for(int actionB = 0; actionB < 2; actionB++) {
+				LocalGameNode leafOfGameA = tree.getNodeByIndex(tree.getLeafIndex(actionA, actionB));
+				LocalGameNode leafOfGameB = tree.getNodeByIndex(tree.getLeafIndex(actionB, actionA));
+
+				int actions = (2 * actionA) + actionB;
+
+				this.roundScoresA[actions] = leafOfGameA.getPayoffP1() + leafOfGameB.getPayoffP2();
+				this.roundScoresB[actions] = leafOfGameA.getPayoffP2() + leafOfGameB.getPayoffP1();
+
+				maxAbsoluteRoundScore = Math.max(maxAbsoluteRoundScore,
+												 Math.max(Math.abs(this.roundScoresA[actions]),
+														  Math.abs(this.roundScoresB[actions])));
+			}
+		}
+
+		this.maxAbsoluteRoundScore = maxAbsoluteRoundScore;
+		this.maxNodes = maxNodes;
+	}
+
+	/**
+	 * Constructor #2:
+	 * - Builds a new Markov Payoff Engine, for the payoffs of a given Local Game Tree,
+	 *   with the default maximum number of nodes of the Markov chain.
+	 *
+	 * @param tree the Local Game Tree, with the payoffs of the Game
+	 */
+	public MarkovPayoffEngine(LocalGameTree tree) {
+		this(tree, DEFAULT_MAX_NODES);
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Plays a round of both Machines, after the first one, updating the joint state
+	 * to the next node of the Markov chain.
+	 *
+	 * @param machineA the Match Machine of the first Strategy
+	 *
+	 * @param machineB the Match Machine of the second Strategy
+	 *
+	 * @param state the joint state of the Match
+	 *
+	 * @param playForSafeA true if, the round it's to play for safe, for the first Strategy
+	 *
+	 * @param playForSafeB true if, the round it's to play for safe, for the second Strategy
+	 *
+	 * @return the actions of both Strategies (2 * action of the first Strategy + action of the second Strategy)
+	 */
+	static int playRound(MatchMachine machineA, MatchMachine machineB, int[] state,
+						 boolean playForSafeA, boolean playForSafeB) {
+
+		boolean cooperatedA = (state[LAST_ACTION_A] == MoveLabelCodec.COOPERATE_ACTION);
+		boolean cooperatedB = (state[LAST_ACTION_B] == MoveLabelCodec.COOPERATE_ACTION);
+
+		int actionA = machineA.step(state, OFFSET_A, cooperatedB, playForSafeA);
+		int actionB = machineB.step(state, OFFSET_B, cooperatedA, playForSafeB);
+
+		machineA.canonicalize(state, OFFSET_A);
+		machineB.canonicalize(state, OFFSET_B);
+
+		state[LAST_ACTION_A] = actionA;
+		state[LAST_ACTION_B] = actionB;
+
+		return (2 * actionA) + actionB;
+	}
+
+	/**
+	 * Returns true if, a given node of the Markov chain and a later node make the same decisions,
+	 * in all the rounds after both of them (the same actions in the last round and counters
+	 * of both Machines that repeat themselves), and false, otherwise.
+	 *
+	 * @param machineA the Match Machine of the first Strategy
+	 *
+	 * @param machineB the Match Machine of the second Strategy
+	 *
+	 * @param before the joint state of the Match, in the first node
+	 *
+	 * @param after the joint state of the Match, in the later node
+	 *
+	 * @return true if, both nodes make the same decisions, in all the next rounds, and false, otherwise
+	 */
+	private static boolean repeats(MatchMachine machineA, MatchMachine machineB, int[] before, int[] after) {
+		return (before[LAST_ACTION_A] == after[LAST_ACTION_A]) && (before[LAST_ACTION_B] == after[LAST_ACTION_B]) &&
+			   machineA.repeats(before, after, OFFSET_A) && machineB.repeats(before, after, OFFSET_B);
+	}
+
+	/**
+	 * Returns the number of rounds, after the first one, that can change the expected scores
+	 * more than the tolerance, for a given probability to continue (the rounds r where
+	 * p^r * maxAbsoluteRoundScore / (1 - p) it's, at least, the tolerance).
+	 *
+	 * @param p the probability to continue playing to the next iteration
+	 *
+	 * @return the number of rounds, after the first one, that can change the expected scores
+	 */
+	private long getNumRelevantRounds(double p) {
+		if(p == 1) {
+			return Long.MAX_VALUE;
+		}
+
+		if( (p == 0) || (this.maxAbsoluteRoundScore == 0) ) {
+			return 0;
+		}
+
+		double numRounds = Math.log( (TAIL_TOLERANCE * (1 - p)) / this.maxAbsoluteRoundScore ) / Math.log(p);
+
+		return Math.max(0, (long) Math.ceil(numRounds));
+	}
+
+	/**
+	 * Returns the sum of the geometric series 1 + x + x^2 + ... + x^(n - 1).
+	 *
+	 * @param x the ratio of the series
+	 *
+	 * @param n the number of terms of the series
+	 *
+	 * @return the sum of the geometric series
+	 */
+	private static double geometricSum(double x, double n) {
+		return (x == 1) ? n : ( (1 - Math.pow(x, n)) / (1 - x) );
+	}
+
+	/**
+	 * Computes the expected scores of a Match between two Match Machines.
+	 *
+	 * @param machineA the Match Machine of the first Strategy
+	 *
+	 * @param machineB the Match Machine of the second Strategy
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations of the Match
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @return the expected scores of the Match
+	 */
+	public ExpectedMatchPayoff expectedPayoff(MatchMachine machineA, MatchMachine machineB,
+											  int maximumNumberOfIterations, double probabilityForNextIteration) {
+
+		if(maximumNumberOfIterations < 1) {
+			throw new IllegalArgumentException("The maximum number of iterations must be positive!!!");
+		}
+
+		if( (probabilityForNextIteration < 0) || (probabilityForNextIteration > 1) ) {
+			throw new IllegalArgumentException("The probability for the next iteration must be in [0, 1]!!!");
+		}
+
+		int n = maximumNumberOfIterations;
+		double p = probabilityForNextIteration;
+
+		double numRounds = geometricSum(p, n);
+
+		// The first round (played with probability 1)
+		int[] state = new int[JOINT_STATE_SIZE];
+
+		state[LAST_ACTION_A] = machineA.firstAction(n, p);
+		state[LAST_ACTION_B] = machineB.firstAction(n, p);
+
+		int firstActions = (2 * state[LAST_ACTION_A]) + state[LAST_ACTION_B];
+
+		double scoreA = this.roundScoresA[firstActions];
+		double scoreB = this.roundScoresB[firstActions];
+
+		if(n == 1) {
+			return new ExpectedMatchPayoff(scoreA, scoreB, numRounds, 0, 0, true);
+		}
+
+		// The rounds 1 to N - 2 follow the Markov chain, and the last round (N - 1)
+		// it's played for safe, by the variants that Defect in the last round
+		boolean playForSafeA = machineA.isPlayForSafe(2, p);
+		boolean playForSafeB = machineB.isPlayForSafe(2, p);
+
+		boolean lastPlayForSafeA = machineA.isPlayForSafe(1, p);
+		boolean lastPlayForSafeB = machineB.isPlayForSafe(1, p);
+
+		// The node k of the Markov chain it's the joint state before the round k + 1,
+		// and only the rounds that can change the expected scores more than
+		// the tolerance (and, at most, the maximum number of nodes) are explored
+		long numChainRounds = n - 2L;
+		long numRelevantRounds = Math.min(numChainRounds, this.getNumRelevantRounds(p));
+		long maxNodeExplored = Math.min(numRelevantRounds, this.maxNodes);
+
+		int[] firstNode = state.clone();
+
+		// Finds the length of the cycle, by the Brent's algorithm, keeping only two nodes
+		// (the tortoise and the hare), while the rounds walked by the hare are summed,
+		// to be used if there's no cycle
+		int[] tortoise = firstNode.clone();
+		int[] hare = firstNode.clone();
+
+		double walkScoreA = 0;
+		double walkScoreB = 0;
+		double walkWeight = p;
+
+		long hareNode = 0;
+		long power = 1;
+		long cycleLength = 0;
+
+		while( (hareNode < maxNodeExplored) && ( (hareNode == 0) || !repeats(machineA, machineB, tortoise, hare) ) ) {
+			if(power == cycleLength) {
+				System.arraycopy(hare, 0, tortoise, 0, JOINT_STATE_SIZE);
+				power *= 2;
+				cycleLength = 0;
+			}
+
+			int actions = playRound(machineA, machineB, hare, playForSafeA, playForSafeB);
+
+			walkScoreA += walkWeight * this.roundScoresA[actions];
+			walkScoreB += walkWeight * this.roundScoresB[actions];
+			walkWeight *= p;
+
+			hareNode++;
+			cycleLength++;
+		}
+
+		if( (hareNode == 0) || !repeats(machineA, machineB, tortoise, hare) ) {
+			cycleLength = 0;
+		}
+
+		if(cycleLength > 0) {
+
+			// Finds the length of the transient, with the hare a cycle ahead of the tortoise
+			System.arraycopy(firstNode, 0, tortoise, 0, JOINT_STATE_SIZE);
+			System.arraycopy(firstNode, 0, hare, 0, JOINT_STATE_SIZE);
+
+			for(long i = 0; i < cycleLength; i++) {
+				playRound(machineA, machineB, hare, playForSafeA, playForSafeB);
+			}
+
+			long transientLength = 0;
+
+			while(!repeats(machineA, machineB, tortoise, hare)) {
+				playRound(machineA, machineB, tortoise, playForSafeA, playForSafeB);
+				playRound(machineA, machineB, hare, playForSafeA, playForSafeB);
+				transientLength++;
+			}
+
+			// The transient of the Markov chain
+			System.arraycopy(firstNode, 0, state, 0, JOINT_STATE_SIZE);
+
+			double weight = p;
+
+			for(long k = 0; k < transientLength; k++) {
+				int actions = playRound(machineA, machineB, state, playForSafeA, playForSafeB);
+
+				if(k < numChainRounds) {
+					scoreA += weight * this.roundScoresA[actions];
+					scoreB += weight * this.roundScoresB[actions];
+					weight *= p;
+				}
+			}
+
+			// The cycle of the Markov chain, repeated until the round N - 2,
+			// as the solution of V(i) = c(i) + p * V(next(i)), along the cycle
+			if(numChainRounds > transientLength) {
+				long numCycleRounds = numChainRounds - transientLength;
+				long numFullCycles = numCycleRounds / cycleLength;
+				long numRemainingRounds = numCycleRounds % cycleLength;
+
+				double cycleScoreA = 0;
+				double cycleScoreB = 0;
+				double remainingScoreA = 0;
+				double remainingScoreB = 0;
+
+				double cycleWeight = 1;
+
+				for(long i = 0; i < cycleLength; i++) {
+					if(i == numRemainingRounds) {
+						remainingScoreA = cycleScoreA;
+						remainingScoreB = cycleScoreB;
+					}
+
+					int actions = playRound(machineA, machineB, state, playForSafeA, playForSafeB);
+
+					cycleScoreA += cycleWeight * this.roundScoresA[actions];
+					cycleScoreB += cycleWeight * this.roundScoresB[actions];
+					cycleWeight *= p;
+				}
+
+				double cyclesWeight = geometricSum(Math.pow(p, cycleLength), numFullCycles);
+				double remainingWeight = Math.pow(p, (double) numFullCycles * cycleLength);
+				double transientWeight = Math.pow(p, transientLength + 1);
+
+				scoreA += transientWeight * ( (cycleScoreA * cyclesWeight) + (remainingWeight * remainingScoreA) );
+				scoreB += transientWeight * ( (cycleScoreB * cyclesWeight) + (remainingWeight * remainingScoreB) );
+			}
+
+			// The last round, from the node of the round N - 1
+			long lastNode = (numChainRounds < transientLength) ? numChainRounds :
+								transientLength + ( (numChainRounds - transientLength) % cycleLength );
+
+			System.arraycopy(firstNode, 0, state, 0, JOINT_STATE_SIZE);
+
+			for(long k = 0; k < lastNode; k++) {
+				playRound(machineA, machineB, state, playForSafeA, playForSafeB);
+			}
+
+			int lastActions = playRound(machineA, machineB, state, lastPlayForSafeA, lastPlayForSafeB);
+			double lastWeight = Math.pow(p, numChainRounds + 1);
+
+			scoreA += lastWeight * this.roundScoresA[lastActions];
+			scoreB += lastWeight * this.roundScoresB[lastActions];
+
+			return new ExpectedMatchPayoff(scoreA, scoreB, numRounds, (int) transientLength, (int) cycleLength, true);
+		}
+
+		// Without any cycle, the rounds are played one by one, from the last node walked by the hare,
+		// until the round N - 2 or until the last round that can change the expected scores
+		scoreA += walkScoreA;
+		scoreB += walkScoreB;
+
+		double weight = walkWeight;
+
+		for(long k = hareNode; k < numRelevantRounds; k++) {
+			int actions = playRound(machineA, machineB, hare, playForSafeA, playForSafeB);
+
+			scoreA += weight * this.roundScoresA[actions];
+			scoreB += weight * this.roundScoresB[actions];
+			weight *= p;
+		}
+
+		boolean exact = (numRelevantRounds == numChainRounds) || (weight == 0);
+
+		if(numRelevantRounds == numChainRounds) {
+			int lastActions = playRound(machineA, machineB, hare, lastPlayForSafeA, lastPlayForSafeB);
+
+			scoreA += weight * this.roundScoresA[lastActions];
+			scoreB += weight * this.roundScoresB[lastActions];
+		}
+
+		return new ExpectedMatchPayoff(scoreA, scoreB, numRounds, ExpectedMatchPayoff.NO_CYCLE, 0, exact);
+	}
+
+	/**
+	 * Computes the expected scores of a Match between two Strategies of the Gradual family.
+	 *
+	 * @param variantA the variant of the Gradual family of the first Strategy
+	 *
+	 * @param variantB the variant of the Gradual family of the second Strategy
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations of the Match
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @return the expected scores of the Match
+	 */
+	public ExpectedMatchPayoff expectedPayoff(GradualVariant variantA, GradualVariant variantB,
+											  int maximumNumberOfIterations, double probabilityForNextIteration) {
+
+		return this.expectedPayoff(GradualMachine.of(variantA), GradualMachine.of(variantB),
+								   maximumNumberOfIterations, probabilityForNextIteration);
+	}
+
+	/**
+	 * Prints the expected scores, by round, of all the pairings of the Gradual family,
+	 * for a given maximum number of iterations and probability to continue.
+	 *
+	 * Usage: MarkovPayoffEngine [maximumNumberOfIterations] [probabilityForNextIteration]
+	 *
+	 * @param args the arguments of the Markov Payoff Engine
+	 *
+	 * @param out the stream where the results will be printed
+	 */
+	static void runCommand(String[] args, PrintStream out) {
+		int maximumNumberOfIterations = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+		double probabilityForNextIteration = (args.length > 1) ? Double.parseDouble(args[1]) : 1.0;
+
+		MarkovPayoffEngine engine = new MarkovPayoffEngine(new LocalGameTree());
+
+		out.printf("%-42s %-42s %10s %10s %12s %10s %8s %10s%n",
+				   "Strategy A", "Strategy B", "A/round", "B/round", "E[rounds]", "transient", "cycle", "us");
+
+		for(GradualVariant variantA : GradualVariant.values()) {
+			for(GradualVariant variantB : GradualVariant.values()) {
+				ExpectedMatchPayoff payoff = null;
+
+				// The first computations are only the warm up of the Just-In-Time compiler
+				for(int i = 0; i < NUM_WARM_UP_COMPUTATIONS; i++) {
+					payoff = engine.expectedPayoff(variantA, variantB, maximumNumberOfIterations, probabilityForNextIteration);
+				}
+
+				long startTime = System.nanoTime();
+
+				for(int i = 0; i < NUM_MEASURED_COMPUTATIONS; i++) {
+					payoff = engine.expectedPayoff(variantA, variantB, maximumNumberOfIterations, probabilityForNextIteration);
+				}
+
+				long elapsedTime = (System.nanoTime() - startTime) / NUM_MEASURED_COMPUTATIONS;
+
+				out.printf("%-42s %-42s %10.4f %10.4f %12.2f %10d %8d %10.1f%s%n",
+						   variantA.getStrategyName(), variantB.getStrategyName(),
+						   payoff.getScoreAByRound(), payoff.getScoreBByRound(), payoff.getNumRounds(),
+						   payoff.getTransientLength(), payoff.getCycleLength(), elapsedTime / 1e3,
+						   payoff.isExact() ? "" : " (truncated)");
+			}
+		}
+	}
+
+	/**
+	 * Runs the Markov Payoff Engine from the command line, printing the results in the standard output
+	 * (see runCommand, for the usage).
+	 *
+	 * @param args the arguments of the Markov Payoff Engine
+	 */
+	public static void main(String[] args) {
+		runCommand(args, System.out);
+	}
+}
@@ -0,0 +1,114 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+/**
+ * Interface responsible for a Match Machine.
+ *
+ * Description:
+ * - An interface responsible for the rules of a deterministic Player of a Match,
+ *   simulated by the Markov Payoff Engine and by the Deterministic Match Simulator
+ *   (e.g., a Gradual Machine, or one of the Classic Machines, as the Always Defect);
+ *
+ * - The Machine it's stateless and its counters are kept by the caller, in a slice
+ *   of the joint state of the Match, with STATE_SIZE positions, so the joint state
+ *   of a Match (the counters of both Machines and their actions in the last round)
+ *   it's the same int[], whatever the Machines of the Match;
+ *
+ * - The counters of a Machine must be reduced to their canonical form after each round,
+ *   so two equal joint states always make the same decisions, in all the next rounds,
+ *   and the recurrences of the joint state can be searched;
+ *
+ * - A counter that only grows, without changing any decision once it's large enough,
+ *   can't be reduced to a canonical form, so each Machine tells when its counters,
+ *   a cycle of rounds apart, make the same decisions in all the next rounds
+ *   (i.e., when they are equal, or when they only differ in a counter that grew,
+ *   past the values compared by the guards);
+ */
+public interface MatchMachine {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The number of positions of the counters of a Machine, in the joint state of a Match
+	 */
+	int STATE_SIZE = 8;
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns true if, the round it's to play for safe and false, otherwise.
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations remaining for the current Game
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @return true if, the round it's to play for safe and false, otherwise
+	 */
+	boolean isPlayForSafe(int maximumNumberOfIterations, double probabilityForNextIteration);
+
+	/**
+	 * Returns the action of the first round of a Game.
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations remaining for the current Game
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @return the action of the first round of a Game (COOPERATE_ACTION or DEFECT_ACTION)
+	 */
+	int firstAction(int maximumNumberOfIterations, double probabilityForNextIteration);
+
+	/**
+	 * Decides the action of a Player in a round, after the first one, updating its counters.
+	 *
+	 * @param state the joint state of the Match
+	 *
+	 * @param offset the position of the counters of the Player
+	 *
+	 * @param opponentCooperated true if, the Opponent Cooperated in the last round and false, otherwise
+	 *
+	 * @param playForSafe true if, the round it's to play for safe and false, otherwise
+	 *
+	 * @return the action of the Player in the round (COOPERATE_ACTION or DEFECT_ACTION)
+	 */
+	int step(int[] state, int offset, boolean opponentCooperated, boolean playForSafe);
+
+	/**
+	 * Reduces the counters of a Player to their canonical form.
+	 *
+	 * @param state the joint state of the Match
+	 *
+	 * @param offset the position of the counters of the Player
+	 */
+	void canonicalize(int[] state, int offset);
+
+	/**
+	 * Returns true if, the canonical counters of a Player, in a given round and in a later round,
+	 * make the same decisions, in all the rounds after both of them, as long as the Opponent repeats
+	 * the same actions, and false, otherwise.
+	 *
+	 * @param before the joint state of the Match, in the first round
+	 *
+	 * @param after the joint state of the Match, in the later round
+	 *
+	 * @param offset the position of the counters of the Player
+	 *
+	 * @return true if, the counters of the Player, in both rounds, make the same decisions and false, otherwise
+	 */
+	boolean repeats(int[] before, int[] after, int offset);
+}
@@ -0,0 +1,570 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.PrintStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Class responsible for the Moran Process.
+ *
+ * Description:
+ * - A class responsible for a frequency-dependent Moran Process (birth-death), over a Payoff Matrix:
+ *   in each step, an individual reproduces, with a probability proportional to its fitness,
+ *   and its offspring replaces an individual chosen uniformly at random;
+ *
+ * - The payoff of an individual it's its mean expected payoff by round against all the other
+ *   individuals of the population (without itself), and its fitness it's exp(w * payoff),
+ *   where w it's the intensity of the selection (so the fitness it's always positive,
+ *   whatever the payoffs of the Game);
+ *
+ * - The population it's kept only as the number of individuals of each Strategy, with the sums
+ *   of the payoffs of each Strategy against the population, updated when an individual it's replaced,
+ *   so each step costs O(k) (for k Strategies), whatever the size of the population and without any Match;
+ *
+ * - The steps where the offspring replaces an individual of the same Strategy don't change the population,
+ *   so they are skipped all at once, by drawing their number from a geometric distribution;
+ *
+ * - The fixation probability of a mutant in a population of residents it's estimated by many
+ *   replicates, played by the threads of a Fork/Join Pool (each replicate with its own stream
+ *   of a Counter Random, so the estimates don't depend on the number of threads),
+ *   and it's also computed exactly, for two Strategies, by the closed form of the birth-death chain;
+ */
+public class MoranProcess {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The maximum number of replicates played by a task, without being split
+	 */
+	private static final long REPLICATES_BY_TASK = 1L << 8;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The Payoff Matrix of the Strategies
+	 */
+	private final PayoffMatrix matrix;
+
+	/**
+	 * The number of individuals of the population
+	 */
+	private final int populationSize;
+
+	/**
+	 * The intensity of the selection (0, for a neutral drift)
+	 */
+	private final double selectionIntensity;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Moran Process, over a given Payoff Matrix.
+	 *
+	 * @param matrix the Payoff Matrix of the Strategies
+	 *
+	 * @param populationSize the number of individuals of the population
+	 *
+	 * @param selectionIntensity the intensity of the selection (0, for a neutral drift)
+	 */
+	public MoranProcess(PayoffMatrix matrix, int populationSize, double selectionIntensity) {
+		if(populationSize < 2) {
+			throw new IllegalArgumentException("The population must have, at least, 2 individuals!!!");
+		}
+
+		if( !(selectionIntensity >= 0) ) {
+			throw new IllegalArgumentException("The intensity of the selection can't be negative!!!");
+		}
+
+		this.matrix = matrix;
+		this.populationSize = populationSize;
+		this.selectionIntensity = selectionIntensity;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Evolves a population, until only one Strategy remains or until a given number of steps.
+	 *
+	 * @param counts the numbers of individuals of each Strategy (updated with the population reached)
+	 *
+	 * @param maxSteps the maximum number of steps
+	 *
+	 * @param random the Counter Random of the evolution
+	 *
+	 * @return the number of steps made (including the ones that didn't change the population)
+	 */
+	public long evolve(int[] counts, long maxSteps, CounterRandom random) {
+		int numStrategies = this.matrix.size();
+
+		if(counts.length != numStrategies) {
+			throw new IllegalArgumentException("There must be one count by Strategy of the Payoff Matrix!!!");
+		}
+
+		int total = 0;
+
+		for(int count : counts) {
+			total += count;
+		}
+
+		if(total != this.populationSize) {
+			throw new IllegalArgumentException("The counts must sum the number of individuals of the population!!!");
+		}
+
+		// The sums of the payoffs of each Strategy, against all the individuals of the population
+		double[] payoffSums = new double[numStrategies];
+
+		for(int i = 0; i < numStrategies; i++) {
+			for(int j = 0; j < numStrategies; j++) {
+				payoffSums[i] += counts[j] * this.matrix.get(i, j);
+			}
+		}
+
+		double[] birthWeights = new double[numStrategies];
+		double[] changeWeights = new double[numStrategies];
+
+		long numSteps = 0;
+
+		while(numSteps < maxSteps) {
+			double maxPayoff = Double.NEGATIVE_INFINITY;
+			int numPresent = 0;
+
+			for(int i = 0; i < numStrategies; i++) {
+				if(counts[i] > 0) {
+					maxPayoff = Math.max(maxPayoff, this.payoff(i, payoffSums));
+					numPresent++;
+				}
+			}
+
+			// Only one Strategy remains (it fixed)
+			if(numPresent == 1) {
+				break;
+			}
+
+			// The fitnesses are divided by the greatest one, which doesn't change the probabilities
+			double birthTotal = 0;
+			double changeTotal = 0;
+
+			for(int i = 0; i < numStrategies; i++) {
+				birthWeights[i] = (counts[i] > 0) ?
+									( counts[i] * Math.exp(this.selectionIntensity * (this.payoff(i, payoffSums) - maxPayoff)) ) : 0;
+				changeWeights[i] = birthWeights[i] * (this.populationSize - counts[i]);
+
+				birthTotal += birthWeights[i];
+				changeTotal += changeWeights[i];
+			}
+
+			// The steps until the offspring replaces an individual of another Strategy
+			double probabilityOfChange = changeTotal / (birthTotal * this.populationSize);
+
+			long numStepsUntilChange = 1;
+
+			if(probabilityOfChange < 1) {
+				double u = 1.0 - random.nextDouble();
+
+				numStepsUntilChange += (long) Math.floor(Math.log(u) / Math.log1p(-probabilityOfChange));
+			}
+
+			if( (numStepsUntilChange < 0) || (numStepsUntilChange > maxSteps - numSteps) ) {
+				return maxSteps;
+			}
+
+			numSteps += numStepsUntilChange;
+
+			int born = choose(changeWeights, changeTotal, random);
+
+			// The individual replaced, uniformly, from the individuals of the other Strategies
+			double deathTarget = random.nextDouble() * (this.populationSize - counts[born]);
+			int died = -1;
+
+			for(int i = 0; i < numStrategies; i++) {
+				if( (i != born) && (counts[i] > 0) ) {
+					died = i;
+					deathTarget -= counts[i];
+
+					if(deathTarget < 0) {
+						break;
+					}
+				}
+			}
+
+			counts[born]++;
+			counts[died]--;
+
+			for(int i = 0; i < numStrategies; i++) {
+				payoffSums[i] += this.matrix.get(i, born) - this.matrix.get(i, died);
+			}
+		}
+
+		return numSteps;
+	}
+
+	/**
+	 * Returns the payoff of an individual of a Strategy, against all the other individuals of the population.
+	 *
+	 * @param i the index of the Strategy
+	 *
+	 * @param payoffSums the sums of the payoffs of each Strategy, against all the individuals of the population
+	 *
+	 * @return the payoff of an individual of the Strategy
+	 */
+	private double payoff(int i, double[] payoffSums) {
+		return ( payoffSums[i] - this.matrix.get(i, i) ) / (this.populationSize - 1);
+	}
+
+	/**
+	 * Returns the index of a weight, chosen with a probability proportional to it.
+	 *
+	 * @param weights the weights
+	 *
+	 * @param total the sum of the weights
+	 *
+	 * @param random the Counter Random of the evolution
+	 *
+	 * @return the index of the weight chosen
+	 */
+	private static int choose(double[] weights, double total, CounterRandom random) {
+		double target = random.nextDouble() * total;
+		int last = 0;
+
+		for(int i = 0; i < weights.length; i++) {
+			if(weights[i] > 0) {
+				last = i;
+				target -= weights[i];
+
+				if(target < 0) {
+					return i;
+				}
+			}
+		}
+
+		return last;
+	}
+
+	/**
+	 * Returns the exact fixation probability of one mutant, in a population of residents,
+	 * by the closed form of the birth-death chain: 1 / (1 + sum(k = 1..N-1) prod(i = 1..k) fB(i) / fA(i)),
+	 * computed with logarithms (so the products don't overflow).
+	 *
+	 * @param mutant the index of the Strategy of the mutant
+	 *
+	 * @param resident the index of the Strategy of the residents
+	 *
+	 * @return the exact fixation probability of the mutant
+	 */
+	public double exactFixationProbability(int mutant, int resident) {
+		int n = this.populationSize;
+
+		double aa = this.matrix.get(mutant, mutant);
+		double ab = this.matrix.get(mutant, resident);
+		double ba = this.matrix.get(resident, mutant);
+		double bb = this.matrix.get(resident, resident);
+
+		// The logarithms of the products, and the greatest one (to sum their exponentials without overflow)
+		double[] logProducts = new double[n];
+		double logProduct = 0;
+		double maxLogProduct = 0;
+
+		for(int i = 1; i < n; i++) {
+			double payoffMutant = ( (aa * (i - 1)) + (ab * (n - i)) ) / (n - 1);
+			double payoffResident = ( (ba * i) + (bb * (n - i - 1)) ) / (n - 1);
+
+			logProduct += this.selectionIntensity * (payoffResident - payoffMutant);
+			logProducts[i] = logProduct;
+			maxLogProduct = Math.max(maxLogProduct, logProduct);
+		}
+
+		double sum = Math.exp(-maxLogProduct);
+
+		for(int i = 1; i < n; i++) {
+			sum += Math.exp(logProducts[i] - maxLogProduct);
+		}
+
+		return Math.exp( -(maxLogProduct + Math.log(sum)) );
+	}
+
+	/**
+	 * Estimates the fixation probability of one mutant, in a population of residents,
+	 * by a given number of replicates, played by a given number of threads.
+	 *
+	 * @param mutant the index of the Strategy of the mutant
+	 *
+	 * @param resident the index of the Strategy of the residents
+	 *
+	 * @param numReplicates the number of replicates
+	 *
+	 * @param seed the key of the Counter Random (each replicate uses its own stream)
+	 *
+	 * @param numThreads the number of threads to play the replicates
+	 *
+	 * @return the statistics of the fixation of the mutant (1, if it fixed, or 0, otherwise)
+	 *         and of the number of generations (of N steps) until only one Strategy remains
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the replicates
+	 */
+	public RunningStatistics[] estimateFixationProbability(int mutant, int resident, long numReplicates,
+														   long seed, int numThreads) throws InterruptedException {
+
+		if(mutant == resident) {
+			throw new IllegalArgumentException("The mutant and the residents must be of different Strategies!!!");
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(numThreads);
+
+		try {
+			long firstStream = ( (mutant * (long) this.matrix.size()) + resident ) * numReplicates;
+
+			return pool.submit(new ReplicateRangeTask(mutant, resident, seed, firstStream, 0, numReplicates)).get();
+		}
+		catch(ExecutionException executionException) {
+			throw new IllegalStateException("A replicate of the Moran Process failed!!!", executionException.getCause());
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Plays a range of the replicates of the fixation of one mutant, in a population of residents.
+	 *
+	 * @param mutant the index of the Strategy of the mutant
+	 *
+	 * @param resident the index of the Strategy of the residents
+	 *
+	 * @param seed the key of the Counter Random
+	 *
+	 * @param firstStream the stream of the Counter Random of the first replicate
+	 *
+	 * @param fromReplicate the first replicate of the range (inclusive)
+	 *
+	 * @param toReplicate the last replicate of the range (exclusive)
+	 *
+	 * @return the statistics of the fixation of the mutant and of the number of generations until the fixation
+	 */
+	private RunningStatistics[] playReplicates(int mutant, int resident, long seed, long firstStream,
+											   long fromReplicate, long toReplicate) {
+
+		RunningStatistics fixations = new RunningStatistics();
+		RunningStatistics generations = new RunningStatistics();
+
+		CounterRandom random = new CounterRandom(seed);
+
+		int[] counts = new int[this.matrix.size()];
+
+		for(long numReplicate = fromReplicate; numReplicate < toReplicate; numReplicate++) {
+			random.setStream(firstStream + numReplicate);
+
+			counts[mutant] = 1;
+			counts[resident] = this.populationSize - 1;
+
+			long numSteps = this.evolve(counts, Long.MAX_VALUE, random);
+
+			fixations.add( (counts[mutant] == this.populationSize) ? 1.0 : 0.0 );
+			generations.add( (double) numSteps / this.populationSize );
+
+			counts[mutant] = 0;
+			counts[resident] = 0;
+		}
+
+		return new RunningStatistics[] {fixations, generations};
+	}
+
+	/**
+	 * Prints the Payoff Matrix of the Gradual family and the estimated and the exact fixation
+	 * probabilities of one mutant of each Strategy, in a population of each one of the others.
+	 *
+	 * Usage: MoranProcess [maximumNumberOfIterations] [probabilityForNextIteration] [populationSize]
+	 *                     [selectionIntensity] [numReplicates] [seed] [numThreads]
+	 *
+	 * @param args the arguments of the Moran Process
+	 *
+	 * @param out the stream where the results will be printed
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the replicates
+	 */
+	static void runCommand(String[] args, PrintStream out) throws InterruptedException {
+		int maximumNumberOfIterations = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+		double probabilityForNextIteration = (args.length > 1) ? Double.parseDouble(args[1]) : 0.99;
+		int populationSize = (args.length > 2) ? Integer.parseInt(args[2]) : 1000;
+		double selectionIntensity = (args.length > 3) ? Double.parseDouble(args[3]) : 0.01;
+		long numReplicates = (args.length > 4) ? Long.parseLong(args[4]) : 100000L;
+		long seed = (args.length > 5) ? Long.parseLong(args[5]) : 1L;
+		int numThreads = (args.length > 6) ? Integer.parseInt(args[6]) : Runtime.getRuntime().availableProcessors();
+
+		long startTime = System.nanoTime();
+
+		PayoffMatrix matrix = PayoffMatrix.ofGradualFamily(new LocalGameTree(), maximumNumberOfIterations, probabilityForNextIteration);
+
+		out.printf("Payoff Matrix (computed once, in %.3f ms):%n", (System.nanoTime() - startTime) / 1e6);
+
+		matrix.print(out);
+
+		MoranProcess moranProcess = new MoranProcess(matrix, populationSize, selectionIntensity);
+
+		out.printf("%nFixation probabilities (N = %d, w = %s, %d replicates, neutral = %.6f):%n",
+				   populationSize, selectionIntensity, numReplicates, 1.0 / populationSize);
+
+		out.printf("%-8s %-8s %12s %12s %12s %12s %10s%n",
+				   "mutant", "resident", "estimated", "+/- (95%)", "exact", "vs neutral", "gens");
+
+		for(int mutant = 0; mutant < matrix.size(); mutant++) {
+			for(int resident = 0; resident < matrix.size(); resident++) {
+				if(mutant == resident) {
+					continue;
+				}
+
+				startTime = System.nanoTime();
+
+				RunningStatistics[] statistics = moranProcess.estimateFixationProbability(mutant, resident, numReplicates,
+																						  seed, numThreads);
+
+				double exact = moranProcess.exactFixationProbability(mutant, resident);
+
+				out.printf("%-8s %-8s %12.6f %12.6f %12.6f %12.3f %10.1f  (%.3f s)%n",
+						   "#" + mutant, "#" + resident, statistics[0].getMean(), statistics[0].getConfidenceHalfWidth(),
+						   exact, exact * populationSize, statistics[1].getMean(),
+						   (System.nanoTime() - startTime) / 1e9);
+			}
+		}
+	}
+
+	/**
+	 * Runs the Moran Process from the command line, printing the results in the standard output
+	 * (see runCommand, for the usage).
+	 *
+	 * @param args the arguments of the Moran Process
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the replicates
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		runCommand(args, System.out);
+	}
+
+
+	// Auxiliary Classes:
+
+	/**
+	 * Class responsible for a task of the Moran Process.
+	 *
+	 * Description:
+	 * - A class responsible for playing a range of the replicates of the fixation of one mutant,
+	 *   split in two halves while it's bigger than REPLICATES_BY_TASK,
+	 *   merging the statistics of both halves;
+	 */
+	private final class ReplicateRangeTask extends RecursiveTask<RunningStatistics[]> {
+
+		/**
+		 * The serial version UID of the task
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The index of the Strategy of the mutant
+		 */
+		private final int mutant;
+
+		/**
+		 * The index of the Strategy of the residents
+		 */
+		private final int resident;
+
+		/**
+		 * The key of the Counter Random
+		 */
+		private final long seed;
+
+		/**
+		 * The stream of the Counter Random of the first replicate
+		 */
+		private final long firstStream;
+
+		/**
+		 * The first replicate of the range (inclusive)
+		 */
+		private final long fromReplicate;
+
+		/**
+		 * The last replicate of the range (exclusive)
+		 */
+		private final long toReplicate;
+
+		/**
+		 * Constructor #1:
+		 * - Builds a new task, for a range of the replicates.
+		 *
+		 * @param mutant the index of the Strategy of the mutant
+		 *
+		 * @param resident the index of the Strategy of the residents
+		 *
+		 * @param seed the key of the Counter Random
+		 *
+		 * @param firstStream the stream of the Counter Random of the first replicate
+		 *
+		 * @param fromReplicate the first replicate of the range (inclusive)
+		 *
+		 * @param toReplicate the last replicate of the range (exclusive)
+		 */
+		private ReplicateRangeTask(int mutant, int resident, long seed, long firstStream,
+								   long fromReplicate, long toReplicate) {
+
+			this.mutant = mutant;
+			this.resident = resident;
+			this.seed = seed;
+			this.firstStream = firstStream;
+			this.fromReplicate = fromReplicate;
+			this.toReplicate = toReplicate;
+		}
+
+		/**
+		 * Plays the range of replicates, splitting it in two halves, while it's bigger than REPLICATES_BY_TASK.
+		 *
+		 * @return the statistics of the fixation of the mutant and of the number of generations until the fixation
+		 */
+		@Override
+		protected RunningStatistics[] compute() {
+			if( (this.toReplicate - this.fromReplicate) <= REPLICATES_BY_TASK ) {
+				return playReplicates(this.mutant, this.resident, this.seed, this.firstStream,
+									  this.fromReplicate, this.toReplicate);
+			}
+
+			long middleReplicate = ( this.fromReplicate + this.toReplicate ) >>> 1;
+
+			ReplicateRangeTask firstHalf = new ReplicateRangeTask(this.mutant, this.resident, this.seed, this.firstStream,
+																  this.fromReplicate, middleReplicate);
+			ReplicateRangeTask secondHalf = new ReplicateRangeTask(this.mutant, this.resident, this.seed, this.firstStream,
+																   middleReplicate, this.toReplicate);
+
+			ForkJoinTask.invokeAll(firstHalf, secondHalf);
+
+			// Always merged in the same order, so the statistics don't depend on the threads
+			RunningStatistics[] statistics = firstHalf.join();
+			RunningStatistics[] statisticsOfSecondHalf = secondHalf.join();
+
+			statistics[0].merge(statisticsOfSecondHalf[0]);
+			statistics[1].merge(statisticsOfSecondHalf[1]);
+
+			return statistics;
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Class responsible for the Move Label Codec.
+ *
+ * Description:
+ * - A class responsible for parsing the labels of the moves of a Game Tree ("player:node:action"),
+ *   only once, when the Strategy Vector it's bound to the keys of the Game Tree, into primitive arrays,
+ *   addressed by the ordinal of each move: the Player of the move and its action;
+ *
+ * - In each round, the Strategies only read those arrays, so they never split, parse or compare
+ *   the labels of the moves again;
+ *
+ * - The ordinals of the moves are also kept by label, so the labels found in the paths
+ *   of the Game Tree are translated to ordinals without parsing them;
+ *
+ * - It's immutable, after it's built;
+ */
+public final class MoveLabelCodec {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The available "Cooperate" action
+	 */
+	public static final String COOPERATE = "Cooperate";
+
+	/**
+	 * The available "Defect" action
+	 */
+	public static final String DEFECT = "Defect";
+
+	/**
+	 * The ordinal of the "Cooperate" action, in each information set
+	 */
+	public static final int COOPERATE_ACTION = 0;
+
+	/**
+	 * The ordinal of the "Defect" action, in each information set
+	 */
+	public static final int DEFECT_ACTION = 1;
+
+	/**
+	 * The action of a move which label isn't a "Cooperate" nor a "Defect" action
+	 */
+	public static final int UNKNOWN_ACTION = -1;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The Players of the moves, by ordinal (or -1, if the label has no Player)
+	 */
+	private final int[] players;
+
+	/**
+	 * The actions of the moves, by ordinal (COOPERATE_ACTION, DEFECT_ACTION or UNKNOWN_ACTION)
+	 */
+	private final int[] actions;
+
+	/**
+	 * The ordinals of the moves, by label
+	 */
+	private final Map<String, Integer> ordinalsByLabel;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Move Label Codec, parsing the given labels of the moves, by ordinal.
+	 *
+	 * @param labels the labels of the moves, by ordinal
+	 */
+	public MoveLabelCodec(String[] labels) {
+		this.players = new int[labels.length];
+		this.actions = new int[labels.length];
+		this.ordinalsByLabel = new HashMap<String, Integer>();
+
+		for(int move = 0; move < labels.length; move++) {
+			String label = labels[move];
+
+			this.ordinalsByLabel.put(label, move);
+
+			int firstSeparator = label.indexOf(':');
+			int lastSeparator = label.lastIndexOf(':');
+
+			this.players[move] = -1;
+			this.actions[move] = UNKNOWN_ACTION;
+
+			// The labels which aren't "player:node:action" are kept without Player or action
+			if( (firstSeparator < 0) || (firstSeparator == lastSeparator) ) {
+				continue;
+			}
+
+			try {
+				this.players[move] = Integer.parseInt(label.substring(0, firstSeparator));
+			}
+			catch(NumberFormatException numberFormatException) {
+				continue;
+			}
+
+			String action = label.substring(lastSeparator + 1);
+
+			if(action.equalsIgnoreCase(COOPERATE)) {
+				this.actions[move] = COOPERATE_ACTION;
+			}
+			else if(action.equalsIgnoreCase(DEFECT)) {
+				this.actions[move] = DEFECT_ACTION;
+			}
+		}
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the number of moves of the Move Label Codec.
+	 *
+	 * @return the number of moves of the Move Label Codec
+	 */
+	public int size() {
+		return this.actions.length;
+	}
+
+	/**
+	 * Returns the Player of the move related to a given ordinal.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @return the Player of the move (or -1, if its label has no Player)
+	 */
+	public int getPlayer(int move) {
+		return this.players[move];
+	}
+
+	/**
+	 * Returns the action of the move related to a given ordinal.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @return the action of the move (COOPERATE_ACTION, DEFECT_ACTION or UNKNOWN_ACTION)
+	 */
+	public int getAction(int move) {
+		return this.actions[move];
+	}
+
+	/**
+	 * Returns true if, the move related to a given ordinal it's a "Cooperate" action and false, otherwise.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @return true if, the move related to a given ordinal it's a "Cooperate" action and false, otherwise
+	 */
+	public boolean isCooperate(int move) {
+		return this.actions[move] == COOPERATE_ACTION;
+	}
+
+	/**
+	 * Returns true if, the move related to a given ordinal it's a "Defect" action and false, otherwise.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @return true if, the move related to a given ordinal it's a "Defect" action and false, otherwise
+	 */
+	public boolean isDefect(int move) {
+		return this.actions[move] == DEFECT_ACTION;
+	}
+
+	/**
+	 * Returns the ordinal of the move related to a given label.
+	 *
+	 * @param label the label of the move
+	 *
+	 * @return the ordinal of the move (or -1, if there's no move with that label)
+	 */
+	public int ordinalOf(String label) {
+		Integer move = this.ordinalsByLabel.get(label);
+
+		return (move != null) ? move : -1;
+	}
+}
@@ -0,0 +1,632 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.PrintStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Class responsible for the Noisy Monte Carlo Tournament.
+ *
+ * Description:
+ * - A class responsible for a round-robin Tournament between the Strategies of the Gradual family,
+ *   played by their compiled Gradual Machines, with a trembling hand: each action it's flipped
+ *   with a probability of execution error, and each action seen by the Opponent it's flipped
+ *   with a probability of perception error (so both Players may disagree about the past);
+ *
+ * - Without any noise, the number of rounds of each Match it's drawn at once,
+ *   and the Match it's simulated by the Deterministic Match Simulator,
+ *   that fast-forwards the Matches that enter a periodic regime;
+ *
+ * - Each Match has its own stream of a Counter Random (identified by the pairing and the number
+ *   of the Match), so the results only depend on the seed, and not on the number of threads;
+ *
+ * - The Matches are played in batches, by a Fork/Join Pool, and, after each batch,
+ *   the mean, the standard deviation and the confidence interval (95%) of the payoff by round
+ *   of both Strategies of each pairing are printed, so the estimates can be followed
+ *   while the Tournament it's played;
+ */
+public class NoisyMonteCarloTournament {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The default maximum number of iterations of each Match
+	 */
+	private static final int DEFAULT_MAXIMUM_NUMBER_OF_ITERATIONS = 1000;
+
+	/**
+	 * The default probability to continue playing to the next iteration
+	 */
+	private static final double DEFAULT_PROBABILITY_FOR_NEXT_ITERATION = 0.99;
+
+	/**
+	 * The default probability of an action being flipped, when it's played
+	 */
+	private static final double DEFAULT_EXECUTION_NOISE = 0.01;
+
+	/**
+	 * The default probability of an action being flipped, when it's seen by the Opponent
+	 */
+	private static final double DEFAULT_PERCEPTION_NOISE = 0.0;
+
+	/**
+	 * The default number of Matches, by pairing
+	 */
+	private static final long DEFAULT_NUM_MATCHES_BY_PAIRING = 1000000L;
+
+	/**
+	 * The number of Matches of each batch, by pairing, before the estimates are printed
+	 */
+	private static final long NUM_MATCHES_BY_BATCH = 1L << 18;
+
+	/**
+	 * The maximum number of Matches played by a task, without being split
+	 */
+	private static final long MATCHES_BY_TASK = 1L << 11;
+
+	/**
+	 * The offset of the state of the first Strategy, as Player no. 1
+	 */
+	private static final int OFFSET_A_AS_P1 = 0;
+
+	/**
+	 * The offset of the state of the first Strategy, as Player no. 2
+	 */
+	private static final int OFFSET_A_AS_P2 = GradualMachine.STATE_SIZE;
+
+	/**
+	 * The offset of the state of the second Strategy, as Player no. 1
+	 */
+	private static final int OFFSET_B_AS_P1 = 2 * GradualMachine.STATE_SIZE;
+
+	/**
+	 * The offset of the state of the second Strategy, as Player no. 2
+	 */
+	private static final int OFFSET_B_AS_P2 = 3 * GradualMachine.STATE_SIZE;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The payoffs of the Player no. 1, by the actions of the Player no. 1 and of the Player no. 2
+	 */
+	private final int[][] payoffsP1 = new int[2][2];
+
+	/**
+	 * The payoffs of the Player no. 2, by the actions of the Player no. 1 and of the Player no. 2
+	 */
+	private final int[][] payoffsP2 = new int[2][2];
+
+	/**
+	 * The Deterministic Match Simulator, for the Matches without any noise
+	 */
+	private final DeterministicMatchSimulator simulator;
+
+	/**
+	 * The Strategies of the Tournament
+	 */
+	private final GradualVariant[] variants;
+
+	/**
+	 * The maximum number of iterations of each Match
+	 */
+	private final int maximumNumberOfIterations;
+
+	/**
+	 * The probability to continue playing to the next iteration
+	 */
+	private final double probabilityForNextIteration;
+
+	/**
+	 * The probability of an action being flipped, when it's played
+	 */
+	private final double executionNoise;
+
+	/**
+	 * The probability of an action being flipped, when it's seen by the Opponent
+	 */
+	private final double perceptionNoise;
+
+	/**
+	 * The number of Matches, by pairing
+	 */
+	private final long numMatchesByPairing;
+
+	/**
+	 * The seed of the random numbers of the Tournament
+	 */
+	private final long seed;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Noisy Monte Carlo Tournament.
+	 *
+	 * @param tree the Local Game Tree of the Matches
+	 *
+	 * @param variants the Strategies of the Tournament
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations of each Match
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @param executionNoise the probability of an action being flipped, when it's played
+	 *
+	 * @param perceptionNoise the probability of an action being flipped, when it's seen by the Opponent
+	 *
+	 * @param numMatchesByPairing the number of Matches, by pairing
+	 *
+	 * @param seed the seed of the random numbers of the Tournament
+	 */
+	public NoisyMonteCarloTournament(LocalGameTree tree, GradualVariant[] variants,
+									 int maximumNumberOfIterations, double probabilityForNextIteration,
+									 double executionNoise, double perceptionNoise,
+									 long numMatchesByPairing, long seed) {
+
+		if(maximumNumberOfIterations < 1) {
+			throw new IllegalArgumentException("The maximum number of iterations must be positive!!!");
+		}
+
+		if( (probabilityForNextIteration < 0) || (probabilityForNextIteration > 1) ) {
+			throw new IllegalArgumentException("The probability for the next iteration must be in [0, 1]!!!");
+		}
+
+		if( (executionNoise < 0) || (executionNoise > 1) || (perceptionNoise < 0) || (perceptionNoise > 1) ) {
+			throw new IllegalArgumentException("The probabilities of the noise must be in [0, 1]!!!");
+		}
+
+		for(int actionP1 = 0; actionP1 < 2; actionP1++) {
+			for(int actionP2 = 0; actionP2 < 2; actionP2++) {
+				LocalGameNode leaf = tree.getNodeByIndex(tree.getLeafIndex(actionP1, actionP2));
+
+				this.payoffsP1[actionP1][actionP2] = leaf.getPayoffP1();
+				this.payoffsP2[actionP1][actionP2] = leaf.getPayoffP2();
+			}
+		}
+
+		this.simulator = new DeterministicMatchSimulator(tree);
+		this.variants = variants.clone();
+		this.maximumNumberOfIterations = maximumNumberOfIterations;
+		this.probabilityForNextIteration = probabilityForNextIteration;
+		this.executionNoise = executionNoise;
+		this.perceptionNoise = perceptionNoise;
+		this.numMatchesByPairing = numMatchesByPairing;
+		this.seed = seed;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Plays all the pairings of the Noisy Monte Carlo Tournament, using a given number of threads,
+	 * and printing the estimates of all the pairings, after each batch of Matches.
+	 *
+	 * @param numThreads the number of threads to play the Matches
+	 *
+	 * @param out the stream where the estimates will be printed (or null, to not print them)
+	 *
+	 * @return the statistics of the payoff by round, of each Strategy (rows) against each one of the others (columns)
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the Matches
+	 */
+	public RunningStatistics[][] play(int numThreads, PrintStream out) throws InterruptedException {
+		int numStrategies = this.variants.length;
+
+		RunningStatistics[][] statistics = new RunningStatistics[numStrategies][numStrategies];
+
+		for(int i = 0; i < numStrategies; i++) {
+			for(int j = 0; j < numStrategies; j++) {
+				statistics[i][j] = new RunningStatistics();
+			}
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(numThreads);
+
+		long startTime = System.nanoTime();
+
+		try {
+			for(long fromMatch = 0; fromMatch < this.numMatchesByPairing; fromMatch += NUM_MATCHES_BY_BATCH) {
+				long toMatch = Math.min(this.numMatchesByPairing, fromMatch + NUM_MATCHES_BY_BATCH);
+
+				MatchRangeTask[] tasks = new MatchRangeTask[( numStrategies * ( numStrategies + 1 ) ) / 2];
+
+				int numPairing = 0;
+
+				for(int i = 0; i < numStrategies; i++) {
+					for(int j = i; j < numStrategies; j++) {
+						tasks[numPairing] = new MatchRangeTask(i, j, numPairing, fromMatch, toMatch);
+						pool.execute(tasks[numPairing++]);
+					}
+				}
+
+				numPairing = 0;
+
+				for(int i = 0; i < numStrategies; i++) {
+					for(int j = i; j < numStrategies; j++) {
+						RunningStatistics[] pairingStatistics = tasks[numPairing++].get();
+
+						// Against itself, both Strategies go to the same cell
+						statistics[i][j].merge(pairingStatistics[0]);
+						statistics[j][i].merge(pairingStatistics[1]);
+					}
+				}
+
+				if(out != null) {
+					this.printEstimates(out, statistics, toMatch, System.nanoTime() - startTime);
+				}
+			}
+		}
+		catch(ExecutionException executionException) {
+			throw new IllegalStateException("A pairing of the Noisy Monte Carlo Tournament failed!!!", executionException.getCause());
+		}
+		finally {
+			pool.shutdownNow();
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Plays a range of the Matches of a pairing, by the same thread.
+	 *
+	 * @param numStrategyA the index of the first Strategy of the pairing
+	 *
+	 * @param numStrategyB the index of the second Strategy of the pairing
+	 *
+	 * @param numPairing the index of the pairing
+	 *
+	 * @param fromMatch the first Match of the range (inclusive)
+	 *
+	 * @param toMatch the last Match of the range (exclusive)
+	 *
+	 * @return the statistics of the payoff by round, of both Strategies of the pairing
+	 */
+	private RunningStatistics[] playMatches(int numStrategyA, int numStrategyB, int numPairing, long fromMatch, long toMatch) {
+		GradualMachine machineA = GradualMachine.of(this.variants[numStrategyA]);
+		GradualMachine machineB = GradualMachine.of(this.variants[numStrategyB]);
+
+		RunningStatistics statisticsA = new RunningStatistics();
+		RunningStatistics statisticsB = new RunningStatistics();
+
+		CounterRandom random = new CounterRandom(this.seed);
+
+		int[] state = new int[4 * GradualMachine.STATE_SIZE];
+
+		// The scores of the Match, of both Strategies, and the number of rounds
+		long[] matchResult = new long[3];
+
+		for(long numMatch = fromMatch; numMatch < toMatch; numMatch++) {
+			random.setStream( ( numPairing * this.numMatchesByPairing ) + numMatch );
+
+			this.playMatch(machineA, machineB, state, random, matchResult);
+
+			statisticsA.add( (double) matchResult[0] / matchResult[2] );
+			statisticsB.add( (double) matchResult[1] / matchResult[2] );
+		}
+
+		return new RunningStatistics[] {statisticsA, statisticsB};
+	}
+
+	/**
+	 * Plays a noisy Match between two Gradual Machines, in both seats, as the Local Referee.
+	 *
+	 * @param machineA the Gradual Machine of the first Strategy
+	 *
+	 * @param machineB the Gradual Machine of the second Strategy
+	 *
+	 * @param state the states of both Machines, in both seats
+	 *
+	 * @param random the Counter Random, at the start of the stream of the Match
+	 *
+	 * @param matchResult the array where the scores of both Strategies and the number of rounds will be kept
+	 */
+	private void playMatch(GradualMachine machineA, GradualMachine machineB, int[] state,
+						   CounterRandom random, long[] matchResult) {
+
+		// Without any noise, the Match it's deterministic, once its number of rounds it's drawn,
+		// and it's fast-forwarded by the Deterministic Match Simulator
+		if( (this.executionNoise == 0) && (this.perceptionNoise == 0) ) {
+			LocalMatchResult deterministicResult = this.simulator.simulate(machineA, machineB, this.maximumNumberOfIterations,
+																		   this.probabilityForNextIteration, this.drawNumRounds(random));
+
+			matchResult[0] = deterministicResult.getScoreA();
+			matchResult[1] = deterministicResult.getScoreB();
+			matchResult[2] = deterministicResult.getNumRounds();
+
+			return;
+		}
+
+		machineA.reset(state, OFFSET_A_AS_P1);
+		machineA.reset(state, OFFSET_A_AS_P2);
+		machineB.reset(state, OFFSET_B_AS_P1);
+		machineB.reset(state, OFFSET_B_AS_P2);
+
+		int actionAasP1 = MoveLabelCodec.COOPERATE_ACTION;
+		int actionAasP2 = MoveLabelCodec.COOPERATE_ACTION;
+		int actionBasP1 = MoveLabelCodec.COOPERATE_ACTION;
+		int actionBasP2 = MoveLabelCodec.COOPERATE_ACTION;
+
+		long scoreA = 0;
+		long scoreB = 0;
+
+		int numRounds = 0;
+
+		do {
+			int numIterationsRemaining = this.maximumNumberOfIterations - numRounds;
+
+			if(numRounds == 0) {
+				actionAasP1 = machineA.firstAction(numIterationsRemaining, this.probabilityForNextIteration);
+				actionAasP2 = actionAasP1;
+				actionBasP1 = machineB.firstAction(numIterationsRemaining, this.probabilityForNextIteration);
+				actionBasP2 = actionBasP1;
+			}
+			else {
+				boolean playForSafeA = machineA.isPlayForSafe(numIterationsRemaining, this.probabilityForNextIteration);
+				boolean playForSafeB = machineB.isPlayForSafe(numIterationsRemaining, this.probabilityForNextIteration);
+
+				// Each seat sees the action of the Opponent in the same seat, as in the Opponent's History,
+				// possibly flipped by the perception error of the observer
+				boolean seenBasP1 = this.perceive(actionBasP1, random);
+				boolean seenBasP2 = this.perceive(actionBasP2, random);
+				boolean seenAasP1 = this.perceive(actionAasP1, random);
+				boolean seenAasP2 = this.perceive(actionAasP2, random);
+
+				actionAasP1 = machineA.step(state, OFFSET_A_AS_P1, seenBasP1, playForSafeA);
+				actionAasP2 = machineA.step(state, OFFSET_A_AS_P2, seenBasP2, playForSafeA);
+				actionBasP1 = machineB.step(state, OFFSET_B_AS_P1, seenAasP1, playForSafeB);
+				actionBasP2 = machineB.step(state, OFFSET_B_AS_P2, seenAasP2, playForSafeB);
+			}
+
+			// The trembling hand, when the actions are played
+			actionAasP1 = this.execute(actionAasP1, random);
+			actionAasP2 = this.execute(actionAasP2, random);
+			actionBasP1 = this.execute(actionBasP1, random);
+			actionBasP2 = this.execute(actionBasP2, random);
+
+			// The Game A (A as Player no. 1 and B as Player no. 2) and the Game B (vice-versa)
+			scoreA += this.payoffsP1[actionAasP1][actionBasP2] + this.payoffsP2[actionBasP1][actionAasP2];
+			scoreB += this.payoffsP2[actionAasP1][actionBasP2] + this.payoffsP1[actionBasP1][actionAasP2];
+
+			numRounds++;
+		}
+		while( (numRounds < this.maximumNumberOfIterations) &&
+			   random.nextBoolean(this.probabilityForNextIteration) );
+
+		matchResult[0] = scoreA;
+		matchResult[1] = scoreB;
+		matchResult[2] = numRounds;
+	}
+
+	/**
+	 * Draws the number of rounds of a Match, at once (a geometric number of rounds,
+	 * limited by the maximum number of iterations), by the inversion of its distribution.
+	 *
+	 * @param random the Counter Random of the Match
+	 *
+	 * @return the number of rounds of the Match
+	 */
+	private int drawNumRounds(CounterRandom random) {
+		if(this.probabilityForNextIteration >= 1) {
+			return this.maximumNumberOfIterations;
+		}
+
+		if(this.probabilityForNextIteration <= 0) {
+			return 1;
+		}
+
+		// 1 - U it's in ]0, 1], so the logarithm it's always finite
+		double numContinuations = Math.floor( Math.log(1.0 - random.nextDouble()) / Math.log(this.probabilityForNextIteration) );
+
+		return (int) Math.min(this.maximumNumberOfIterations, 1.0 + numContinuations);
+	}
+
+	/**
+	 * Returns true if, an action of the Opponent it's seen as a Cooperate,
+	 * after the perception error.
+	 *
+	 * @param action the action played by the Opponent
+	 *
+	 * @param random the Counter Random of the Match
+	 *
+	 * @return true if, the action it's seen as a Cooperate
+	 */
+	private boolean perceive(int action, CounterRandom random) {
+		return (action == MoveLabelCodec.COOPERATE_ACTION) != random.nextBoolean(this.perceptionNoise);
+	}
+
+	/**
+	 * Returns the action really played, after the execution error.
+	 *
+	 * @param action the action chosen by the Strategy
+	 *
+	 * @param random the Counter Random of the Match
+	 *
+	 * @return the action really played
+	 */
+	private int execute(int action, CounterRandom random) {
+		return random.nextBoolean(this.executionNoise) ? (1 - action) : action;
+	}
+
+	/**
+	 * Prints the estimates of all the pairings, after a batch of Matches.
+	 *
+	 * @param out the stream where the estimates will be printed
+	 *
+	 * @param statistics the statistics of the payoff by round, of each Strategy against each one of the others
+	 *
+	 * @param numMatchesPlayed the number of Matches played, by pairing
+	 *
+	 * @param elapsedTime the time spent, since the start of the Tournament (in nanoseconds)
+	 */
+	private void printEstimates(PrintStream out, RunningStatistics[][] statistics, long numMatchesPlayed, long elapsedTime) {
+		out.printf("Matches by pairing: %d in %.3f s%n", numMatchesPlayed, elapsedTime / 1e9);
+
+		for(int i = 0; i < this.variants.length; i++) {
+			for(int j = 0; j < this.variants.length; j++) {
+				RunningStatistics cell = statistics[i][j];
+
+				out.printf("   %-42s vs %-42s mean: %8.4f +- %.4f   sd: %7.4f%n",
+						   this.variants[i].getStrategyName(), this.variants[j].getStrategyName(),
+						   cell.getMean(), cell.getConfidenceHalfWidth(), cell.getStandardDeviation());
+			}
+		}
+
+		out.println();
+	}
+
+	/**
+	 * Plays the Noisy Monte Carlo Tournament between the Strategies of the Gradual family.
+	 *
+	 * Usage: NoisyMonteCarloTournament [maximumNumberOfIterations] [probabilityForNextIteration]
+	 *                                  [executionNoise] [perceptionNoise] [numMatchesByPairing] [seed]
+	 *
+	 * @param args the arguments of the Noisy Monte Carlo Tournament
+	 *
+	 * @param out the stream where the results will be printed
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the Matches
+	 */
+	static void runCommand(String[] args, PrintStream out) throws InterruptedException {
+		int maximumNumberOfIterations = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_MAXIMUM_NUMBER_OF_ITERATIONS;
+		double probabilityForNextIteration = (args.length > 1) ? Double.parseDouble(args[1]) : DEFAULT_PROBABILITY_FOR_NEXT_ITERATION;
+		double executionNoise = (args.length > 2) ? Double.parseDouble(args[2]) : DEFAULT_EXECUTION_NOISE;
+		double perceptionNoise = (args.length > 3) ? Double.parseDouble(args[3]) : DEFAULT_PERCEPTION_NOISE;
+		long numMatchesByPairing = (args.length > 4) ? Long.parseLong(args[4]) : DEFAULT_NUM_MATCHES_BY_PAIRING;
+		long seed = (args.length > 5) ? Long.parseLong(args[5]) : System.nanoTime();
+
+		NoisyMonteCarloTournament tournament = new NoisyMonteCarloTournament(new LocalGameTree(), GradualVariant.values(),
+																			 maximumNumberOfIterations, probabilityForNextIteration,
+																			 executionNoise, perceptionNoise,
+																			 numMatchesByPairing, seed);
+
+		tournament.play(Runtime.getRuntime().availableProcessors(), out);
+	}
+
+	/**
+	 * Runs the Noisy Monte Carlo Tournament from the command line, printing the results in the standard output
+	 * (see runCommand, for the usage).
+	 *
+	 * @param args the arguments of the Noisy Monte Carlo Tournament
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the Matches
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		runCommand(args, System.out);
+	}
+
+
+	// Auxiliary Classes:
+
+	/**
+	 * Class responsible for a task of the Noisy Monte Carlo Tournament.
+	 *
+	 * Description:
+	 * - A class responsible for playing a range of the Matches of a pairing,
+	 *   split in two halves while it's bigger than MATCHES_BY_TASK,
+	 *   merging the statistics of both halves;
+	 */
+	private final class MatchRangeTask extends RecursiveTask<RunningStatistics[]> {
+
+		/**
+		 * The serial version UID of the task
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The index of the first Strategy of the pairing
+		 */
+		private final int numStrategyA;
+
+		/**
+		 * The index of the second Strategy of the pairing
+		 */
+		private final int numStrategyB;
+
+		/**
+		 * The index of the pairing
+		 */
+		private final int numPairing;
+
+		/**
+		 * The first Match of the range (inclusive)
+		 */
+		private final long fromMatch;
+
+		/**
+		 * The last Match of the range (exclusive)
+		 */
+		private final long toMatch;
+
+		/**
+		 * Constructor #1:
+		 * - Builds a new task, for a range of the Matches of a pairing.
+		 *
+		 * @param numStrategyA the index of the first Strategy of the pairing
+		 *
+		 * @param numStrategyB the index of the second Strategy of the pairing
+		 *
+		 * @param numPairing the index of the pairing
+		 *
+		 * @param fromMatch the first Match of the range (inclusive)
+		 *
+		 * @param toMatch the last Match of the range (exclusive)
+		 */
+		private MatchRangeTask(int numStrategyA, int numStrategyB, int numPairing, long fromMatch, long toMatch) {
+			this.numStrategyA = numStrategyA;
+			this.numStrategyB = numStrategyB;
+			this.numPairing = numPairing;
+			this.fromMatch = fromMatch;
+			this.toMatch = toMatch;
+		}
+
+		/**
+		 * Plays the range of Matches, splitting it in two halves, while it's bigger than MATCHES_BY_TASK.
+		 *
+		 * @return the statistics of the payoff by round, of both Strategies of the pairing
+		 */
+		@Override
+		protected RunningStatistics[] compute() {
+			if( (this.toMatch - this.fromMatch) <= MATCHES_BY_TASK ) {
+				return playMatches(this.numStrategyA, this.numStrategyB, this.numPairing, this.fromMatch, this.toMatch);
+			}
+
+			long middleMatch = ( this.fromMatch + this.toMatch ) >>> 1;
+
+			MatchRangeTask firstHalf = new MatchRangeTask(this.numStrategyA, this.numStrategyB, this.numPairing,
+														  this.fromMatch, middleMatch);
+			MatchRangeTask secondHalf = new MatchRangeTask(this.numStrategyA, this.numStrategyB, this.numPairing,
+														   middleMatch, this.toMatch);
+
+			ForkJoinTask.invokeAll(firstHalf, secondHalf);
+
+			// Always merged in the same order, so the statistics don't depend on the threads
+			RunningStatistics[] statistics = firstHalf.join();
+			RunningStatistics[] statisticsOfSecondHalf = secondHalf.join();
+
+			statistics[0].merge(statisticsOfSecondHalf[0]);
+			statistics[1].merge(statisticsOfSecondHalf[1]);
+
+			return statistics;
+		}
+	}
+}
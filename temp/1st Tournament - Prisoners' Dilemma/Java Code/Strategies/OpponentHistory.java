@@ -0,0 +1,304 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.Arrays;
+
+/**
+ * Class responsible for the Opponent History.
+ *
+ * Description:
+ * - A class responsible for keeping the moves of my Opponent, in the last round,
+ *   by the ordinals of the Strategy Vector, updated only with the indexes
+ *   of the final/terminal nodes reached in that round;
+ *
+ * - The path from the root to a final/terminal node it's only walked
+ *   the first time that final/terminal node it's reached, in each seat,
+ *   (by the subclass, into a reusable buffer of ordinals, with addOpponentMove),
+ *   and the moves of my Opponent in that path are kept, by the index of that node,
+ *   so, in the next rounds, the update costs the same, no matter how deep
+ *   the Game Tree is, or how long the Match runs;
+ *
+ * - The moves of my Opponent in the last round are kept in a reusable mask of bits,
+ *   by ordinal (one long for each 64 moves), so each test of a move it's a single bit check
+ *   and, in each round, only the words of the moves marked in the last round are cleared;
+ *
+ * - An index of -1 never replaces a final/terminal node already known, so the start
+ *   of a new Match must be told explicitly, by the reset() method;
+ *
+ * - The memory used it's bounded by the number of final/terminal nodes
+ *   of the Game Tree and by the number of moves of the Strategy Vector;
+ *
+ * @param <E> the type of the exception thrown, when it's not possible
+ *        to walk the path of a final/terminal node
+ */
+public abstract class OpponentHistory<E extends Exception> {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The initial number of final/terminal nodes kept, for each seat
+	 */
+	private static final int INITIAL_NUM_FINAL_NODES = 16;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The Move Label Codec, with the ordinals of the moves, by label
+	 */
+	private final MoveLabelCodec codec;
+
+	/**
+	 * The mask of bits of the moves of my Opponent in the last round, by ordinal
+	 * (the move m it's the bit (m % 64) of the word (m / 64))
+	 */
+	private final long[] opponentPlayed;
+
+	/**
+	 * The ordinals of the moves of my Opponent in the last round
+	 */
+	private final int[] opponentMoves;
+
+	/**
+	 * The number of the moves of my Opponent in the last round
+	 */
+	private int numOpponentMoves;
+
+	/**
+	 * The ordinals of the moves of my Opponent, by the index of the final/terminal node,
+	 * when I played as Player no. 1 (index 0) and as Player no. 2 (index 1)
+	 */
+	private final int[][][] opponentMovesByFinalNode;
+
+	/**
+	 * The indexes of the final/terminal nodes reached in the last round,
+	 * as Player no. 1 (index 0) and as Player no. 2 (index 1)
+	 */
+	private final int[] lastFinalNodes = {-1, -1};
+
+	/**
+	 * The reusable buffer of the ordinals of the moves of my Opponent,
+	 * collected in the path of a final/terminal node
+	 */
+	private int[] collectedMoves;
+
+	/**
+	 * The number of the ordinals collected in the reusable buffer
+	 */
+	private int numCollectedMoves;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Opponent History, for the moves of a given Strategy Vector.
+	 *
+	 * @param strategyVector the Strategy Vector, which moves will be tracked
+	 */
+	protected OpponentHistory(StrategyVector strategyVector) {
+		this.codec = strategyVector.getCodec();
+		this.opponentPlayed = new long[ (strategyVector.size() + 63) >>> 6 ];
+		this.opponentMoves = new int[strategyVector.size()];
+		this.opponentMovesByFinalNode = new int[][][] { new int[INITIAL_NUM_FINAL_NODES][], new int[INITIAL_NUM_FINAL_NODES][] };
+		this.collectedMoves = new int[Math.max(1, strategyVector.size())];
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Collects the moves of my Opponent, in the path from the root to a given final/terminal node,
+	 * calling addOpponentMove for each one of them.
+	 *
+	 * @param finalNode the index of the final/terminal node
+	 *
+	 * @param opponentIsPlayer2 true if, my Opponent was the Player no. 2 and false, otherwise
+	 *
+	 * @throws E if it's not possible to walk the path of the final/terminal node
+	 */
+	protected abstract void collectOpponentMoves(int finalNode, boolean opponentIsPlayer2) throws E;
+
+	/**
+	 * Returns the ordinal of the move related to a given label.
+	 *
+	 * @param label the label of the move
+	 *
+	 * @return the ordinal of the move (or -1, if there's no move with that label)
+	 */
+	protected final int ordinalOf(String label) {
+		return this.codec.ordinalOf(label);
+	}
+
+	/**
+	 * Adds a move of my Opponent, to the reusable buffer of the path being collected
+	 * (the moves which aren't in the Strategy Vector, with the ordinal -1, are ignored).
+	 *
+	 * @param move the ordinal of the move
+	 */
+	protected final void addOpponentMove(int move) {
+		if(move < 0) {
+			return;
+		}
+
+		if(this.numCollectedMoves == this.collectedMoves.length) {
+			this.collectedMoves = Arrays.copyOf(this.collectedMoves, 2 * this.collectedMoves.length);
+		}
+
+		this.collectedMoves[this.numCollectedMoves++] = move;
+	}
+
+	/**
+	 * Updates the moves of my Opponent, with the final/terminal nodes of the last round
+	 * (an index of -1 keeps the final/terminal node previously known, for that seat).
+	 *
+	 * @param finalP1Node the index of the final/terminal node in last round, as Player no. 1
+	 *
+	 * @param finalP2Node the index of the final/terminal node in last round, as Player no. 2
+	 *
+	 * @throws E if it's not possible to walk the path of a final/terminal node
+	 */
+	public void update(int finalP1Node, int finalP2Node) throws E {
+		if(finalP1Node != -1) {
+			this.lastFinalNodes[0] = finalP1Node;
+		}
+
+		if(finalP2Node != -1) {
+			this.lastFinalNodes[1] = finalP2Node;
+		}
+
+		for(int i = 0; i < this.numOpponentMoves; i++) {
+			this.opponentPlayed[ this.opponentMoves[i] >>> 6 ] = 0L;
+		}
+
+		this.numOpponentMoves = 0;
+
+		if(this.hasLastRound()) {
+
+			// When I played as Player no. 1, my Opponent was the Player no. 2, and vice-versa
+			this.markOpponentMoves(this.getOpponentMovesByFinalNode(0, this.lastFinalNodes[0]));
+			this.markOpponentMoves(this.getOpponentMovesByFinalNode(1, this.lastFinalNodes[1]));
+		}
+	}
+
+	/**
+	 * Forgets the last round, for a new Match (the moves of my Opponent,
+	 * by the index of the final/terminal node, are kept, since the Game Tree it's the same).
+	 */
+	public void reset() {
+		this.lastFinalNodes[0] = -1;
+		this.lastFinalNodes[1] = -1;
+
+		for(int i = 0; i < this.numOpponentMoves; i++) {
+			this.opponentPlayed[ this.opponentMoves[i] >>> 6 ] = 0L;
+		}
+
+		this.numOpponentMoves = 0;
+	}
+
+	/**
+	 * Returns the ordinals of the moves of my Opponent, in the path of a given final/terminal node,
+	 * walking that path only if, it's the first time that final/terminal node it's reached, in that seat.
+	 *
+	 * @param seat the seat where I played (0, as Player no. 1 and 1, as Player no. 2)
+	 *
+	 * @param finalNode the index of the final/terminal node
+	 *
+	 * @return the ordinals of the moves of my Opponent, in the path of a given final/terminal node
+	 *
+	 * @throws E if it's not possible to walk the path of the final/terminal node
+	 */
+	private int[] getOpponentMovesByFinalNode(int seat, int finalNode) throws E {
+		int[][] movesByFinalNode = this.opponentMovesByFinalNode[seat];
+
+		if(finalNode >= movesByFinalNode.length) {
+			movesByFinalNode = Arrays.copyOf(movesByFinalNode, Math.max(finalNode + 1, 2 * movesByFinalNode.length));
+			this.opponentMovesByFinalNode[seat] = movesByFinalNode;
+		}
+
+		if(movesByFinalNode[finalNode] == null) {
+			this.numCollectedMoves = 0;
+
+			this.collectOpponentMoves(finalNode, (seat == 0));
+
+			movesByFinalNode[finalNode] = Arrays.copyOf(this.collectedMoves, this.numCollectedMoves);
+		}
+
+		return movesByFinalNode[finalNode];
+	}
+
+	/**
+	 * Marks the moves related to the given ordinals, as moves of my Opponent in the last round.
+	 *
+	 * @param moves the ordinals of the moves of my Opponent
+	 */
+	private void markOpponentMoves(int[] moves) {
+		for(int move : moves) {
+			long bit = 1L << move;
+
+			if( (this.opponentPlayed[move >>> 6] & bit) == 0 ) {
+				this.opponentPlayed[move >>> 6] |= bit;
+				this.opponentMoves[this.numOpponentMoves++] = move;
+			}
+		}
+	}
+
+	/**
+	 * Returns true if, there's a final/terminal node known, in both seats,
+	 * (i.e., there's a last round) and false, otherwise.
+	 *
+	 * @return true if, there's a final/terminal node known, in both seats
+	 *         and false, otherwise
+	 */
+	public boolean hasLastRound() {
+		return (this.lastFinalNodes[0] != -1) && (this.lastFinalNodes[1] != -1);
+	}
+
+	/**
+	 * Returns true if, the move related to a given ordinal, was played by my Opponent
+	 * in the last round and false, otherwise.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @return true if, the move related to a given ordinal, was played by my Opponent
+	 *         in the last round and false, otherwise
+	 */
+	public boolean opponentPlayed(int move) {
+		return ( this.opponentPlayed[move >>> 6] & (1L << move) ) != 0;
+	}
+
+	/**
+	 * Returns the number of the moves of my Opponent in the last round.
+	 *
+	 * @return the number of the moves of my Opponent in the last round
+	 */
+	public int getNumOpponentMoves() {
+		return this.numOpponentMoves;
+	}
+
+	/**
+	 * Returns the ordinal of the i-th move of my Opponent in the last round.
+	 *
+	 * @param i the position of the move, in the moves of my Opponent in the last round
+	 *
+	 * @return the ordinal of the i-th move of my Opponent in the last round
+	 */
+	public int getOpponentMove(int i) {
+		return this.opponentMoves[i];
+	}
+}
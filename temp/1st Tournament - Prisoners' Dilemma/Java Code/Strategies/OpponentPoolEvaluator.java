@@ -0,0 +1,200 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class responsible for the Opponent Pool Evaluator.
+ *
+ * Description:
+ * - A class responsible for evaluating some constants of a Strategy of the Gradual family
+ *   against a pool of Opponents: the constants are compiled to a Gradual Machine and its
+ *   expected payoff by round against each Opponent it's computed exactly, by the Markov Payoff Engine;
+ *
+ * - The results are kept in a cache, by the behaviour of the constants: for the probability
+ *   to continue of the evaluator, the beta-value only decides if the Strategy plays for safe,
+ *   and, without a "leeway" of "Cooperate" actions, the factor of minimum "leeway" it's never used,
+ *   so the constants that only differ on those ones (and the constants already evaluated)
+ *   aren't evaluated again;
+ *
+ * - It's safe for the use of many threads at the same time (the same constants may be evaluated
+ *   by two threads at the same time, but both keep the same result in the cache);
+ */
+public class OpponentPoolEvaluator {
+
+	// Global Instance Variables:
+
+	/**
+	 * The Markov Payoff Engine, to compute the expected payoffs
+	 */
+	private final MarkovPayoffEngine engine;
+
+	/**
+	 * The Gradual Machines of the Opponents of the pool
+	 */
+	private final GradualMachine[] opponents;
+
+	/**
+	 * The maximum number of iterations of each Match
+	 */
+	private final int maximumNumberOfIterations;
+
+	/**
+	 * The probability to continue playing to the next iteration
+	 */
+	private final double probabilityForNextIteration;
+
+	/**
+	 * The cache of the expected payoffs by round against the pool, by behaviour
+	 */
+	private final Map<GradualParameters, double[]> cache = new ConcurrentHashMap<>();
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Opponent Pool Evaluator, against a given pool of Opponents.
+	 *
+	 * @param tree the Local Game Tree, with the payoffs of the Game
+	 *
+	 * @param opponents the Gradual Machines of the Opponents of the pool
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations of each Match
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 */
+	public OpponentPoolEvaluator(LocalGameTree tree, GradualMachine[] opponents,
+								 int maximumNumberOfIterations, double probabilityForNextIteration) {
+
+		if(opponents.length == 0) {
+			throw new IllegalArgumentException("The pool of Opponents can't be empty!!!");
+		}
+
+		if(maximumNumberOfIterations < 1) {
+			throw new IllegalArgumentException("The maximum number of iterations must be positive!!!");
+		}
+
+		if( (probabilityForNextIteration < 0) || (probabilityForNextIteration > 1) ) {
+			throw new IllegalArgumentException("The probability for the next iteration must be in [0, 1]!!!");
+		}
+
+		this.engine = new MarkovPayoffEngine(tree);
+		this.opponents = opponents.clone();
+		this.maximumNumberOfIterations = maximumNumberOfIterations;
+		this.probabilityForNextIteration = probabilityForNextIteration;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the number of Opponents of the pool.
+	 *
+	 * @return the number of Opponents of the pool
+	 */
+	public int getNumOpponents() {
+		return this.opponents.length;
+	}
+
+	/**
+	 * Returns the Gradual Machine of an Opponent of the pool.
+	 *
+	 * @param numOpponent the index of the Opponent, in the pool
+	 *
+	 * @return the Gradual Machine of the Opponent
+	 */
+	public GradualMachine getOpponent(int numOpponent) {
+		return this.opponents[numOpponent];
+	}
+
+	/**
+	 * Returns the number of behaviours kept in the cache.
+	 *
+	 * @return the number of behaviours kept in the cache
+	 */
+	public int getNumCachedBehaviours() {
+		return this.cache.size();
+	}
+
+	/**
+	 * Returns the behaviour of some constants, for the probability to continue of the evaluator
+	 * (the constants, with the beta-value replaced by one of the infinities, as they play for safe or not,
+	 * and, without a "leeway" of "Cooperate" actions, with the factor of minimum "leeway" replaced by 1).
+	 *
+	 * @param parameters the constants of the Strategy
+	 *
+	 * @return the behaviour of the constants
+	 */
+	public GradualParameters behaviourOf(GradualParameters parameters) {
+		double safeBeta = (this.probabilityForNextIteration < parameters.getSafeBetaProbabilityToContinue()) ?
+								Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+
+		int leewayFactor = parameters.isMaximiseGainWithLeeway() ? parameters.getFactorOfMinimumLeewayOfCooperatesDifference() : 1;
+
+		return parameters.withTuningConstants(parameters.getNumConsecutiveCooperatesToTryMaximiseGain(),
+											  parameters.getNumConsecutiveCooperatesToApplyHardCalmDowns(),
+											  parameters.getNumInitialDefectsBeforeHardCalmDown(),
+											  leewayFactor, safeBeta);
+	}
+
+	/**
+	 * Returns true if, the behaviour of some constants it's kept in the cache and false, otherwise.
+	 *
+	 * @param parameters the constants of the Strategy
+	 *
+	 * @return true if, the behaviour of the constants it's kept in the cache and false, otherwise
+	 */
+	public boolean isCached(GradualParameters parameters) {
+		return this.cache.containsKey(this.behaviourOf(parameters));
+	}
+
+	/**
+	 * Returns the expected payoffs by round of some constants, against each Opponent of the pool,
+	 * computing them only if their behaviour isn't kept in the cache
+	 * (the array returned it's the one of the cache, and it must not be changed).
+	 *
+	 * @param parameters the constants of the Strategy
+	 *
+	 * @return the expected payoffs by round of the constants, against each Opponent of the pool
+	 */
+	public double[] scoresByRound(GradualParameters parameters) {
+		GradualParameters behaviour = this.behaviourOf(parameters);
+
+		double[] scoresByRound = this.cache.get(behaviour);
+
+		if(scoresByRound != null) {
+			return scoresByRound;
+		}
+
+		GradualMachine machine = GradualMachine.compile(behaviour);
+
+		scoresByRound = new double[this.opponents.length];
+
+		for(int numOpponent = 0; numOpponent < this.opponents.length; numOpponent++) {
+			scoresByRound[numOpponent] = this.engine.expectedPayoff(machine, this.opponents[numOpponent],
+																	this.maximumNumberOfIterations,
+																	this.probabilityForNextIteration).getScoreAByRound();
+		}
+
+		double[] previousScoresByRound = this.cache.putIfAbsent(behaviour, scoresByRound);
+
+		return (previousScoresByRound != null) ? previousScoresByRound : scoresByRound;
+	}
+}
@@ -0,0 +1,413 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class responsible for the Parameter Sweep.
+ *
+ * Description:
+ * - A class responsible for tuning the constants of a Strategy of the Gradual family
+ *   (the number of consecutive "Cooperate" actions to try to maximise the gain, the number
+ *   of consecutive "Cooperate" actions to apply hard "Calm Down" processes, the initial number
+ *   of "Defect" actions before the hard "Calm Down" processes, the factor of minimum "leeway"
+ *   and the beta-value of the probability to continue), evaluating all the cells of the
+ *   Cartesian grid of their values against a pool of Opponents;
+ *
+ * - Each cell it's evaluated by an Opponent Pool Evaluator (exactly, by the Markov Payoff Engine),
+ *   so the cells are evaluated without playing any Match, by the threads of a Fork/Join Pool;
+ *
+ * - The results are kept in the cache of the Opponent Pool Evaluator, by the behaviour of the cell,
+ *   so the cells with the same behaviour (and the cells already computed by a previous sweep,
+ *   or by any other user of the same Opponent Pool Evaluator) aren't evaluated again;
+ *
+ * - While the sweep it's running, the best cells found so far are printed as a ranked table,
+ *   after each tenth of the cells evaluated (one row by behaviour, with the number of its cells);
+ */
+public class ParameterSweep {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The number of times the ranked table it's printed, while a sweep it's running
+	 */
+	private static final int NUM_REPORTS = 10;
+
+	/**
+	 * The default number of rows of the ranked table
+	 */
+	private static final int DEFAULT_NUM_RANKED_CELLS = 10;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The Opponent Pool Evaluator, to compute the expected payoffs of the cells
+	 */
+	private final OpponentPoolEvaluator evaluator;
+
+	/**
+	 * The Gradual Parameters with the rules of the Strategy to tune
+	 * (the tuning constants of each cell replace the ones of these Gradual Parameters)
+	 */
+	private final GradualParameters baseParameters;
+
+	/**
+	 * The number of rows of the ranked table
+	 */
+	private final int numRankedCells;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Parameter Sweep, for the rules of a given Strategy of the Gradual family,
+	 *   evaluated by a given Opponent Pool Evaluator (sharing its cache).
+	 *
+	 * @param baseParameters the Gradual Parameters with the rules of the Strategy to tune
+	 *
+	 * @param evaluator the Opponent Pool Evaluator, to compute the expected payoffs of the cells
+	 *
+	 * @param numRankedCells the number of rows of the ranked table
+	 */
+	public ParameterSweep(GradualParameters baseParameters, OpponentPoolEvaluator evaluator, int numRankedCells) {
+		this.evaluator = evaluator;
+		this.baseParameters = baseParameters;
+		this.numRankedCells = numRankedCells;
+	}
+
+	/**
+	 * Constructor #2:
+	 * - Builds a new Parameter Sweep, for the rules of a given Strategy of the Gradual family,
+	 *   against a given pool of Opponents, with the default number of rows of the ranked table.
+	 *
+	 * @param tree the Local Game Tree, with the payoffs of the Game
+	 *
+	 * @param baseParameters the Gradual Parameters with the rules of the Strategy to tune
+	 *
+	 * @param opponents the Gradual Machines of the Opponents of the pool
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations of each Match
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 */
+	public ParameterSweep(LocalGameTree tree, GradualParameters baseParameters, GradualMachine[] opponents,
+						  int maximumNumberOfIterations, double probabilityForNextIteration) {
+
+		this(baseParameters, new OpponentPoolEvaluator(tree, opponents, maximumNumberOfIterations, probabilityForNextIteration),
+			 DEFAULT_NUM_RANKED_CELLS);
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the number of behaviours of the cells kept in the cache.
+	 *
+	 * @return the number of behaviours of the cells kept in the cache
+	 */
+	public int getNumCachedBehaviours() {
+		return this.evaluator.getNumCachedBehaviours();
+	}
+
+	/**
+	 * Evaluates all the cells of the Cartesian grid of the tuning constants, using a given number of threads,
+	 * and printing the best cells found so far, as a ranked table, while the sweep it's running.
+	 *
+	 * @param tryMaximiseGainValues the values of the number of consecutive "Cooperate" actions
+	 *        of the Opponent, to try to attempt to maximise the gain
+	 *
+	 * @param applyHardCalmDownsValues the values of the number of consecutive "Cooperate" actions
+	 *        of the Opponent, to keep doing soft "Calm Down" processes
+	 *
+	 * @param initialDefectsValues the values of the initial number of "Defect" actions of the Opponent,
+	 *        before the hard "Calm Down" processes
+	 *
+	 * @param leewayFactorValues the values of the factor of minimum "leeway"
+	 *
+	 * @param safeBetaValues the values of the beta-value for the minimum probability to continue
+	 *
+	 * @param numThreads the number of threads to evaluate the cells
+	 *
+	 * @param out the stream where the ranked tables will be printed (or null, to not print them)
+	 *
+	 * @return the results of all the cells, ranked by their mean expected payoff by round
+	 *         (and, then, by their order in the grid)
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the cells
+	 */
+	public List<ParameterSweepResult> sweep(int[] tryMaximiseGainValues, int[] applyHardCalmDownsValues,
+											int[] initialDefectsValues, int[] leewayFactorValues,
+											double[] safeBetaValues, int numThreads, PrintStream out)
+													throws InterruptedException {
+
+		// The cells of the grid, in the order of the grid (the last constant changes first)
+		List<GradualParameters> cells = new ArrayList<>();
+
+		for(int tryMaximiseGain : tryMaximiseGainValues) {
+			for(int applyHardCalmDowns : applyHardCalmDownsValues) {
+				for(int initialDefects : initialDefectsValues) {
+					for(int leewayFactor : leewayFactorValues) {
+						for(double safeBeta : safeBetaValues) {
+							cells.add(this.baseParameters.withTuningConstants(tryMaximiseGain, applyHardCalmDowns,
+																			  initialDefects, leewayFactor, safeBeta));
+						}
+					}
+				}
+			}
+		}
+
+		// The indexes of the cells, by their behaviour
+		Map<GradualParameters, List<Integer>> cellsByBehaviour = new LinkedHashMap<>();
+
+		for(int numCell = 0; numCell < cells.size(); numCell++) {
+			cellsByBehaviour.computeIfAbsent(this.evaluator.behaviourOf(cells.get(numCell)), behaviour -> new ArrayList<>())
+							.add(numCell);
+		}
+
+		ParameterSweepResult[] results = new ParameterSweepResult[cells.size()];
+
+		List<GradualParameters> behavioursToEvaluate = new ArrayList<>();
+
+		for(Map.Entry<GradualParameters, List<Integer>> entry : cellsByBehaviour.entrySet()) {
+			if(!this.evaluator.isCached(entry.getKey())) {
+				behavioursToEvaluate.add(entry.getKey());
+			}
+			else {
+				double[] scoresByRound = this.evaluator.scoresByRound(entry.getKey());
+
+				for(int numCell : entry.getValue()) {
+					results[numCell] = new ParameterSweepResult(cells.get(numCell), scoresByRound, true);
+				}
+			}
+		}
+
+		long startTime = System.nanoTime();
+
+		ForkJoinPool pool = new ForkJoinPool(numThreads);
+
+		try {
+			ExecutorCompletionService<GradualParameters> completionService = new ExecutorCompletionService<>(pool);
+
+			for(GradualParameters behaviour : behavioursToEvaluate) {
+				completionService.submit( () -> {
+					this.evaluator.scoresByRound(behaviour);
+
+					return behaviour;
+				} );
+			}
+
+			int numBehaviours = behavioursToEvaluate.size();
+			int reportInterval = Math.max(1, numBehaviours / NUM_REPORTS);
+
+			for(int numEvaluated = 1; numEvaluated <= numBehaviours; numEvaluated++) {
+				GradualParameters behaviour = completionService.take().get();
+				double[] scoresByRound = this.evaluator.scoresByRound(behaviour);
+
+				// The first cell of the behaviour it's the one evaluated, and the others share its result
+				boolean cached = false;
+
+				for(int numCell : cellsByBehaviour.get(behaviour)) {
+					results[numCell] = new ParameterSweepResult(cells.get(numCell), scoresByRound, cached);
+
+					cached = true;
+				}
+
+				if( (out != null) && ( ( (numEvaluated % reportInterval) == 0 ) || (numEvaluated == numBehaviours) ) ) {
+					out.printf("%nEvaluated %d of %d behaviours (%.3f s)%n",
+							   numEvaluated, numBehaviours, (System.nanoTime() - startTime) / 1e9);
+
+					this.printRankedTable(out, rank(results), cellsByBehaviour, cells.size());
+				}
+			}
+		}
+		catch(ExecutionException executionException) {
+			throw new IllegalStateException("A cell of the Parameter Sweep failed!!!", executionException.getCause());
+		}
+		finally {
+			pool.shutdownNow();
+		}
+
+		List<ParameterSweepResult> ranking = rank(results);
+
+		if( (out != null) && behavioursToEvaluate.isEmpty() ) {
+			out.printf("%nAll the %d cells were taken from the cache%n", cells.size());
+
+			this.printRankedTable(out, ranking, cellsByBehaviour, cells.size());
+		}
+
+		return ranking;
+	}
+
+	/**
+	 * Returns the results already known, ranked by their mean expected payoff by round
+	 * (and, then, by their order in the grid).
+	 *
+	 * @param results the results of the cells, by their order in the grid (null, if it's not known yet)
+	 *
+	 * @return the results already known, ranked
+	 */
+	private static List<ParameterSweepResult> rank(ParameterSweepResult[] results) {
+		List<ParameterSweepResult> ranking = new ArrayList<>(results.length);
+
+		for(ParameterSweepResult result : results) {
+			if(result != null) {
+				ranking.add(result);
+			}
+		}
+
+		// The sort it's stable, so the cells with the same mean keep their order in the grid
+		ranking.sort(Comparator.comparingDouble(ParameterSweepResult::getMeanScoreByRound).reversed());
+
+		return ranking;
+	}
+
+	/**
+	 * Prints the best cells of a ranking, as a table, with only the first cell of each behaviour
+	 * (and the number of cells with the same behaviour).
+	 *
+	 * @param out the stream where the table will be printed
+	 *
+	 * @param ranking the results of the cells, ranked
+	 *
+	 * @param cellsByBehaviour the indexes of the cells, by their behaviour
+	 *
+	 * @param numCells the number of cells of the grid
+	 */
+	private void printRankedTable(PrintStream out, List<ParameterSweepResult> ranking,
+								  Map<GradualParameters, List<Integer>> cellsByBehaviour, int numCells) {
+
+		out.printf("%4s %10s", "rank", "mean");
+
+		for(int numOpponent = 0; numOpponent < this.evaluator.getNumOpponents(); numOpponent++) {
+			out.printf(" %14s", abbreviate(this.evaluator.getOpponent(numOpponent)));
+		}
+
+		out.printf(" %6s  %s (%d of %d cells known)%n", "cells", "parameters", ranking.size(), numCells);
+
+		Set<GradualParameters> behavioursPrinted = new HashSet<>();
+
+		for(ParameterSweepResult result : ranking) {
+			if(behavioursPrinted.size() == this.numRankedCells) {
+				break;
+			}
+
+			GradualParameters behaviour = this.evaluator.behaviourOf(result.getParameters());
+
+			if(!behavioursPrinted.add(behaviour)) {
+				continue;
+			}
+
+			out.printf("%4d %10.4f", behavioursPrinted.size(), result.getMeanScoreByRound());
+
+			for(int numOpponent = 0; numOpponent < this.evaluator.getNumOpponents(); numOpponent++) {
+				out.printf(" %14.4f", result.getScoreByRound(numOpponent));
+			}
+
+			out.printf(" %6d  %s%n", cellsByBehaviour.get(behaviour).size(), result.getParameters());
+		}
+	}
+
+	/**
+	 * Returns the short name of an Opponent, for the header of the ranked table.
+	 *
+	 * @param opponent the Gradual Machine of the Opponent
+	 *
+	 * @return the short name of the Opponent
+	 */
+	private static String abbreviate(GradualMachine opponent) {
+		if(opponent.getVariant() == null) {
+			return "custom";
+		}
+
+		String name = opponent.getVariant().getStrategyName().replace("Strategy", "");
+
+		return (name.length() > 14) ? name.substring(0, 14) : name;
+	}
+
+	/**
+	 * Sweeps the tuning constants of the HybridGradualWithCooperatesLeewayStrategy,
+	 * against all the variants of the Gradual family, and, then, sweeps the same grid again,
+	 * only from the cache.
+	 *
+	 * Usage: ParameterSweep [maximumNumberOfIterations] [probabilityForNextIteration] [numThreads]
+	 *
+	 * @param args the arguments of the Parameter Sweep
+	 *
+	 * @param out the stream where the results will be printed
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the cells
+	 */
+	static void runCommand(String[] args, PrintStream out) throws InterruptedException {
+		int maximumNumberOfIterations = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+		double probabilityForNextIteration = (args.length > 1) ? Double.parseDouble(args[1]) : 0.99;
+		int numThreads = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+		GradualMachine[] opponents = new GradualMachine[GradualVariant.values().length];
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			opponents[variant.ordinal()] = GradualMachine.of(variant);
+		}
+
+		ParameterSweep parameterSweep = new ParameterSweep(new LocalGameTree(),
+														   GradualVariant.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY.getParameters(),
+														   opponents, maximumNumberOfIterations, probabilityForNextIteration);
+
+		int[] tryMaximiseGainValues = { 1, 2, 3, 4, 5, 6, 8, 10 };
+		int[] applyHardCalmDownsValues = { 2, 4, 6, 8, 10, 12 };
+		int[] initialDefectsValues = { 2, 4, 6, 8, 10, 12, 16 };
+		int[] leewayFactorValues = { 1, 2, 3, 4 };
+		double[] safeBetaValues = { 0.0, 1.0 / 3.0, 0.5, 0.9, 0.995 };
+
+		for(int numSweep = 1; numSweep <= 2; numSweep++) {
+			long startTime = System.nanoTime();
+
+			List<ParameterSweepResult> ranking = parameterSweep.sweep(tryMaximiseGainValues, applyHardCalmDownsValues,
+																	   initialDefectsValues, leewayFactorValues,
+																	   safeBetaValues, numThreads, out);
+
+			out.printf("%nSweep #%d: %d cells, %d behaviours in the cache, %.3f s%n%n",
+					   numSweep, ranking.size(), parameterSweep.getNumCachedBehaviours(),
+					   (System.nanoTime() - startTime) / 1e9);
+		}
+	}
+
+	/**
+	 * Runs the Parameter Sweep from the command line, printing the results in the standard output
+	 * (see runCommand, for the usage).
+	 *
+	 * @param args the arguments of the Parameter Sweep
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the cells
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		runCommand(args, System.out);
+	}
+}
@@ -0,0 +1,122 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+
+/**
+ * Class responsible for the Parameter Sweep Result.
+ *
+ * Description:
+ * - A class responsible for keeping the result of a cell of a Parameter Sweep:
+ *   the Gradual Parameters of the cell, the expected payoff by round against
+ *   each Opponent of the pool and their mean;
+ *
+ * - It also keeps if the result was taken from the cache of the Parameter Sweep
+ *   (computed before, for the same cell or for a cell with the same behaviour);
+ */
+public class ParameterSweepResult {
+
+	// Global Instance Variables:
+
+	/**
+	 * The Gradual Parameters of the cell
+	 */
+	private final GradualParameters parameters;
+
+	/**
+	 * The expected payoffs by round, against each Opponent of the pool
+	 */
+	private final double[] scoresByRound;
+
+	/**
+	 * The mean of the expected payoffs by round, against all the Opponents of the pool
+	 */
+	private final double meanScoreByRound;
+
+	/**
+	 * True if, the result was taken from the cache and false, otherwise
+	 */
+	private final boolean cached;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new result of a cell of a Parameter Sweep.
+	 *
+	 * @param parameters the Gradual Parameters of the cell
+	 *
+	 * @param scoresByRound the expected payoffs by round, against each Opponent of the pool
+	 *
+	 * @param cached true if, the result was taken from the cache and false, otherwise
+	 */
+	public ParameterSweepResult(GradualParameters parameters, double[] scoresByRound, boolean cached) {
+		this.parameters = parameters;
+		this.scoresByRound = scoresByRound.clone();
+		this.cached = cached;
+
+		double sum = 0;
+
+		for(double scoreByRound : scoresByRound) {
+			sum += scoreByRound;
+		}
+
+		this.meanScoreByRound = (scoresByRound.length == 0) ? 0 : ( sum / scoresByRound.length );
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the Gradual Parameters of the cell.
+	 *
+	 * @return the Gradual Parameters of the cell
+	 */
+	public GradualParameters getParameters() {
+		return this.parameters;
+	}
+
+	/**
+	 * Returns the expected payoff by round, against a given Opponent of the pool.
+	 *
+	 * @param numOpponent the index of the Opponent, in the pool
+	 *
+	 * @return the expected payoff by round, against the given Opponent of the pool
+	 */
+	public double getScoreByRound(int numOpponent) {
+		return this.scoresByRound[numOpponent];
+	}
+
+	/**
+	 * Returns the mean of the expected payoffs by round, against all the Opponents of the pool.
+	 *
+	 * @return the mean of the expected payoffs by round, against all the Opponents of the pool
+	 */
+	public double getMeanScoreByRound() {
+		return this.meanScoreByRound;
+	}
+
+	/**
+	 * Returns true if, the result was taken from the cache and false, otherwise.
+	 *
+	 * @return true if, the result was taken from the cache and false, otherwise
+	 */
+	public boolean isCached() {
+		return this.cached;
+	}
+}
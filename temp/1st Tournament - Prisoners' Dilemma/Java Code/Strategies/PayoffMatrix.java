@@ -0,0 +1,194 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.PrintStream;
+
+/**
+ * Class responsible for the Payoff Matrix.
+ *
+ * Description:
+ * - A class responsible for keeping the expected payoff by round of each Strategy (rows)
+ *   against each one of the others (columns), computed only once, so the population dynamics
+ *   (the Moran Process and the Replicator Dynamics) never play any Match;
+ *
+ * - The payoffs of the Strategies of the Gradual family are computed exactly,
+ *   by the Markov Payoff Engine, for a given maximum number of iterations
+ *   and a given probability to continue;
+ */
+public class PayoffMatrix {
+
+	// Global Instance Variables:
+
+	/**
+	 * The names of the Strategies
+	 */
+	private final String[] names;
+
+	/**
+	 * The expected payoffs by round, of each Strategy (rows) against each one of the others (columns)
+	 */
+	private final double[][] payoffs;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Payoff Matrix, with the given payoffs.
+	 *
+	 * @param names the names of the Strategies
+	 *
+	 * @param payoffs the expected payoffs by round, of each Strategy (rows) against each one of the others (columns)
+	 */
+	public PayoffMatrix(String[] names, double[][] payoffs) {
+		if(payoffs.length != names.length) {
+			throw new IllegalArgumentException("There must be one row of payoffs by Strategy!!!");
+		}
+
+		this.names = names.clone();
+		this.payoffs = new double[names.length][];
+
+		for(int i = 0; i < names.length; i++) {
+			if(payoffs[i].length != names.length) {
+				throw new IllegalArgumentException("There must be one payoff by Opponent, in each row!!!");
+			}
+
+			this.payoffs[i] = payoffs[i].clone();
+		}
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the Payoff Matrix of some Gradual Machines, computed by the Markov Payoff Engine.
+	 *
+	 * @param tree the Local Game Tree, with the payoffs of the Game
+	 *
+	 * @param names the names of the Strategies
+	 *
+	 * @param machines the Gradual Machines of the Strategies
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations of each Match
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @return the Payoff Matrix of the Gradual Machines
+	 */
+	public static PayoffMatrix of(LocalGameTree tree, String[] names, GradualMachine[] machines,
+								  int maximumNumberOfIterations, double probabilityForNextIteration) {
+
+		MarkovPayoffEngine engine = new MarkovPayoffEngine(tree);
+
+		double[][] payoffs = new double[machines.length][machines.length];
+
+		for(int i = 0; i < machines.length; i++) {
+			for(int j = 0; j < machines.length; j++) {
+				payoffs[i][j] = engine.expectedPayoff(machines[i], machines[j], maximumNumberOfIterations,
+													  probabilityForNextIteration).getScoreAByRound();
+			}
+		}
+
+		return new PayoffMatrix(names, payoffs);
+	}
+
+	/**
+	 * Returns the Payoff Matrix of all the variants of the Gradual family, computed by the Markov Payoff Engine.
+	 *
+	 * @param tree the Local Game Tree, with the payoffs of the Game
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations of each Match
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 *
+	 * @return the Payoff Matrix of all the variants of the Gradual family
+	 */
+	public static PayoffMatrix ofGradualFamily(LocalGameTree tree, int maximumNumberOfIterations,
+											   double probabilityForNextIteration) {
+
+		GradualVariant[] variants = GradualVariant.values();
+
+		String[] names = new String[variants.length];
+		GradualMachine[] machines = new GradualMachine[variants.length];
+
+		for(GradualVariant variant : variants) {
+			names[variant.ordinal()] = variant.getStrategyName();
+			machines[variant.ordinal()] = GradualMachine.of(variant);
+		}
+
+		return of(tree, names, machines, maximumNumberOfIterations, probabilityForNextIteration);
+	}
+
+	/**
+	 * Returns the number of Strategies.
+	 *
+	 * @return the number of Strategies
+	 */
+	public int size() {
+		return this.names.length;
+	}
+
+	/**
+	 * Returns the name of a Strategy.
+	 *
+	 * @param i the index of the Strategy
+	 *
+	 * @return the name of the Strategy
+	 */
+	public String getName(int i) {
+		return this.names[i];
+	}
+
+	/**
+	 * Returns the expected payoff by round of a Strategy, against another one.
+	 *
+	 * @param i the index of the Strategy
+	 *
+	 * @param j the index of the Opponent
+	 *
+	 * @return the expected payoff by round of the Strategy, against the Opponent
+	 */
+	public double get(int i, int j) {
+		return this.payoffs[i][j];
+	}
+
+	/**
+	 * Prints the Payoff Matrix, as a table.
+	 *
+	 * @param out the stream where the Payoff Matrix will be printed
+	 */
+	public void print(PrintStream out) {
+		out.printf("%-42s", "");
+
+		for(int j = 0; j < this.size(); j++) {
+			out.printf(" %12s", "#" + j);
+		}
+
+		out.println();
+
+		for(int i = 0; i < this.size(); i++) {
+			out.printf("%-42s", "#" + i + " " + this.names[i]);
+
+			for(int j = 0; j < this.size(); j++) {
+				out.printf(" %12.6f", this.payoffs[i][j]);
+			}
+
+			out.println();
+		}
+	}
+}
@@ -0,0 +1,271 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.PrintStream;
+
+/**
+ * Class responsible for the Replicator Dynamics.
+ *
+ * Description:
+ * - A class responsible for the Replicator Dynamics of an infinite population, over a Payoff Matrix:
+ *   the frequency x[i] of each Strategy changes by dx[i]/dt = x[i] * ((A x)[i] - x^T A x),
+ *   so the Strategies with a payoff greater than the mean of the population grow;
+ *
+ * - The equations are integrated by the classical Runge-Kutta method (of 4th order), with a fixed step,
+ *   and, after each step, the frequencies are kept on the simplex (not negative, and summing 1),
+ *   so the errors of the integration never accumulate out of it;
+ *
+ * - The integration only uses the Payoff Matrix (computed only once), so it never plays any Match;
+ */
+public class ReplicatorDynamics {
+
+	// Global Instance Variables:
+
+	/**
+	 * The Payoff Matrix of the Strategies
+	 */
+	private final PayoffMatrix matrix;
+
+	/**
+	 * The step of the integration
+	 */
+	private final double timeStep;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Replicator Dynamics, over a given Payoff Matrix.
+	 *
+	 * @param matrix the Payoff Matrix of the Strategies
+	 *
+	 * @param timeStep the step of the integration
+	 */
+	public ReplicatorDynamics(PayoffMatrix matrix, double timeStep) {
+		if( !(timeStep > 0) ) {
+			throw new IllegalArgumentException("The step of the integration must be positive!!!");
+		}
+
+		this.matrix = matrix;
+		this.timeStep = timeStep;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Computes the derivatives of the frequencies of the Strategies.
+	 *
+	 * @param frequencies the frequencies of the Strategies
+	 *
+	 * @param derivatives the derivatives of the frequencies (where they will be kept)
+	 */
+	private void derivatives(double[] frequencies, double[] derivatives) {
+		int numStrategies = this.matrix.size();
+
+		double meanPayoff = 0;
+
+		for(int i = 0; i < numStrategies; i++) {
+			double payoff = 0;
+
+			for(int j = 0; j < numStrategies; j++) {
+				payoff += this.matrix.get(i, j) * frequencies[j];
+			}
+
+			derivatives[i] = payoff;
+			meanPayoff += frequencies[i] * payoff;
+		}
+
+		for(int i = 0; i < numStrategies; i++) {
+			derivatives[i] = frequencies[i] * (derivatives[i] - meanPayoff);
+		}
+	}
+
+	/**
+	 * Integrates the frequencies of the Strategies, for a given number of steps.
+	 *
+	 * @param frequencies the frequencies of the Strategies (updated with the frequencies reached)
+	 *
+	 * @param numSteps the number of steps of the integration
+	 */
+	public void integrate(double[] frequencies, long numSteps) {
+		int numStrategies = this.matrix.size();
+
+		if(frequencies.length != numStrategies) {
+			throw new IllegalArgumentException("There must be one frequency by Strategy of the Payoff Matrix!!!");
+		}
+
+		normalise(frequencies);
+
+		double[] k1 = new double[numStrategies];
+		double[] k2 = new double[numStrategies];
+		double[] k3 = new double[numStrategies];
+		double[] k4 = new double[numStrategies];
+		double[] intermediate = new double[numStrategies];
+
+		double h = this.timeStep;
+
+		for(long numStep = 0; numStep < numSteps; numStep++) {
+			this.derivatives(frequencies, k1);
+
+			for(int i = 0; i < numStrategies; i++) {
+				intermediate[i] = frequencies[i] + (0.5 * h * k1[i]);
+			}
+
+			this.derivatives(intermediate, k2);
+
+			for(int i = 0; i < numStrategies; i++) {
+				intermediate[i] = frequencies[i] + (0.5 * h * k2[i]);
+			}
+
+			this.derivatives(intermediate, k3);
+
+			for(int i = 0; i < numStrategies; i++) {
+				intermediate[i] = frequencies[i] + (h * k3[i]);
+			}
+
+			this.derivatives(intermediate, k4);
+
+			for(int i = 0; i < numStrategies; i++) {
+				frequencies[i] += (h / 6.0) * ( k1[i] + (2.0 * k2[i]) + (2.0 * k3[i]) + k4[i] );
+			}
+
+			normalise(frequencies);
+		}
+	}
+
+	/**
+	 * Keeps some frequencies on the simplex (not negative, and summing 1).
+	 *
+	 * @param frequencies the frequencies
+	 */
+	private static void normalise(double[] frequencies) {
+		double total = 0;
+
+		for(int i = 0; i < frequencies.length; i++) {
+			if( !(frequencies[i] > 0) ) {
+				frequencies[i] = 0;
+			}
+
+			total += frequencies[i];
+		}
+
+		if( !(total > 0) ) {
+			throw new IllegalArgumentException("The frequencies must have, at least, one positive value!!!");
+		}
+
+		for(int i = 0; i < frequencies.length; i++) {
+			frequencies[i] /= total;
+		}
+	}
+
+	/**
+	 * Returns the mean payoff of a population, with some frequencies of the Strategies.
+	 *
+	 * @param frequencies the frequencies of the Strategies
+	 *
+	 * @return the mean payoff of the population
+	 */
+	public double meanPayoff(double[] frequencies) {
+		double meanPayoff = 0;
+
+		for(int i = 0; i < this.matrix.size(); i++) {
+			for(int j = 0; j < this.matrix.size(); j++) {
+				meanPayoff += frequencies[i] * this.matrix.get(i, j) * frequencies[j];
+			}
+		}
+
+		return meanPayoff;
+	}
+
+	/**
+	 * Prints the Payoff Matrix of the Gradual family and the trajectories of the Replicator Dynamics,
+	 * from the uniform population and from populations where one Strategy it's dominant.
+	 *
+	 * Usage: ReplicatorDynamics [maximumNumberOfIterations] [probabilityForNextIteration]
+	 *                           [timeStep] [numSteps] [numSnapshots]
+	 *
+	 * @param args the arguments of the Replicator Dynamics
+	 *
+	 * @param out the stream where the results will be printed
+	 */
+	static void runCommand(String[] args, PrintStream out) {
+		int maximumNumberOfIterations = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+		double probabilityForNextIteration = (args.length > 1) ? Double.parseDouble(args[1]) : 0.99;
+		double timeStep = (args.length > 2) ? Double.parseDouble(args[2]) : 0.01;
+		long numSteps = (args.length > 3) ? Long.parseLong(args[3]) : 10000L;
+		int numSnapshots = (args.length > 4) ? Integer.parseInt(args[4]) : 10;
+
+		PayoffMatrix matrix = PayoffMatrix.ofGradualFamily(new LocalGameTree(), maximumNumberOfIterations, probabilityForNextIteration);
+
+		matrix.print(out);
+
+		ReplicatorDynamics dynamics = new ReplicatorDynamics(matrix, timeStep);
+
+		int numStrategies = matrix.size();
+
+		// The uniform population, followed by the populations where each Strategy has 90% of the individuals
+		for(int start = -1; start < numStrategies; start++) {
+			double[] frequencies = new double[numStrategies];
+
+			for(int i = 0; i < numStrategies; i++) {
+				frequencies[i] = (start < 0) ? (1.0 / numStrategies) :
+									( (i == start) ? 0.9 : (0.1 / (numStrategies - 1)) );
+			}
+
+			out.printf("%nFrom %s:%n", (start < 0) ? "the uniform population" : ("90% of #" + start));
+
+			out.printf("%12s", "time");
+
+			for(int i = 0; i < numStrategies; i++) {
+				out.printf(" %10s", "#" + i);
+			}
+
+			out.printf(" %10s%n", "mean");
+
+			long startTime = System.nanoTime();
+
+			for(int numSnapshot = 0; numSnapshot <= numSnapshots; numSnapshot++) {
+				if(numSnapshot > 0) {
+					dynamics.integrate(frequencies, numSteps / numSnapshots);
+				}
+
+				out.printf("%12.2f", numSnapshot * (numSteps / numSnapshots) * timeStep);
+
+				for(int i = 0; i < numStrategies; i++) {
+					out.printf(" %10.6f", frequencies[i]);
+				}
+
+				out.printf(" %10.6f%n", dynamics.meanPayoff(frequencies));
+			}
+
+			out.printf("(integrated in %.3f ms)%n", (System.nanoTime() - startTime) / 1e6);
+		}
+	}
+
+	/**
+	 * Runs the Replicator Dynamics from the command line, printing the results in the standard output
+	 * (see runCommand, for the usage).
+	 *
+	 * @param args the arguments of the Replicator Dynamics
+	 */
+	public static void main(String[] args) {
+		runCommand(args, System.out);
+	}
+}
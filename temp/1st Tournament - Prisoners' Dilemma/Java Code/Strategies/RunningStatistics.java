@@ -0,0 +1,204 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+
+/**
+ * Class responsible for the Running Statistics.
+ *
+ * Description:
+ * - A class responsible for the mean and the variance of a stream of values,
+ *   updated value by value (by the algorithm of Welford), without keeping the values,
+ *   so millions of Matches can be summarised in constant memory;
+ *
+ * - The statistics of two parts of the stream (for example, played by two threads)
+ *   can be merged (by the algorithm of Chan et al.), giving the same statistics
+ *   of the whole stream;
+ *
+ * - It's not safe for the use of many threads at the same time (each thread must have its own);
+ */
+public class RunningStatistics {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The quantile of the standard normal distribution, for a confidence of 95%
+	 */
+	public static final double Z_95 = 1.959963984540054;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The number of values
+	 */
+	private long count;
+
+	/**
+	 * The mean of the values
+	 */
+	private double mean;
+
+	/**
+	 * The sum of the squares of the differences to the mean of the values
+	 */
+	private double sumOfSquares;
+
+	/**
+	 * The minimum of the values
+	 */
+	private double minimum = Double.POSITIVE_INFINITY;
+
+	/**
+	 * The maximum of the values
+	 */
+	private double maximum = Double.NEGATIVE_INFINITY;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds new Running Statistics, without any value.
+	 */
+	public RunningStatistics() {
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Adds a value to the Running Statistics.
+	 *
+	 * @param value the value to add
+	 */
+	public void add(double value) {
+		this.count++;
+
+		double delta = value - this.mean;
+
+		this.mean += delta / this.count;
+		this.sumOfSquares += delta * (value - this.mean);
+
+		this.minimum = Math.min(this.minimum, value);
+		this.maximum = Math.max(this.maximum, value);
+	}
+
+	/**
+	 * Merges other Running Statistics into these ones, as if all their values were added to these ones.
+	 *
+	 * @param other the other Running Statistics
+	 */
+	public void merge(RunningStatistics other) {
+		if(other.count == 0) {
+			return;
+		}
+
+		if(this.count == 0) {
+			this.count = other.count;
+			this.mean = other.mean;
+			this.sumOfSquares = other.sumOfSquares;
+			this.minimum = other.minimum;
+			this.maximum = other.maximum;
+
+			return;
+		}
+
+		long totalCount = this.count + other.count;
+		double delta = other.mean - this.mean;
+
+		this.mean += delta * ( (double) other.count / totalCount );
+		this.sumOfSquares += other.sumOfSquares + ( delta * delta * ( ( (double) this.count * other.count ) / totalCount ) );
+		this.count = totalCount;
+
+		this.minimum = Math.min(this.minimum, other.minimum);
+		this.maximum = Math.max(this.maximum, other.maximum);
+	}
+
+	/**
+	 * Returns the number of values.
+	 *
+	 * @return the number of values
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Returns the mean of the values.
+	 *
+	 * @return the mean of the values
+	 */
+	public double getMean() {
+		return this.mean;
+	}
+
+	/**
+	 * Returns the variance of the values (of the sample, with n - 1 degrees of freedom).
+	 *
+	 * @return the variance of the values
+	 */
+	public double getVariance() {
+		return (this.count > 1) ? ( this.sumOfSquares / (this.count - 1) ) : 0.0;
+	}
+
+	/**
+	 * Returns the standard deviation of the values.
+	 *
+	 * @return the standard deviation of the values
+	 */
+	public double getStandardDeviation() {
+		return Math.sqrt(this.getVariance());
+	}
+
+	/**
+	 * Returns the standard error of the mean of the values.
+	 *
+	 * @return the standard error of the mean of the values
+	 */
+	public double getStandardError() {
+		return (this.count > 0) ? Math.sqrt(this.getVariance() / this.count) : 0.0;
+	}
+
+	/**
+	 * Returns the half-width of the confidence interval of the mean of the values,
+	 * for a confidence of 95% (by the normal approximation).
+	 *
+	 * @return the half-width of the confidence interval of the mean of the values
+	 */
+	public double getConfidenceHalfWidth() {
+		return Z_95 * this.getStandardError();
+	}
+
+	/**
+	 * Returns the minimum of the values.
+	 *
+	 * @return the minimum of the values
+	 */
+	public double getMinimum() {
+		return this.minimum;
+	}
+
+	/**
+	 * Returns the maximum of the values.
+	 *
+	 * @return the maximum of the values
+	 */
+	public double getMaximum() {
+		return this.maximum;
+	}
+}
@@ -0,0 +1,51 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+
+/**
+ * Interface responsible for a Simplex Sampler.
+ *
+ * Description:
+ * - An interface responsible for drawing the probabilities of a validation set
+ *   (a point of the simplex, i.e., non-negative probabilities that sum 1),
+ *   when it was not possible to infer the moves of the adversary in that
+ *   portion of the Game (an unexplored path);
+ *
+ * - Each Strategy can plug in its own Simplex Sampler, and reseed it
+ *   at the start of each Match, so the Matches can be reproduced;
+ */
+public interface SimplexSampler {
+
+	/**
+	 * Reseeds the Simplex Sampler, for a new Match.
+	 *
+	 * @param seed the seed of the random numbers of the Match
+	 */
+	void reseed(long seed);
+
+	/**
+	 * Draws the probabilities of a validation set, filling a portion of a given array.
+	 *
+	 * @param values the array where the probabilities will be kept
+	 *
+	 * @param offset the position of the first probability, in the array
+	 *
+	 * @param length the number of probabilities (the number of moves of the validation set)
+	 */
+	void sample(double[] values, int offset, int length);
+}
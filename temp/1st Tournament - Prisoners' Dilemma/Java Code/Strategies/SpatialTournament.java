@@ -0,0 +1,596 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Class responsible for the Spatial Tournament.
+ *
+ * Description:
+ * - A class responsible for a Tournament on a Graph Topology (a lattice or a random graph):
+ *   in each generation, each node plays against all its neighbours, with the expected payoffs
+ *   by round of a Payoff Matrix (computed only once), and then it imitates the Strategy of its
+ *   neighbour with the greatest total payoff, if it's greater than its own one
+ *   (the ties are broken by the first of those neighbours, so the evolution it's deterministic);
+ *
+ * - The Strategy of each node it's kept in an array of bytes and its total payoff in an array of doubles
+ *   (without one object by node), and the generations are synchronous: the new Strategies are written
+ *   in a second array of bytes, swapped with the first one at the end of each generation
+ *   (a double buffer), so all the nodes of a generation read the same Strategies;
+ *
+ * - Both the payoffs and the imitations of each generation are computed by the threads of
+ *   a Fork/Join Pool, by ranges of nodes, and the results never depend on the number of threads;
+ */
+public class SpatialTournament {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The maximum number of nodes of a task, without being split
+	 */
+	private static final int NODES_BY_TASK = 1 << 14;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The Graph Topology of the Tournament
+	 */
+	private final GraphTopology topology;
+
+	/**
+	 * The expected payoffs by round of the Payoff Matrix, by row (payoffs[(i * numStrategies) + j])
+	 */
+	private final double[] payoffsByPair;
+
+	/**
+	 * The number of Strategies
+	 */
+	private final int numStrategies;
+
+	/**
+	 * The Strategies of the nodes, in the current generation
+	 */
+	private byte[] strategies;
+
+	/**
+	 * The Strategies of the nodes, in the next generation (the second buffer)
+	 */
+	private byte[] nextStrategies;
+
+	/**
+	 * The total payoffs of the nodes, in the current generation
+	 */
+	private final double[] payoffs;
+
+	/**
+	 * The number of generations played
+	 */
+	private int numGenerations;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Spatial Tournament, on a given Graph Topology, with a given Payoff Matrix
+	 *   (all the nodes start with the first Strategy).
+	 *
+	 * @param topology the Graph Topology of the Tournament
+	 *
+	 * @param matrix the Payoff Matrix of the Strategies
+	 */
+	public SpatialTournament(GraphTopology topology, PayoffMatrix matrix) {
+		if(matrix.size() > Byte.MAX_VALUE) {
+			throw new IllegalArgumentException("The Spatial Tournament can't have more than " + Byte.MAX_VALUE + " Strategies!!!");
+		}
+
+		this.topology = topology;
+		this.numStrategies = matrix.size();
+
+		this.payoffsByPair = new double[this.numStrategies * this.numStrategies];
+
+		for(int i = 0; i < this.numStrategies; i++) {
+			for(int j = 0; j < this.numStrategies; j++) {
+				this.payoffsByPair[(i * this.numStrategies) + j] = matrix.get(i, j);
+			}
+		}
+
+		int numNodes = topology.getNumNodes();
+
+		this.strategies = new byte[numNodes];
+		this.nextStrategies = new byte[numNodes];
+		this.payoffs = new double[numNodes];
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Gives a random Strategy to each node, with given probabilities (each node uses its own position
+	 * of the same stream of a Counter Random, so the Strategies don't depend on the order of the nodes).
+	 *
+	 * @param frequencies the probabilities of each Strategy (normalised, if they don't sum 1)
+	 *
+	 * @param seed the key of the Counter Random
+	 *
+	 * @return the number of nodes of each Strategy
+	 */
+	public long[] initialise(double[] frequencies, long seed) {
+		if(frequencies.length != this.numStrategies) {
+			throw new IllegalArgumentException("There must be one frequency by Strategy of the Payoff Matrix!!!");
+		}
+
+		double total = 0;
+
+		for(double frequency : frequencies) {
+			if( !(frequency >= 0) ) {
+				throw new IllegalArgumentException("The frequencies can't be negative!!!");
+			}
+
+			total += frequency;
+		}
+
+		if( !(total > 0) ) {
+			throw new IllegalArgumentException("The frequencies must have, at least, one positive value!!!");
+		}
+
+		long streamBase = CounterRandom.streamBase(seed, 0L);
+		long[] counts = new long[this.numStrategies];
+
+		for(int node = 0; node < this.strategies.length; node++) {
+			double target = CounterRandom.uniform(streamBase, node + 1L) * total;
+			int strategy = 0;
+
+			while( (strategy < (this.numStrategies - 1)) && ( (target -= frequencies[strategy]) >= 0 ) ) {
+				strategy++;
+			}
+
+			// The Strategies with no probability are never chosen (even with the errors of the rounding)
+			while(frequencies[strategy] == 0) {
+				strategy--;
+			}
+
+			this.strategies[node] = (byte) strategy;
+			counts[strategy]++;
+		}
+
+		this.numGenerations = 0;
+
+		return counts;
+	}
+
+	/**
+	 * Returns the Strategy of a node, in the current generation.
+	 *
+	 * @param node the index of the node
+	 *
+	 * @return the index of the Strategy of the node
+	 */
+	public int getStrategy(int node) {
+		return this.strategies[node];
+	}
+
+	/**
+	 * Returns the total payoff of a node, in the last generation played.
+	 *
+	 * @param node the index of the node
+	 *
+	 * @return the total payoff of the node
+	 */
+	public double getPayoff(int node) {
+		return this.payoffs[node];
+	}
+
+	/**
+	 * Returns the number of generations played.
+	 *
+	 * @return the number of generations played
+	 */
+	public int getNumGenerations() {
+		return this.numGenerations;
+	}
+
+	/**
+	 * Computes the total payoffs of a range of nodes, against all their neighbours.
+	 *
+	 * @param fromNode the first node of the range (inclusive)
+	 *
+	 * @param toNode the last node of the range (exclusive)
+	 */
+	private void computePayoffs(int fromNode, int toNode) {
+		byte[] strategies = this.strategies;
+
+		for(int node = fromNode; node < toNode; node++) {
+			int row = strategies[node] * this.numStrategies;
+			int end = this.topology.endNeighbourOffset(node);
+
+			double payoff = 0;
+
+			for(int offset = this.topology.firstNeighbourOffset(node); offset < end; offset++) {
+				payoff += this.payoffsByPair[row + strategies[this.topology.neighbourAt(offset)]];
+			}
+
+			this.payoffs[node] = payoff;
+		}
+	}
+
+	/**
+	 * Computes the Strategies of a range of nodes, in the next generation, by imitating their best neighbours.
+	 *
+	 * @param fromNode the first node of the range (inclusive)
+	 *
+	 * @param toNode the last node of the range (exclusive)
+	 *
+	 * @return the number of nodes of each Strategy, in the range, followed by the number of nodes that changed it
+	 */
+	private long[] imitateBestNeighbours(int fromNode, int toNode) {
+		byte[] strategies = this.strategies;
+		byte[] nextStrategies = this.nextStrategies;
+
+		long[] counts = new long[this.numStrategies + 1];
+
+		for(int node = fromNode; node < toNode; node++) {
+			int end = this.topology.endNeighbourOffset(node);
+
+			byte bestStrategy = strategies[node];
+			double bestPayoff = this.payoffs[node];
+
+			for(int offset = this.topology.firstNeighbourOffset(node); offset < end; offset++) {
+				int neighbour = this.topology.neighbourAt(offset);
+
+				if(this.payoffs[neighbour] > bestPayoff) {
+					bestPayoff = this.payoffs[neighbour];
+					bestStrategy = strategies[neighbour];
+				}
+			}
+
+			nextStrategies[node] = bestStrategy;
+
+			counts[bestStrategy]++;
+
+			if(bestStrategy != strategies[node]) {
+				counts[this.numStrategies]++;
+			}
+		}
+
+		return counts;
+	}
+
+	/**
+	 * Plays a given number of generations, with a given number of threads.
+	 *
+	 * @param numGenerations the number of generations to play
+	 *
+	 * @param numThreads the number of threads to play the generations
+	 *
+	 * @param snapshotInterval the number of generations between the snapshots printed (0, for none)
+	 *
+	 * @param out the stream where the snapshots will be printed
+	 *
+	 * @return the number of nodes of each Strategy, after the last generation
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for a generation
+	 */
+	public long[] play(int numGenerations, int numThreads, int snapshotInterval, PrintStream out) throws InterruptedException {
+		ForkJoinPool pool = new ForkJoinPool(numThreads);
+
+		int numNodes = this.strategies.length;
+
+		long[] counts = null;
+
+		try {
+			for(int numGeneration = 0; numGeneration < numGenerations; numGeneration++) {
+				pool.submit(new PayoffRangeTask(0, numNodes)).get();
+
+				counts = pool.submit(new ImitationRangeTask(0, numNodes)).get();
+
+				// The double buffer: the Strategies of the next generation become the current ones
+				byte[] swap = this.strategies;
+
+				this.strategies = this.nextStrategies;
+				this.nextStrategies = swap;
+
+				this.numGenerations++;
+
+				if( (snapshotInterval > 0) &&
+					( ( (this.numGenerations % snapshotInterval) == 0 ) || (numGeneration == (numGenerations - 1)) ) ) {
+
+					this.printSnapshot(counts, out);
+				}
+
+				// No node changed its Strategy, so all the next generations would be the same
+				if(counts[this.numStrategies] == 0) {
+					if(snapshotInterval > 0) {
+						out.printf("(stable after %d generations)%n", this.numGenerations);
+					}
+
+					break;
+				}
+			}
+		}
+		catch(ExecutionException executionException) {
+			throw new IllegalStateException("A generation of the Spatial Tournament failed!!!", executionException.getCause());
+		}
+		finally {
+			pool.shutdownNow();
+		}
+
+		if(counts == null) {
+			counts = new long[this.numStrategies + 1];
+
+			for(byte strategy : this.strategies) {
+				counts[strategy]++;
+			}
+		}
+
+		long[] countsByStrategy = new long[this.numStrategies];
+
+		System.arraycopy(counts, 0, countsByStrategy, 0, this.numStrategies);
+
+		return countsByStrategy;
+	}
+
+	/**
+	 * Prints the frequencies of the Strategies, after the last generation played.
+	 *
+	 * @param counts the number of nodes of each Strategy, followed by the number of nodes that changed it
+	 *
+	 * @param out the stream where the frequencies will be printed
+	 */
+	private void printSnapshot(long[] counts, PrintStream out) {
+		int numNodes = this.strategies.length;
+
+		out.printf("%10d", this.numGenerations);
+
+		for(int i = 0; i < this.numStrategies; i++) {
+			out.printf(" %10.6f", (double) counts[i] / numNodes);
+		}
+
+		out.printf(" %10d%n", counts[this.numStrategies]);
+	}
+
+	/**
+	 * Plays a Spatial Tournament of the Gradual family, on a lattice or on a random graph,
+	 * from random Strategies, printing the frequencies of the Strategies along the generations.
+	 *
+	 * Usage: SpatialTournament [lattice|moore|random] [numNodes] [meanDegree] [numGenerations]
+	 *                          [snapshotInterval] [seed] [numThreads]
+	 *                          [maximumNumberOfIterations] [probabilityForNextIteration]
+	 *
+	 * @param args the arguments of the Spatial Tournament
+	 *
+	 * @param out the stream where the results will be printed
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for a generation
+	 */
+	static void runCommand(String[] args, PrintStream out) throws InterruptedException {
+		String topologyType = (args.length > 0) ? args[0] : "lattice";
+		int numNodes = (args.length > 1) ? Integer.parseInt(args[1]) : 1000000;
+		double meanDegree = (args.length > 2) ? Double.parseDouble(args[2]) : 8.0;
+		int numGenerations = (args.length > 3) ? Integer.parseInt(args[3]) : 1000;
+		int snapshotInterval = (args.length > 4) ? Integer.parseInt(args[4]) : 100;
+		long seed = (args.length > 5) ? Long.parseLong(args[5]) : 1L;
+		int numThreads = (args.length > 6) ? Integer.parseInt(args[6]) : Runtime.getRuntime().availableProcessors();
+		int maximumNumberOfIterations = (args.length > 7) ? Integer.parseInt(args[7]) : 1000;
+		double probabilityForNextIteration = (args.length > 8) ? Double.parseDouble(args[8]) : 0.99;
+
+		long startTime = System.nanoTime();
+
+		GraphTopology topology;
+
+		switch(topologyType) {
+			case "lattice":
+			case "moore":
+				topology = GraphTopology.squareLattice( (int) Math.round(Math.sqrt(numNodes)), topologyType.equals("moore") );
+				break;
+
+			case "random":
+				topology = GraphTopology.randomGraph(numNodes, meanDegree, seed);
+				break;
+
+			default:
+				throw new IllegalArgumentException("The topology must be lattice, moore or random!!!");
+		}
+
+		out.printf("Graph Topology: %s, %d nodes, %d edges (built in %.3f s)%n", topologyType,
+				   topology.getNumNodes(), topology.getNumEdges(), (System.nanoTime() - startTime) / 1e9);
+
+		PayoffMatrix matrix = PayoffMatrix.ofGradualFamily(new LocalGameTree(), maximumNumberOfIterations, probabilityForNextIteration);
+
+		matrix.print(out);
+
+		SpatialTournament tournament = new SpatialTournament(topology, matrix);
+
+		double[] frequencies = new double[matrix.size()];
+
+		Arrays.fill(frequencies, 1.0);
+
+		long[] counts = tournament.initialise(frequencies, seed);
+
+		out.printf("%n%10s", "generation");
+
+		for(int i = 0; i < matrix.size(); i++) {
+			out.printf(" %10s", "#" + i);
+		}
+
+		out.printf(" %10s%n", "changed");
+
+		out.printf("%10d", 0);
+
+		for(int i = 0; i < matrix.size(); i++) {
+			out.printf(" %10.6f", (double) counts[i] / topology.getNumNodes());
+		}
+
+		out.println();
+
+		startTime = System.nanoTime();
+
+		tournament.play(numGenerations, numThreads, snapshotInterval, out);
+
+		double elapsedTime = (System.nanoTime() - startTime) / 1e9;
+
+		out.printf("%nPlayed %d generations in %.3f s (%.1f ns by node and generation)%n",
+				   tournament.getNumGenerations(), elapsedTime,
+				   (elapsedTime * 1e9) / ( (double) topology.getNumNodes() * Math.max(1, tournament.getNumGenerations()) ));
+	}
+
+	/**
+	 * Runs the Spatial Tournament from the command line, printing the results in the standard output
+	 * (see runCommand, for the usage).
+	 *
+	 * @param args the arguments of the Spatial Tournament
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for a generation
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		runCommand(args, System.out);
+	}
+
+
+	// Auxiliary Classes:
+
+	/**
+	 * Class responsible for a task of the payoffs of the Spatial Tournament.
+	 *
+	 * Description:
+	 * - A class responsible for computing the total payoffs of a range of nodes,
+	 *   split in two halves while it's bigger than NODES_BY_TASK;
+	 */
+	private final class PayoffRangeTask extends RecursiveAction {
+
+		/**
+		 * The serial version UID of the task
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The first node of the range (inclusive)
+		 */
+		private final int fromNode;
+
+		/**
+		 * The last node of the range (exclusive)
+		 */
+		private final int toNode;
+
+		/**
+		 * Constructor #1:
+		 * - Builds a new task, for a range of nodes.
+		 *
+		 * @param fromNode the first node of the range (inclusive)
+		 *
+		 * @param toNode the last node of the range (exclusive)
+		 */
+		private PayoffRangeTask(int fromNode, int toNode) {
+			this.fromNode = fromNode;
+			this.toNode = toNode;
+		}
+
+		/**
+		 * Computes the total payoffs of the range of nodes, splitting it in two halves,
+		 * while it's bigger than NODES_BY_TASK.
+		 */
+		@Override
+		protected void compute() {
+			if( (this.toNode - this.fromNode) <= NODES_BY_TASK ) {
+				computePayoffs(this.fromNode, this.toNode);
+
+				return;
+			}
+
+			int middleNode = ( this.fromNode + this.toNode ) >>> 1;
+
+			ForkJoinTask.invokeAll(new PayoffRangeTask(this.fromNode, middleNode),
+								   new PayoffRangeTask(middleNode, this.toNode));
+		}
+	}
+
+	/**
+	 * Class responsible for a task of the imitations of the Spatial Tournament.
+	 *
+	 * Description:
+	 * - A class responsible for computing the Strategies of a range of nodes, in the next generation,
+	 *   split in two halves while it's bigger than NODES_BY_TASK, summing the counts of both halves;
+	 */
+	private final class ImitationRangeTask extends RecursiveTask<long[]> {
+
+		/**
+		 * The serial version UID of the task
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The first node of the range (inclusive)
+		 */
+		private final int fromNode;
+
+		/**
+		 * The last node of the range (exclusive)
+		 */
+		private final int toNode;
+
+		/**
+		 * Constructor #1:
+		 * - Builds a new task, for a range of nodes.
+		 *
+		 * @param fromNode the first node of the range (inclusive)
+		 *
+		 * @param toNode the last node of the range (exclusive)
+		 */
+		private ImitationRangeTask(int fromNode, int toNode) {
+			this.fromNode = fromNode;
+			this.toNode = toNode;
+		}
+
+		/**
+		 * Computes the Strategies of the range of nodes, in the next generation, splitting it in two halves,
+		 * while it's bigger than NODES_BY_TASK.
+		 *
+		 * @return the number of nodes of each Strategy, in the range, followed by the number of nodes that changed it
+		 */
+		@Override
+		protected long[] compute() {
+			if( (this.toNode - this.fromNode) <= NODES_BY_TASK ) {
+				return imitateBestNeighbours(this.fromNode, this.toNode);
+			}
+
+			int middleNode = ( this.fromNode + this.toNode ) >>> 1;
+
+			ImitationRangeTask firstHalf = new ImitationRangeTask(this.fromNode, middleNode);
+			ImitationRangeTask secondHalf = new ImitationRangeTask(middleNode, this.toNode);
+
+			ForkJoinTask.invokeAll(firstHalf, secondHalf);
+
+			long[] counts = firstHalf.join();
+			long[] countsOfSecondHalf = secondHalf.join();
+
+			for(int i = 0; i < counts.length; i++) {
+				counts[i] += countsOfSecondHalf[i];
+			}
+
+			return counts;
+		}
+	}
+}
@@ -0,0 +1,308 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.function.Supplier;
+
+/**
+ * Class responsible for the Strategy Log.
+ *
+ * Description:
+ * - A class responsible for the messages of the Strategies, with levels,
+ *   written in the console by an Asynchronous Log Appender, in background;
+ *
+ * - The minimum level enabled it's read once, from the system property
+ *   LEVEL_PROPERTY (DEBUG, INFO, WARN, ERROR or OFF), and it's INFO, by default,
+ *   so the analysis of each decision (DEBUG) it's disabled, by default;
+ *
+ * - An unknown level in the system property LEVEL_PROPERTY doesn't stop the Strategy:
+ *   a warning it's written in the console and the level it's INFO;
+ *
+ * - When a level it's disabled, its messages aren't built neither written,
+ *   and the Asynchronous Log Appender it's only started by the first message enabled;
+ *
+ * - The messages can be constant, constant with arguments (a text, a whole number and/or
+ *   a decimal number, each one replacing the next {} of the message, or following it,
+ *   joined only in background) or lazy (built only in background, so they must only use
+ *   values that don't change after the message it's logged);
+ *
+ * - The arguments (e.g., the label of a move) are resolved by the calling thread,
+ *   and not by the thread of the Asynchronous Log Appender, since the Strategy keeps changing
+ *   its state while the message waits to be written;
+ *
+ * - A message with arguments allocates nothing, so it's the one used in the hot paths
+ *   (e.g., each round of a Decision), where a lazy message would allocate its builder,
+ *   even when its level it's disabled;
+ */
+public final class StrategyLog {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The system property with the minimum level enabled
+	 */
+	public static final String LEVEL_PROPERTY = "play.logLevel";
+
+	/**
+	 * The minimum level enabled
+	 */
+	private static final LogLevel LEVEL = parseLevel(System.getProperty(LEVEL_PROPERTY));
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - It's not possible to build instances of this class.
+	 */
+	private StrategyLog() {
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the level with a given name, ignoring its case
+	 * (INFO, if there's no name or if the name it's not of any level).
+	 *
+	 * @param name the name of the level, configured in the system property LEVEL_PROPERTY
+	 *
+	 * @return the level with a given name (INFO, if there's no name or if the name it's not of any level)
+	 */
+	private static LogLevel parseLevel(String name) {
+		if(name == null) {
+			return LogLevel.INFO;
+		}
+
+		try {
+			return LogLevel.valueOf(name.trim().toUpperCase());
+		}
+		catch(IllegalArgumentException illegalArgumentException) {
+
+			// The Strategy Log isn't ready yet, so the warning it's written directly in the console
+			System.err.println("[Strategy Log] Unknown level \"" + name + "\" in the system property " + LEVEL_PROPERTY + ", using " + LogLevel.INFO + "!!!");
+
+			return LogLevel.INFO;
+		}
+	}
+
+	/**
+	 * Class responsible for holding the Asynchronous Log Appender,
+	 * started only by the first message enabled.
+	 */
+	private static final class AppenderHolder {
+
+		/**
+		 * The Asynchronous Log Appender of the Strategy Log
+		 */
+		private static final AsyncLogAppender APPENDER = new AsyncLogAppender();
+	}
+
+	/**
+	 * Returns true if, the messages of a given level are enabled and false, otherwise.
+	 *
+	 * @param level the level of the messages
+	 *
+	 * @return true if, the messages of a given level are enabled and false, otherwise
+	 */
+	public static boolean isEnabled(LogLevel level) {
+		return LEVEL.enables(level);
+	}
+
+	/**
+	 * Logs a constant message, with a given level.
+	 *
+	 * @param level the level of the message
+	 *
+	 * @param message the message
+	 */
+	public static void log(LogLevel level, String message) {
+		if(LEVEL.enables(level)) {
+			AppenderHolder.APPENDER.append(level, message, null, 0, null, 0, 0.0, null);
+		}
+	}
+
+	/**
+	 * Logs a constant message with a whole number, with a given level.
+	 *
+	 * @param level the level of the message
+	 *
+	 * @param message the message, with a {} for the value (or followed by the value)
+	 *
+	 * @param value the value
+	 */
+	public static void log(LogLevel level, String message, long value) {
+		if(LEVEL.enables(level)) {
+			AppenderHolder.APPENDER.append(level, message, null, AsyncLogAppender.VALUE_ARGUMENT, null, value, 0.0, null);
+		}
+	}
+
+	/**
+	 * Logs a constant message with a text and a decimal number, with a given level.
+	 *
+	 * @param level the level of the message
+	 *
+	 * @param message the message, with a {} for the text and another for the decimal number
+	 *
+	 * @param text the text (e.g., the label of a move)
+	 *
+	 * @param decimal the decimal number (e.g., the probability of a move)
+	 */
+	public static void log(LogLevel level, String message, String text, double decimal) {
+		if(LEVEL.enables(level)) {
+			AppenderHolder.APPENDER.append(level, message, null, AsyncLogAppender.TEXT_ARGUMENT | AsyncLogAppender.DECIMAL_ARGUMENT,
+										   text, 0, decimal, null);
+		}
+	}
+
+	/**
+	 * Logs a constant message with a text, with a given level.
+	 *
+	 * @param level the level of the message
+	 *
+	 * @param message the message, with a {} for the text (or followed by the text)
+	 *
+	 * @param text the text (e.g., the label of a move)
+	 */
+	public static void log(LogLevel level, String message, String text) {
+		if(LEVEL.enables(level)) {
+			AppenderHolder.APPENDER.append(level, message, null, AsyncLogAppender.TEXT_ARGUMENT, text, 0, 0.0, null);
+		}
+	}
+
+	/**
+	 * Logs a lazy message, with a given level.
+	 *
+	 * @param level the level of the message
+	 *
+	 * @param lazyMessage the builder of the message, only called in background
+	 *        (so it must only capture immutable values, already resolved by the calling thread)
+	 */
+	public static void log(LogLevel level, Supplier<String> lazyMessage) {
+		if(LEVEL.enables(level)) {
+			AppenderHolder.APPENDER.append(level, null, lazyMessage, 0, null, 0, 0.0, null);
+		}
+	}
+
+	/**
+	 * Logs a constant message with an error, with a given level.
+	 *
+	 * @param level the level of the message
+	 *
+	 * @param message the message
+	 *
+	 * @param throwable the error
+	 */
+	public static void log(LogLevel level, String message, Throwable throwable) {
+		if(LEVEL.enables(level)) {
+			AppenderHolder.APPENDER.append(level, message, null, 0, null, 0, 0.0, throwable);
+		}
+	}
+
+	/**
+	 * Logs a constant message, with the level DEBUG.
+	 *
+	 * @param message the message
+	 */
+	public static void debug(String message) {
+		log(LogLevel.DEBUG, message);
+	}
+
+	/**
+	 * Logs a constant message with a whole number, with the level DEBUG.
+	 *
+	 * @param message the message, with a {} for the value (or followed by the value)
+	 *
+	 * @param value the value
+	 */
+	public static void debug(String message, long value) {
+		log(LogLevel.DEBUG, message, value);
+	}
+
+	/**
+	 * Logs a constant message with a text, with the level DEBUG.
+	 *
+	 * @param message the message, with a {} for the text (or followed by the text)
+	 *
+	 * @param text the text (e.g., the label of a move)
+	 */
+	public static void debug(String message, String text) {
+		log(LogLevel.DEBUG, message, text);
+	}
+
+	/**
+	 * Logs a constant message with a text and a decimal number, with the level DEBUG.
+	 *
+	 * @param message the message, with a {} for the text and another for the decimal number
+	 *
+	 * @param text the text (e.g., the label of a move)
+	 *
+	 * @param decimal the decimal number (e.g., the probability of a move)
+	 */
+	public static void debug(String message, String text, double decimal) {
+		log(LogLevel.DEBUG, message, text, decimal);
+	}
+
+	/**
+	 * Logs a lazy message, with the level DEBUG.
+	 *
+	 * @param lazyMessage the builder of the message, only called in background
+	 *        (so it must only capture immutable values, already resolved by the calling thread)
+	 */
+	public static void debug(Supplier<String> lazyMessage) {
+		log(LogLevel.DEBUG, lazyMessage);
+	}
+
+	/**
+	 * Logs a constant message, with the level INFO.
+	 *
+	 * @param message the message
+	 */
+	public static void info(String message) {
+		log(LogLevel.INFO, message);
+	}
+
+	/**
+	 * Logs a lazy message, with the level INFO.
+	 *
+	 * @param lazyMessage the builder of the message, only called in background
+	 *        (so it must only capture immutable values, already resolved by the calling thread)
+	 */
+	public static void info(Supplier<String> lazyMessage) {
+		log(LogLevel.INFO, lazyMessage);
+	}
+
+	/**
+	 * Logs a constant message, with the level ERROR.
+	 *
+	 * @param message the message
+	 */
+	public static void error(String message) {
+		log(LogLevel.ERROR, message);
+	}
+
+	/**
+	 * Logs a constant message with an error, with the level ERROR.
+	 *
+	 * @param message the message
+	 *
+	 * @param throwable the error
+	 */
+	public static void error(String message, Throwable throwable) {
+		log(LogLevel.ERROR, message, throwable);
+	}
+}
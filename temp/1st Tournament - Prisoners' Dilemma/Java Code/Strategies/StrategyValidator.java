@@ -0,0 +1,253 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+/**
+ * Class responsible for the Strategy Validator.
+ *
+ * Description:
+ * - A class responsible for checking the probabilities of a Strategy Vector, by information set
+ *   (over the Validation Set Layout of the Game Tree), before they are provided to the Referee,
+ *   so an invalid Strategy never reaches it (and never costs a round trip and a full recompute);
+ *
+ * - A validation set it's sent unchanged if, all its probabilities are in [0, 1]
+ *   and their sum it's 1, with the error accepted by the Referee (PROBABILITIES_SUM_EPSILON,
+ *   the same of the Decisions and of the Local Referee), so the rounding errors
+ *   of the arithmetic of the Decisions are never rewritten;
+ *
+ * - Any other validation set with only a small error (of, at most, REPAIR_EPSILON) it's repaired in place:
+ *   the negative probabilities become 0, the other ones are normalised and the last one it's
+ *   what's left of the sum 1, so the validation set sums exactly 1;
+ *
+ * - A validation set with a greater error (or with a probability that it's not a number)
+ *   can't be repaired, so it's drawn again by the Simplex Sampler, as an unexplored path;
+ *
+ * - After a Strategy was rejected by the Referee, the resample can be forced,
+ *   so all the validation sets that don't sum exactly 1 are drawn again, instead of normalised;
+ */
+public final class StrategyValidator {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The maximum error accepted in the sum of the probabilities of a validation set
+	 */
+	public static final double PROBABILITIES_SUM_EPSILON = 1e-9;
+
+	/**
+	 * The maximum error of the probabilities of a validation set, that can be repaired by normalising it
+	 * (a greater error it's a validation set that wasn't filled or that was filled wrongly, so it's drawn again)
+	 */
+	public static final double REPAIR_EPSILON = 1e-6;
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The Validation Set Layout of the Game Tree
+	 */
+	private final ValidationSetLayout layout;
+
+	/**
+	 * The number of validation sets repaired, within the REPAIR_EPSILON
+	 */
+	private long numRepaired;
+
+	/**
+	 * The number of validation sets drawn again, by the Simplex Sampler
+	 */
+	private long numResampled;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Strategy Validator, for a given Validation Set Layout.
+	 *
+	 * @param layout the Validation Set Layout of the Game Tree
+	 */
+	public StrategyValidator(ValidationSetLayout layout) {
+		this.layout = layout;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns true if, a given sum of the probabilities of a validation set it's 1,
+	 * with an error of, at most, PROBABILITIES_SUM_EPSILON and false, otherwise.
+	 *
+	 * @param sum the sum of the probabilities of a validation set
+	 *
+	 * @return true if, the sum it's 1, with an error of, at most, PROBABILITIES_SUM_EPSILON and false, otherwise
+	 */
+	public static boolean sumsOne(double sum) {
+		return Math.abs(sum - 1) <= PROBABILITIES_SUM_EPSILON;
+	}
+
+	/**
+	 * Returns the number of validation sets repaired, within the REPAIR_EPSILON.
+	 *
+	 * @return the number of validation sets repaired, within the REPAIR_EPSILON
+	 */
+	public long getNumRepaired() {
+		return this.numRepaired;
+	}
+
+	/**
+	 * Returns the number of validation sets drawn again, by the Simplex Sampler.
+	 *
+	 * @return the number of validation sets drawn again, by the Simplex Sampler
+	 */
+	public long getNumResampled() {
+		return this.numResampled;
+	}
+
+	/**
+	 * Returns the Validation Set Layout of the Game Tree.
+	 *
+	 * @return the Validation Set Layout of the Game Tree
+	 */
+	public ValidationSetLayout getLayout() {
+		return this.layout;
+	}
+
+	/**
+	 * Checks all the validation sets of a Strategy Vector and repairs, in place, the ones that don't sum 1
+	 * (with an error of, at most, PROBABILITIES_SUM_EPSILON): normalising them, if their error it's within
+	 * the REPAIR_EPSILON, or drawing them again, by the Simplex Sampler, otherwise.
+	 *
+	 * @param myStrategy the Strategy Vector to check and repair
+	 *
+	 * @param sampler the Simplex Sampler of the current Match, to draw the validation sets that can't be repaired
+	 *
+	 * @return the number of validation sets drawn again (0, if all of them were valid or only normalised)
+	 */
+	public int repair(StrategyVector myStrategy, SimplexSampler sampler) {
+		return this.repair(myStrategy, sampler, false);
+	}
+
+	/**
+	 * Checks all the validation sets of a Strategy Vector and repairs, in place, the ones that don't sum 1
+	 * (with an error of, at most, PROBABILITIES_SUM_EPSILON or, if the resample it's forced, exactly 1):
+	 * normalising them, if their error it's within the REPAIR_EPSILON (and the resample it's not forced),
+	 * or drawing them again, by the Simplex Sampler, otherwise.
+	 *
+	 * @param myStrategy the Strategy Vector to check and repair
+	 *
+	 * @param sampler the Simplex Sampler of the current Match, to draw the validation sets that can't be repaired
+	 *
+	 * @param forceResample true if, all the validation sets that don't sum exactly 1 are drawn again
+	 *        (after a Strategy was rejected by the Referee) and false, otherwise
+	 *
+	 * @return the number of validation sets drawn again (0, if all of them were valid or only normalised)
+	 */
+	public int repair(StrategyVector myStrategy, SimplexSampler sampler, boolean forceResample) {
+		int numResampledSets = 0;
+
+		// The error accepted in the sum of a validation set that it's sent unchanged
+		double sumEpsilon = forceResample ? 0.0 : PROBABILITIES_SUM_EPSILON;
+
+		for(int set = 0; set < this.layout.getNumSets(); set++) {
+			int offset = this.layout.getOffset(set);
+			int length = this.layout.getLength(set);
+
+			if(this.isValid(myStrategy, offset, length, 0.0, sumEpsilon)) {
+				continue;
+			}
+
+			if(!forceResample && this.isValid(myStrategy, offset, length, REPAIR_EPSILON, REPAIR_EPSILON)) {
+				this.normalise(myStrategy, offset, length);
+				this.numRepaired++;
+			}
+			else {
+				myStrategy.sample(offset, length, sampler);
+				this.numResampled++;
+				numResampledSets++;
+			}
+		}
+
+		return numResampledSets;
+	}
+
+	/**
+	 * Returns true if, all the probabilities of a validation set are in [0, 1] and their sum it's 1,
+	 * with errors of, at most, the given epsilons and false, otherwise.
+	 *
+	 * @param myStrategy the Strategy Vector
+	 *
+	 * @param offset the ordinal of the first move of the validation set
+	 *
+	 * @param length the number of moves of the validation set
+	 *
+	 * @param probabilityEpsilon the maximum error accepted in each probability
+	 *
+	 * @param sumEpsilon the maximum error accepted in the sum of the probabilities
+	 *
+	 * @return true if, the validation set it's valid, with errors of, at most, the given epsilons and false, otherwise
+	 */
+	private boolean isValid(StrategyVector myStrategy, int offset, int length, double probabilityEpsilon, double sumEpsilon) {
+		double sum = 0;
+
+		for(int move = offset; move < (offset + length); move++) {
+			double probability = myStrategy.get(move);
+
+			// The comparisons are false for the probabilities that are not a number
+			if( !( (probability >= -probabilityEpsilon) && (probability <= (1 + probabilityEpsilon)) ) ) {
+				return false;
+			}
+
+			sum += probability;
+		}
+
+		return (length == 0) || (Math.abs(sum - 1) <= sumEpsilon);
+	}
+
+	/**
+	 * Normalises the probabilities of a validation set with a small error:
+	 * the negative probabilities become 0, the other ones are divided by their sum
+	 * and the last one it's what's left of the sum 1, so the validation set sums exactly 1.
+	 *
+	 * @param myStrategy the Strategy Vector
+	 *
+	 * @param offset the ordinal of the first move of the validation set
+	 *
+	 * @param length the number of moves of the validation set
+	 */
+	private void normalise(StrategyVector myStrategy, int offset, int length) {
+		double sum = 0;
+
+		for(int move = offset; move < (offset + length); move++) {
+			double probability = Math.max(0.0, myStrategy.get(move));
+
+			myStrategy.put(move, probability);
+			sum += probability;
+		}
+
+		double partialSum = 0;
+
+		for(int move = offset; move < (offset + length - 1); move++) {
+			double probability = Math.min(myStrategy.get(move) / sum, 1.0 - partialSum);
+
+			myStrategy.put(move, probability);
+			partialSum += probability;
+		}
+
+		myStrategy.put(offset + length - 1, Math.max(0.0, 1.0 - partialSum));
+	}
+}
@@ -0,0 +1,306 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Class responsible for the Strategy Vector.
+ *
+ * Description:
+ * - A class responsible for keeping the probabilities of all the moves
+ *   of a Game Tree, in a primitive array, addressed by the ordinal of each move
+ *   (its position in the keys of the Play Strategy);
+ *
+ * - It's bound once, to the keys of the Game Tree, and then the Strategies
+ *   write directly into it, in each round, without boxing or hashing;
+ *
+ * - The labels of the moves are parsed only once, by a Move Label Codec, when it's bound,
+ *   so the Strategies read the Player and the action of each move, by ordinal;
+ *
+ * - The probabilities are only translated to the Play Strategy
+ *   (with its String keys and Double values), at the boundary,
+ *   right before the Strategy it's provided to the Referee;
+ */
+public class StrategyVector {
+
+	// Global Instance Variables:
+
+	/**
+	 * The labels of the moves, by ordinal
+	 */
+	private final String[] labels;
+
+	/**
+	 * The Move Label Codec of the labels of the moves
+	 */
+	private final MoveLabelCodec codec;
+
+	/**
+	 * The probabilities of the moves, by ordinal
+	 */
+	private final double[] probabilities;
+
+	/**
+	 * The maximum number of iterations remaining for the current Game,
+	 * in the current round
+	 */
+	private int maximumNumberOfIterations;
+
+	/**
+	 * The probability to continue playing to the next iteration,
+	 * in the current round
+	 */
+	private double probabilityForNextIteration;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Strategy Vector, bound to the keys of a Play Strategy.
+	 *
+	 * @param myStrategy the Play Strategy, which keys will be bound
+	 */
+	public StrategyVector(PlayStrategy myStrategy) {
+		this(myStrategy.keyIterator());
+	}
+
+	/**
+	 * Constructor #2:
+	 * - Builds a new Strategy Vector, bound to the given keys
+	 *   (in the order that the Referee iterates them).
+	 *
+	 * @param keys the keys, which will be bound
+	 */
+	public StrategyVector(Iterator<String> keys) {
+		List<String> labels = new ArrayList<String>();
+
+		while(keys.hasNext()) {
+			labels.add(keys.next());
+		}
+
+		this.labels = labels.toArray(new String[labels.size()]);
+		this.codec = new MoveLabelCodec(this.labels);
+		this.probabilities = new double[this.labels.length];
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Prepares the Strategy Vector for a new round, keeping the information
+	 * of the round requested by the Referee.
+	 *
+	 * @param maximumNumberOfIterations the maximum number of iterations remaining for the current Game
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 */
+	public void prepareRound(int maximumNumberOfIterations, double probabilityForNextIteration) {
+		this.maximumNumberOfIterations = maximumNumberOfIterations;
+		this.probabilityForNextIteration = probabilityForNextIteration;
+	}
+
+	/**
+	 * Prepares the Strategy Vector for a new round, requested by the Referee.
+	 *
+	 * @param myStrategy the Play Strategy requested by the Referee
+	 */
+	public void prepareRound(PlayStrategy myStrategy) {
+		this.prepareRound(myStrategy.getMaximumNumberOfIterations(), myStrategy.probabilityForNextIteration());
+	}
+
+	/**
+	 * Returns the number of moves of the Strategy Vector.
+	 *
+	 * @return the number of moves of the Strategy Vector
+	 */
+	public int size() {
+		return this.labels.length;
+	}
+
+	/**
+	 * Returns the label of the move related to a given ordinal.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @return the label of the move related to a given ordinal
+	 */
+	public String getLabel(int move) {
+		return this.labels[move];
+	}
+
+	/**
+	 * Returns the Move Label Codec of the labels of the moves.
+	 *
+	 * @return the Move Label Codec of the labels of the moves
+	 */
+	public MoveLabelCodec getCodec() {
+		return this.codec;
+	}
+
+	/**
+	 * Returns the Player of the move related to a given ordinal.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @return the Player of the move (or -1, if its label has no Player)
+	 */
+	public int getPlayer(int move) {
+		return this.codec.getPlayer(move);
+	}
+
+	/**
+	 * Returns true if, the move related to a given ordinal it's a "Cooperate" action and false, otherwise.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @return true if, the move related to a given ordinal it's a "Cooperate" action and false, otherwise
+	 */
+	public boolean isCooperate(int move) {
+		return this.codec.isCooperate(move);
+	}
+
+	/**
+	 * Returns true if, the move related to a given ordinal it's a "Defect" action and false, otherwise.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @return true if, the move related to a given ordinal it's a "Defect" action and false, otherwise
+	 */
+	public boolean isDefect(int move) {
+		return this.codec.isDefect(move);
+	}
+
+	/**
+	 * Sets the probability of the move related to a given ordinal.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @param probability the probability of the move
+	 */
+	public void put(int move, double probability) {
+		this.probabilities[move] = probability;
+	}
+
+	/**
+	 * Returns the probability of the move related to a given ordinal.
+	 *
+	 * @param move the ordinal of the move
+	 *
+	 * @return the probability of the move related to a given ordinal
+	 */
+	public double get(int move) {
+		return this.probabilities[move];
+	}
+
+	/**
+	 * Returns the sum of the probabilities of a range of moves (usually, an information set).
+	 *
+	 * @param offset the ordinal of the first move of the range
+	 *
+	 * @param length the number of moves of the range
+	 *
+	 * @return the sum of the probabilities of the range of moves
+	 */
+	public double sum(int offset, int length) {
+		double sum = 0;
+
+		for(int move = offset; move < (offset + length); move++) {
+			sum += this.probabilities[move];
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Draws the probabilities of a range of moves (usually, an unexplored information set),
+	 * directly over the probabilities of the Strategy Vector, without any temporary array.
+	 *
+	 * @param offset the ordinal of the first move of the range
+	 *
+	 * @param length the number of moves of the range
+	 *
+	 * @param sampler the Simplex Sampler, to draw the probabilities
+	 */
+	public void sample(int offset, int length, SimplexSampler sampler) {
+		sampler.sample(this.probabilities, offset, length);
+	}
+
+	/**
+	 * Fills the probabilities of all the information sets of a Validation Set Layout
+	 * with a pure action: the move with the given action of each information set
+	 * (by its position, in the information set) gets 1.0 and the other ones get 0.0.
+	 *
+	 * @param layout the Validation Set Layout of the Game Tree
+	 *
+	 * @param action the position of the move played in each information set (COOPERATE_ACTION or DEFECT_ACTION)
+	 */
+	public void fillPureAction(ValidationSetLayout layout, int action) {
+		for(int set = 0; set < layout.getNumSets(); set++) {
+			int offset = layout.getOffset(set);
+			int length = layout.getLength(set);
+
+			for(int i = 0; i < length; i++) {
+				this.probabilities[offset + i] = (i == action) ? 1.0 : 0.0;
+			}
+		}
+	}
+
+	/**
+	 * Returns the maximum number of iterations remaining for the current Game,
+	 * in the current round.
+	 *
+	 * @return the maximum number of iterations remaining for the current Game
+	 */
+	public int getMaximumNumberOfIterations() {
+		return this.maximumNumberOfIterations;
+	}
+
+	/**
+	 * Returns the probability to continue playing to the next iteration,
+	 * in the current round.
+	 *
+	 * @return the probability to continue playing to the next iteration
+	 */
+	public double probabilityForNextIteration() {
+		return this.probabilityForNextIteration;
+	}
+
+	/**
+	 * Translates all the probabilities of the Strategy Vector to a Play Strategy
+	 * (it's the only place where the probabilities are boxed).
+	 *
+	 * @param myStrategy the Play Strategy, that will be provided to the Referee
+	 */
+	public void writeTo(PlayStrategy myStrategy) {
+		for(int move = 0; move < this.labels.length; move++) {
+			myStrategy.put(this.labels[move], this.probabilities[move]);
+		}
+	}
+
+	/**
+	 * Copies all the probabilities of the Strategy Vector to a Local Play Strategy.
+	 *
+	 * @param myStrategy the Local Play Strategy, that will be provided to the Local Referee
+	 */
+	public void writeTo(LocalPlayStrategy myStrategy) {
+		myStrategy.setProbabilities(this.probabilities);
+	}
+}
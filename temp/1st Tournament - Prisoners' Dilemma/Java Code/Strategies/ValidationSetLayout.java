@@ -0,0 +1,131 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import java.util.List;
+
+/**
+ * Class responsible for the Validation Set Layout.
+ *
+ * Description:
+ * - A class responsible for the grouping of the moves of a Game Tree by information set,
+ *   computed only once from its validation set (the number of possible moves, by information set):
+ *   the ordinal of the first move and the number of moves of each information set,
+ *   over the same ordinals of the Strategy Vector;
+ *
+ * - In each round, the Strategies walk only these two arrays of ints, so the checks of the
+ *   probabilities that don't sum 1 and the filling of the first round are tight loops,
+ *   without the iterators and the boxed values of the validation set;
+ *
+ * - It's immutable, so it's safe for the use of many threads at the same time;
+ */
+public final class ValidationSetLayout {
+
+	// Global Instance Variables:
+
+	/**
+	 * The ordinals of the first moves of the information sets, by index
+	 */
+	private final int[] offsets;
+
+	/**
+	 * The number of possible moves of the information sets, by index
+	 */
+	private final int[] lengths;
+
+	/**
+	 * The number of moves of all the information sets
+	 */
+	private final int numMoves;
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1:
+	 * - Builds a new Validation Set Layout, from a given validation set.
+	 *
+	 * @param validationSet the validation set (the number of possible moves, by information set)
+	 */
+	public ValidationSetLayout(List<Integer> validationSet) {
+		int numSets = validationSet.size();
+
+		this.offsets = new int[numSets];
+		this.lengths = new int[numSets];
+
+		int offset = 0;
+		int set = 0;
+
+		for(int possibleMoves : validationSet) {
+			if(possibleMoves < 0) {
+				throw new IllegalArgumentException("An information set can't have a negative number of moves!!!");
+			}
+
+			this.offsets[set] = offset;
+			this.lengths[set] = possibleMoves;
+
+			offset += possibleMoves;
+			set++;
+		}
+
+		this.numMoves = offset;
+	}
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the number of information sets.
+	 *
+	 * @return the number of information sets
+	 */
+	public int getNumSets() {
+		return this.offsets.length;
+	}
+
+	/**
+	 * Returns the ordinal of the first move of an information set.
+	 *
+	 * @param set the index of the information set
+	 *
+	 * @return the ordinal of the first move of the information set
+	 */
+	public int getOffset(int set) {
+		return this.offsets[set];
+	}
+
+	/**
+	 * Returns the number of possible moves of an information set.
+	 *
+	 * @param set the index of the information set
+	 *
+	 * @return the number of possible moves of the information set
+	 */
+	public int getLength(int set) {
+		return this.lengths[set];
+	}
+
+	/**
+	 * Returns the number of moves of all the information sets
+	 * (which can't be greater than the size of the Strategy Vector).
+	 *
+	 * @return the number of moves of all the information sets
+	 */
+	public int getNumMoves() {
+		return this.numMoves;
+	}
+}
@@ -0,0 +1,69 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Asynchronous Log Appender.
+ *
+ * Description:
+ * - A class responsible for checking that the arguments of a message are joined to it,
+ *   only by the background thread, each one replacing the next {} of the message
+ *   (or appended to it, if there's no {} left), in the order of the messages;
+ */
+public class AsyncLogAppenderTest {
+
+	// Methods/Functions:
+
+	@Test
+	public void theArgumentsReplaceThePlaceholdersOrFollowTheMessage() {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+		AsyncLogAppender appender = new AsyncLogAppender(16, new PrintStream(output, true), new PrintStream(errors, true));
+
+		appender.append(LogLevel.DEBUG, "Constant", null, 0, null, 0, 0.0, null);
+		appender.append(LogLevel.DEBUG, "Setting {} with probability of 1.0", null,
+						AsyncLogAppender.TEXT_ARGUMENT, "1:1:Cooperate", 0, 0.0, null);
+		appender.append(LogLevel.DEBUG, "My Opponent (as Player no. {}) Defects!!!", null,
+						AsyncLogAppender.VALUE_ARGUMENT, null, 2, 0.0, null);
+		appender.append(LogLevel.DEBUG, "Number of Defects: ", null,
+						AsyncLogAppender.VALUE_ARGUMENT, null, 7, 0.0, null);
+		appender.append(LogLevel.DEBUG, "Setting {} with probability of {}", null,
+						AsyncLogAppender.TEXT_ARGUMENT | AsyncLogAppender.DECIMAL_ARGUMENT, "2:1:Defect", 0, 0.25, null);
+		appender.append(LogLevel.WARN, null, () -> "Lazy", 0, null, 0, 0.0, null);
+
+		appender.stop();
+
+		String[] lines = output.toString().split("\\R");
+
+		assertArrayEquals(new String[] {"Constant",
+										"Setting 1:1:Cooperate with probability of 1.0",
+										"My Opponent (as Player no. 2) Defects!!!",
+										"Number of Defects: 7",
+										"Setting 2:1:Defect with probability of 0.25"}, lines);
+
+		assertTrue(errors.toString(), errors.toString().startsWith("Lazy"));
+	}
+}
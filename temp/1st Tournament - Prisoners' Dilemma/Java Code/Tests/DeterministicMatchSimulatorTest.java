@@ -0,0 +1,177 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Deterministic Match Simulator.
+ *
+ * Description:
+ * - A class responsible for checking that the fast-forward of the Deterministic Match Simulator
+ *   never changes the result of a Match, against the same Match simulated round by round,
+ *   for the Gradual family and the Classic Machines;
+ *
+ * - The Matches against the Always Defect (where the counters grow without any bound,
+ *   so there's no recurrence) are also checked against the Local Referee,
+ *   playing the Decisions of the Strategies' classes;
+ */
+public class DeterministicMatchSimulatorTest {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The maximum numbers of iterations of the Matches checked
+	 */
+	private static final int[] MAXIMUM_NUMBERS_OF_ITERATIONS = {1, 2, 3, 10, 257, 100000};
+
+	/**
+	 * The probabilities to continue playing to the next iteration, of the Matches checked
+	 */
+	private static final double[] PROBABILITIES_FOR_NEXT_ITERATION = {1.0, 0.99, 0.5};
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the Match Machines checked (the Gradual family and the Classic Machines).
+	 *
+	 * @return the Match Machines checked
+	 */
+	private static List<MatchMachine> machines() {
+		List<MatchMachine> machines = new ArrayList<MatchMachine>();
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			machines.add(GradualMachine.of(variant));
+		}
+
+		for(ClassicMachine machine : ClassicMachine.values()) {
+			machines.add(machine);
+		}
+
+		return machines;
+	}
+
+	/**
+	 * Returns the name of the Strategy played by a Match Machine.
+	 *
+	 * @param machine the Match Machine
+	 *
+	 * @return the name of the Strategy played by the Match Machine
+	 */
+	private static String nameOf(MatchMachine machine) {
+		return (machine instanceof GradualMachine) ? ((GradualMachine) machine).getVariant().getStrategyName()
+												   : ((ClassicMachine) machine).getStrategyName();
+	}
+
+	@Test
+	public void fastForwardKeepsTheResultOfEveryPairing() {
+		DeterministicMatchSimulator simulator = new DeterministicMatchSimulator(new LocalGameTree());
+
+		for(MatchMachine machineA : machines()) {
+			for(MatchMachine machineB : machines()) {
+				for(int maximumNumberOfIterations : MAXIMUM_NUMBERS_OF_ITERATIONS) {
+					for(double probabilityForNextIteration : PROBABILITIES_FOR_NEXT_ITERATION) {
+						LocalMatchResult fastResult = simulator.simulate(machineA, machineB, maximumNumberOfIterations,
+																		 probabilityForNextIteration, maximumNumberOfIterations);
+
+						LocalMatchResult plainResult = simulator.simulateRoundByRound(machineA, machineB, maximumNumberOfIterations,
+																					  probabilityForNextIteration, maximumNumberOfIterations);
+
+						String pairing = nameOf(machineA) + " vs " + nameOf(machineB) + " (N = " + maximumNumberOfIterations
+										 + ", p = " + probabilityForNextIteration + ")";
+
+						assertEquals(pairing, plainResult.getScoreA(), fastResult.getScoreA());
+						assertEquals(pairing, plainResult.getScoreB(), fastResult.getScoreB());
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void alwaysDefectAgainstAlwaysCooperateScoresTheTemptationInEveryRound() {
+		DeterministicMatchSimulator simulator = new DeterministicMatchSimulator(new LocalGameTree());
+
+		LocalMatchResult result = simulator.simulate(ClassicMachine.ALWAYS_DEFECT, ClassicMachine.ALWAYS_COOPERATE, 1000, 1.0, 1000);
+
+		// Each round it's played in both seats
+		assertEquals(2L * 1000 * LocalGameTree.DEFAULT_TEMPTATION, result.getScoreA());
+		assertEquals(2L * 1000 * LocalGameTree.DEFAULT_SUCKER, result.getScoreB());
+	}
+
+	@Test
+	public void gradualAgainstAlwaysDefectMatchesTheLocalReferee() {
+		LocalGameTree tree = new LocalGameTree();
+		DeterministicMatchSimulator simulator = new DeterministicMatchSimulator(tree);
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			for(int maximumNumberOfIterations : new int[] {1, 2, 10, 300}) {
+				LocalReferee referee = new LocalReferee(tree, maximumNumberOfIterations, 1.0);
+
+				LocalMatchResult refereeResult = referee.playMatch(new LocalGradualStrategy(variant), new AlwaysDefectLocalStrategy(), 42L);
+
+				LocalMatchResult simulatedResult = simulator.simulate(GradualMachine.of(variant), ClassicMachine.ALWAYS_DEFECT,
+																	  maximumNumberOfIterations, 1.0, maximumNumberOfIterations);
+
+				String pairing = variant.getStrategyName() + " vs AlwaysDefect (N = " + maximumNumberOfIterations + ")";
+
+				assertEquals(pairing, refereeResult.getScoreA(), simulatedResult.getScoreA());
+				assertEquals(pairing, refereeResult.getScoreB(), simulatedResult.getScoreB());
+
+				// The Always Defect never scores less than its Opponent
+				assertTrue(pairing, simulatedResult.getScoreB() >= simulatedResult.getScoreA());
+			}
+		}
+	}
+
+
+	/**
+	 * Class responsible for the Always Defect, as a Local Strategy.
+	 *
+	 * Description:
+	 * - A class responsible for Defecting in every round, as both Players,
+	 *   against the Local Referee;
+	 */
+	private static class AlwaysDefectLocalStrategy implements LocalStrategy {
+
+		// Methods/Functions:
+
+		@Override
+		public String getName() {
+			return ClassicMachine.ALWAYS_DEFECT.getStrategyName();
+		}
+
+		@Override
+		public void setup(LocalGameTree tree, Random random) {
+		}
+
+		@Override
+		public void computeStrategy(LocalPlayStrategy myStrategy) {
+
+			// The "Cooperate" and the "Defect" moves of the Player no. 1 and, then, of the Player no. 2
+			myStrategy.setProbabilities(new double[] {0.0, 1.0, 0.0, 1.0});
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Dirichlet Sampler.
+ *
+ * Description:
+ * - A class responsible for checking that, with the system property play.randomSeed,
+ *   the seeds of the Matches and the probabilities drawn in them are reproduced in each run,
+ *   that reseeding the Dirichlet Sampler repeats the same draws, that the seed of the next Match
+ *   it's never the seed of the last Match, and that each draw it's a point of the simplex;
+ */
+public class DirichletSamplerTest {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The seed configured in the system property play.randomSeed
+	 */
+	private static final long CONFIGURED_SEED = 1234L;
+
+	/**
+	 * The number of Matches, whose seeds are compared
+	 */
+	private static final int NUM_MATCHES = 8;
+
+	/**
+	 * The number of moves of the validation sets drawn
+	 */
+	private static final int NUM_MOVES = 5;
+
+
+	// Methods/Functions:
+
+	@After
+	public void tearDown() {
+		System.clearProperty(DirichletSampler.SEED_PROPERTY);
+	}
+
+	/**
+	 * Returns the probabilities drawn, in each Match, by a Dirichlet Sampler reseeded
+	 * with the seeds of a given generator of the seeds of the Matches,
+	 * in the same way as the Strategies of the Gradual family.
+	 *
+	 * @param matchSeeds the generator of the seeds of the Matches
+	 *
+	 * @return the probabilities drawn, in each Match
+	 */
+	private static double[][] drawMatches(SplittableRandom matchSeeds) {
+		double[][] draws = new double[NUM_MATCHES][NUM_MOVES];
+
+		long matchSeed = matchSeeds.nextLong();
+		SimplexSampler sampler = new DirichletSampler(matchSeed);
+
+		for(int match = 0; match < NUM_MATCHES; match++) {
+			if(match > 0) {
+				matchSeed = DirichletSampler.nextMatchSeed(matchSeeds, matchSeed);
+				sampler.reseed(matchSeed);
+			}
+
+			sampler.sample(draws[match], 0, NUM_MOVES);
+		}
+
+		return draws;
+	}
+
+	@Test
+	public void theConfiguredSeedReproducesTheMatches() {
+		System.setProperty(DirichletSampler.SEED_PROPERTY, Long.toString(CONFIGURED_SEED));
+
+		double[][] firstRun = drawMatches(DirichletSampler.newMatchSeeds());
+		double[][] secondRun = drawMatches(DirichletSampler.newMatchSeeds());
+
+		for(int match = 0; match < NUM_MATCHES; match++) {
+			assertArrayEquals(firstRun[match], secondRun[match], 0.0);
+		}
+
+		assertArrayEquals(firstRun[0], drawMatches(new SplittableRandom(CONFIGURED_SEED))[0], 0.0);
+	}
+
+	@Test
+	public void consecutiveMatchesDrawDifferentProbabilities() {
+		System.setProperty(DirichletSampler.SEED_PROPERTY, Long.toString(CONFIGURED_SEED));
+
+		double[][] draws = drawMatches(DirichletSampler.newMatchSeeds());
+
+		for(int match = 1; match < NUM_MATCHES; match++) {
+			assertNotEquals(draws[match - 1][0], draws[match][0], 0.0);
+		}
+	}
+
+	@Test
+	public void reseedingRepeatsTheSameDraws() {
+		DirichletSampler sampler = new DirichletSampler(CONFIGURED_SEED);
+
+		double[] firstDraw = new double[NUM_MOVES];
+		double[] secondDraw = new double[NUM_MOVES];
+
+		sampler.sample(firstDraw, 0, NUM_MOVES);
+		sampler.reseed(CONFIGURED_SEED);
+		sampler.sample(secondDraw, 0, NUM_MOVES);
+
+		assertArrayEquals(firstDraw, secondDraw, 0.0);
+	}
+
+	@Test
+	public void theNextMatchSeedIsNeverTheLastOne() {
+		long lastMatchSeed = new SplittableRandom(CONFIGURED_SEED).nextLong();
+
+		SplittableRandom expectedSeeds = new SplittableRandom(CONFIGURED_SEED);
+		expectedSeeds.nextLong();
+
+		// The first seed drawn it's the last one, so it's skipped
+		long matchSeed = DirichletSampler.nextMatchSeed(new SplittableRandom(CONFIGURED_SEED), lastMatchSeed);
+
+		assertNotEquals(lastMatchSeed, matchSeed);
+		assertEquals(expectedSeeds.nextLong(), matchSeed);
+	}
+
+	@Test
+	public void eachDrawIsAPointOfTheSimplex() {
+		DirichletSampler sampler = new DirichletSampler(CONFIGURED_SEED);
+
+		double[] values = new double[NUM_MOVES + 2];
+
+		for(int numDraw = 0; numDraw < 1000; numDraw++) {
+			sampler.sample(values, 1, NUM_MOVES);
+
+			double sum = 0;
+
+			for(int i = 1; i <= NUM_MOVES; i++) {
+				assertTrue("probability " + values[i], (values[i] >= 0.0) && (values[i] <= 1.0));
+				sum += values[i];
+			}
+
+			assertEquals(1.0, sum, 1e-12);
+			assertEquals(0.0, values[0], 0.0);
+			assertEquals(0.0, values[NUM_MOVES + 1], 0.0);
+		}
+	}
+}
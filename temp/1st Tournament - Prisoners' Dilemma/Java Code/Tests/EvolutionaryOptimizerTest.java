@@ -0,0 +1,190 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Class responsible for the tests of the Evolutionary Optimizer.
+ *
+ * Description:
+ * - A class responsible for checking that a run of the Evolutionary Optimizer only depends
+ *   on its seed (and not on the number of threads), that a run interrupted and resumed
+ *   from its checkpoint file ends exactly as a run never interrupted, and that the best
+ *   individual found it's never worse than the Strategy to tune (kept as an elite);
+ */
+public class EvolutionaryOptimizerTest {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The maximum number of iterations of each Match
+	 */
+	private static final int MAXIMUM_NUMBER_OF_ITERATIONS = 200;
+
+	/**
+	 * The probability to continue playing to the next iteration
+	 */
+	private static final double PROBABILITY_FOR_NEXT_ITERATION = 0.99;
+
+	/**
+	 * The number of individuals of each generation
+	 */
+	private static final int POPULATION_SIZE = 16;
+
+	/**
+	 * The number of generations of a run
+	 */
+	private static final int NUM_GENERATIONS = 6;
+
+	/**
+	 * The seed of the random numbers of the runs
+	 */
+	private static final long SEED = 7L;
+
+	/**
+	 * The weights of the Opponents of the pool (the variants of the Gradual family)
+	 */
+	private static final double[] OPPONENT_WEIGHTS = {1.0, 2.0, 1.0};
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The temporary folder of the checkpoint files
+	 */
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns a new Opponent Pool Evaluator, against the compiled Gradual Machines of the Gradual family.
+	 *
+	 * @return a new Opponent Pool Evaluator
+	 */
+	private static OpponentPoolEvaluator newEvaluator() {
+		GradualMachine[] opponents = new GradualMachine[GradualVariant.values().length];
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			opponents[variant.ordinal()] = GradualMachine.of(variant);
+		}
+
+		return new OpponentPoolEvaluator(new LocalGameTree(), opponents, MAXIMUM_NUMBER_OF_ITERATIONS, PROBABILITY_FOR_NEXT_ITERATION);
+	}
+
+	/**
+	 * Runs a new Evolutionary Optimizer, for the HybridGradualWithCooperatesLeewayStrategy,
+	 * without printing its progress.
+	 *
+	 * @param numGenerations the number of generations of the run
+	 *
+	 * @param numThreads the number of threads to evaluate the individuals
+	 *
+	 * @param checkpointFile the checkpoint file (or null, to not keep it)
+	 *
+	 * @return the Gradual Parameters of the best individual of the last generation
+	 *
+	 * @throws IOException if the checkpoint file can't be read or written
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the individuals
+	 */
+	private static GradualParameters run(int numGenerations, int numThreads, Path checkpointFile)
+			throws IOException, InterruptedException {
+
+		EvolutionaryOptimizer optimizer = new EvolutionaryOptimizer(GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY,
+																	newEvaluator(), OPPONENT_WEIGHTS, POPULATION_SIZE,
+																	SEED, checkpointFile);
+
+		return optimizer.run(numGenerations, Long.MAX_VALUE, numThreads, null);
+	}
+
+	/**
+	 * Returns the fitness of some Gradual Parameters (their expected payoffs by round,
+	 * weighted by the mix of the Opponents).
+	 *
+	 * @param evaluator the Opponent Pool Evaluator
+	 *
+	 * @param parameters the Gradual Parameters
+	 *
+	 * @return the fitness of the Gradual Parameters
+	 */
+	private static double fitnessOf(OpponentPoolEvaluator evaluator, GradualParameters parameters) {
+		double[] scoresByRound = evaluator.scoresByRound(parameters);
+
+		double fitness = 0;
+		double sumOfWeights = 0;
+
+		for(int numOpponent = 0; numOpponent < scoresByRound.length; numOpponent++) {
+			fitness += OPPONENT_WEIGHTS[numOpponent] * scoresByRound[numOpponent];
+			sumOfWeights += OPPONENT_WEIGHTS[numOpponent];
+		}
+
+		return fitness / sumOfWeights;
+	}
+
+	@Test
+	public void theRunDoesNotDependOnTheNumberOfThreads() throws IOException, InterruptedException {
+		assertEquals(run(NUM_GENERATIONS, 1, null), run(NUM_GENERATIONS, 4, null));
+	}
+
+	@Test
+	public void aResumedRunEndsAsARunNeverInterrupted() throws IOException, InterruptedException {
+		Path checkpointFile = this.temporaryFolder.getRoot().toPath().resolve("optimizer.checkpoint");
+
+		GradualParameters uninterruptedBest = run(NUM_GENERATIONS, 2, null);
+
+		// Interrupted in the middle and, then, resumed by a new Evolutionary Optimizer
+		run(NUM_GENERATIONS / 2, 2, checkpointFile);
+
+		assertEquals(uninterruptedBest, run(NUM_GENERATIONS, 2, checkpointFile));
+	}
+
+	@Test
+	public void theBestIndividualIsNeverWorseThanTheStrategyToTune() throws IOException, InterruptedException {
+		OpponentPoolEvaluator evaluator = newEvaluator();
+
+		GradualParameters best = run(NUM_GENERATIONS, 2, null);
+
+		// The Strategy to tune it's the first individual of the initial population, and the elites are always kept
+		// (within the rounding of the weights of the Opponents)
+		assertTrue(fitnessOf(evaluator, best) >= fitnessOf(evaluator, GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY) - 1e-12);
+	}
+
+	@Test
+	public void theCommandLinePrintsTheBestIndividuals() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		EvolutionaryOptimizer.runCommand(new String[] {"10", "0.9", "8", "2", "1"}, new PrintStream(output, true));
+
+		String printed = output.toString();
+
+		assertTrue(printed, printed.contains("Generation    1"));
+		assertTrue(printed, printed.contains("The best individuals of the last generation"));
+	}
+}
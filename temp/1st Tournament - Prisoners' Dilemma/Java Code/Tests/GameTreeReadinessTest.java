@@ -0,0 +1,102 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Game Tree Readiness.
+ *
+ * Description:
+ * - A class responsible for checking that a timeout of 0 or less waits for the Game Tree
+ *   without any timeout (the default), and that a positive timeout expires,
+ *   recording the time that the Strategy waited;
+ */
+public class GameTreeReadinessTest {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The number of checks of the Game Tree before it becomes available
+	 * (enough to wait longer than the first waits between the checks)
+	 */
+	private static final int NUM_CHECKS_BEFORE_READY = 20;
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns a check of the Game Tree that only becomes available after NUM_CHECKS_BEFORE_READY checks.
+	 *
+	 * @param numChecks the number of checks of the Game Tree, counted by the check
+	 *
+	 * @return a check of the Game Tree that only becomes available after NUM_CHECKS_BEFORE_READY checks
+	 */
+	private static BooleanSupplier readyAfterChecks(AtomicInteger numChecks) {
+		return () -> (numChecks.incrementAndGet() > NUM_CHECKS_BEFORE_READY);
+	}
+
+	@Test
+	public void theDefaultTimeoutWaitsWithoutAnyTimeout() {
+		assertEquals(0L, GameTreeReadiness.DEFAULT_TIMEOUT_MILLIS);
+		assertEquals(GameTreeReadiness.DEFAULT_TIMEOUT_MILLIS, GameTreeReadiness.getConfiguredTimeoutMillis());
+	}
+
+	@Test
+	public void aTimeoutOfZeroWaitsUntilTheGameTreeIsAvailable() throws InterruptedException {
+		AtomicInteger numChecks = new AtomicInteger();
+		GameTreeReadiness gameTreeReadiness = new GameTreeReadiness(readyAfterChecks(numChecks));
+
+		assertFalse(gameTreeReadiness.isReady());
+		assertTrue(gameTreeReadiness.await(0, TimeUnit.MILLISECONDS));
+
+		assertTrue(gameTreeReadiness.isReady());
+		assertEquals(NUM_CHECKS_BEFORE_READY + 1, numChecks.get());
+		assertTrue(gameTreeReadiness.getStartupLatencyMillis() >= 0);
+	}
+
+	@Test
+	public void aNegativeTimeoutWaitsUntilTheGameTreeIsAvailable() throws InterruptedException {
+		AtomicInteger numChecks = new AtomicInteger();
+		GameTreeReadiness gameTreeReadiness = new GameTreeReadiness(readyAfterChecks(numChecks));
+
+		assertTrue(gameTreeReadiness.await(-1, TimeUnit.MILLISECONDS));
+
+		assertTrue(gameTreeReadiness.isReady());
+		assertEquals(NUM_CHECKS_BEFORE_READY + 1, numChecks.get());
+	}
+
+	@Test
+	public void aPositiveTimeoutExpiresIfTheGameTreeNeverArrives() throws InterruptedException {
+		GameTreeReadiness gameTreeReadiness = new GameTreeReadiness(() -> false);
+
+		assertEquals(-1.0, gameTreeReadiness.getWaitedMillis(), 0.0);
+		assertFalse(gameTreeReadiness.await(20, TimeUnit.MILLISECONDS));
+
+		assertFalse(gameTreeReadiness.isReady());
+		assertEquals(-1.0, gameTreeReadiness.getStartupLatencyMillis(), 0.0);
+		assertTrue(gameTreeReadiness.getWaitedMillis() >= 20.0);
+	}
+}
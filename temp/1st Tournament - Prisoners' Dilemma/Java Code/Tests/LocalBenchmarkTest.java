@@ -0,0 +1,181 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Local Benchmark.
+ *
+ * Description:
+ * - A class responsible for checking that the Local Strategies of the Gradual family
+ *   and their compiled Gradual Machines make the same decisions
+ *   (the probabilities of all the moves, in every round), on the same final/terminal nodes
+ *   measured by the Local Benchmark, also with a low probability to continue;
+ *
+ * - A Gradual Machine with a greater beta-value it's also checked to always Defect,
+ *   below that beta-value (the play for safe);
+ *
+ * - The Local Benchmark it's also run with a few decisions, to check that it measures
+ *   every Strategy, for every length of the Matches;
+ */
+public class LocalBenchmarkTest {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The number of decisions played, by Strategy, in the tests
+	 */
+	private static final int NUM_DECISIONS = 20000;
+
+	/**
+	 * The lengths of the Matches (number of rounds) checked
+	 */
+	private static final int[] MATCH_LENGTHS = {1, 2, 10, 1000};
+
+
+	// Methods/Functions:
+
+	/**
+	 * Asserts that the Local Strategies of the Gradual family and their compiled Gradual Machines
+	 * make the same decisions (the probabilities of all the moves, in every round),
+	 * for all the lengths of the Matches checked and a given probability to continue.
+	 *
+	 * @param probabilityForNextIteration the probability to continue playing to the next iteration
+	 */
+	private static void assertAllTheImplementationsMakeTheSameDecisions(double probabilityForNextIteration) {
+		LocalGameTree tree = new LocalGameTree();
+		LocalBenchmark benchmark = new LocalBenchmark(tree, NUM_DECISIONS, NUM_DECISIONS);
+		int[] finalNodes = benchmark.drawFinalNodes(NUM_DECISIONS);
+
+		List<Supplier<LocalStrategy>> strategies = LocalStrategies.gradualFamily();
+		List<Supplier<LocalStrategy>> compiledStrategies = LocalStrategies.compiledGradualFamily();
+
+		int numMoves = tree.getStrategyKeys().length;
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			for(int matchLength : MATCH_LENGTHS) {
+				String measure = variant.getStrategyName() + " (" + matchLength + " rounds, p = " + probabilityForNextIteration + ")";
+
+				double[] decisions = new double[NUM_DECISIONS * numMoves];
+				double[] compiledDecisions = new double[NUM_DECISIONS * numMoves];
+
+				benchmark.playDecisions(strategies.get(variant.ordinal()), matchLength, finalNodes, NUM_DECISIONS,
+										probabilityForNextIteration, decisions);
+
+				benchmark.playDecisions(compiledStrategies.get(variant.ordinal()), matchLength, finalNodes, NUM_DECISIONS,
+										probabilityForNextIteration, compiledDecisions);
+
+				assertArrayEquals(measure + " (compiled)", decisions, compiledDecisions, 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void allTheImplementationsMakeTheSameDecisions() {
+		assertAllTheImplementationsMakeTheSameDecisions(1.0);
+	}
+
+	@Test
+	public void allTheImplementationsMakeTheSameDecisionsWithALowProbabilityToContinue() {
+
+		// Below the ( 1 / 3 ) intended by the HybridGradualWithCooperatesLeewayStrategy
+		// (its beta-value it's an integer division, so it's 0.0 and it never plays for safe by it)
+		assertAllTheImplementationsMakeTheSameDecisions(0.2);
+	}
+
+	@Test
+	public void belowTheSafeBetaValueTheCompiledStepsAlwaysDefect() {
+		GradualParameters leeway = GradualVariant.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY.getParameters();
+
+		// The same constants, but with a beta-value of 0.5, so a probability to continue of 0.2 it's played for safe
+		GradualMachine machine = GradualMachine.compile(
+				leeway.withTuningConstants(leeway.getNumConsecutiveCooperatesToTryMaximiseGain(),
+										   leeway.getNumConsecutiveCooperatesToApplyHardCalmDowns(),
+										   leeway.getNumInitialDefectsBeforeHardCalmDown(),
+										   leeway.getFactorOfMinimumLeewayOfCooperatesDifference(), 0.5));
+
+		LocalGameTree tree = new LocalGameTree();
+		LocalBenchmark benchmark = new LocalBenchmark(tree, NUM_DECISIONS, NUM_DECISIONS);
+		int[] finalNodes = benchmark.drawFinalNodes(NUM_DECISIONS);
+
+		StrategyVector strategyVector = new StrategyVector(Arrays.asList(tree.getStrategyKeys()).iterator());
+		int numMoves = strategyVector.size();
+
+		for(int matchLength : MATCH_LENGTHS) {
+			double[] compiledDecisions = new double[NUM_DECISIONS * numMoves];
+
+			benchmark.playDecisions(() -> new LocalGradualMachineStrategy(machine), matchLength, finalNodes,
+									NUM_DECISIONS, 0.2, compiledDecisions);
+
+			for(int numDecision = 0; numDecision < NUM_DECISIONS; numDecision++) {
+				for(int move = 0; move < numMoves; move++) {
+					assertEquals(matchLength + " rounds, decision #" + numDecision + ", " + strategyVector.getLabel(move),
+								 strategyVector.isDefect(move) ? 1.0 : 0.0, compiledDecisions[numDecision * numMoves + move], 0.0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void everyStrategyIsMeasuredForEveryLengthOfTheMatches() {
+		List<Supplier<LocalStrategy>> strategies = new ArrayList<Supplier<LocalStrategy>>();
+
+		strategies.addAll(LocalStrategies.gradualFamily());
+		strategies.addAll(LocalStrategies.compiledGradualFamily());
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		new LocalBenchmark(new LocalGameTree(), 100, 1000).run(strategies, new PrintStream(output, true));
+
+		String[] lines = output.toString().trim().split("\\R");
+
+		// The header and one line, by Strategy and length of the Matches
+		assertEquals(1 + (strategies.size() * LocalBenchmark.MATCH_LENGTHS.length), lines.length);
+
+		for(int numLine = 1; numLine < lines.length; numLine++) {
+			String[] columns = lines[numLine].trim().split("\\s+");
+			double nanosByDecision = Double.parseDouble(columns[columns.length - 5]);
+
+			assertTrue(lines[numLine], nanosByDecision > 0);
+		}
+	}
+
+	@Test
+	public void theCommandLineMeasuresTheGradualFamily() {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		LocalBenchmark.runCommand(new String[] {"10", "100"}, new PrintStream(output, true));
+
+		String printed = output.toString();
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			assertTrue(printed, printed.contains(variant.getStrategyName()));
+		}
+	}
+}
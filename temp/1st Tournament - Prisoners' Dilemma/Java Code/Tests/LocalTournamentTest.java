@@ -0,0 +1,76 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the command line of the Local Tournament.
+ *
+ * Description:
+ * - A class responsible for checking that the command line of the Local Tournament plays
+ *   the Strategies of the Gradual family (or their compiled Gradual Machines), with a few iterations,
+ *   and prints their results;
+ */
+public class LocalTournamentTest {
+
+	// Methods/Functions:
+
+	/**
+	 * Runs the command line of the Local Tournament, with the given arguments,
+	 * and returns what it printed.
+	 *
+	 * @param args the arguments of the command line
+	 *
+	 * @return what the command line printed
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the pairings
+	 */
+	private static String run(String... args) throws InterruptedException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		LocalTournament.runCommand(args, new PrintStream(output, true));
+
+		return output.toString();
+	}
+
+	/**
+	 * Asserts that a given output names all the Strategies of the Gradual family.
+	 *
+	 * @param output the output of the Local Tournament
+	 */
+	private static void assertNamesTheGradualFamily(String output) {
+		for(GradualVariant variant : GradualVariant.values()) {
+			assertTrue(output, output.contains(variant.getStrategyName()));
+		}
+	}
+
+	@Test
+	public void theGradualFamilyIsPlayed() throws InterruptedException {
+		assertNamesTheGradualFamily(run("10", "1.0", "2"));
+	}
+
+	@Test
+	public void theCompiledGradualFamilyIsPlayed() throws InterruptedException {
+		assertNamesTheGradualFamily(run("10", "1.0", "2", "compiled"));
+	}
+}
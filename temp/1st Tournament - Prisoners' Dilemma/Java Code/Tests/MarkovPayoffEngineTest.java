@@ -0,0 +1,196 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Markov Payoff Engine.
+ *
+ * Description:
+ * - A class responsible for checking the exact expected scores of the Markov Payoff Engine
+ *   against the Matches simulated by the Deterministic Match Simulator, for every pairing
+ *   of the Gradual family and of the Classic Machines: the scores of a Match with all the
+ *   iterations, when it always continues, and the scores of the Matches of each number
+ *   of rounds, weighted by their probabilities, when it may stop, and that the mutual
+ *   cooperation of the Hybrid Gradual with Cooperates Leeway it's found as a cycle;
+ */
+public class MarkovPayoffEngineTest {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The relative error accepted between the expected scores and the simulated ones
+	 */
+	private static final double RELATIVE_TOLERANCE = 1e-9;
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the Match Machines checked (the Gradual family and the Classic Machines).
+	 *
+	 * @return the Match Machines checked
+	 */
+	private static List<MatchMachine> machines() {
+		List<MatchMachine> machines = new ArrayList<MatchMachine>();
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			machines.add(GradualMachine.of(variant));
+		}
+
+		for(ClassicMachine machine : ClassicMachine.values()) {
+			machines.add(machine);
+		}
+
+		return machines;
+	}
+
+	/**
+	 * Returns the name of the Strategy played by a Match Machine.
+	 *
+	 * @param machine the Match Machine
+	 *
+	 * @return the name of the Strategy played by the Match Machine
+	 */
+	private static String nameOf(MatchMachine machine) {
+		return (machine instanceof GradualMachine) ? ((GradualMachine) machine).getVariant().getStrategyName()
+												   : ((ClassicMachine) machine).getStrategyName();
+	}
+
+	/**
+	 * Asserts that an expected score it's equal to a simulated one, within the relative tolerance.
+	 *
+	 * @param message the message of the assertion
+	 *
+	 * @param simulatedScore the simulated score
+	 *
+	 * @param expectedScore the expected score of the Markov Payoff Engine
+	 */
+	private static void assertScore(String message, double simulatedScore, double expectedScore) {
+		assertEquals(message, simulatedScore, expectedScore, RELATIVE_TOLERANCE * Math.max(1.0, Math.abs(simulatedScore)));
+	}
+
+	@Test
+	public void alwaysContinuingMatchesScoreAsTheSimulatedMatch() {
+		LocalGameTree tree = new LocalGameTree();
+		MarkovPayoffEngine engine = new MarkovPayoffEngine(tree);
+		DeterministicMatchSimulator simulator = new DeterministicMatchSimulator(tree);
+
+		for(MatchMachine machineA : machines()) {
+			for(MatchMachine machineB : machines()) {
+				for(int maximumNumberOfIterations : new int[] {1, 2, 3, 10, 1000, 100000}) {
+					ExpectedMatchPayoff payoff = engine.expectedPayoff(machineA, machineB, maximumNumberOfIterations, 1.0);
+					LocalMatchResult result = simulator.simulateRoundByRound(machineA, machineB, maximumNumberOfIterations,
+																			 1.0, maximumNumberOfIterations);
+
+					String pairing = nameOf(machineA) + " vs " + nameOf(machineB) + " (N = " + maximumNumberOfIterations + ")";
+
+					assertScore(pairing, result.getScoreA(), payoff.getScoreA());
+					assertScore(pairing, result.getScoreB(), payoff.getScoreB());
+					assertScore(pairing, maximumNumberOfIterations, payoff.getNumRounds());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void stoppingMatchesScoreAsTheSimulatedMatchesWeightedByTheirProbabilities() {
+		LocalGameTree tree = new LocalGameTree();
+		MarkovPayoffEngine engine = new MarkovPayoffEngine(tree);
+		DeterministicMatchSimulator simulator = new DeterministicMatchSimulator(tree);
+
+		int maximumNumberOfIterations = 200;
+
+		for(MatchMachine machineA : machines()) {
+			for(MatchMachine machineB : machines()) {
+				for(double probabilityForNextIteration : new double[] {0.0, 0.5, 0.9, 0.99}) {
+					double p = probabilityForNextIteration;
+
+					double scoreA = 0;
+					double scoreB = 0;
+
+					// A Match stops after the round k with probability p^(k - 1) * (1 - p),
+					// unless it reaches the maximum number of iterations
+					for(int numRounds = 1; numRounds <= maximumNumberOfIterations; numRounds++) {
+						double probability = Math.pow(p, numRounds - 1) * ( (numRounds < maximumNumberOfIterations) ? (1 - p) : 1 );
+
+						LocalMatchResult result = simulator.simulateRoundByRound(machineA, machineB, maximumNumberOfIterations,
+																				 p, numRounds);
+
+						scoreA += probability * result.getScoreA();
+						scoreB += probability * result.getScoreB();
+					}
+
+					ExpectedMatchPayoff payoff = engine.expectedPayoff(machineA, machineB, maximumNumberOfIterations, p);
+
+					String pairing = nameOf(machineA) + " vs " + nameOf(machineB) + " (p = " + p + ")";
+
+					assertScore(pairing, scoreA, payoff.getScoreA());
+					assertScore(pairing, scoreB, payoff.getScoreB());
+					assertTrue(pairing, payoff.getNumRounds() <= maximumNumberOfIterations);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void theMutualCooperationOfTheCooperatesLeewayIsACycle() {
+		LocalGameTree tree = new LocalGameTree();
+		MarkovPayoffEngine engine = new MarkovPayoffEngine(tree);
+		DeterministicMatchSimulator simulator = new DeterministicMatchSimulator(tree);
+
+		int maximumNumberOfIterations = 100000;
+
+		for(GradualVariant variant : new GradualVariant[] {GradualVariant.GRADUAL, GradualVariant.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY}) {
+			MatchMachine machineA = GradualMachine.of(GradualVariant.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY);
+			MatchMachine machineB = GradualMachine.of(variant);
+
+			ExpectedMatchPayoff payoff = engine.expectedPayoff(machineA, machineB, maximumNumberOfIterations, 1.0);
+			LocalMatchResult result = simulator.simulateRoundByRound(machineA, machineB, maximumNumberOfIterations,
+																	 1.0, maximumNumberOfIterations);
+
+			String pairing = nameOf(machineA) + " vs " + nameOf(machineB);
+
+			assertTrue(pairing, payoff.getCycleLength() > 0);
+			assertTrue(pairing, payoff.getTransientLength() >= 0);
+			assertScore(pairing, result.getScoreA(), payoff.getScoreA());
+			assertScore(pairing, result.getScoreB(), payoff.getScoreB());
+		}
+	}
+
+	@Test
+	public void theCommandLinePrintsTheExpectedScoresOfTheGradualFamily() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		MarkovPayoffEngine.runCommand(new String[] {"10", "0.9"}, new PrintStream(output, true));
+
+		String printed = output.toString();
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			assertTrue(printed, printed.contains(variant.getStrategyName()));
+		}
+	}
+}
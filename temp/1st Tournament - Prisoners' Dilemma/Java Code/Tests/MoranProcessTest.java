@@ -0,0 +1,158 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Moran Process.
+ *
+ * Description:
+ * - A class responsible for checking the fixation probabilities estimated by the replicates
+ *   of the Moran Process against the exact ones, of the closed form of the birth-death chain,
+ *   for a Prisoners' Dilemma and for the Gradual family, and that the estimates
+ *   only depend on their seed (and not on the number of threads);
+ */
+public class MoranProcessTest {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The number of individuals of the population
+	 */
+	private static final int POPULATION_SIZE = 20;
+
+	/**
+	 * The number of replicates of each estimate
+	 */
+	private static final long NUM_REPLICATES = 20000L;
+
+	/**
+	 * The seed of the random numbers of the replicates
+	 */
+	private static final long SEED = 1L;
+
+	/**
+	 * The number of standard errors accepted between the estimated and the exact fixation probabilities
+	 */
+	private static final double NUM_STANDARD_ERRORS = 5.0;
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the Payoff Matrix of the Prisoners' Dilemma between "Always Cooperate" and "Always Defect".
+	 *
+	 * @return the Payoff Matrix of the Prisoners' Dilemma
+	 */
+	private static PayoffMatrix prisonersDilemma() {
+		return new PayoffMatrix(new String[] {"AllC", "AllD"}, new double[][] { {3, 0}, {5, 1} });
+	}
+
+	/**
+	 * Asserts that the estimated fixation probabilities of a Moran Process are equal to the exact ones,
+	 * for every pair of Strategies, within the number of standard errors accepted.
+	 *
+	 * @param moranProcess the Moran Process
+	 *
+	 * @param numStrategies the number of Strategies of its Payoff Matrix
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the replicates
+	 */
+	private static void assertEstimatesMatchTheExactFixationProbabilities(MoranProcess moranProcess, int numStrategies)
+			throws InterruptedException {
+
+		for(int mutant = 0; mutant < numStrategies; mutant++) {
+			for(int resident = 0; resident < numStrategies; resident++) {
+				if(mutant == resident) {
+					continue;
+				}
+
+				double exact = moranProcess.exactFixationProbability(mutant, resident);
+				RunningStatistics fixations = moranProcess.estimateFixationProbability(mutant, resident, NUM_REPLICATES,
+																					   SEED, 4)[0];
+
+				// The standard error of the exact probability (so it's not 0, when no replicate fixed)
+				double standardError = Math.sqrt( (exact * (1 - exact)) / NUM_REPLICATES );
+
+				assertEquals("#" + mutant + " in #" + resident, exact, fixations.getMean(),
+							 (NUM_STANDARD_ERRORS * standardError) + (1.0 / NUM_REPLICATES));
+			}
+		}
+	}
+
+	@Test
+	public void theNeutralDriftFixesWithTheProbabilityOfOneOverN() {
+		MoranProcess moranProcess = new MoranProcess(prisonersDilemma(), POPULATION_SIZE, 0.0);
+
+		assertEquals(1.0 / POPULATION_SIZE, moranProcess.exactFixationProbability(0, 1), 1e-12);
+		assertEquals(1.0 / POPULATION_SIZE, moranProcess.exactFixationProbability(1, 0), 1e-12);
+	}
+
+	@Test
+	public void thePrisonersDilemmaEstimatesMatchTheExactFixationProbabilities() throws InterruptedException {
+		MoranProcess moranProcess = new MoranProcess(prisonersDilemma(), POPULATION_SIZE, 0.5);
+
+		// "Always Defect" invades "Always Cooperate" better than by a neutral drift, and not the other way around
+		assertTrue(moranProcess.exactFixationProbability(1, 0) > (1.0 / POPULATION_SIZE));
+		assertTrue(moranProcess.exactFixationProbability(0, 1) < (1.0 / POPULATION_SIZE));
+
+		assertEstimatesMatchTheExactFixationProbabilities(moranProcess, 2);
+	}
+
+	@Test
+	public void theGradualFamilyEstimatesMatchTheExactFixationProbabilities() throws InterruptedException {
+		PayoffMatrix matrix = PayoffMatrix.ofGradualFamily(new LocalGameTree(), 200, 0.99);
+
+		assertEstimatesMatchTheExactFixationProbabilities(new MoranProcess(matrix, POPULATION_SIZE, 1.0), matrix.size());
+	}
+
+	@Test
+	public void theEstimatesDoNotDependOnTheNumberOfThreads() throws InterruptedException {
+		MoranProcess moranProcess = new MoranProcess(prisonersDilemma(), POPULATION_SIZE, 0.5);
+
+		RunningStatistics[] statistics = moranProcess.estimateFixationProbability(1, 0, NUM_REPLICATES, SEED, 1);
+		RunningStatistics[] parallelStatistics = moranProcess.estimateFixationProbability(1, 0, NUM_REPLICATES, SEED, 4);
+
+		for(int numStatistic = 0; numStatistic < statistics.length; numStatistic++) {
+			assertEquals(statistics[numStatistic].getCount(), parallelStatistics[numStatistic].getCount());
+			assertEquals(statistics[numStatistic].getMean(), parallelStatistics[numStatistic].getMean(), 0.0);
+			assertEquals(statistics[numStatistic].getVariance(), parallelStatistics[numStatistic].getVariance(), 0.0);
+		}
+	}
+
+	@Test
+	public void theCommandLinePrintsTheFixationProbabilities() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		MoranProcess.runCommand(new String[] {"10", "0.9", "20", "0.01", "100", "1", "2"}, new PrintStream(output, true));
+
+		String printed = output.toString();
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			assertTrue(printed, printed.contains(variant.getStrategyName()));
+		}
+
+		assertTrue(printed, printed.contains("Fixation probabilities"));
+	}
+}
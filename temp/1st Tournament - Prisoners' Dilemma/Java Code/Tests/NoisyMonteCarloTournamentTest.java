@@ -0,0 +1,97 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Noisy Monte Carlo Tournament.
+ *
+ * Description:
+ * - A class responsible for checking that the estimates of the Noisy Monte Carlo Tournament
+ *   only depend on its seed (and not on the number of threads), and that, without any noise,
+ *   each Match scores exactly as the Deterministic Match Simulator;
+ */
+public class NoisyMonteCarloTournamentTest {
+
+	// Methods/Functions:
+
+	@Test
+	public void theEstimatesDoNotDependOnTheNumberOfThreads() throws InterruptedException {
+		RunningStatistics[][] statistics = new NoisyMonteCarloTournament(new LocalGameTree(), GradualVariant.values(),
+																		 100, 0.95, 0.05, 0.02, 5000, 42L).play(1, null);
+
+		RunningStatistics[][] parallelStatistics = new NoisyMonteCarloTournament(new LocalGameTree(), GradualVariant.values(),
+																				 100, 0.95, 0.05, 0.02, 5000, 42L).play(4, null);
+
+		for(int i = 0; i < statistics.length; i++) {
+			for(int j = 0; j < statistics.length; j++) {
+				assertEquals(statistics[i][j].getCount(), parallelStatistics[i][j].getCount());
+				assertEquals(statistics[i][j].getMean(), parallelStatistics[i][j].getMean(), 0.0);
+				assertEquals(statistics[i][j].getVariance(), parallelStatistics[i][j].getVariance(), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void withoutNoiseEachMatchScoresAsTheDeterministicMatchSimulator() throws InterruptedException {
+		LocalGameTree tree = new LocalGameTree();
+		GradualVariant[] variants = GradualVariant.values();
+
+		int maximumNumberOfIterations = 500;
+		long numMatchesByPairing = 100;
+
+		RunningStatistics[][] statistics = new NoisyMonteCarloTournament(tree, variants, maximumNumberOfIterations, 1.0,
+																		 0.0, 0.0, numMatchesByPairing, 42L).play(2, null);
+
+		DeterministicMatchSimulator simulator = new DeterministicMatchSimulator(tree);
+
+		for(GradualVariant variantA : variants) {
+			for(GradualVariant variantB : variants) {
+				LocalMatchResult result = simulator.simulateRoundByRound(GradualMachine.of(variantA), GradualMachine.of(variantB),
+																		 maximumNumberOfIterations, 1.0, maximumNumberOfIterations);
+
+				RunningStatistics cell = statistics[variantA.ordinal()][variantB.ordinal()];
+				String pairing = variantA.getStrategyName() + " vs " + variantB.getStrategyName();
+
+				// Against itself, both Strategies of the pairing go to the same cell
+				assertEquals(pairing, (variantA == variantB) ? 2 * numMatchesByPairing : numMatchesByPairing, cell.getCount());
+				assertEquals(pairing, (double) result.getScoreA() / maximumNumberOfIterations, cell.getMean(), 1e-12);
+				assertEquals(pairing, 0.0, cell.getStandardDeviation(), 1e-12);
+			}
+		}
+	}
+
+	@Test
+	public void theCommandLinePrintsTheEstimatesOfTheGradualFamily() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		NoisyMonteCarloTournament.runCommand(new String[] {"10", "0.9", "0.01", "0.0", "100", "1"}, new PrintStream(output, true));
+
+		String printed = output.toString();
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			assertTrue(printed, printed.contains(variant.getStrategyName()));
+		}
+	}
+}
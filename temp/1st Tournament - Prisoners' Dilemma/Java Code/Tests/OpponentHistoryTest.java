@@ -0,0 +1,176 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Opponent History.
+ *
+ * Description:
+ * - A class responsible for checking that the Opponent History tracks the moves of my Opponent
+ *   from the final/terminal nodes of the last round, and that, at the boundary of a Match,
+ *   the reset forgets the last round of the previous Match, even if the first round
+ *   of the new Match doesn't know any final/terminal node;
+ */
+public class OpponentHistoryTest {
+
+	// Global Instance Variables:
+
+	/**
+	 * The Local Game Tree of the Matches
+	 */
+	private LocalGameTree tree;
+
+	/**
+	 * The Strategy Vector, bound to the keys of the Local Game Tree
+	 */
+	private StrategyVector strategyVector;
+
+	/**
+	 * The Opponent History, of the moves of the Strategy Vector
+	 */
+	private LocalOpponentHistory opponentHistory;
+
+
+	// Methods/Functions:
+
+	@Before
+	public void setUp() {
+		this.tree = new LocalGameTree();
+		this.strategyVector = new StrategyVector(Arrays.asList(this.tree.getStrategyKeys()).iterator());
+		this.opponentHistory = new LocalOpponentHistory(this.tree, this.strategyVector);
+	}
+
+	/**
+	 * Updates the Opponent History with the round where I played a given action against a given action,
+	 * as Player no. 1, and the same actions, swapped, as Player no. 2.
+	 *
+	 * @param myAction my action (COOPERATE_ACTION or DEFECT_ACTION)
+	 *
+	 * @param opponentAction the action of my Opponent (COOPERATE_ACTION or DEFECT_ACTION)
+	 */
+	private void playRound(int myAction, int opponentAction) {
+		this.opponentHistory.update(this.tree.getLeafIndex(myAction, opponentAction),
+									this.tree.getLeafIndex(opponentAction, myAction));
+	}
+
+	/**
+	 * Returns the number of the moves of my Opponent in the last round, that were Defects.
+	 *
+	 * @return the number of the moves of my Opponent in the last round, that were Defects
+	 */
+	private int countOpponentDefects() {
+		int numDefects = 0;
+
+		for(int i = 0; i < this.opponentHistory.getNumOpponentMoves(); i++) {
+			if(this.strategyVector.isDefect(this.opponentHistory.getOpponentMove(i))) {
+				numDefects++;
+			}
+		}
+
+		return numDefects;
+	}
+
+	/**
+	 * Asserts that the Opponent History doesn't know any round.
+	 */
+	private void assertNoRoundIsKnown() {
+		assertFalse(this.opponentHistory.hasLastRound());
+		assertEquals(0, this.opponentHistory.getNumOpponentMoves());
+
+		for(int move = 0; move < this.strategyVector.size(); move++) {
+			assertFalse("move " + move, this.opponentHistory.opponentPlayed(move));
+		}
+	}
+
+	@Test
+	public void noRoundIsKnownBeforeTheFirstUpdate() {
+		assertNoRoundIsKnown();
+
+		this.opponentHistory.update(-1, -1);
+
+		assertNoRoundIsKnown();
+	}
+
+	@Test
+	public void theMovesOfTheOpponentInTheLastRoundAreTracked() {
+		playRound(MoveLabelCodec.COOPERATE_ACTION, MoveLabelCodec.DEFECT_ACTION);
+
+		assertTrue(this.opponentHistory.hasLastRound());
+		assertEquals(2, this.opponentHistory.getNumOpponentMoves());
+		assertEquals(2, countOpponentDefects());
+
+		for(int i = 0; i < this.opponentHistory.getNumOpponentMoves(); i++) {
+			assertTrue(this.opponentHistory.opponentPlayed(this.opponentHistory.getOpponentMove(i)));
+		}
+
+		playRound(MoveLabelCodec.DEFECT_ACTION, MoveLabelCodec.COOPERATE_ACTION);
+
+		assertEquals(2, this.opponentHistory.getNumOpponentMoves());
+		assertEquals(0, countOpponentDefects());
+	}
+
+	@Test
+	public void withoutAResetAnUnknownFinalNodeKeepsThePreviousOne() {
+		playRound(MoveLabelCodec.COOPERATE_ACTION, MoveLabelCodec.DEFECT_ACTION);
+
+		this.opponentHistory.update(-1, this.tree.getLeafIndex(MoveLabelCodec.COOPERATE_ACTION, MoveLabelCodec.COOPERATE_ACTION));
+
+		assertTrue(this.opponentHistory.hasLastRound());
+		assertEquals(2, this.opponentHistory.getNumOpponentMoves());
+		assertEquals(1, countOpponentDefects());
+	}
+
+	@Test
+	public void theResetAtTheMatchBoundaryForgetsTheLastRound() {
+		playRound(MoveLabelCodec.COOPERATE_ACTION, MoveLabelCodec.DEFECT_ACTION);
+
+		// The first round of a new Match doesn't know any final/terminal node,
+		// so the last round of the previous Match would be kept, without the reset
+		this.opponentHistory.reset();
+		this.opponentHistory.update(-1, -1);
+
+		assertNoRoundIsKnown();
+	}
+
+	@Test
+	public void afterTheResetTheRoundsOfTheNewMatchAreTracked() {
+		playRound(MoveLabelCodec.COOPERATE_ACTION, MoveLabelCodec.DEFECT_ACTION);
+
+		this.opponentHistory.reset();
+		this.opponentHistory.update(-1, -1);
+
+		playRound(MoveLabelCodec.DEFECT_ACTION, MoveLabelCodec.COOPERATE_ACTION);
+
+		assertTrue(this.opponentHistory.hasLastRound());
+		assertEquals(2, this.opponentHistory.getNumOpponentMoves());
+		assertEquals(0, countOpponentDefects());
+
+		// The same round of the previous Match it's tracked again, from the moves already walked
+		playRound(MoveLabelCodec.COOPERATE_ACTION, MoveLabelCodec.DEFECT_ACTION);
+
+		assertEquals(2, countOpponentDefects());
+	}
+}
@@ -0,0 +1,175 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Parameter Sweep.
+ *
+ * Description:
+ * - A class responsible for checking that each cell of a Parameter Sweep scores exactly
+ *   as its own constants, compiled and evaluated by the Markov Payoff Engine
+ *   (so the cells that share a behaviour really make the same decisions),
+ *   and that a second sweep takes all the cells from the cache, with the same ranking;
+ */
+public class ParameterSweepTest {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The maximum number of iterations of each Match
+	 */
+	private static final int MAXIMUM_NUMBER_OF_ITERATIONS = 300;
+
+	/**
+	 * The probability to continue playing to the next iteration
+	 */
+	private static final double PROBABILITY_FOR_NEXT_ITERATION = 0.99;
+
+	/**
+	 * The values of the number of consecutive "Cooperate" actions to try to maximise the gain
+	 */
+	private static final int[] TRY_MAXIMISE_GAIN_VALUES = {1, 2, 4};
+
+	/**
+	 * The values of the number of consecutive "Cooperate" actions to apply hard "Calm Down" processes
+	 */
+	private static final int[] APPLY_HARD_CALM_DOWNS_VALUES = {2, 6};
+
+	/**
+	 * The values of the initial number of "Defect" actions before the hard "Calm Down" processes
+	 */
+	private static final int[] INITIAL_DEFECTS_VALUES = {4, 8};
+
+	/**
+	 * The values of the factor of minimum "leeway"
+	 */
+	private static final int[] LEEWAY_FACTOR_VALUES = {1, 3};
+
+	/**
+	 * The values of the beta-value of the probability to continue
+	 */
+	private static final double[] SAFE_BETA_VALUES = {0.0, 0.5, 0.995};
+
+
+	// Methods/Functions:
+
+	/**
+	 * Returns the compiled Gradual Machines of the Gradual family, as the pool of Opponents.
+	 *
+	 * @return the compiled Gradual Machines of the Gradual family
+	 */
+	private static GradualMachine[] opponents() {
+		GradualMachine[] opponents = new GradualMachine[GradualVariant.values().length];
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			opponents[variant.ordinal()] = GradualMachine.of(variant);
+		}
+
+		return opponents;
+	}
+
+	/**
+	 * Sweeps the grid of the tests, with a given number of threads, without printing the ranked tables.
+	 *
+	 * @param parameterSweep the Parameter Sweep
+	 *
+	 * @param numThreads the number of threads to evaluate the cells
+	 *
+	 * @return the results of all the cells, ranked
+	 *
+	 * @throws InterruptedException if it was interrupted while waiting for the cells
+	 */
+	private static List<ParameterSweepResult> sweep(ParameterSweep parameterSweep, int numThreads) throws InterruptedException {
+		return parameterSweep.sweep(TRY_MAXIMISE_GAIN_VALUES, APPLY_HARD_CALM_DOWNS_VALUES, INITIAL_DEFECTS_VALUES,
+									LEEWAY_FACTOR_VALUES, SAFE_BETA_VALUES, numThreads, null);
+	}
+
+	@Test
+	public void eachCellScoresAsItsOwnConstants() throws InterruptedException {
+		LocalGameTree tree = new LocalGameTree();
+		GradualMachine[] opponents = opponents();
+
+		ParameterSweep parameterSweep = new ParameterSweep(tree, GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY, opponents,
+														   MAXIMUM_NUMBER_OF_ITERATIONS, PROBABILITY_FOR_NEXT_ITERATION);
+
+		List<ParameterSweepResult> ranking = sweep(parameterSweep, 4);
+
+		assertEquals(TRY_MAXIMISE_GAIN_VALUES.length * APPLY_HARD_CALM_DOWNS_VALUES.length * INITIAL_DEFECTS_VALUES.length *
+					 LEEWAY_FACTOR_VALUES.length * SAFE_BETA_VALUES.length, ranking.size());
+
+		MarkovPayoffEngine engine = new MarkovPayoffEngine(tree);
+
+		for(int numCell = 0; numCell < ranking.size(); numCell++) {
+			ParameterSweepResult result = ranking.get(numCell);
+			GradualMachine machine = GradualMachine.compile(result.getParameters());
+
+			for(int numOpponent = 0; numOpponent < opponents.length; numOpponent++) {
+				double scoreByRound = engine.expectedPayoff(machine, opponents[numOpponent], MAXIMUM_NUMBER_OF_ITERATIONS,
+															PROBABILITY_FOR_NEXT_ITERATION).getScoreAByRound();
+
+				assertEquals(result.getParameters().toString(), scoreByRound, result.getScoreByRound(numOpponent), 1e-12);
+			}
+
+			if(numCell > 0) {
+				assertTrue(ranking.get(numCell - 1).getMeanScoreByRound() >= result.getMeanScoreByRound());
+			}
+		}
+	}
+
+	@Test
+	public void aSecondSweepTakesAllTheCellsFromTheCache() throws InterruptedException {
+		ParameterSweep parameterSweep = new ParameterSweep(new LocalGameTree(), GradualParameters.HYBRID_GRADUAL_WITH_COOPERATES_LEEWAY,
+														   opponents(), MAXIMUM_NUMBER_OF_ITERATIONS, PROBABILITY_FOR_NEXT_ITERATION);
+
+		List<ParameterSweepResult> firstRanking = sweep(parameterSweep, 1);
+		int numCachedBehaviours = parameterSweep.getNumCachedBehaviours();
+
+		// The cells with the same behaviour are evaluated only once
+		assertTrue(numCachedBehaviours < firstRanking.size());
+
+		List<ParameterSweepResult> secondRanking = sweep(parameterSweep, 4);
+
+		assertEquals(numCachedBehaviours, parameterSweep.getNumCachedBehaviours());
+		assertEquals(firstRanking.size(), secondRanking.size());
+
+		for(int numCell = 0; numCell < firstRanking.size(); numCell++) {
+			assertEquals(firstRanking.get(numCell).getParameters(), secondRanking.get(numCell).getParameters());
+			assertEquals(firstRanking.get(numCell).getMeanScoreByRound(), secondRanking.get(numCell).getMeanScoreByRound(), 0.0);
+			assertTrue(secondRanking.get(numCell).isCached());
+		}
+	}
+
+	@Test
+	public void theCommandLineSweepsTheGridTwice() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		ParameterSweep.runCommand(new String[] {"10", "0.9", "2"}, new PrintStream(output, true));
+
+		String printed = output.toString();
+
+		assertTrue(printed, printed.contains("Sweep #2"));
+	}
+}
@@ -0,0 +1,139 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Replicator Dynamics.
+ *
+ * Description:
+ * - A class responsible for checking the Replicator Dynamics against Games with a known outcome
+ *   (a dominant Strategy takes over the population, and a Hawk-Dove Game reaches its mixed equilibrium),
+ *   and that, over the Payoff Matrix of the Gradual family, the frequencies are always kept on the simplex;
+ */
+public class ReplicatorDynamicsTest {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The fixed step of the integration
+	 */
+	private static final double TIME_STEP = 0.01;
+
+
+	// Methods/Functions:
+
+	/**
+	 * Asserts that some frequencies are on the simplex (not negative, and summing 1).
+	 *
+	 * @param frequencies the frequencies
+	 */
+	private static void assertOnTheSimplex(double[] frequencies) {
+		double total = 0;
+
+		for(double frequency : frequencies) {
+			assertTrue(frequency >= 0);
+
+			total += frequency;
+		}
+
+		assertEquals(1.0, total, 1e-12);
+	}
+
+	@Test
+	public void theDominantStrategyTakesOverThePopulation() {
+		PayoffMatrix matrix = new PayoffMatrix(new String[] {"AllC", "AllD"}, new double[][] { {3, 0}, {5, 1} });
+		ReplicatorDynamics dynamics = new ReplicatorDynamics(matrix, TIME_STEP);
+
+		double[] frequencies = {0.99, 0.01};
+
+		dynamics.integrate(frequencies, 3000L);
+
+		assertOnTheSimplex(frequencies);
+		assertTrue(frequencies[1] > 0.999);
+		assertEquals(1.0, dynamics.meanPayoff(frequencies), 1e-2);
+	}
+
+	@Test
+	public void theHawkDoveGameReachesItsMixedEquilibrium() {
+		// The payoffs of both Strategies are equal when half of the population plays each one
+		PayoffMatrix matrix = new PayoffMatrix(new String[] {"Hawk", "Dove"}, new double[][] { {0, 3}, {1, 2} });
+		ReplicatorDynamics dynamics = new ReplicatorDynamics(matrix, TIME_STEP);
+
+		for(double start : new double[] {0.05, 0.5, 0.95}) {
+			double[] frequencies = {start, 1 - start};
+
+			dynamics.integrate(frequencies, 5000L);
+
+			assertOnTheSimplex(frequencies);
+			assertEquals("from " + start, 0.5, frequencies[0], 1e-6);
+		}
+	}
+
+	@Test
+	public void theGradualFamilyIsKeptOnTheSimplex() {
+		PayoffMatrix matrix = PayoffMatrix.ofGradualFamily(new LocalGameTree(), 200, 0.99);
+		ReplicatorDynamics dynamics = new ReplicatorDynamics(matrix, TIME_STEP);
+
+		int numStrategies = matrix.size();
+
+		// A population of only one Strategy never changes, and its mean payoff it's the payoff against itself
+		for(int i = 0; i < numStrategies; i++) {
+			double[] frequencies = new double[numStrategies];
+			frequencies[i] = 1.0;
+
+			dynamics.integrate(frequencies, 1000L);
+
+			assertEquals(1.0, frequencies[i], 0.0);
+			assertEquals(matrix.get(i, i), dynamics.meanPayoff(frequencies), 1e-12);
+		}
+
+		double[] frequencies = new double[numStrategies];
+
+		for(int i = 0; i < numStrategies; i++) {
+			frequencies[i] = 1.0 / numStrategies;
+		}
+
+		for(int numSnapshot = 0; numSnapshot < 10; numSnapshot++) {
+			dynamics.integrate(frequencies, 1000L);
+
+			assertOnTheSimplex(frequencies);
+		}
+	}
+
+	@Test
+	public void theCommandLinePrintsTheTrajectories() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		ReplicatorDynamics.runCommand(new String[] {"10", "0.9", "0.01", "100", "2"}, new PrintStream(output, true));
+
+		String printed = output.toString();
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			assertTrue(printed, printed.contains(variant.getStrategyName()));
+		}
+
+		assertTrue(printed, printed.contains("From the uniform population"));
+	}
+}
@@ -0,0 +1,245 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Spatial Tournament.
+ *
+ * Description:
+ * - A class responsible for checking that the Graph Topologies are valid Compressed Sparse Rows
+ *   (the neighbours of each node sorted, without loops nor repeated edges, and symmetric);
+ *
+ * - It's also responsible for checking each generation of the Spatial Tournament against
+ *   a direct computation of the payoffs and of the imitations, node by node, and that
+ *   the generations only depend on the seed (and not on the number of threads);
+ */
+public class SpatialTournamentTest {
+
+	// Invariants/Constraints:
+
+	/**
+	 * The seed of the random numbers of the tests
+	 */
+	private static final long SEED = 1L;
+
+
+	// Methods/Functions:
+
+	/**
+	 * Asserts that a Graph Topology it's a valid Compressed Sparse Row: the neighbours of each node
+	 * are sorted, without loops nor repeated edges, and each node it's a neighbour of its neighbours.
+	 *
+	 * @param topology the Graph Topology
+	 */
+	private static void assertValidTopology(GraphTopology topology) {
+		int[] neighbours = neighboursAt(topology);
+		long sumOfDegrees = 0;
+
+		for(int node = 0; node < topology.getNumNodes(); node++) {
+			int first = topology.firstNeighbourOffset(node);
+			int end = topology.endNeighbourOffset(node);
+
+			assertEquals(end - first, topology.degree(node));
+
+			for(int offset = first; offset < end; offset++) {
+				int neighbour = topology.neighbourAt(offset);
+
+				assertTrue("loop in " + node, neighbour != node);
+				assertTrue("unsorted neighbours of " + node, (offset == first) || (topology.neighbourAt(offset - 1) < neighbour));
+
+				assertTrue(node + " isn't a neighbour of " + neighbour,
+						   Arrays.binarySearch(neighbours, topology.firstNeighbourOffset(neighbour),
+											   topology.endNeighbourOffset(neighbour), node) >= 0);
+			}
+
+			sumOfDegrees += topology.degree(node);
+		}
+
+		assertEquals(sumOfDegrees, 2 * topology.getNumEdges());
+	}
+
+	/**
+	 * Returns the neighbours of all the nodes of a Graph Topology, sorted by node.
+	 *
+	 * @param topology the Graph Topology
+	 *
+	 * @return the neighbours of all the nodes
+	 */
+	private static int[] neighboursAt(GraphTopology topology) {
+		int[] neighbours = new int[topology.endNeighbourOffset(topology.getNumNodes() - 1)];
+
+		for(int offset = 0; offset < neighbours.length; offset++) {
+			neighbours[offset] = topology.neighbourAt(offset);
+		}
+
+		return neighbours;
+	}
+
+	/**
+	 * Returns the Strategies of all the nodes of a Spatial Tournament, in its current generation.
+	 *
+	 * @param tournament the Spatial Tournament
+	 *
+	 * @param numNodes the number of nodes
+	 *
+	 * @return the Strategies of all the nodes
+	 */
+	private static int[] strategiesOf(SpatialTournament tournament, int numNodes) {
+		int[] strategies = new int[numNodes];
+
+		for(int node = 0; node < numNodes; node++) {
+			strategies[node] = tournament.getStrategy(node);
+		}
+
+		return strategies;
+	}
+
+	/**
+	 * Returns a new Spatial Tournament of the Gradual family, on a given Graph Topology,
+	 * with random Strategies (all with the same probability).
+	 *
+	 * @param topology the Graph Topology
+	 *
+	 * @param matrix the Payoff Matrix of the Gradual family
+	 *
+	 * @return the new Spatial Tournament
+	 */
+	private static SpatialTournament newTournament(GraphTopology topology, PayoffMatrix matrix) {
+		SpatialTournament tournament = new SpatialTournament(topology, matrix);
+
+		double[] frequencies = new double[matrix.size()];
+
+		Arrays.fill(frequencies, 1.0);
+
+		tournament.initialise(frequencies, SEED);
+
+		return tournament;
+	}
+
+	@Test
+	public void theLatticesAreValidTopologies() {
+		for(boolean moore : new boolean[] {false, true}) {
+			GraphTopology topology = GraphTopology.squareLattice(7, moore);
+
+			assertValidTopology(topology);
+
+			for(int node = 0; node < topology.getNumNodes(); node++) {
+				assertEquals(moore ? 8 : 4, topology.degree(node));
+			}
+		}
+	}
+
+	@Test
+	public void theRandomGraphsAreValidTopologies() {
+		GraphTopology topology = GraphTopology.randomGraph(2000, 6.0, SEED);
+		GraphTopology sameTopology = GraphTopology.randomGraph(2000, 6.0, SEED);
+
+		assertValidTopology(topology);
+
+		// Without the repeated edges, the mean degree may be slightly lower
+		assertTrue(topology.getNumEdges() <= (2000 * 6 / 2));
+		assertTrue(topology.getNumEdges() > (2000 * 5 / 2));
+
+		assertArrayEquals(neighboursAt(topology), neighboursAt(sameTopology));
+	}
+
+	@Test
+	public void eachGenerationPlaysAsADirectComputation() throws InterruptedException {
+		PayoffMatrix matrix = PayoffMatrix.ofGradualFamily(new LocalGameTree(), 200, 0.99);
+
+		for(GraphTopology topology : new GraphTopology[] { GraphTopology.squareLattice(30, false),
+														   GraphTopology.squareLattice(30, true),
+														   GraphTopology.randomGraph(900, 4.0, SEED) }) {
+
+			int numNodes = topology.getNumNodes();
+			SpatialTournament tournament = newTournament(topology, matrix);
+
+			for(int numGeneration = 1; numGeneration <= 10; numGeneration++) {
+				int[] strategies = strategiesOf(tournament, numNodes);
+
+				tournament.play(1, 2, 0, null);
+
+				double[] payoffs = new double[numNodes];
+
+				for(int node = 0; node < numNodes; node++) {
+					for(int offset = topology.firstNeighbourOffset(node); offset < topology.endNeighbourOffset(node); offset++) {
+						payoffs[node] += matrix.get(strategies[node], strategies[topology.neighbourAt(offset)]);
+					}
+
+					assertEquals("payoff of " + node, payoffs[node], tournament.getPayoff(node), 1e-9);
+				}
+
+				// Each node imitates its first neighbour with the greatest payoff, if it's greater than its own one
+				for(int node = 0; node < numNodes; node++) {
+					int bestStrategy = strategies[node];
+					double bestPayoff = payoffs[node];
+
+					for(int offset = topology.firstNeighbourOffset(node); offset < topology.endNeighbourOffset(node); offset++) {
+						int neighbour = topology.neighbourAt(offset);
+
+						if(payoffs[neighbour] > bestPayoff) {
+							bestPayoff = payoffs[neighbour];
+							bestStrategy = strategies[neighbour];
+						}
+					}
+
+					assertEquals("Strategy of " + node + " (generation " + numGeneration + ")", bestStrategy, tournament.getStrategy(node));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void theGenerationsDoNotDependOnTheNumberOfThreads() throws InterruptedException {
+		PayoffMatrix matrix = PayoffMatrix.ofGradualFamily(new LocalGameTree(), 200, 0.99);
+
+		// Big enough to be split in several tasks
+		GraphTopology topology = GraphTopology.squareLattice(300, true);
+
+		SpatialTournament tournament = newTournament(topology, matrix);
+		SpatialTournament parallelTournament = newTournament(topology, matrix);
+
+		assertArrayEquals(tournament.play(50, 1, 0, null), parallelTournament.play(50, 4, 0, null));
+		assertEquals(tournament.getNumGenerations(), parallelTournament.getNumGenerations());
+		assertArrayEquals(strategiesOf(tournament, topology.getNumNodes()), strategiesOf(parallelTournament, topology.getNumNodes()));
+	}
+
+	@Test
+	public void theCommandLinePlaysTheGenerations() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		SpatialTournament.runCommand(new String[] {"lattice", "100", "8", "5", "1", "1", "2", "10", "0.9"}, new PrintStream(output, true));
+
+		String printed = output.toString();
+
+		for(GradualVariant variant : GradualVariant.values()) {
+			assertTrue(printed, printed.contains(variant.getStrategyName()));
+		}
+
+		assertTrue(printed, printed.contains("Played "));
+	}
+}
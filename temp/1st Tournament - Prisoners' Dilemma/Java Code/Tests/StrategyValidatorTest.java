@@ -0,0 +1,195 @@
+package play;
+
+/**
+*
+* ~~~ Prisoners' Dilemma ~~~
+*
+* Theory of Computational Games
+*
+* Practical Lab Work Assignment/Project #1 (for the 1st Tournament).
+*
+* Integrated Master of Computer Science and Engineering
+* Faculty of Science and Technology of New University of Lisbon
+*
+* Authors:
+* @author Ruben Andre Barreiro - r.barreiro@campus.fct.unl.pt
+*
+*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Class responsible for the tests of the Strategy Validator.
+ *
+ * Description:
+ * - A class responsible for checking that the Strategy Validator leaves unchanged the validation sets
+ *   accepted by the Referee, normalises the ones with a small error and draws again the ones
+ *   that can't be repaired (with a great error, a negative probability or a probability that it's not a number),
+ *   and that a forced resample draws again all the validation sets that don't sum exactly 1;
+ */
+public class StrategyValidatorTest {
+
+	// Global Instance Variables:
+
+	/**
+	 * The Validation Set Layout of the Local Game Tree
+	 */
+	private ValidationSetLayout layout;
+
+	/**
+	 * The Strategy Vector, bound to the keys of the Local Game Tree
+	 */
+	private StrategyVector strategyVector;
+
+	/**
+	 * The Strategy Validator, for the Validation Set Layout of the Local Game Tree
+	 */
+	private StrategyValidator validator;
+
+	/**
+	 * The Simplex Sampler of the validation sets that can't be repaired
+	 */
+	private SimplexSampler sampler;
+
+
+	// Methods/Functions:
+
+	@Before
+	public void setUp() {
+		LocalGameTree tree = new LocalGameTree();
+
+		this.layout = tree.getValidationSetLayout();
+		this.strategyVector = new StrategyVector(Arrays.asList(tree.getStrategyKeys()).iterator());
+		this.validator = new StrategyValidator(this.layout);
+		this.sampler = new DirichletSampler(42L);
+
+		this.strategyVector.fillPureAction(this.layout, MoveLabelCodec.COOPERATE_ACTION);
+	}
+
+	/**
+	 * Puts the given probabilities in the first validation set of the Strategy Vector.
+	 *
+	 * @param probabilities the probabilities of the first validation set
+	 */
+	private void putFirstSet(double... probabilities) {
+		int offset = this.layout.getOffset(0);
+
+		for(int i = 0; i < probabilities.length; i++) {
+			this.strategyVector.put(offset + i, probabilities[i]);
+		}
+	}
+
+	/**
+	 * Asserts that all the probabilities of the first validation set are in [0, 1] and that they sum exactly 1.
+	 */
+	private void assertFirstSetSumsExactlyOne() {
+		int offset = this.layout.getOffset(0);
+		double sum = 0;
+
+		for(int move = offset; move < offset + this.layout.getLength(0); move++) {
+			double probability = this.strategyVector.get(move);
+
+			assertTrue("probability " + probability, (probability >= 0.0) && (probability <= 1.0));
+			sum += probability;
+		}
+
+		assertEquals(1.0, sum, 0.0);
+	}
+
+	@Test
+	public void aSetWithinTheErrorOfTheRefereeIsLeftUnchanged() {
+		double cooperate = 0.1 + 0.2;
+		double defect = 0.7;
+
+		putFirstSet(cooperate, defect);
+
+		assertEquals(0, this.validator.repair(this.strategyVector, this.sampler));
+		assertEquals(0, this.validator.getNumRepaired());
+		assertEquals(0, this.validator.getNumResampled());
+
+		assertEquals(cooperate, this.strategyVector.get(this.layout.getOffset(0)), 0.0);
+		assertEquals(defect, this.strategyVector.get(this.layout.getOffset(0) + 1), 0.0);
+	}
+
+	@Test
+	public void aSetWithASmallErrorIsNormalisedWithoutBeingDrawnAgain() {
+		putFirstSet(0.5, 0.5 + 1e-7);
+
+		assertEquals(0, this.validator.repair(this.strategyVector, this.sampler));
+		assertEquals(1, this.validator.getNumRepaired());
+		assertEquals(0, this.validator.getNumResampled());
+
+		assertFirstSetSumsExactlyOne();
+		assertEquals(0.5, this.strategyVector.get(this.layout.getOffset(0)), 1e-6);
+	}
+
+	@Test
+	public void aSlightlyNegativeProbabilityIsRepairedToZero() {
+		putFirstSet(-1e-8, 1.0);
+
+		assertEquals(0, this.validator.repair(this.strategyVector, this.sampler));
+		assertEquals(1, this.validator.getNumRepaired());
+
+		assertEquals(0.0, this.strategyVector.get(this.layout.getOffset(0)), 0.0);
+		assertFirstSetSumsExactlyOne();
+	}
+
+	@Test
+	public void aNegativeProbabilityIsDrawnAgain() {
+		putFirstSet(-0.5, 1.5);
+
+		assertEquals(1, this.validator.repair(this.strategyVector, this.sampler));
+		assertEquals(0, this.validator.getNumRepaired());
+		assertEquals(1, this.validator.getNumResampled());
+
+		assertFirstSetSumsExactlyOne();
+	}
+
+	@Test
+	public void aProbabilityThatIsNotANumberIsDrawnAgain() {
+		putFirstSet(Double.NaN, 1.0);
+
+		assertEquals(1, this.validator.repair(this.strategyVector, this.sampler));
+		assertEquals(1, this.validator.getNumResampled());
+
+		assertFirstSetSumsExactlyOne();
+	}
+
+	@Test
+	public void aSetThatWasNotFilledIsDrawnAgain() {
+		putFirstSet(0.0, 0.0);
+
+		assertEquals(1, this.validator.repair(this.strategyVector, this.sampler));
+		assertEquals(1, this.validator.getNumResampled());
+
+		assertFirstSetSumsExactlyOne();
+	}
+
+	@Test
+	public void aForcedResampleDrawsAgainTheSetsThatDoNotSumExactlyOne() {
+		putFirstSet(0.5, 0.5 + 1e-12);
+
+		assertEquals(0, this.validator.repair(this.strategyVector, this.sampler));
+		assertEquals(1, this.validator.repair(this.strategyVector, this.sampler, true));
+		assertEquals(0, this.validator.getNumRepaired());
+		assertEquals(1, this.validator.getNumResampled());
+
+		assertFirstSetSumsExactlyOne();
+	}
+
+	@Test
+	public void aForcedResampleLeavesUnchangedTheSetsThatSumExactlyOne() {
+		assertEquals(0, this.validator.repair(this.strategyVector, this.sampler, true));
+		assertEquals(0, this.validator.getNumResampled());
+
+		for(int set = 0; set < this.layout.getNumSets(); set++) {
+			assertEquals(1.0, this.strategyVector.get(this.layout.getOffset(set)), 0.0);
+		}
+	}
+}